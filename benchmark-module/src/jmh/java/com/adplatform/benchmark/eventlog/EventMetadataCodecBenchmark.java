@@ -0,0 +1,65 @@
+package com.adplatform.benchmark.eventlog;
+
+import com.adplatform.eventlog.infrastructure.persistence.EventMetadataCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 메타데이터 인코딩 벤치마크 (이벤트 저장/조회마다 반복되는 변환)
+ * - encode: 메타데이터 맵 -> metadata 컬럼 값 (저장 경로)
+ * - decode: metadata 컬럼 값 -> 메타데이터 맵 (조회 경로)
+ *
+ * metadataSize 파라미터로 메타데이터 맵 크기에 따른 할당량 변화를 확인
+ * (사전 키와 사전에 없는 키를 섞어 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMetadataCodecBenchmark {
+
+    @Param({"0", "4"})
+    private int metadataSize;
+
+    private static final List<String> KEYS = List.of("country", "device", "campaignTag", "os");
+
+    private final EventMetadataCodec codec = new EventMetadataCodec(List.of());
+
+    private Map<String, String> metadata;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        metadata = new HashMap<>();
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(KEYS.get(i % KEYS.size()), "value-" + i);
+        }
+        encoded = codec.encode(metadata);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(metadata);
+    }
+
+    @Benchmark
+    public Map<String, String> decode() {
+        return codec.decode(encoded);
+    }
+}
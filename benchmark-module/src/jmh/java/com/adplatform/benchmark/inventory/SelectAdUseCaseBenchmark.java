@@ -0,0 +1,219 @@
+package com.adplatform.benchmark.inventory;
+
+import com.adplatform.inventory.application.dto.AdSelectionResult;
+import com.adplatform.inventory.application.dto.SelectAdCommand;
+import com.adplatform.inventory.application.usecase.SelectAdUseCase;
+import com.adplatform.inventory.domain.model.Placement;
+import com.adplatform.inventory.domain.model.PlacementStatus;
+import com.adplatform.inventory.domain.model.PlacementType;
+import com.adplatform.inventory.domain.model.PricingModel;
+import com.adplatform.inventory.domain.repository.PlacementRepository;
+import com.adplatform.inventory.domain.service.AuctionEngine;
+import com.adplatform.inventory.domain.service.BidTimesMatchScoreRanker;
+import com.adplatform.inventory.domain.service.ECpmRanker;
+import com.adplatform.inventory.domain.service.Ranker;
+import com.adplatform.inventory.infrastructure.client.CampaignDto;
+import com.adplatform.inventory.infrastructure.client.TargetingRuleDto;
+import com.adplatform.inventory.infrastructure.snapshot.ActiveCampaignSnapshot;
+import com.adplatform.inventory.infrastructure.snapshot.TargetingRuleSnapshot;
+import com.adplatform.inventory.infrastructure.token.ImpressionTokenIssuer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 광고 선택 Use Case 벤치마크 (후보 매칭 + 경매 랭킹)
+ * - 활성 캠페인/타겟팅 룰 스냅샷을 미리 채워 로컬 매칭 경로만 측정 (원격 호출 없음)
+ * - 게재 위치 저장소는 메모리 스텁, 원격 매칭 팬아웃은 스냅샷이 준비되어 있으므로 사용되지 않음
+ * - selectSingleSlot / selectThreeSlots: 슬롯 수에 따른 상위 K 선별 비용
+ *
+ * ranker 파라미터는 inventory.auction.ranker 설정값과 동일
+ * 요청마다 남기는 INFO 로그는 src/jmh/resources/logback.xml에서 꺼둠
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectAdUseCaseBenchmark {
+
+    private static final String PLACEMENT_ID = "placement-1";
+    private static final String[] COUNTRIES = {"KR", "JP", "US"};
+    private static final String[] DEVICE_TYPES = {"DESKTOP", "MOBILE", "TABLET"};
+
+    @Param({"100", "1000", "10000"})
+    private int campaignCount;
+
+    @Param({"bid-match-score", "ecpm"})
+    private String ranker;
+
+    private SelectAdUseCase selectAdUseCase;
+    private SelectAdCommand singleSlotCommand;
+    private SelectAdCommand threeSlotCommand;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<CampaignDto> campaigns = new ArrayList<>(campaignCount);
+        List<TargetingRuleDto> rules = new ArrayList<>(campaignCount);
+        for (int i = 0; i < campaignCount; i++) {
+            String campaignId = "camp-" + i;
+            campaigns.add(campaign(campaignId, 500 + random.nextInt(5000)));
+            rules.add(rule(random, "rule-" + i, campaignId));
+        }
+
+        ActiveCampaignSnapshot activeCampaignSnapshot = new ActiveCampaignSnapshot();
+        activeCampaignSnapshot.replaceAll(campaigns);
+        TargetingRuleSnapshot targetingRuleSnapshot = new TargetingRuleSnapshot();
+        targetingRuleSnapshot.replaceAll(rules);
+
+        Placement placement = Placement.builder()
+            .id(PLACEMENT_ID)
+            .name("Main Banner")
+            .publisherId("publisher-1")
+            .placementType(PlacementType.BANNER)
+            .pricingModel(PricingModel.CPM)
+            .basePrice(100L)
+            .status(PlacementStatus.ACTIVE)
+            .build();
+
+        selectAdUseCase = new SelectAdUseCase(
+            new SinglePlacementRepository(placement),
+            activeCampaignSnapshot,
+            null,
+            targetingRuleSnapshot,
+            new AuctionEngine(ranker(ranker)),
+            new ImpressionTokenIssuer("benchmark-impression-token-secret-0123456789")
+        );
+
+        SelectAdCommand.UserContext userContext = SelectAdCommand.UserContext.builder()
+            .userId("user-1")
+            .age(30)
+            .gender("M")
+            .country("KR")
+            .city("Seoul")
+            .deviceType("MOBILE")
+            .keywords(Arrays.asList("tech", "travel", "music"))
+            .build();
+        singleSlotCommand = SelectAdCommand.builder()
+            .placementId(PLACEMENT_ID)
+            .userContext(userContext)
+            .build();
+        threeSlotCommand = SelectAdCommand.builder()
+            .placementId(PLACEMENT_ID)
+            .userContext(userContext)
+            .slots(3)
+            .build();
+    }
+
+    @Benchmark
+    public AdSelectionResult selectSingleSlot() {
+        return selectAdUseCase.execute(singleSlotCommand);
+    }
+
+    @Benchmark
+    public List<AdSelectionResult> selectThreeSlots() {
+        return selectAdUseCase.executeForSlots(threeSlotCommand);
+    }
+
+    private static Ranker ranker(String type) {
+        switch (type) {
+            case "bid-match-score":
+                return new BidTimesMatchScoreRanker();
+            case "ecpm":
+                return new ECpmRanker(campaignId -> 0.01);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 랭킹 방식입니다: " + type);
+        }
+    }
+
+    private static CampaignDto campaign(String campaignId, long bid) {
+        CampaignDto.AdGroupDto adGroup = CampaignDto.AdGroupDto.builder()
+            .id(campaignId + "-group-1")
+            .name("Ad Group")
+            .bid(bid)
+            .ads(Arrays.asList(
+                CampaignDto.AdDto.builder().id(campaignId + "-ad-1").title("Ad 1").build(),
+                CampaignDto.AdDto.builder().id(campaignId + "-ad-2").title("Ad 2").build()
+            ))
+            .build();
+
+        return CampaignDto.builder()
+            .id(campaignId)
+            .advertiserId("advertiser-1")
+            .name("Campaign " + campaignId)
+            .dailyBudget(1_000_000L)
+            .totalBudget(10_000_000L)
+            .spent(0L)
+            .bidAmount(bid)
+            .status("ACTIVE")
+            .adGroups(List.of(adGroup))
+            .build();
+    }
+
+    private static TargetingRuleDto rule(Random random, String ruleId, String campaignId) {
+        return TargetingRuleDto.builder()
+            .id(ruleId)
+            .campaignId(campaignId)
+            .ageMin(18 + random.nextInt(15))
+            .ageMax(35 + random.nextInt(30))
+            .gender(random.nextBoolean() ? "ANY" : "M")
+            .geoTargets(List.of(COUNTRIES[random.nextInt(COUNTRIES.length)]))
+            .deviceTypes(List.of(DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)]))
+            .keywords(random.nextBoolean() ? List.of("tech", "gaming") : List.of("food"))
+            .build();
+    }
+
+    /**
+     * 게재 위치 하나만 가진 메모리 저장소
+     */
+    private static final class SinglePlacementRepository implements PlacementRepository {
+
+        private final Placement placement;
+
+        private SinglePlacementRepository(Placement placement) {
+            this.placement = placement;
+        }
+
+        @Override
+        public Placement save(Placement placement) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Placement> findById(String id) {
+            return placement.getId().equals(id) ? Optional.of(placement) : Optional.empty();
+        }
+
+        @Override
+        public List<Placement> findByPublisherId(String publisherId) {
+            return List.of(placement);
+        }
+
+        @Override
+        public List<Placement> findAllActive() {
+            return List.of(placement);
+        }
+
+        @Override
+        public boolean existsById(String id) {
+            return placement.getId().equals(id);
+        }
+    }
+}
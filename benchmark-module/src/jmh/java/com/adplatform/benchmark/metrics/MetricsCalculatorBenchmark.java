@@ -0,0 +1,83 @@
+package com.adplatform.benchmark.metrics;
+
+import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.PricingModel;
+import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.adplatform.metrics.infrastructure.client.EventLogClient.AdEventDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭스 집계 벤치마크 (광고 하나의 하루치 이벤트 수백만 건)
+ * - aggregateEvents: 광고 필터링 + 이벤트 타입별 카운트 + 비용 계산
+ *
+ * 이벤트는 EventLog 응답 DTO(AdEventDto)를 그대로 사용하고,
+ * 노출:클릭:전환 비율은 약 100:2:0.1, 다른 광고 이벤트가 5% 섞임
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MetricsCalculatorBenchmark {
+
+    @Param({"1000000", "5000000"})
+    private int eventCount;
+
+    private final MetricsCalculator metricsCalculator = new MetricsCalculator();
+    private List<AdEventDto> events;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant timestamp = Instant.parse("2024-01-15T03:00:00Z");
+        events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            String adId = i == 0 || random.nextInt(100) >= 5 ? "ad-1" : "ad-2";
+            events.add(event("event-" + i, eventType(random), adId, timestamp));
+        }
+    }
+
+    @Benchmark
+    public DailyMetrics aggregateEvents() {
+        return metricsCalculator.aggregateEvents("metrics-1", events, PricingModel.CPM, 1000L);
+    }
+
+    private static String eventType(Random random) {
+        int roll = random.nextInt(10_000);
+        if (roll < 10) {
+            return "CONVERSION";
+        }
+        if (roll < 210) {
+            return "CLICK";
+        }
+        return "IMPRESSION";
+    }
+
+    private static AdEventDto event(String id, String eventType, String adId, Instant timestamp) {
+        AdEventDto event = new AdEventDto();
+        event.setId(id);
+        event.setEventType(eventType);
+        event.setAdId(adId);
+        event.setAdGroupId("adgroup-1");
+        event.setCampaignId("campaign-1");
+        event.setTimestamp(timestamp);
+        return event;
+    }
+}
@@ -0,0 +1,183 @@
+package com.adplatform.benchmark.targeting;
+
+import com.adplatform.targeting.application.dto.MatchTargetingCommand;
+import com.adplatform.targeting.application.dto.TargetingMatchResult;
+import com.adplatform.targeting.application.usecase.MatchTargetingUseCase;
+import com.adplatform.targeting.domain.model.Demographics;
+import com.adplatform.targeting.domain.model.DeviceType;
+import com.adplatform.targeting.domain.model.Gender;
+import com.adplatform.targeting.domain.model.TargetingRule;
+import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타겟팅 매칭 Use Case 벤치마크 (룰 10k / 100k)
+ * - execute: 역색인 후보 조회 + 룰 단위 스코어링 + 정렬
+ * - executeByCampaign: 배치 매칭 경로 (캠페인 단위 최고 스코어)
+ *
+ * 룰은 고정 시드로 생성 (캠페인당 룰 2개, 지역/디바이스/키워드 분포는 실제 설정과 비슷하게 편중)
+ * 색인은 메모리 저장소로 Setup에서 한 번만 구성하므로 측정에는 요청 처리 경로만 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchTargetingUseCaseBenchmark {
+
+    private static final String[] COUNTRIES = {"KR", "JP", "US", "CN", "DE", "FR"};
+    private static final String[] CITIES = {"Seoul", "Busan", "Tokyo", "Osaka", "NewYork", "Berlin"};
+    private static final int KEYWORD_VOCABULARY = 500;
+
+    @Param({"10000", "100000"})
+    private int ruleCount;
+
+    private MatchTargetingUseCase matchTargetingUseCase;
+    private MatchTargetingCommand command;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<TargetingRule> rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            rules.add(randomRule(random, "rule-" + i, "camp-" + (i / 2)));
+        }
+
+        TargetingRuleIndex index = new TargetingRuleIndex(new InMemoryTargetingRuleRepository(rules));
+        index.reload();
+        matchTargetingUseCase = new MatchTargetingUseCase(index);
+
+        command = MatchTargetingCommand.builder()
+            .age(30)
+            .gender(Gender.M)
+            .country("KR")
+            .city("Seoul")
+            .deviceType(DeviceType.MOBILE)
+            .keywords(Arrays.asList("kw-1", "kw-17", "kw-250"))
+            .build();
+    }
+
+    @Benchmark
+    public List<TargetingMatchResult> execute() {
+        return matchTargetingUseCase.execute(command);
+    }
+
+    @Benchmark
+    public List<TargetingMatchResult> executeByCampaign() {
+        return matchTargetingUseCase.executeByCampaign(command);
+    }
+
+    private static TargetingRule randomRule(Random random, String id, String campaignId) {
+        Demographics demographics = random.nextInt(4) == 0
+            ? Demographics.any()
+            : Demographics.of(
+                18 + random.nextInt(20),
+                40 + random.nextInt(25),
+                Gender.values()[random.nextInt(Gender.values().length)]
+            );
+
+        List<String> geoTargets = new ArrayList<>();
+        int country = skewedIndex(random, COUNTRIES.length);
+        geoTargets.add(COUNTRIES[country]);
+        if (random.nextBoolean()) {
+            geoTargets.add(CITIES[country]);
+        }
+
+        List<DeviceType> deviceTypes = new ArrayList<>();
+        for (DeviceType deviceType : DeviceType.values()) {
+            if (random.nextBoolean()) {
+                deviceTypes.add(deviceType);
+            }
+        }
+
+        List<String> keywords = new ArrayList<>();
+        int keywordCount = random.nextInt(6);
+        for (int k = 0; k < keywordCount; k++) {
+            keywords.add("kw-" + skewedIndex(random, KEYWORD_VOCABULARY));
+        }
+
+        return TargetingRule.builder()
+            .id(id)
+            .campaignId(campaignId)
+            .demographics(demographics)
+            .geoTargets(geoTargets)
+            .deviceTypes(deviceTypes)
+            .keywords(keywords)
+            .build();
+    }
+
+    /**
+     * 앞쪽 값이 더 자주 나오는 인덱스 (인기 지역/키워드 편중)
+     */
+    private static int skewedIndex(Random random, int size) {
+        double u = random.nextDouble();
+        return (int) (u * u * size);
+    }
+
+    /**
+     * 색인 구성용 메모리 저장소
+     */
+    private static final class InMemoryTargetingRuleRepository implements TargetingRuleRepository {
+
+        private final List<TargetingRule> rules;
+
+        private InMemoryTargetingRuleRepository(List<TargetingRule> rules) {
+            this.rules = rules;
+        }
+
+        @Override
+        public TargetingRule save(TargetingRule targetingRule) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<TargetingRule> findById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<TargetingRule> findByCampaignId(String campaignId) {
+            return List.of();
+        }
+
+        @Override
+        public List<TargetingRule> findAll() {
+            return rules;
+        }
+
+        @Override
+        public List<TargetingRule> findUpdatedSince(Instant since) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existsById(String id) {
+            return false;
+        }
+
+        @Override
+        public void deleteById(String id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.adplatform.benchmark.targeting;
+
+import com.adplatform.targeting.domain.model.Demographics;
+import com.adplatform.targeting.domain.model.DeviceType;
+import com.adplatform.targeting.domain.model.Gender;
+import com.adplatform.targeting.domain.model.NormalizedUserContext;
+import com.adplatform.targeting.domain.model.TargetingRule;
+import com.adplatform.targeting.domain.model.UserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타겟팅 룰 단건 매칭 벤치마크
+ * - matchScoreNormalized: 정규화된 컨텍스트로 룰 하나를 스코어링 (요청 처리 중 룰마다 반복되는 경로)
+ * - matchScoreWithNormalization: 컨텍스트 정규화까지 포함한 단건 호출
+ *
+ * 실행: ./gradlew :benchmark-module:jmh
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 룰당 할당량(B/op)을 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingRuleMatchBenchmark {
+
+    private TargetingRule rule;
+    private UserContext userContext;
+    private NormalizedUserContext normalizedContext;
+
+    @Setup
+    public void setUp() {
+        rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .demographics(Demographics.of(20, 40, Gender.M))
+            .geoTargets(Arrays.asList("KR", "Seoul", "Busan", "JP", "Tokyo"))
+            .deviceTypes(Arrays.asList(DeviceType.MOBILE, DeviceType.TABLET))
+            .keywords(Arrays.asList("tech", "gaming", "sports", "music", "travel", "food"))
+            .build();
+
+        userContext = UserContext.builder()
+            .age(30)
+            .gender(Gender.M)
+            .country("KR")
+            .city("Seoul")
+            .deviceType(DeviceType.MOBILE)
+            .keywords(Arrays.asList("Tech", "Travel", "books"))
+            .build();
+
+        normalizedContext = NormalizedUserContext.from(userContext);
+    }
+
+    @Benchmark
+    public int matchScoreNormalized() {
+        return rule.matchScoreNormalized(normalizedContext);
+    }
+
+    @Benchmark
+    public int matchScoreWithNormalization() {
+        return rule.matchScore(userContext);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +28,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CampaignController {
 
+    private static final int MAX_AD_GROUP_IDS = 500;
+
     private final CreateCampaignUseCase createCampaignUseCase;
     private final UpdateCampaignStatusUseCase updateCampaignStatusUseCase;
     private final AddAdGroupUseCase addAdGroupUseCase;
@@ -68,6 +71,59 @@ public class CampaignController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 광고 게재 가능한 활성 캠페인 목록 조회
+     * - Inventory Service의 활성 캠페인 스냅샷 전체 동기화에 사용
+     * - 기간 내, 예산 미초과, 활성 광고그룹이 있는 캠페인만 포함
+     * - 항목마다 조회 시각(version)을 담아 구독자가 늦게 도착한 변경 알림과 비교할 수 있게 함
+     */
+    @GetMapping("/active")
+    public ResponseEntity<List<ActiveCampaignResponse>> getActiveCampaigns() {
+        // 조회 전 시각: 이보다 먼저 커밋된 변경은 목록에 포함됨
+        long version = System.currentTimeMillis();
+        List<ActiveCampaignResponse> campaigns = campaignRepository
+            .findAllActive()
+            .stream()
+            .filter(Campaign::isActive)
+            .filter(Campaign::hasActiveAdGroups)
+            .map(campaign -> ActiveCampaignResponse.from(campaign, version))
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(campaigns);
+    }
+
+    /**
+     * 광고그룹 일괄 조회
+     * - Metrics Service의 집계에서 입찰가 조회에 사용 (광고마다 호출하지 않고 한 번에)
+     * - 없는 ID는 결과에서 빠짐
+     */
+    @GetMapping("/adgroups")
+    public ResponseEntity<List<AdGroupResponse>> getAdGroups(@RequestParam List<String> ids) {
+        if (ids.size() > MAX_AD_GROUP_IDS) {
+            throw new IllegalArgumentException("광고그룹 ID는 한 번에 " + MAX_AD_GROUP_IDS + "개까지 조회할 수 있습니다");
+        }
+
+        List<AdGroupResponse> adGroups = campaignRepository
+            .findAdGroupsByIds(new LinkedHashSet<>(ids))
+            .stream()
+            .map(AdGroupResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(adGroups);
+    }
+
+    /**
+     * 광고그룹 조회
+     */
+    @GetMapping("/adgroups/{adGroupId}")
+    public ResponseEntity<AdGroupResponse> getAdGroup(@PathVariable String adGroupId) {
+        return campaignRepository.findAdGroupsByIds(List.of(adGroupId)).stream()
+            .findFirst()
+            .map(AdGroupResponse::from)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * 광고주별 캠페인 목록 조회
      */
@@ -0,0 +1,89 @@
+package com.adplatform.campaign.adapter.rest.dto;
+
+import com.adplatform.campaign.domain.model.AdStatus;
+import com.adplatform.campaign.domain.model.Campaign;
+import com.adplatform.campaign.domain.model.Ad;
+import com.adplatform.campaign.domain.model.AdGroup;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 캠페인 응답 DTO
+ * - 광고 선택에 필요한 입찰가/예산/상태만 평탄화하여 제공
+ * - 게재 가능한 크리에이티브 카탈로그 (활성 광고그룹과 그 활성 광고) 포함
+ * - version: 목록을 조회하기 직전 시각 (epoch millis), 변경 알림의 version과 같은 기준
+ */
+@Getter
+@Builder
+public class ActiveCampaignResponse {
+    private final String id;
+    private final String advertiserId;
+    private final String name;
+    private final Long dailyBudget;
+    private final Long totalBudget;
+    private final Long spent;
+    private final Long bidAmount;
+    private final AdStatus status;
+    private final Long version;
+    private final List<AdGroupDto> adGroups;
+
+    @Getter
+    @Builder
+    public static class AdGroupDto {
+        private final String id;
+        private final String name;
+        private final Long bid;
+        private final List<AdDto> ads;
+    }
+
+    @Getter
+    @Builder
+    public static class AdDto {
+        private final String id;
+        private final String title;
+        private final String description;
+        private final String landingUrl;
+    }
+
+    /**
+     * Domain Model -> Response DTO 변환
+     * - 입찰가는 활성 광고그룹 중 최고 입찰가
+     */
+    public static ActiveCampaignResponse from(Campaign campaign, long version) {
+        return ActiveCampaignResponse.builder()
+            .id(campaign.getId())
+            .advertiserId(campaign.getAdvertiserId())
+            .name(campaign.getName())
+            .dailyBudget(campaign.getBudget().getDailyBudget())
+            .totalBudget(campaign.getBudget().getTotalBudget())
+            .spent(campaign.getBudget().getSpent())
+            .bidAmount(campaign.getHighestActiveBid())
+            .status(campaign.getStatus())
+            .version(version)
+            .adGroups(campaign.getAdGroups().stream()
+                .filter(AdGroup::isActive)
+                .map(ActiveCampaignResponse::toAdGroupDto)
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    private static AdGroupDto toAdGroupDto(AdGroup adGroup) {
+        return AdGroupDto.builder()
+            .id(adGroup.getId())
+            .name(adGroup.getName())
+            .bid(adGroup.getBid())
+            .ads(adGroup.getAds().stream()
+                .filter(Ad::isActive)
+                .map(ad -> AdDto.builder()
+                    .id(ad.getId())
+                    .title(ad.getTitle())
+                    .description(ad.getDescription())
+                    .landingUrl(ad.getLandingUrl())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+}
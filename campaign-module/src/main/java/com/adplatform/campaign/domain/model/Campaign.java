@@ -172,4 +172,16 @@ public class Campaign {
     public boolean hasActiveAdGroups() {
         return adGroups.stream().anyMatch(AdGroup::isActive);
     }
+
+    /**
+     * 활성 광고그룹 중 가장 높은 입찰가
+     * - 활성 광고그룹이 없으면 null
+     */
+    public Long getHighestActiveBid() {
+        return adGroups.stream()
+            .filter(AdGroup::isActive)
+            .map(AdGroup::getBid)
+            .max(Long::compare)
+            .orElse(null);
+    }
 }
@@ -1,7 +1,9 @@
 package com.adplatform.campaign.domain.repository;
 
+import com.adplatform.campaign.domain.model.AdGroup;
 import com.adplatform.campaign.domain.model.Campaign;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,16 @@ public interface CampaignRepository {
      */
     List<Campaign> findByAdvertiserId(String advertiserId);
 
+    /**
+     * ACTIVE 상태의 캠페인 목록 조회 (AdGroup 포함)
+     */
+    List<Campaign> findAllActive();
+
+    /**
+     * ID 목록으로 광고그룹 조회 (없는 ID는 결과에서 빠짐)
+     */
+    List<AdGroup> findAdGroupsByIds(Collection<String> adGroupIds);
+
     /**
      * 캠페인 존재 여부 확인
      */
@@ -0,0 +1,104 @@
+package com.adplatform.campaign.infrastructure.notification;
+
+import com.adplatform.campaign.domain.model.AdStatus;
+import com.adplatform.campaign.domain.model.Campaign;
+import com.adplatform.campaign.domain.model.Ad;
+import com.adplatform.campaign.domain.model.AdGroup;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캠페인 변경 알림 메시지
+ * - active=false이면 구독자는 해당 캠페인을 스냅샷에서 제거
+ * - active=true이면 campaign 정보로 스냅샷 항목을 교체
+ * - version: 커밋 후 알림을 만든 시각 (epoch millis), 구독자는 활성 캠페인 목록의 version과 비교해 더 새로운 쪽을 유지
+ */
+@Getter
+@Builder
+public class CampaignChangeMessage {
+    private final String campaignId;
+    private final boolean active;
+    private final long version;
+    private final CampaignPayload campaign;
+
+    @Getter
+    @Builder
+    public static class CampaignPayload {
+        private final String id;
+        private final String advertiserId;
+        private final String name;
+        private final Long dailyBudget;
+        private final Long totalBudget;
+        private final Long spent;
+        private final Long bidAmount;
+        private final AdStatus status;
+        private final List<AdGroupPayload> adGroups;
+    }
+
+    @Getter
+    @Builder
+    public static class AdGroupPayload {
+        private final String id;
+        private final String name;
+        private final Long bid;
+        private final List<AdPayload> ads;
+    }
+
+    @Getter
+    @Builder
+    public static class AdPayload {
+        private final String id;
+        private final String title;
+        private final String description;
+        private final String landingUrl;
+    }
+
+    /**
+     * Domain Model -> 알림 메시지 변환
+     * - 게재 가능 여부 기준은 활성 캠페인 목록 API와 동일
+     * - 커밋 후에 호출되므로 지금 시각이 변경 시각 이후임이 보장됨
+     */
+    public static CampaignChangeMessage from(Campaign campaign) {
+        boolean active = campaign.isActive() && campaign.hasActiveAdGroups();
+
+        return CampaignChangeMessage.builder()
+            .campaignId(campaign.getId())
+            .active(active)
+            .version(System.currentTimeMillis())
+            .campaign(CampaignPayload.builder()
+                .id(campaign.getId())
+                .advertiserId(campaign.getAdvertiserId())
+                .name(campaign.getName())
+                .dailyBudget(campaign.getBudget().getDailyBudget())
+                .totalBudget(campaign.getBudget().getTotalBudget())
+                .spent(campaign.getBudget().getSpent())
+                .bidAmount(campaign.getHighestActiveBid())
+                .status(campaign.getStatus())
+                .adGroups(campaign.getAdGroups().stream()
+                    .filter(AdGroup::isActive)
+                    .map(CampaignChangeMessage::toAdGroupPayload)
+                    .collect(Collectors.toList()))
+                .build())
+            .build();
+    }
+
+    private static AdGroupPayload toAdGroupPayload(AdGroup adGroup) {
+        return AdGroupPayload.builder()
+            .id(adGroup.getId())
+            .name(adGroup.getName())
+            .bid(adGroup.getBid())
+            .ads(adGroup.getAds().stream()
+                .filter(Ad::isActive)
+                .map(ad -> AdPayload.builder()
+                    .id(ad.getId())
+                    .title(ad.getTitle())
+                    .description(ad.getDescription())
+                    .landingUrl(ad.getLandingUrl())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+}
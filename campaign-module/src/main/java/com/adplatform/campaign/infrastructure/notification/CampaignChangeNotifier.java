@@ -0,0 +1,104 @@
+package com.adplatform.campaign.infrastructure.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 변경 푸시 알림
+ * - 트랜잭션 커밋 후 구독 서비스(Inventory Service 등)에 변경된 캠페인 정보를 전송
+ * - 요청 스레드를 막지 않도록 단일 스레드로 비동기 전송 (전송 순서 유지)
+ * - 전송 실패는 로그만 남김 (구독자의 주기적 전체 동기화가 보정)
+ * - 구독자가 인증할 수 있도록 공유 토큰을 X-Internal-Token 헤더로 전송
+ *   (구독자가 있는데 토큰이 없거나 32바이트보다 짧으면 기동하지 않음)
+ */
+@Component
+@Slf4j
+public class CampaignChangeNotifier {
+
+    static final String TOKEN_HEADER = "X-Internal-Token";
+    static final int MIN_TOKEN_BYTES = 32;
+
+    private static final int MAX_PENDING_NOTIFICATIONS = 1000;
+
+    private final RestTemplate restTemplate;
+    private final String[] subscriberUrls;
+    private final String internalApiToken;
+    private final ThreadPoolExecutor executor;
+
+    public CampaignChangeNotifier(
+        RestTemplate restTemplate,
+        @Value("${campaign.change-notification.subscribers:}") String[] subscriberUrls,
+        @Value("${internal-api.token:}") String internalApiToken
+    ) {
+        if (subscriberUrls.length > 0) {
+            if (internalApiToken == null || internalApiToken.isEmpty()) {
+                throw new IllegalArgumentException("변경 알림 구독자가 있으면 내부 API 토큰은 필수입니다 (INTERNAL_API_TOKEN)");
+            }
+            if (internalApiToken.getBytes(StandardCharsets.UTF_8).length < MIN_TOKEN_BYTES) {
+                throw new IllegalArgumentException("내부 API 토큰은 " + MIN_TOKEN_BYTES + "바이트 이상이어야 합니다");
+            }
+        }
+        this.restTemplate = restTemplate;
+        this.subscriberUrls = subscriberUrls;
+        this.internalApiToken = internalApiToken;
+        this.executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_NOTIFICATIONS),
+            runnable -> {
+                Thread thread = new Thread(runnable, "campaign-change-notifier");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignChanged(CampaignChangedEvent event) {
+        if (subscriberUrls.length == 0) {
+            return;
+        }
+
+        CampaignChangeMessage message = CampaignChangeMessage.from(event.getCampaign());
+        try {
+            executor.execute(() -> send(message));
+        } catch (RejectedExecutionException e) {
+            log.warn("Campaign change notification queue full, dropping change: {}",
+                message.getCampaignId());
+        }
+    }
+
+    private void send(CampaignChangeMessage message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(TOKEN_HEADER, internalApiToken);
+        HttpEntity<CampaignChangeMessage> request = new HttpEntity<>(message, headers);
+
+        for (String subscriberUrl : subscriberUrls) {
+            try {
+                restTemplate.postForEntity(subscriberUrl, request, Void.class);
+            } catch (Exception e) {
+                log.warn("Failed to notify campaign change {} to {}: {}",
+                    message.getCampaignId(), subscriberUrl, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
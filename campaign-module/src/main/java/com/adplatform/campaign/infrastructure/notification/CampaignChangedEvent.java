@@ -0,0 +1,15 @@
+package com.adplatform.campaign.infrastructure.notification;
+
+import com.adplatform.campaign.domain.model.Campaign;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캠페인 변경 이벤트
+ * - 캠페인이 저장될 때마다 발행 (상태, 예산, 광고그룹 변경 포함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CampaignChangedEvent {
+    private final Campaign campaign;
+}
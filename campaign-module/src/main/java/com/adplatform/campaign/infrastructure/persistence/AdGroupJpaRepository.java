@@ -0,0 +1,24 @@
+package com.adplatform.campaign.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AdGroup JPA Repository
+ * - 광고그룹 단독 조회용 (저장은 Campaign Aggregate를 통해서만)
+ */
+public interface AdGroupJpaRepository extends JpaRepository<AdGroupEntity, String> {
+
+    /**
+     * ID 목록으로 광고그룹 조회 (캠페인, 광고까지 fetch join)
+     */
+    @Query("SELECT DISTINCT ag FROM AdGroupEntity ag " +
+           "JOIN FETCH ag.campaign " +
+           "LEFT JOIN FETCH ag.ads " +
+           "WHERE ag.id IN :ids")
+    List<AdGroupEntity> findAllWithAdsByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -1,5 +1,6 @@
 package com.adplatform.campaign.infrastructure.persistence;
 
+import com.adplatform.campaign.domain.model.AdStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,14 @@ public interface CampaignJpaRepository extends JpaRepository<CampaignEntity, Str
            "WHERE c.advertiserId = :advertiserId")
     List<CampaignEntity> findByAdvertiserIdWithAdGroups(@Param("advertiserId") String advertiserId);
 
+    /**
+     * 상태로 캠페인 목록 조회 (AdGroup까지 fetch join)
+     */
+    @Query("SELECT DISTINCT c FROM CampaignEntity c " +
+           "LEFT JOIN FETCH c.adGroups ag " +
+           "WHERE c.status = :status")
+    List<CampaignEntity> findByStatusWithAdGroups(@Param("status") AdStatus status);
+
     /**
      * 광고주 ID로 캠페인 목록 조회
      */
@@ -88,7 +88,7 @@ public class CampaignMapper {
     /**
      * AdGroup Entity -> Domain
      */
-    private AdGroup toAdGroupDomain(AdGroupEntity entity) {
+    public AdGroup toAdGroupDomain(AdGroupEntity entity) {
         AdGroup adGroup = AdGroup.builder()
             .id(entity.getId())
             .campaignId(entity.getCampaign().getId())
@@ -1,10 +1,15 @@
 package com.adplatform.campaign.infrastructure.persistence;
 
+import com.adplatform.campaign.domain.model.AdGroup;
+import com.adplatform.campaign.domain.model.AdStatus;
 import com.adplatform.campaign.domain.model.Campaign;
 import com.adplatform.campaign.domain.repository.CampaignRepository;
+import com.adplatform.campaign.infrastructure.notification.CampaignChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -13,13 +18,16 @@ import java.util.stream.Collectors;
  * Campaign Repository 구현체
  * - Domain Repository 인터페이스 구현
  * - JPA Repository와 Mapper를 사용하여 영속성 처리
+ * - 저장 시 캠페인 변경 이벤트 발행
  */
 @Repository
 @RequiredArgsConstructor
 public class CampaignRepositoryImpl implements CampaignRepository {
 
     private final CampaignJpaRepository jpaRepository;
+    private final AdGroupJpaRepository adGroupJpaRepository;
     private final CampaignMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Campaign save(Campaign campaign) {
@@ -36,7 +44,11 @@ public class CampaignRepositoryImpl implements CampaignRepository {
         }
 
         CampaignEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        Campaign result = mapper.toDomain(saved);
+
+        // 커밋 후 구독 서비스에 변경 알림 (CampaignChangeNotifier)
+        eventPublisher.publishEvent(new CampaignChangedEvent(result));
+        return result;
     }
 
     @Override
@@ -52,6 +64,23 @@ public class CampaignRepositoryImpl implements CampaignRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Campaign> findAllActive() {
+        return jpaRepository.findByStatusWithAdGroups(AdStatus.ACTIVE).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AdGroup> findAdGroupsByIds(Collection<String> adGroupIds) {
+        if (adGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return adGroupJpaRepository.findAllWithAdsByIdIn(adGroupIds).stream()
+            .map(mapper::toAdGroupDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
@@ -18,7 +18,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -202,4 +204,84 @@ class CampaignControllerTest {
 
         verify(addAdGroupUseCase).execute(any());
     }
+
+    @Test
+    void 광고그룹을_ID_목록으로_일괄_조회한다() throws Exception {
+        // Given
+        AdGroup first = AdGroup.builder()
+            .id("ag-1").campaignId("camp-1").name("A").bid(500L).status(AdStatus.ACTIVE).build();
+        AdGroup second = AdGroup.builder()
+            .id("ag-2").campaignId("camp-1").name("B").bid(700L).status(AdStatus.ACTIVE).build();
+
+        when(campaignRepository.findAdGroupsByIds(any())).thenReturn(List.of(first, second));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/campaigns/adgroups")
+                .param("ids", "ag-1,ag-2,ag-unknown"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value("ag-1"))
+            .andExpect(jsonPath("$[1].bid").value(700));
+
+        verify(campaignRepository).findAdGroupsByIds(Set.of("ag-1", "ag-2", "ag-unknown"));
+    }
+
+    @Test
+    void 존재하지_않는_광고그룹_조회시_404를_반환한다() throws Exception {
+        // Given
+        when(campaignRepository.findAdGroupsByIds(List.of("ag-unknown"))).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/campaigns/adgroups/ag-unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 게재_가능한_활성_캠페인만_조회한다() throws Exception {
+        // Given
+        Campaign servable = Campaign.builder()
+            .id("camp-1")
+            .advertiserId("adv-1")
+            .name("Servable")
+            .budget(new Budget(10000L, 300000L))
+            .status(AdStatus.ACTIVE)
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(30))
+            .build();
+        AdGroup adGroup = AdGroup.builder()
+            .id("ag-1").campaignId("camp-1").name("A").bid(500L).status(AdStatus.ACTIVE).build();
+        adGroup.addAd(Ad.builder()
+            .id("ad-1").adGroupId("ag-1").title("Summer Sale")
+            .landingUrl("https://example.com/sale").status(AdStatus.ACTIVE).build());
+        adGroup.addAd(Ad.builder()
+            .id("ad-2").adGroupId("ag-1").title("Paused Ad")
+            .landingUrl("https://example.com/paused").status(AdStatus.PAUSED).build());
+        servable.addAdGroup(adGroup);
+
+        Campaign withoutAdGroups = Campaign.builder()
+            .id("camp-2")
+            .advertiserId("adv-1")
+            .name("Without AdGroups")
+            .budget(new Budget(10000L, 300000L))
+            .status(AdStatus.ACTIVE)
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(30))
+            .build();
+
+        when(campaignRepository.findAllActive()).thenReturn(List.of(servable, withoutAdGroups));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/campaigns/active"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value("camp-1"))
+            .andExpect(jsonPath("$[0].bidAmount").value(500))
+            .andExpect(jsonPath("$[0].dailyBudget").value(10000))
+            .andExpect(jsonPath("$[0].status").value("ACTIVE"))
+            .andExpect(jsonPath("$[0].version").isNumber())
+            .andExpect(jsonPath("$[0].adGroups[0].id").value("ag-1"))
+            .andExpect(jsonPath("$[0].adGroups[0].bid").value(500))
+            .andExpect(jsonPath("$[0].adGroups[0].ads.length()").value(1))
+            .andExpect(jsonPath("$[0].adGroups[0].ads[0].id").value("ad-1"));
+    }
 }
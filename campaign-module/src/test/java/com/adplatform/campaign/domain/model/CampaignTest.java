@@ -259,4 +259,32 @@ class CampaignTest {
         // Then
         assertThat(campaign.hasActiveAdGroups()).isTrue();
     }
+
+    @Test
+    void 활성_광고그룹_중_최고_입찰가를_반환한다() {
+        // Given
+        Campaign campaign = Campaign.builder()
+            .id("camp-1")
+            .advertiserId("adv-1")
+            .name("Campaign")
+            .budget(new Budget(10000L, 100000L))
+            .status(AdStatus.ACTIVE)
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(30))
+            .build();
+
+        // Then
+        assertThat(campaign.getHighestActiveBid()).isNull();
+
+        // When
+        campaign.addAdGroup(AdGroup.builder()
+            .id("ag-1").campaignId("camp-1").name("Low").bid(300L).status(AdStatus.ACTIVE).build());
+        campaign.addAdGroup(AdGroup.builder()
+            .id("ag-2").campaignId("camp-1").name("Paused").bid(900L).status(AdStatus.PAUSED).build());
+        campaign.addAdGroup(AdGroup.builder()
+            .id("ag-3").campaignId("camp-1").name("High").bid(700L).status(AdStatus.ACTIVE).build());
+
+        // Then
+        assertThat(campaign.getHighestActiveBid()).isEqualTo(700L);
+    }
 }
@@ -0,0 +1,155 @@
+package com.adplatform.eventlog.adapter.rest;
+
+import com.adplatform.eventlog.adapter.rest.dto.RecordEventRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 기록 요청 본문 읽기
+ * - NDJSON(한 줄에 이벤트 하나) 또는 JSON 배열을 본문 전체를 문자열로 올리지 않고 순서대로 읽음
+ * - 이벤트마다 형식/필수값을 검증하여, 잘못된 이벤트는 요청 전체가 아니라 해당 이벤트만 거부
+ * - NDJSON은 JSON 형식이 깨진 줄도 해당 줄만 거부 (JSON 배열은 본문 전체가 올바른 JSON이어야 함)
+ */
+@Component
+public class BulkEventReader {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxEvents;
+
+    public BulkEventReader(
+        ObjectMapper objectMapper,
+        Validator validator,
+        @Value("${eventlog.bulk.max-events:10000}") int maxEvents
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxEvents = maxEvents;
+    }
+
+    /**
+     * 요청 본문의 이벤트를 순서대로 읽기
+     *
+     * @param body 요청 본문
+     * @param ndjson NDJSON 여부 (false면 JSON 배열)
+     */
+    public List<Entry> read(InputStream body, boolean ndjson) throws IOException {
+        return ndjson ? readNdjson(body) : readArray(body);
+    }
+
+    private List<Entry> readNdjson(InputStream body) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            checkLimit(entries.size());
+            try {
+                entries.add(toEntry(objectMapper.readTree(line)));
+            } catch (JsonProcessingException e) {
+                entries.add(Entry.rejected(null, "JSON 형식이 올바르지 않습니다"));
+            }
+        }
+        return entries;
+    }
+
+    private List<Entry> readArray(InputStream body) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 이벤트 JSON 배열이어야 합니다");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("이벤트 JSON 배열이 끝나지 않았습니다");
+                }
+                checkLimit(entries.size());
+                JsonNode node = parser.readValueAsTree();
+                entries.add(toEntry(node));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문의 JSON 형식이 올바르지 않습니다");
+        }
+        return entries;
+    }
+
+    private void checkLimit(int count) {
+        if (count >= maxEvents) {
+            throw new IllegalArgumentException("한 번에 기록할 수 있는 이벤트는 최대 " + maxEvents + "개입니다");
+        }
+    }
+
+    private Entry toEntry(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return Entry.rejected(null, "이벤트는 JSON 객체여야 합니다");
+        }
+        String id = node.path("id").asText(null);
+
+        RecordEventRequest request;
+        try {
+            request = objectMapper.treeToValue(node, RecordEventRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Entry.rejected(id, "이벤트 형식이 올바르지 않습니다");
+        }
+
+        Set<ConstraintViolation<RecordEventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+            return Entry.rejected(id, error);
+        }
+        return Entry.valid(request);
+    }
+
+    /**
+     * 읽은 이벤트 하나 (검증 실패 시 request는 null)
+     */
+    @Getter
+    public static class Entry {
+
+        private final RecordEventRequest request;
+        private final String id;
+        private final String error;
+
+        private Entry(RecordEventRequest request, String id, String error) {
+            this.request = request;
+            this.id = id;
+            this.error = error;
+        }
+
+        static Entry valid(RecordEventRequest request) {
+            return new Entry(request, request.getId(), null);
+        }
+
+        static Entry rejected(String id, String error) {
+            return new Entry(null, id, error);
+        }
+
+        public boolean isValid() {
+            return request != null;
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package com.adplatform.eventlog.adapter.rest;
 
+import com.adplatform.eventlog.adapter.rest.dto.BulkEventResponse;
+import com.adplatform.eventlog.adapter.rest.dto.EventPageResponse;
 import com.adplatform.eventlog.adapter.rest.dto.EventResponse;
 import com.adplatform.eventlog.adapter.rest.dto.RecordEventRequest;
+import com.adplatform.eventlog.application.dto.BulkEventResult;
+import com.adplatform.eventlog.application.dto.EventPage;
 import com.adplatform.eventlog.application.dto.EventResult;
 import com.adplatform.eventlog.application.dto.RecordEventCommand;
 import com.adplatform.eventlog.application.usecase.GetEventsByAdUseCase;
 import com.adplatform.eventlog.application.usecase.GetEventsByTimeRangeUseCase;
+import com.adplatform.eventlog.application.usecase.ReadEventFeedUseCase;
 import com.adplatform.eventlog.application.usecase.RecordEventUseCase;
 import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -33,6 +45,9 @@ public class EventLogController {
     private final RecordEventUseCase recordEventUseCase;
     private final GetEventsByAdUseCase getEventsByAdUseCase;
     private final GetEventsByTimeRangeUseCase getEventsByTimeRangeUseCase;
+    private final ReadEventFeedUseCase readEventFeedUseCase;
+    private final BulkEventReader bulkEventReader;
+    private final EventStreamWriter eventStreamWriter;
 
     /**
      * POST /api/v1/events - 이벤트 기록
@@ -43,7 +58,54 @@ public class EventLogController {
         log.info("Recording event: id={}, type={}, adId={}",
             request.getId(), request.getEventType(), request.getAdId());
 
-        RecordEventCommand command = RecordEventCommand.builder()
+        RecordEventCommand command = toCommand(request);
+
+        AdEvent event = recordEventUseCase.execute(command);
+        EventResponse response = EventResponse.from(EventResult.from(event));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * POST /api/v1/events/bulk - 이벤트 일괄 기록
+     * - 본문: NDJSON(application/x-ndjson) 또는 JSON 배열(application/json)
+     * - 이벤트별로 검증하여 유효한 이벤트만 한 번에 저장
+     * @return 200 OK + 이벤트별 ACCEPTED/DUPLICATE/REJECTED
+     */
+    @PostMapping(
+        value = "/bulk",
+        consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public ResponseEntity<BulkEventResponse> recordEvents(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        List<BulkEventReader.Entry> entries = bulkEventReader.read(body, ndjson);
+
+        List<RecordEventCommand> commands = new ArrayList<>(entries.size());
+        for (BulkEventReader.Entry entry : entries) {
+            if (entry.isValid()) {
+                commands.add(toCommand(entry.getRequest()));
+            }
+        }
+        List<BulkEventResult> recorded = recordEventUseCase.executeBulk(commands);
+
+        // 본문 검증 결과와 기록 결과를 요청 순서대로 합침
+        List<BulkEventResult> results = new ArrayList<>(entries.size());
+        int next = 0;
+        for (BulkEventReader.Entry entry : entries) {
+            results.add(entry.isValid()
+                ? recorded.get(next++)
+                : BulkEventResult.rejected(entry.getId(), entry.getError()));
+        }
+        log.info("Bulk events requested: {}", entries.size());
+
+        return ResponseEntity.ok(BulkEventResponse.from(results));
+    }
+
+    private RecordEventCommand toCommand(RecordEventRequest request) {
+        return RecordEventCommand.builder()
             .id(request.getId())
             .eventType(request.getEventType())
             .adId(request.getAdId())
@@ -55,11 +117,6 @@ public class EventLogController {
             .metadata(request.getMetadata())
             .impressionToken(request.getImpressionToken())
             .build();
-
-        AdEvent event = recordEventUseCase.execute(command);
-        EventResponse response = EventResponse.from(EventResult.from(event));
-
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     /**
@@ -92,20 +149,60 @@ public class EventLogController {
 
     /**
      * GET /api/v1/events?startTime={ts}&endTime={ts} - 시간 범위로 이벤트 조회
+     * - 범위 전체를 메모리에 올리지 않고 DB 커서에서 읽는 대로 응답에 씀 (chunked)
+     * - Accept: application/x-ndjson이면 NDJSON, 그 외에는 JSON 배열
      */
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getEventsByTimeRange(
+    public void getEventsByTimeRange(
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
-        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime
-    ) {
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        HttpServletResponse response
+    ) throws IOException {
         log.info("Getting events by time range: {} to {}", startTime, endTime);
 
-        List<AdEvent> events = getEventsByTimeRangeUseCase.execute(startTime, endTime);
-        List<EventResponse> responses = events.stream()
-            .map(EventResult::from)
-            .map(EventResponse::from)
-            .collect(Collectors.toList());
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+            .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
 
-        return ResponseEntity.ok(responses);
+        EventStreamWriter.Output output = eventStreamWriter.open(response.getOutputStream(), ndjson);
+        getEventsByTimeRangeUseCase.stream(startTime, endTime, output);
+        output.close();
+    }
+
+    /**
+     * GET /api/v1/events/feed?fromOffset={n}&limit={m} - 이벤트 피드 조회 (NDJSON)
+     * - offset 순으로 fromOffset 이상인 이벤트를 최대 limit개, 한 줄에 {"offset":..., 이벤트 필드...}
+     * - 다음 조회는 마지막 줄의 offset + 1부터 (빈 응답이면 같은 fromOffset으로 다시 조회)
+     */
+    @GetMapping("/feed")
+    public void readFeed(
+        @RequestParam(defaultValue = "0") long fromOffset,
+        @RequestParam(defaultValue = "1000") int limit,
+        HttpServletResponse response
+    ) throws IOException {
+        List<EventFeedEntry> entries = readEventFeedUseCase.execute(fromOffset, limit);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        EventStreamWriter.Output output = eventStreamWriter.open(response.getOutputStream(), true);
+        entries.forEach(output::accept);
+        output.close();
+    }
+
+    /**
+     * GET /api/v1/events/page?startTime={ts}&endTime={ts}&limit={n}&cursor={c} - 시간 범위 페이지 조회
+     * - (timestamp, id) keyset 페이지네이션: 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EventPageResponse> getEventPageByTimeRange(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+        @RequestParam(defaultValue = "1000") int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        log.info("Getting event page by time range: {} to {}, limit={}", startTime, endTime, limit);
+
+        EventPage page = getEventsByTimeRangeUseCase.executePage(startTime, endTime, cursor, limit);
+        return ResponseEntity.ok(EventPageResponse.from(page));
     }
 }
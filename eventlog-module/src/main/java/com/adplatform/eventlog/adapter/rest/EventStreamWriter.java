@@ -0,0 +1,92 @@
+package com.adplatform.eventlog.adapter.rest;
+
+import com.adplatform.eventlog.adapter.rest.dto.EventFeedResponse;
+import com.adplatform.eventlog.adapter.rest.dto.EventResponse;
+import com.adplatform.eventlog.application.dto.EventResult;
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 목록 스트리밍 응답 쓰기
+ * - 이벤트를 하나씩 직렬화하여 JSON 배열 또는 NDJSON(한 줄에 이벤트 하나)으로 출력
+ * - 이벤트마다 flush하지 않고 버퍼가 찰 때마다 내보냄 (chunked 전송)
+ */
+@Component
+public class EventStreamWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public EventStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 응답 스트림 열기
+     * - 반환된 Output에 이벤트를 넘긴 뒤 close()를 호출해야 응답이 완성됨
+     *   (close 전에 예외가 나면 아직 버퍼에 있는 내용은 내보내지 않음)
+     *
+     * @param ndjson NDJSON 여부 (false면 JSON 배열)
+     */
+    public Output open(OutputStream out, boolean ndjson) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (ndjson) {
+            generator.setRootValueSeparator(null);
+        } else {
+            generator.writeStartArray();
+        }
+        return new Output(generator, ndjson);
+    }
+
+    public class Output implements Consumer<AdEvent> {
+
+        private final JsonGenerator generator;
+        private final boolean ndjson;
+
+        private Output(JsonGenerator generator, boolean ndjson) {
+            this.generator = generator;
+            this.ndjson = ndjson;
+        }
+
+        @Override
+        public void accept(AdEvent event) {
+            write(EventResponse.from(EventResult.from(event)));
+        }
+
+        /**
+         * 피드 항목 쓰기 (offset 포함)
+         */
+        public void accept(EventFeedEntry entry) {
+            write(EventFeedResponse.from(entry));
+        }
+
+        private void write(Object value) {
+            try {
+                writer.writeValue(generator, value);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public void close() throws IOException {
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+            generator.close();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.adplatform.eventlog.adapter.rest;
 
+import com.adplatform.eventlog.domain.exception.EventIngestOverloadedException;
+import com.adplatform.eventlog.domain.exception.InvalidImpressionTokenException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -31,6 +34,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(InvalidImpressionTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImpressionTokenException(InvalidImpressionTokenException e) {
+        log.warn("Invalid impression token: {}", e.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Invalid Impression Token")
+            .message(e.getMessage())
+            .build();
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * 수집 버퍼 포화 - 503 + Retry-After (클라이언트 재전송, 같은 ID는 중복 저장되지 않음)
+     */
+    @ExceptionHandler(EventIngestOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleEventIngestOverloadedException(EventIngestOverloadedException e) {
+        log.warn("Event ingest overloaded: {}", e.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error("Service Unavailable")
+            .message(e.getMessage())
+            .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
         Map<String, String> errors = new HashMap<>();
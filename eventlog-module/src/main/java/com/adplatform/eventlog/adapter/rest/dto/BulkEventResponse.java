@@ -0,0 +1,59 @@
+package com.adplatform.eventlog.adapter.rest.dto;
+
+import com.adplatform.eventlog.application.dto.BulkEventResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 일괄 기록 응답 DTO
+ * - results는 요청 본문의 이벤트 순서와 같음 (index: 0부터 시작하는 요청 내 위치)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEventResponse {
+
+    private int accepted;
+    private int duplicates;
+    private int rejected;
+    private List<Item> results;
+
+    public static BulkEventResponse from(List<BulkEventResult> results) {
+        int accepted = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        List<Item> items = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkEventResult result = results.get(i);
+            switch (result.getStatus()) {
+                case ACCEPTED -> accepted++;
+                case DUPLICATE -> duplicates++;
+                case REJECTED -> rejected++;
+            }
+            items.add(new Item(i, result.getId(), result.getStatus(), result.getError()));
+        }
+
+        return BulkEventResponse.builder()
+            .accepted(accepted)
+            .duplicates(duplicates)
+            .rejected(rejected)
+            .results(items)
+            .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int index;
+        private String id;
+        private BulkEventResult.Status status;
+        private String error;
+    }
+}
@@ -0,0 +1,25 @@
+package com.adplatform.eventlog.adapter.rest.dto;
+
+import com.adplatform.eventlog.application.dto.EventResult;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이벤트 피드 항목 응답 DTO
+ * - 한 줄에 {"offset": ..., 이벤트 필드...} (이벤트 필드는 EventResponse와 같음)
+ */
+@Getter
+@AllArgsConstructor
+public class EventFeedResponse {
+
+    private long offset;
+
+    @JsonUnwrapped
+    private EventResponse event;
+
+    public static EventFeedResponse from(EventFeedEntry entry) {
+        return new EventFeedResponse(entry.getOffset(), EventResponse.from(EventResult.from(entry.getEvent())));
+    }
+}
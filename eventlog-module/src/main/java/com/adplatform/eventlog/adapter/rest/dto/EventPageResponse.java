@@ -0,0 +1,31 @@
+package com.adplatform.eventlog.adapter.rest.dto;
+
+import com.adplatform.eventlog.application.dto.EventPage;
+import com.adplatform.eventlog.application.dto.EventResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 시간 범위 조회 페이지 응답 DTO
+ * - nextCursor를 다음 요청의 cursor로 전달, null이면 마지막 페이지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageResponse {
+
+    private List<EventResponse> events;
+    private String nextCursor;
+
+    public static EventPageResponse from(EventPage page) {
+        List<EventResponse> events = page.getEvents().stream()
+            .map(EventResult::from)
+            .map(EventResponse::from)
+            .collect(Collectors.toList());
+        return new EventPageResponse(events, page.getNextCursor());
+    }
+}
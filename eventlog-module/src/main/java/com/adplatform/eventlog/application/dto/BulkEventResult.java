@@ -0,0 +1,35 @@
+package com.adplatform.eventlog.application.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 기록 시 이벤트별 처리 결과
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkEventResult {
+
+    private final String id;
+    private final Status status;
+    private final String error;
+
+    public static BulkEventResult accepted(String id) {
+        return new BulkEventResult(id, Status.ACCEPTED, null);
+    }
+
+    public static BulkEventResult duplicate(String id) {
+        return new BulkEventResult(id, Status.DUPLICATE, null);
+    }
+
+    public static BulkEventResult rejected(String id, String error) {
+        return new BulkEventResult(id, Status.REJECTED, error);
+    }
+
+    public enum Status {
+        ACCEPTED,   // 새로 저장됨
+        DUPLICATE,  // 이미 저장된 ID (Idempotent)
+        REJECTED    // 검증 실패
+    }
+}
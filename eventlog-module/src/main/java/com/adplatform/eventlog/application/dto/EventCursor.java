@@ -0,0 +1,51 @@
+package com.adplatform.eventlog.application.dto;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 시간 범위 조회 페이지 커서 (keyset)
+ * - 이전 페이지 마지막 이벤트의 (timestamp, id), 다음 페이지는 이 키 이후부터 조회
+ * - 클라이언트에는 불투명 문자열(Base64 URL)로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final Instant timestamp;
+    private final String id;
+
+    public static EventCursor after(AdEvent event) {
+        return new EventCursor(event.getTimestamp(), event.getId());
+    }
+
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static EventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다");
+            }
+            return new EventCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.adplatform.eventlog.application.dto;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 시간 범위 조회 한 페이지
+ * - nextCursor가 null이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class EventPage {
+
+    private final List<AdEvent> events;
+    private final String nextCursor;
+}
@@ -1,5 +1,7 @@
 package com.adplatform.eventlog.application.usecase;
 
+import com.adplatform.eventlog.application.dto.EventCursor;
+import com.adplatform.eventlog.application.dto.EventPage;
 import com.adplatform.eventlog.domain.model.AdEvent;
 import com.adplatform.eventlog.domain.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
@@ -9,15 +11,22 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 시간 범위로 이벤트 조회 유스케이스
+ * - 범위가 큰 조회는 stream(하나씩 전달) 또는 executePage(keyset 페이지) 사용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GetEventsByTimeRangeUseCase {
 
+    /**
+     * 페이지당 최대 이벤트 수
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final EventRepository eventRepository;
 
     @Transactional(readOnly = true)
@@ -32,6 +41,56 @@ public class GetEventsByTimeRangeUseCase {
         return events;
     }
 
+    /**
+     * 시간 범위 이벤트를 (timestamp, id) 순으로 하나씩 전달 (메모리 사용량은 범위 크기와 무관)
+     * - 시간 범위 검증은 첫 이벤트를 전달하기 전에 수행
+     *
+     * @return 전달한 이벤트 수
+     */
+    @Transactional(readOnly = true)
+    public long stream(Instant startTime, Instant endTime, Consumer<AdEvent> consumer) {
+        validateTimeRange(startTime, endTime);
+
+        long[] count = {0};
+        eventRepository.streamByTimeRange(startTime, endTime, event -> {
+            consumer.accept(event);
+            count[0]++;
+        });
+        log.info("Streamed {} events in time range {} to {}", count[0], startTime, endTime);
+
+        return count[0];
+    }
+
+    /**
+     * 시간 범위 이벤트 한 페이지 조회 (keyset 페이지네이션)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public EventPage executePage(Instant startTime, Instant endTime, String cursor, int limit) {
+        validateTimeRange(startTime, endTime);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        EventCursor after = cursor != null ? EventCursor.decode(cursor) : null;
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<AdEvent> events = eventRepository.findByTimeRangeAfter(
+            startTime,
+            endTime,
+            after != null ? after.getTimestamp() : null,
+            after != null ? after.getId() : null,
+            limit + 1
+        );
+
+        if (events.size() <= limit) {
+            return new EventPage(events, null);
+        }
+        List<AdEvent> page = events.subList(0, limit);
+        return new EventPage(page, EventCursor.after(page.get(limit - 1)).encode());
+    }
+
     private void validateTimeRange(Instant startTime, Instant endTime) {
         if (startTime == null) {
             throw new IllegalArgumentException("시작 시간은 필수입니다");
@@ -0,0 +1,47 @@
+package com.adplatform.eventlog.application.usecase;
+
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.adplatform.eventlog.domain.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 이벤트 피드 조회 유스케이스
+ * - offset 순으로 저장된 이벤트를 이어 읽기 위한 API (집계 서비스 등 소비자용)
+ * - 소비자는 처리를 마친 마지막 offset + 1을 저장해 두고 다음 조회의 fromOffset으로 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadEventFeedUseCase {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 이벤트 수
+     */
+    public static final int MAX_LIMIT = 10000;
+
+    private final EventRepository eventRepository;
+
+    /**
+     * @param fromOffset 이 offset 이상부터 조회 (0이면 처음부터)
+     * @param limit 최대 이벤트 수 (1 ~ MAX_LIMIT)
+     */
+    @Transactional(readOnly = true)
+    public List<EventFeedEntry> execute(long fromOffset, int limit) {
+        if (fromOffset < 0) {
+            throw new IllegalArgumentException("offset은 0 이상이어야 합니다");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+
+        List<EventFeedEntry> entries = eventRepository.findFeedFrom(fromOffset, limit);
+        log.debug("Read {} feed entries from offset {}", entries.size(), fromOffset);
+
+        return entries;
+    }
+}
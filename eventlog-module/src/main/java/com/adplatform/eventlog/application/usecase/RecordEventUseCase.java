@@ -1,17 +1,33 @@
 package com.adplatform.eventlog.application.usecase;
 
+import com.adplatform.eventlog.application.dto.BulkEventResult;
 import com.adplatform.eventlog.application.dto.RecordEventCommand;
+import com.adplatform.eventlog.domain.exception.InvalidImpressionTokenException;
 import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
 import com.adplatform.eventlog.domain.repository.EventRepository;
+import com.adplatform.eventlog.infrastructure.dedup.RecentEventIdFilter;
+import com.adplatform.eventlog.infrastructure.ingest.EventIngestPipeline;
+import com.adplatform.eventlog.infrastructure.token.ImpressionTokenVerifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 이벤트 기록 유스케이스
  * - Idempotent: 동일 ID로 중복 요청 시 기존 이벤트 반환
+ *   (최근 ID 필터가 "본 적 있을 수도 있음"으로 판단한 경우에만 저장소 조회, 나머지는 INSERT 한 번으로 처리)
  * - Append-only: 이벤트는 추가만 가능
+ * - CLICK/CONVERSION은 노출 토큰 서명을 검증하여 저장소 조회 전에 위조 이벤트 거부
+ * - 비동기 수집을 켜면 검증된 이벤트를 수집 파이프라인에 넘기고 바로 반환
+ *   (중복 ID는 일괄 저장 시 무시되며, 응답은 접수된 이벤트 그대로)
  */
 @Service
 @RequiredArgsConstructor
@@ -19,21 +35,93 @@ import org.springframework.transaction.annotation.Transactional;
 public class RecordEventUseCase {
 
     private final EventRepository eventRepository;
+    private final ImpressionTokenVerifier impressionTokenVerifier;
+    private final EventIngestPipeline eventIngestPipeline;
+    private final RecentEventIdFilter recentEventIdFilter;
 
-    @Transactional
+    /**
+     * 이벤트 기록
+     * - 트랜잭션은 저장소 호출 단위로만 사용 (비동기 수집 시 요청 스레드가 DB 커넥션을 잡지 않도록)
+     */
     public AdEvent execute(RecordEventCommand command) {
         log.info("Recording event: id={}, type={}, adId={}",
             command.getId(), command.getEventType(), command.getAdId());
 
-        // Idempotent 처리: 이미 존재하면 기존 이벤트 반환
-        if (eventRepository.existsById(command.getId())) {
-            log.info("Event already exists: id={}, returning existing event", command.getId());
-            return eventRepository.findById(command.getId())
+        verifyImpressionToken(command);
+        AdEvent event = toEvent(command);
+
+        if (eventIngestPipeline.isEnabled()) {
+            eventIngestPipeline.submit(event);
+            return event;
+        }
+
+        // 최근 기록된 ID일 가능성이 있을 때만 저장소에서 중복 확인
+        RecentEventIdFilter.Verdict verdict = recentEventIdFilter.check(event.getId());
+        if (verdict == RecentEventIdFilter.Verdict.SEEN
+            || (verdict == RecentEventIdFilter.Verdict.MAYBE_SEEN && eventRepository.existsById(event.getId()))) {
+            Optional<AdEvent> existing = eventRepository.findById(event.getId());
+            if (existing.isPresent()) {
+                log.info("Event already exists: id={}, returning existing event", event.getId());
+                return existing.get();
+            }
+        }
+
+        // 저장: 대부분 한 번의 INSERT로 끝나며, 필터가 모르는 중복(다른 노드/재기동 전 기록분)은 PK 제약으로 판별
+        if (eventRepository.saveAll(List.of(event)).isEmpty()) {
+            log.info("Event already exists: id={}, returning existing event", event.getId());
+            recentEventIdFilter.record(event.getId());
+            return eventRepository.findById(event.getId())
                 .orElseThrow(() -> new IllegalStateException("이벤트가 존재하지만 조회할 수 없습니다"));
         }
 
-        // 새 이벤트 생성
-        AdEvent event = AdEvent.builder()
+        recentEventIdFilter.record(event.getId());
+        log.info("Event recorded successfully: id={}", event.getId());
+        return event;
+    }
+
+    /**
+     * 이벤트 일괄 기록 (SDK/엣지 수집기 배치 전송용)
+     * - 이벤트마다 단건 기록과 같은 규칙(노출 토큰, AdEvent 검증)으로 검증하고 실패한 이벤트만 거부
+     * - 검증을 통과한 이벤트는 한 번의 일괄 저장으로 기록 (이미 존재하는 ID는 중복 처리)
+     *
+     * @return 입력 순서와 같은 이벤트별 처리 결과
+     */
+    public List<BulkEventResult> executeBulk(List<RecordEventCommand> commands) {
+        BulkEventResult[] results = new BulkEventResult[commands.size()];
+        List<AdEvent> validEvents = new ArrayList<>(commands.size());
+        List<Integer> validIndexes = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            RecordEventCommand command = commands.get(i);
+            try {
+                verifyImpressionToken(command);
+                validEvents.add(toEvent(command));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException | InvalidImpressionTokenException e) {
+                results[i] = BulkEventResult.rejected(command.getId(), e.getMessage());
+            }
+        }
+
+        Set<AdEvent> inserted = Collections.newSetFromMap(new IdentityHashMap<>());
+        inserted.addAll(eventRepository.saveAll(validEvents));
+        for (AdEvent event : validEvents) {
+            recentEventIdFilter.record(event.getId());
+        }
+
+        for (int k = 0; k < validEvents.size(); k++) {
+            AdEvent event = validEvents.get(k);
+            results[validIndexes.get(k)] = inserted.contains(event)
+                ? BulkEventResult.accepted(event.getId())
+                : BulkEventResult.duplicate(event.getId());
+        }
+
+        log.info("Bulk events recorded: total={}, saved={}, rejected={}",
+            commands.size(), inserted.size(), commands.size() - validEvents.size());
+        return List.of(results);
+    }
+
+    private AdEvent toEvent(RecordEventCommand command) {
+        return AdEvent.builder()
             .id(command.getId())
             .eventType(command.getEventType())
             .adId(command.getAdId())
@@ -45,11 +133,26 @@ public class RecordEventUseCase {
             .metadata(command.getMetadata())
             .impressionToken(command.getImpressionToken())
             .build();
+    }
 
-        // 저장
-        AdEvent saved = eventRepository.save(event);
-        log.info("Event recorded successfully: id={}", saved.getId());
+    /**
+     * 노출 토큰 검증 (CLICK/CONVERSION)
+     * - 토큰이 이벤트의 캠페인/광고에 대해 발급된 것인지 확인
+     */
+    private void verifyImpressionToken(RecordEventCommand command) {
+        EventType eventType = command.getEventType();
+        if (eventType != EventType.CLICK && eventType != EventType.CONVERSION) {
+            return;
+        }
+        if (command.getImpressionToken() == null) {
+            // 토큰 누락은 AdEvent 생성 시 검증
+            return;
+        }
 
-        return saved;
+        impressionTokenVerifier.verify(
+            command.getImpressionToken(),
+            command.getCampaignId(),
+            command.getAdId()
+        );
     }
 }
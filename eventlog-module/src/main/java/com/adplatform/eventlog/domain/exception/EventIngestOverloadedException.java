@@ -0,0 +1,17 @@
+package com.adplatform.eventlog.domain.exception;
+
+/**
+ * 이벤트 수집 버퍼가 가득 차서 이벤트를 받을 수 없을 때 발생하는 예외
+ * - 저장 속도가 유입 속도를 따라가지 못하는 상태 (클라이언트는 잠시 후 재전송)
+ */
+public class EventIngestOverloadedException extends RuntimeException {
+
+    public EventIngestOverloadedException(String message) {
+        super(message);
+    }
+
+    public static EventIngestOverloadedException bufferFull(int capacity) {
+        return new EventIngestOverloadedException(
+            "이벤트 수집 버퍼가 가득 찼습니다 (용량: " + capacity + ")");
+    }
+}
@@ -0,0 +1,28 @@
+package com.adplatform.eventlog.domain.exception;
+
+/**
+ * 노출 토큰이 유효하지 않을 때 발생하는 예외
+ * - 위조/변조된 토큰, 만료된 토큰, 다른 광고의 토큰
+ */
+public class InvalidImpressionTokenException extends RuntimeException {
+
+    public InvalidImpressionTokenException(String message) {
+        super(message);
+    }
+
+    public static InvalidImpressionTokenException malformed() {
+        return new InvalidImpressionTokenException("노출 토큰 형식이 올바르지 않습니다");
+    }
+
+    public static InvalidImpressionTokenException badSignature() {
+        return new InvalidImpressionTokenException("노출 토큰 서명이 올바르지 않습니다");
+    }
+
+    public static InvalidImpressionTokenException expired() {
+        return new InvalidImpressionTokenException("노출 토큰이 만료되었습니다");
+    }
+
+    public static InvalidImpressionTokenException mismatch(String field) {
+        return new InvalidImpressionTokenException("노출 토큰의 " + field + "가 이벤트와 일치하지 않습니다");
+    }
+}
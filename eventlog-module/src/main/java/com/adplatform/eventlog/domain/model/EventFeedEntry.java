@@ -0,0 +1,17 @@
+package com.adplatform.eventlog.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 피드 항목
+ * - offset: 저장 순서대로 증가하는 피드 위치 (연속적이지 않을 수 있음)
+ * - 소비자는 마지막으로 처리한 offset + 1부터 다시 읽음
+ */
+@Getter
+@RequiredArgsConstructor
+public class EventFeedEntry {
+
+    private final long offset;
+    private final AdEvent event;
+}
@@ -1,10 +1,12 @@
 package com.adplatform.eventlog.domain.repository;
 
 import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 이벤트 저장소 인터페이스 (Port)
@@ -16,6 +18,12 @@ public interface EventRepository {
      */
     AdEvent save(AdEvent event);
 
+    /**
+     * 이벤트 일괄 저장 (이미 존재하는 ID는 건너뜀)
+     * @return 새로 저장된 이벤트 목록
+     */
+    List<AdEvent> saveAll(List<AdEvent> events);
+
     /**
      * ID로 이벤트 조회
      */
@@ -31,6 +39,27 @@ public interface EventRepository {
      */
     List<AdEvent> findByTimeRange(Instant startTime, Instant endTime);
 
+    /**
+     * 시간 범위 이벤트를 (timestamp, id) 순으로 한 페이지 조회 (keyset 페이지네이션)
+     * @param afterTimestamp 이전 페이지 마지막 이벤트의 timestamp (첫 페이지면 null)
+     * @param afterId 이전 페이지 마지막 이벤트의 ID (첫 페이지면 null)
+     */
+    List<AdEvent> findByTimeRangeAfter(Instant startTime, Instant endTime,
+                                       Instant afterTimestamp, String afterId, int limit);
+
+    /**
+     * 시간 범위 이벤트를 (timestamp, id) 순으로 하나씩 전달 (범위 전체를 메모리에 올리지 않음)
+     */
+    void streamByTimeRange(Instant startTime, Instant endTime, Consumer<AdEvent> consumer);
+
+    /**
+     * 이벤트 피드를 offset 순으로 조회
+     * - 이미 읽은 offset보다 작은 offset의 이벤트가 나중에 나타나지 않음 (아직 커밋되지 않았을 수 있는 offset은 내보내지 않음)
+     * - offset 사이에 빈 번호가 있을 수 있음
+     * @param fromOffset 이 offset 이상부터 조회
+     */
+    List<EventFeedEntry> findFeedFrom(long fromOffset, int limit);
+
     /**
      * ID 존재 여부 확인 (중복 방지용)
      */
@@ -0,0 +1,190 @@
+package com.adplatform.eventlog.infrastructure.dedup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 기록된 이벤트 ID 필터 (중복 이벤트 사전 판별)
+ * - 중복 이벤트는 드물고 대부분 원본 이후 몇 분 안에 재전송되므로, 최근 ID만 메모리에서 판별
+ * - 정확한 LRU: 가장 최근 ID는 확실히 본 것으로 판단 (SEEN)
+ * - 시간 창 단위로 교체되는 Bloom 필터 2세대(현재/직전): 본 적이 있을 수도 있음 (MAYBE_SEEN)
+ * - 둘 다 없으면 이 노드에서 최근 기록한 적 없음 (NEW, 다른 노드/재기동 전 기록분은 PK 제약으로 판별)
+ *
+ * 기록된 ID는 최소 window, 최대 2 * window 동안 기억
+ */
+@Component
+public class RecentEventIdFilter {
+
+    public enum Verdict {
+        NEW,
+        MAYBE_SEEN,
+        SEEN
+    }
+
+    private final long windowMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final LongSupplier clock;
+    private final Map<String, Boolean> recentIds;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long currentStartedAt;
+
+    @Autowired
+    public RecentEventIdFilter(
+        @Value("${eventlog.dedup.window:PT10M}") Duration window,
+        @Value("${eventlog.dedup.expected-ids-per-window:1000000}") int expectedIdsPerWindow,
+        @Value("${eventlog.dedup.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${eventlog.dedup.lru-size:10000}") int lruSize
+    ) {
+        this(window, expectedIdsPerWindow, falsePositiveRate, lruSize, System::currentTimeMillis);
+    }
+
+    RecentEventIdFilter(
+        Duration window,
+        int expectedIdsPerWindow,
+        double falsePositiveRate,
+        int lruSize,
+        LongSupplier clock
+    ) {
+        if (expectedIdsPerWindow <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("중복 필터 설정이 올바르지 않습니다");
+        }
+
+        this.windowMillis = window.toMillis();
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedIdsPerWindow * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedIdsPerWindow * Math.log(2)));
+        this.clock = clock;
+        this.recentIds = new LinkedHashMap<>(lruSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > lruSize;
+            }
+        };
+
+        this.current = new BloomFilter(bitCount, hashCount);
+        this.previous = new BloomFilter(bitCount, hashCount);
+        this.currentStartedAt = clock.getAsLong();
+    }
+
+    /**
+     * 최근 기록 여부 판별
+     */
+    public Verdict check(String id) {
+        synchronized (recentIds) {
+            if (recentIds.containsKey(id)) {
+                return Verdict.SEEN;
+            }
+        }
+
+        rotateIfExpired();
+        long hash = hash64(id);
+        if (current.mightContain(hash) || previous.mightContain(hash)) {
+            return Verdict.MAYBE_SEEN;
+        }
+        return Verdict.NEW;
+    }
+
+    /**
+     * 기록된(또는 이미 존재하는 것으로 확인된) ID 등록
+     */
+    public void record(String id) {
+        rotateIfExpired();
+        current.put(hash64(id));
+        synchronized (recentIds) {
+            recentIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    private void rotateIfExpired() {
+        if (clock.getAsLong() - currentStartedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - currentStartedAt < windowMillis) {
+                return;
+            }
+            // 창이 두 번 이상 지났으면 직전 세대도 만료
+            previous = now - currentStartedAt < 2 * windowMillis
+                ? current
+                : new BloomFilter(bitCount, hashCount);
+            current = new BloomFilter(bitCount, hashCount);
+            currentStartedAt = now;
+        }
+    }
+
+    /**
+     * 64비트 FNV-1a + 비트 혼합 (String.hashCode는 32비트라 큰 필터에서 충돌이 많음)
+     */
+    private static long hash64(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 고정 크기 Bloom 필터 (락 없이 동시 기록 가능)
+     * - 해시 하나를 상/하위 32비트로 나눠 k개의 위치를 만드는 이중 해싱
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int bitCount, int hashCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        private void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long value = words.get(word);
+                while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                    value = words.get(word);
+                }
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.adplatform.eventlog.infrastructure.ingest;
+
+import com.adplatform.eventlog.domain.exception.EventIngestOverloadedException;
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 이벤트 수집 파이프라인
+ * - 요청 스레드는 검증된 이벤트를 고정 크기 링 버퍼에 넣고 바로 반환 (202 Accepted)
+ * - 버퍼가 가득 차면 즉시 거부 (EventIngestOverloadedException → 503, 클라이언트 재전송)
+ * - 단일 writer 스레드가 버퍼에 쌓인 이벤트를 최대 batch-size개씩 꺼내 한 트랜잭션으로 일괄 저장 (group commit)
+ *   (저장하는 동안 도착한 이벤트가 다음 배치로 모이므로 부하가 높을수록 배치가 커짐)
+ * - DB 장애 시 같은 배치를 재시도하며 버퍼가 차면 자연스럽게 유입을 막음
+ * - 버퍼에 넣기 전에 WAL(로컬 파일)에 기록하고, 기동 시 커밋되지 않은 이벤트를 재생
+ *   (202로 접수한 이벤트가 메모리에만 있으면 프로세스가 죽을 때 사라지므로 WAL 없이는 기동하지 않음)
+ * - 재생은 writer 스레드가 버퍼를 비우기 전에 수행 (기동 시 DB 장애가 있어도 컨텍스트 기동을 막지 않음)
+ */
+@Component
+@Slf4j
+public class EventIngestPipeline {
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final EventRepository eventRepository;
+    private final EventWriteAheadLog writeAheadLog;
+    private final boolean async;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long retryBackoffMs;
+    private final ArrayBlockingQueue<PendingEvent> buffer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public EventIngestPipeline(
+        EventRepository eventRepository,
+        EventWriteAheadLog writeAheadLog,
+        @Value("${eventlog.ingest.async:false}") boolean async,
+        @Value("${eventlog.ingest.queue-capacity:65536}") int queueCapacity,
+        @Value("${eventlog.ingest.batch-size:500}") int batchSize,
+        @Value("${eventlog.ingest.retry-backoff-ms:1000}") long retryBackoffMs
+    ) {
+        this.eventRepository = eventRepository;
+        this.writeAheadLog = writeAheadLog;
+        this.async = async;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.retryBackoffMs = retryBackoffMs;
+        this.buffer = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 비동기 수집 사용 여부 (false면 RecordEventUseCase가 요청마다 동기 저장)
+     */
+    public boolean isEnabled() {
+        return async;
+    }
+
+    /**
+     * 이벤트 접수 (저장은 writer 스레드에서 비동기로 수행)
+     * @throws EventIngestOverloadedException 버퍼가 가득 찬 경우
+     */
+    public void submit(AdEvent event) {
+        if (!running) {
+            throw new IllegalStateException("이벤트 수집 파이프라인이 실행 중이 아닙니다");
+        }
+
+        EventWriteAheadLog.Segment segment = writeAheadLog.append(event);
+        if (!buffer.offer(new PendingEvent(event, segment))) {
+            writeAheadLog.release(segment);
+            throw EventIngestOverloadedException.bufferFull(queueCapacity);
+        }
+    }
+
+    /**
+     * 버퍼에 쌓여 아직 저장되지 않은 이벤트 수
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            return;
+        }
+        if (!writeAheadLog.isEnabled()) {
+            throw new IllegalStateException(
+                "비동기 수집(eventlog.ingest.async)은 WAL(eventlog.ingest.wal.enabled)을 켜야 사용할 수 있습니다");
+        }
+
+        running = true;
+        List<AdEvent> recovered = writeAheadLog.recover();
+
+        writerThread = new Thread(() -> {
+            replayWriteAheadLog(recovered);
+            runWriter();
+        }, "eventlog-ingest-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Event ingest pipeline started (capacity: {}, batch size: {}, wal: {})",
+            queueCapacity, batchSize, writeAheadLog.isEnabled());
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 이벤트를 모두 저장한 뒤 writer 종료
+     */
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("Event ingest pipeline stopped with {} unsaved events", buffer.size());
+        }
+    }
+
+    private void runWriter() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            PendingEvent first;
+            try {
+                first = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            batch.add(first);
+            buffer.drainTo(batch, batchSize - 1);
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        List<AdEvent> events = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            events.add(pending.event);
+        }
+
+        if (!write(events)) {
+            // 저장하지 못한 이벤트는 WAL에 남겨 다음 기동 시 재생
+            return;
+        }
+        for (PendingEvent pending : batch) {
+            writeAheadLog.release(pending.segment);
+        }
+    }
+
+    /**
+     * 한 배치 저장
+     * - 데이터 오류(제약 조건 위반 등)는 건별로 다시 저장해 문제 이벤트만 버림
+     * - 그 외 오류(연결 실패 등)는 성공할 때까지 재시도 (종료 중이면 포기)
+     *
+     * @return 배치 처리 완료 여부 (false면 종료 중 저장 실패)
+     */
+    private boolean write(List<AdEvent> events) {
+        while (true) {
+            try {
+                List<AdEvent> inserted = eventRepository.saveAll(events);
+                log.debug("Event batch saved: {} events ({} duplicates)",
+                    events.size(), events.size() - inserted.size());
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Event batch rejected, saving {} events individually", events.size(), e);
+                writeIndividually(events);
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Failed to save {} events during shutdown", events.size(), e);
+                    return false;
+                }
+                log.warn("Failed to save event batch ({} events), retrying in {} ms",
+                    events.size(), retryBackoffMs, e);
+                if (!sleep(retryBackoffMs)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void writeIndividually(List<AdEvent> events) {
+        for (AdEvent event : events) {
+            try {
+                eventRepository.saveAll(List.of(event));
+            } catch (RuntimeException e) {
+                log.error("Dropping event that could not be saved: id={}", event.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 이전 프로세스가 커밋하지 못한 이벤트 저장 (writer 스레드에서 새 이벤트보다 먼저)
+     * - 종료 중 저장에 실패하면 세그먼트를 남겨 다음 기동 시 다시 재생
+     */
+    private void replayWriteAheadLog(List<AdEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        log.info("Replaying {} events from write-ahead log", events.size());
+        for (int from = 0; from < events.size(); from += batchSize) {
+            if (!write(events.subList(from, Math.min(from + batchSize, events.size())))) {
+                return;
+            }
+        }
+        writeAheadLog.deleteRecovered();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class PendingEvent {
+
+        private final AdEvent event;
+        private final EventWriteAheadLog.Segment segment;
+
+        private PendingEvent(AdEvent event, EventWriteAheadLog.Segment segment) {
+            this.event = event;
+            this.segment = segment;
+        }
+    }
+}
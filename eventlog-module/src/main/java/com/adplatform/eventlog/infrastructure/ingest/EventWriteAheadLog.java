@@ -0,0 +1,302 @@
+package com.adplatform.eventlog.infrastructure.ingest;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 수집 선기록 로그 (Write-Ahead Log)
+ * - 수집 버퍼에 넣기 전에 이벤트를 로컬 세그먼트 파일에 한 줄(JSON)씩 기록
+ * - 세그먼트의 이벤트가 모두 DB에 커밋되면 세그먼트를 삭제 (쓰는 중인 세그먼트는 비움)
+ * - 기동 시 남아있는 세그먼트를 재생 (DB 저장은 ID 중복을 무시하므로 이미 커밋된 이벤트가 있어도 안전)
+ *
+ * fsync를 끄면 OS 페이지 캐시까지만 기록 (프로세스 장애는 견디고, 전원 장애는 보장하지 않음)
+ */
+@Component
+@Slf4j
+public class EventWriteAheadLog {
+
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+
+    private Segment current;
+    private long segmentSequence;
+    private final List<Path> recoveredSegments = new ArrayList<>();
+
+    public EventWriteAheadLog(
+        ObjectMapper objectMapper,
+        @Value("${eventlog.ingest.wal.enabled:false}") boolean enabled,
+        @Value("${eventlog.ingest.wal.dir:./data/eventlog-wal}") String directory,
+        @Value("${eventlog.ingest.wal.segment-bytes:67108864}") long segmentBytes,
+        @Value("${eventlog.ingest.wal.fsync:false}") boolean fsync
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 디렉터리를 만들 수 없습니다: " + directory, e);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 기록
+     * @return 이벤트가 기록된 세그먼트 (비활성화 시 null), DB 커밋 후 release로 반환
+     */
+    public synchronized Segment append(AdEvent event) {
+        if (!enabled) {
+            return null;
+        }
+
+        byte[] line = serialize(event);
+        try {
+            if (current == null) {
+                current = openSegment();
+            }
+            Segment segment = current;
+            segment.write(line, fsync);
+            segment.pending++;
+
+            if (segment.size >= segmentBytes) {
+                segment.seal();
+                current = null;
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 선기록(WAL)에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 세그먼트의 이벤트 하나가 커밋(또는 거부)되었음을 반영
+     */
+    public synchronized void release(Segment segment) {
+        if (segment == null) {
+            return;
+        }
+
+        segment.pending--;
+        if (segment.pending > 0) {
+            return;
+        }
+        try {
+            if (segment.sealed) {
+                Files.deleteIfExists(segment.path);
+            } else if (segment == current) {
+                // 쓰는 중인 세그먼트는 재생할 이벤트가 없으므로 비움
+                segment.truncate();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up WAL segment: {}", segment.path, e);
+        }
+    }
+
+    /**
+     * 남아있는 세그먼트의 이벤트 읽기 (기동 시 재생용)
+     * - 마지막 줄이 중간에 끊긴 경우 해당 줄은 건너뜀
+     */
+    public synchronized List<AdEvent> recover() {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        Collections.sort(segments);
+
+        List<AdEvent> events = new ArrayList<>();
+        for (Path path : segments) {
+            if (current != null && path.equals(current.path)) {
+                continue;
+            }
+            readSegment(path, events);
+            recoveredSegments.add(path);
+        }
+        return events;
+    }
+
+    /**
+     * 재생이 끝난 세그먼트 삭제
+     */
+    public synchronized void deleteRecovered() {
+        for (Path path : recoveredSegments) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete recovered WAL segment: {}", path, e);
+            }
+        }
+        recoveredSegments.clear();
+    }
+
+    private void readSegment(Path path, List<AdEvent> events) {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    events.add(objectMapper.readValue(line, WalRecord.class).toDomain());
+                } catch (IOException | IllegalArgumentException e) {
+                    log.warn("Skipping unreadable WAL record in {}", path, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        String fileName = String.format("%s%013d-%06d%s",
+            SEGMENT_PREFIX, System.currentTimeMillis(), segmentSequence++, SEGMENT_SUFFIX);
+        Path path = directory.resolve(fileName);
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return new Segment(path, channel);
+    }
+
+    private byte[] serialize(AdEvent event) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(WalRecord.from(event));
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다: " + event.getId(), e);
+        }
+    }
+
+    /**
+     * WAL 세그먼트 파일 (상태는 EventWriteAheadLog의 락으로 보호)
+     */
+    public static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+        private int pending;
+        private boolean sealed;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void write(byte[] line, boolean fsync) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            size += line.length;
+        }
+
+        private void truncate() throws IOException {
+            channel.truncate(0);
+            channel.position(0);
+            size = 0;
+        }
+
+        private void seal() throws IOException {
+            sealed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * WAL 한 줄 (JSON)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class WalRecord {
+        private String id;
+        private String eventType;
+        private String adId;
+        private String campaignId;
+        private String adGroupId;
+        private String userId;
+        private String sessionId;
+        private String timestamp;
+        private Map<String, String> metadata;
+        private String impressionToken;
+
+        static WalRecord from(AdEvent event) {
+            WalRecord record = new WalRecord();
+            record.id = event.getId();
+            record.eventType = event.getEventType().name();
+            record.adId = event.getAdId();
+            record.campaignId = event.getCampaignId();
+            record.adGroupId = event.getAdGroupId();
+            record.userId = event.getUserId();
+            record.sessionId = event.getSessionId();
+            record.timestamp = event.getTimestamp().toString();
+            record.metadata = event.getMetadata();
+            record.impressionToken = event.getImpressionToken();
+            return record;
+        }
+
+        AdEvent toDomain() {
+            return AdEvent.builder()
+                .id(id)
+                .eventType(EventType.valueOf(eventType))
+                .adId(adId)
+                .campaignId(campaignId)
+                .adGroupId(adGroupId)
+                .userId(userId)
+                .sessionId(sessionId)
+                .timestamp(Instant.parse(timestamp))
+                .metadata(metadata)
+                .impressionToken(impressionToken)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.adplatform.eventlog.infrastructure.partition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 이벤트 테이블 일별 파티션 관리 (PostgreSQL, partitioned 프로필)
+ * - ad_events와 등록 ID(ad_event_ids)를 UTC 하루 단위 파티션(<table>_pYYYYMMDD)으로 관리
+ * - 기동 시와 매일 한 번: 어제 ~ precreate-days 이후까지 파티션을 미리 생성
+ * - 보관 기간이 지난 파티션은 DELETE 없이 분리(DETACH) 후 삭제(DROP), 같은 날짜의 이벤트와 등록 ID를 함께 삭제
+ * - 시간 범위 조회는 timestamp 조건으로 PostgreSQL이 해당 파티션만 읽음 (partition pruning)
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class EventPartitionManager {
+
+    static final List<String> PARTITIONED_TABLES = List.of("ad_events", "ad_event_ids");
+
+    /**
+     * 날짜(DATE) 컬럼으로 파티션하는 테이블 (나머지는 timestamp 컬럼)
+     */
+    private static final String CLAIM_TABLE = "ad_event_ids";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+        "WHERE c.relname = ?";
+
+    private static final String LIST_PARTITIONS_SQL =
+        "SELECT c.relname FROM pg_inherits i " +
+        "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+        "WHERE p.relname = ? ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int precreateDays;
+    private final int retentionDays;
+    private final boolean dropExpired;
+    private final Clock clock;
+
+    @Autowired
+    public EventPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        @Value("${eventlog.partitioning.precreate-days:7}") int precreateDays,
+        @Value("${eventlog.partitioning.retention-days:90}") int retentionDays,
+        @Value("${eventlog.partitioning.drop-expired:true}") boolean dropExpired
+    ) {
+        this(jdbcTemplate, precreateDays, retentionDays, dropExpired, Clock.systemUTC());
+    }
+
+    EventPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        int precreateDays,
+        int retentionDays,
+        boolean dropExpired,
+        Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.precreateDays = precreateDays;
+        this.retentionDays = retentionDays;
+        this.dropExpired = dropExpired;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        maintain();
+    }
+
+    /**
+     * 파티션 생성 + 보관 기간 지난 파티션 정리
+     * - 실패해도 기동/스케줄을 막지 않음 (파티션이 없는 시간대 이벤트는 default 파티션에 저장)
+     */
+    @Scheduled(cron = "${eventlog.partitioning.maintenance-cron:0 5 0 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            for (String table : PARTITIONED_TABLES) {
+                if (!isPartitioned(table)) {
+                    log.error("Table {} is not partitioned; migrate it to db/partitioned-schema.sql " +
+                        "before enabling eventlog.partitioning", table);
+                    return;
+                }
+            }
+
+            LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+            createPartitions(today);
+            if (retentionDays > 0) {
+                removeExpiredPartitions(today.minusDays(retentionDays));
+            }
+        } catch (DataAccessException e) {
+            log.error("Event partition maintenance failed", e);
+        }
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 어제(자정 직후 늦게 도착한 이벤트) ~ precreate-days 이후 파티션 생성
+     */
+    private void createPartitions(LocalDate today) {
+        for (LocalDate day = today.minusDays(1); !day.isAfter(today.plusDays(precreateDays)); day = day.plusDays(1)) {
+            for (String table : PARTITIONED_TABLES) {
+                String partition = partitionName(table, day);
+                try {
+                    jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partition, table, partitionBound(table, day), partitionBound(table, day.plusDays(1))));
+                } catch (DataAccessException e) {
+                    // default 파티션에 이미 그 날짜 이벤트가 있으면 생성 불가 (해당 날짜는 default에 유지)
+                    log.warn("Could not create partition {}: {}", partition, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * cutoff 이전 날짜의 파티션 분리 후 삭제
+     */
+    private void removeExpiredPartitions(LocalDate cutoff) {
+        for (String table : PARTITIONED_TABLES) {
+            List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table);
+            for (String partition : partitions) {
+                LocalDate day = partitionDay(table, partition);
+                if (day == null || !day.isBefore(cutoff)) {
+                    continue;
+                }
+
+                jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", table, partition));
+                if (dropExpired) {
+                    jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+                }
+                log.info("Expired event partition {} {}", partition, dropExpired ? "dropped" : "detached");
+            }
+        }
+    }
+
+    /**
+     * 날짜 파티션의 경계 값 (등록 ID는 날짜, 이벤트는 그날 0시 UTC)
+     */
+    private static String partitionBound(String table, LocalDate day) {
+        if (CLAIM_TABLE.equals(table)) {
+            return day.toString();
+        }
+        return day.atStartOfDay().toInstant(ZoneOffset.UTC).toString();
+    }
+
+    static String partitionName(String table, LocalDate day) {
+        return table + "_p" + PARTITION_SUFFIX.format(day);
+    }
+
+    /**
+     * 파티션 이름의 날짜 (일별 파티션이 아니면 null, 예: default 파티션)
+     */
+    private static LocalDate partitionDay(String table, String partition) {
+        String prefix = table + "_p";
+        if (!partition.startsWith(prefix) || partition.length() != prefix.length() + 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.adplatform.eventlog.infrastructure.persistence;
 
-import com.adplatform.eventlog.domain.model.AdEvent;
 import com.adplatform.eventlog.domain.model.EventType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,19 +8,21 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Immutable;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 광고 이벤트 JPA Entity
  * - @Immutable: 엔티티가 불변임을 명시 (Hibernate 최적화)
  * - Append-only: 생성 후 수정/삭제 불가
+ * - idx_timestamp는 (timestamp, id): 시간 범위 keyset 페이지네이션 정렬 키
+ * - idx_feed_offset: 이벤트 피드 조회 (offset 순)
+ * - 테이블 스키마 정의용: 저장/조회는 EventRepositoryImpl의 JDBC 쿼리 사용 (메타데이터 인코딩 포함)
  */
 @Entity
 @Table(name = "ad_events", indexes = {
     @Index(name = "idx_ad_id", columnList = "ad_id"),
-    @Index(name = "idx_timestamp", columnList = "timestamp"),
-    @Index(name = "idx_campaign_id", columnList = "campaign_id")
+    @Index(name = "idx_timestamp", columnList = "timestamp, id"),
+    @Index(name = "idx_campaign_id", columnList = "campaign_id"),
+    @Index(name = "idx_feed_offset", columnList = "feed_offset")
 })
 @Immutable
 @Getter
@@ -55,48 +56,18 @@ public class AdEventEntity {
     @Column(nullable = false, updatable = false)
     private Instant timestamp;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "ad_event_metadata", joinColumns = @JoinColumn(name = "event_id"))
-    @MapKeyColumn(name = "meta_key")
-    @Column(name = "meta_value")
-    private Map<String, String> metadata = new HashMap<>();
+    /**
+     * EventMetadataCodec으로 인코딩한 메타데이터 (승격 컬럼 meta_*는 EventRepositoryImpl이 관리)
+     */
+    @Column(name = "metadata", columnDefinition = "text", updatable = false)
+    private String metadata;
 
     @Column(name = "impression_token", updatable = false)
     private String impressionToken;
 
     /**
-     * 도메인 모델로부터 Entity 생성
-     */
-    public static AdEventEntity from(AdEvent event) {
-        return new AdEventEntity(
-            event.getId(),
-            event.getEventType(),
-            event.getAdId(),
-            event.getCampaignId(),
-            event.getAdGroupId(),
-            event.getUserId(),
-            event.getSessionId(),
-            event.getTimestamp(),
-            new HashMap<>(event.getMetadata()),
-            event.getImpressionToken()
-        );
-    }
-
-    /**
-     * Entity를 도메인 모델로 변환
+     * 이벤트 피드 offset (저장 시 event_feed_offset_seq에서 부여, 이전 버전에서 저장된 행은 null)
      */
-    public AdEvent toDomain() {
-        return AdEvent.builder()
-            .id(id)
-            .eventType(eventType)
-            .adId(adId)
-            .campaignId(campaignId)
-            .adGroupId(adGroupId)
-            .userId(userId)
-            .sessionId(sessionId)
-            .timestamp(timestamp)
-            .metadata(metadata)
-            .impressionToken(impressionToken)
-            .build();
-    }
+    @Column(name = "feed_offset", updatable = false)
+    private Long feedOffset;
 }
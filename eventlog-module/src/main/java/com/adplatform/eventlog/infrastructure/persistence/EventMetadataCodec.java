@@ -0,0 +1,163 @@
+package com.adplatform.eventlog.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 메타데이터 인코딩 (ad_events 행에 함께 저장)
+ * - 키별 행(EAV) 대신 이벤트 행의 metadata 컬럼 하나에 압축된 JSON 객체로 저장
+ * - 자주 쓰는 키는 사전 코드("#0", "#1", ...)로 줄여 저장 ('#'로 시작하는 원래 키는 "##"로 이스케이프)
+ * - promoted-keys로 지정한 키는 JSON에서 빼고 전용 컬럼(meta_<key>)에 저장 (필터/집계용)
+ *
+ * 사전은 저장된 데이터의 코드와 연결되므로 뒤에 추가만 가능 (순서 변경/삭제 금지)
+ */
+@Component
+public class EventMetadataCodec {
+
+    static final List<String> DICTIONARY = List.of(
+        "country",
+        "device",
+        "os",
+        "browser",
+        "userAgent",
+        "ipAddress",
+        "language",
+        "referrer",
+        "placementId",
+        "page",
+        "appVersion",
+        "platform"
+    );
+
+    private static final char CODE_PREFIX = '#';
+    private static final Pattern PROMOTABLE_KEY = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Map<String, Integer> codes;
+    private final Map<String, String> promotedColumns;
+
+    public EventMetadataCodec(
+        @Value("${eventlog.metadata.promoted-keys:}") List<String> promotedKeys
+    ) {
+        Map<String, Integer> codes = new HashMap<>();
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            codes.put(DICTIONARY.get(i), i);
+        }
+        this.codes = codes;
+
+        Map<String, String> promotedColumns = new LinkedHashMap<>();
+        for (String key : promotedKeys) {
+            if (key.isBlank()) {
+                continue;
+            }
+            if (!PROMOTABLE_KEY.matcher(key).matches()) {
+                throw new IllegalArgumentException("컬럼으로 저장할 수 없는 메타데이터 키입니다: " + key);
+            }
+            promotedColumns.put(key, columnName(key));
+        }
+        this.promotedColumns = Collections.unmodifiableMap(promotedColumns);
+    }
+
+    /**
+     * 전용 컬럼에 저장하는 키 → 컬럼 이름
+     */
+    public Map<String, String> getPromotedColumns() {
+        return promotedColumns;
+    }
+
+    /**
+     * 전용 컬럼에 저장하지 않는 나머지 메타데이터 인코딩
+     * @return 인코딩된 문자열 (남는 키가 없으면 null)
+     */
+    public String encode(Map<String, String> metadata) {
+        if (metadata.isEmpty() || promotedColumns.keySet().containsAll(metadata.keySet())) {
+            return null;
+        }
+
+        StringWriter out = new StringWriter(16 * metadata.size());
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                if (promotedColumns.containsKey(entry.getKey())) {
+                    continue;
+                }
+                generator.writeStringField(encodeKey(entry.getKey()), entry.getValue());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 인코딩된 메타데이터 복원 (전용 컬럼 값은 호출자가 추가)
+     */
+    public Map<String, String> decode(String encoded) {
+        Map<String, String> metadata = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return metadata;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(encoded)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("메타데이터 형식이 올바르지 않습니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = decodeKey(parser.getCurrentName());
+                parser.nextToken();
+                metadata.put(key, parser.getValueAsString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return metadata;
+    }
+
+    private String encodeKey(String key) {
+        Integer code = codes.get(key);
+        if (code != null) {
+            return CODE_PREFIX + code.toString();
+        }
+        return !key.isEmpty() && key.charAt(0) == CODE_PREFIX ? CODE_PREFIX + key : key;
+    }
+
+    private static String decodeKey(String key) {
+        if (key.isEmpty() || key.charAt(0) != CODE_PREFIX) {
+            return key;
+        }
+        if (key.length() > 1 && key.charAt(1) == CODE_PREFIX) {
+            return key.substring(1);
+        }
+        return DICTIONARY.get(Integer.parseInt(key.substring(1)));
+    }
+
+    /**
+     * userAgent → meta_user_agent
+     */
+    private static String columnName(String key) {
+        StringBuilder column = new StringBuilder("meta_");
+        for (char c : key.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                column.append('_').append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+}
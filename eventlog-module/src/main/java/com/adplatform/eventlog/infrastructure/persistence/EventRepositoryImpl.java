@@ -1,55 +1,390 @@
 package com.adplatform.eventlog.infrastructure.persistence;
 
 import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.adplatform.eventlog.domain.model.EventType;
 import com.adplatform.eventlog.domain.repository.EventRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 이벤트 Repository 구현체
+ * - 저장은 JDBC 배치 (엔티티 로딩/더티 체킹 없이 insert만 수행), 이벤트당 한 행 (메타데이터는 같은 행에 인코딩)
+ * - 조회도 JDBC: 메타데이터 JOIN 없이 ad_events만 읽고, 시간 범위 조회는 fetch size 단위 커서로 이벤트를 넘김
+ * - 저장 시 이벤트마다 피드 offset 부여 (event_feed_offset_seq의 nextval, 저장끼리 잠금 없이 부여)
+ *   커밋 순서와 offset 순서가 다를 수 있으므로 피드는 visibility-lag 전에 부여된 offset까지만 내보냄
+ * - 파티션 테이블은 PK가 (id, timestamp)라 timestamp가 다른 재전송을 막지 못하므로, ad_event_ids에 ID를 먼저
+ *   등록하고 등록된 이벤트만 저장 (eventlog.partitioning.enabled)
+ *   ad_event_ids도 이벤트 날짜(UTC)로 파티션되어 보관 기간이 지나면 ad_events 파티션과 함께 삭제됨
+ * - segment 저장소에서 roll-to-jdbc를 끄면 Postgres를 쓰지 않으므로 기동 시 스키마 준비도 하지 않음
  */
 @Repository
-@RequiredArgsConstructor
+@Slf4j
 public class EventRepositoryImpl implements EventRepository {
 
+    private static final String EVENT_COLUMNS =
+        "id, event_type, ad_id, campaign_id, ad_group_id, user_id, session_id, timestamp, impression_token, metadata, "
+            + "feed_offset";
+
+    private static final String BY_ID_SQL = " WHERE id = ?";
+
+    private static final String BY_AD_ID_SQL = " WHERE ad_id = ? ORDER BY timestamp, id";
+
+    private static final String IN_RANGE_SQL = " WHERE timestamp >= ? AND timestamp <= ? ORDER BY timestamp, id";
+
+    private static final String FIRST_PAGE_IN_RANGE_SQL =
+        " WHERE timestamp >= ? AND timestamp <= ? ORDER BY timestamp, id LIMIT ?";
+
+    private static final String NEXT_PAGE_IN_RANGE_SQL =
+        " WHERE timestamp >= ? AND timestamp <= ? AND (timestamp, id) > (?, ?) ORDER BY timestamp, id LIMIT ?";
+
+    private static final String FEED_FROM_SQL =
+        " WHERE feed_offset >= ? AND feed_offset <= ? ORDER BY feed_offset LIMIT ?";
+
+    private static final String MAX_FEED_OFFSET_SQL = "SELECT COALESCE(MAX(feed_offset), 0) FROM ad_events";
+
+    private static final String FEED_OFFSET_SEQUENCE = "event_feed_offset_seq";
+
+    /**
+     * 다른 날짜에 이미 등록된 ID는 NOT EXISTS로, 같은 날짜에 동시에 등록하는 ID는 PK (id, claim_date)로 거름
+     */
+    private static final String CLAIM_EVENT_ID_SQL =
+        "INSERT INTO ad_event_ids (id, claim_date) SELECT ?, ? "
+            + "WHERE NOT EXISTS (SELECT 1 FROM ad_event_ids WHERE id = ?) ON CONFLICT DO NOTHING";
+
+    /**
+     * 커서로 한 번에 받아오는 행 수 (PostgreSQL은 트랜잭션 안에서만 커서 사용)
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * ID 목록 조회 한 번에 넣는 최대 ID 수 (IN 목록 바인드 변수 수 제한)
+     */
+    private static final int MAX_IN_LIST_IDS = 1000;
+
     private final AdEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventMetadataCodec metadataCodec;
+    private final List<String> promotedKeys;
+    private final boolean claimEventIds;
+    private final boolean databaseInUse;
+    private final Duration feedVisibilityLag;
+    private final Clock clock;
+    private final String insertEventSql;
+    private final String selectEventSql;
+
+    /**
+     * 피드 watermark 계산용 관측 기록 {관측 시각(ms), 그때 보인 가장 큰 offset} (오래된 순)
+     */
+    private final Deque<long[]> feedOffsetSamples = new ArrayDeque<>();
 
+    @Autowired
+    public EventRepositoryImpl(
+        AdEventJpaRepository jpaRepository,
+        JdbcTemplate jdbcTemplate,
+        EventMetadataCodec metadataCodec,
+        @Value("${eventlog.partitioning.enabled:false}") boolean claimEventIds,
+        @Value("${eventlog.storage.backend:jdbc}") String storageBackend,
+        @Value("${eventlog.storage.segment.roll-to-jdbc:true}") boolean rollToJdbc,
+        @Value("${eventlog.feed.visibility-lag:PT2S}") Duration feedVisibilityLag
+    ) {
+        this(jpaRepository, jdbcTemplate, metadataCodec, claimEventIds, storageBackend, rollToJdbc,
+            feedVisibilityLag, Clock.systemUTC());
+    }
+
+    EventRepositoryImpl(
+        AdEventJpaRepository jpaRepository,
+        JdbcTemplate jdbcTemplate,
+        EventMetadataCodec metadataCodec,
+        boolean claimEventIds,
+        String storageBackend,
+        boolean rollToJdbc,
+        Duration feedVisibilityLag,
+        Clock clock
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.metadataCodec = metadataCodec;
+        this.claimEventIds = claimEventIds;
+        this.databaseInUse = !"segment".equals(storageBackend) || rollToJdbc;
+        this.feedVisibilityLag = feedVisibilityLag;
+        this.clock = clock;
+        this.promotedKeys = List.copyOf(metadataCodec.getPromotedColumns().keySet());
+
+        StringBuilder columns = new StringBuilder(EVENT_COLUMNS);
+        metadataCodec.getPromotedColumns().values().forEach(column -> columns.append(", ").append(column));
+        String placeholders = String.join(", ", Collections.nCopies(10, "?"))
+            + ", nextval('" + FEED_OFFSET_SEQUENCE + "')"
+            + ", ?".repeat(promotedKeys.size());
+        // 이미 존재하는 ID는 무시 (배치 결과의 행 수가 0이면 중복, 그 행이 받은 offset은 비어 있는 채로 남음)
+        // - reWriteBatchedInserts를 켜면 행 수를 알 수 없으므로 PostgreSQL 드라이버 기본 배치 사용
+        this.insertEventSql = "INSERT INTO ad_events (" + columns + ") VALUES (" + placeholders + ") ON CONFLICT DO NOTHING";
+        this.selectEventSql = "SELECT " + columns + " FROM ad_events";
+    }
+
+    /**
+     * 컬럼으로 승격한 메타데이터 키의 컬럼 추가 (이미 있으면 무시)
+     * - 기존 행의 값은 metadata 컬럼에 남아 있으므로 조회 결과는 같음
+     * - Postgres를 쓰지 않는 저장소 구성이면 건너뜀
+     */
+    @PostConstruct
+    public void ensurePromotedColumns() {
+        if (!databaseInUse) {
+            return;
+        }
+        metadataCodec.getPromotedColumns().values().forEach(column -> {
+            jdbcTemplate.execute("ALTER TABLE ad_events ADD COLUMN IF NOT EXISTS " + column + " VARCHAR(255)");
+            log.info("Metadata column {} ready", column);
+        });
+    }
+
+    /**
+     * 피드 offset 시퀀스 생성 (없을 때만, 기존 이벤트의 가장 큰 offset 다음부터 부여)
+     * - 여러 노드가 동시에 기동해 먼저 생성된 경우는 무시
+     * - Postgres를 쓰지 않는 저장소 구성이면 건너뜀
+     */
+    @PostConstruct
+    public void ensureFeedSequence() {
+        if (!databaseInUse) {
+            return;
+        }
+        Long maxOffset = jdbcTemplate.queryForObject(MAX_FEED_OFFSET_SQL, Long.class);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + FEED_OFFSET_SEQUENCE + " START WITH " + (maxOffset + 1));
+        log.info("Event feed sequence ready");
+    }
+
+    /**
+     * 단건 저장도 일괄 저장과 같은 INSERT 사용 (이미 존재하면 저장된 이벤트 반환)
+     */
     @Override
+    @Transactional
     public AdEvent save(AdEvent event) {
-        AdEventEntity entity = AdEventEntity.from(event);
-        AdEventEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+        if (saveAll(List.of(event)).isEmpty()) {
+            return findById(event.getId()).orElse(event);
+        }
+        return event;
+    }
+
+    @Override
+    @Transactional
+    public List<AdEvent> saveAll(List<AdEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        // 동시 저장이 같은 ID들을 서로 반대 순서로 잠가 교착되지 않도록 ID 순으로 등록/저장
+        List<AdEvent> ordered = new ArrayList<>(events);
+        ordered.sort(Comparator.comparing(AdEvent::getId));
+        List<AdEvent> candidates = claimEventIds ? claimIds(ordered) : ordered;
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        int[] insertedRows = jdbcTemplate.batchUpdate(insertEventSql, candidates, candidates.size(), (ps, event) -> {
+            ps.setString(1, event.getId());
+            ps.setString(2, event.getEventType().name());
+            ps.setString(3, event.getAdId());
+            ps.setString(4, event.getCampaignId());
+            ps.setString(5, event.getAdGroupId());
+            ps.setString(6, event.getUserId());
+            ps.setString(7, event.getSessionId());
+            ps.setObject(8, toOffsetDateTime(event.getTimestamp()));
+            ps.setString(9, event.getImpressionToken());
+            ps.setString(10, metadataCodec.encode(event.getMetadata()));
+            for (int i = 0; i < promotedKeys.size(); i++) {
+                ps.setString(11 + i, event.getMetadata().get(promotedKeys.get(i)));
+            }
+        })[0];
+
+        Set<AdEvent> insertedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (insertedRows[i] != 0) {
+                insertedEvents.add(candidates.get(i));
+            }
+        }
+        // 반환은 입력 순서
+        return events.stream().filter(insertedEvents::contains).toList();
+    }
+
+    /**
+     * ad_event_ids에 ID 등록 (timestamp와 관계없이 보관 기간 안에 이미 등록된 ID는 중복)
+     * - 자정을 사이에 두고 같은 ID가 동시에 등록되는 경우는 서로의 등록을 보지 못해 둘 다 저장될 수 있음
+     *
+     * @return 새로 등록한 이벤트 (입력 순서)
+     */
+    private List<AdEvent> claimIds(List<AdEvent> events) {
+        int[] claimedRows = jdbcTemplate.batchUpdate(CLAIM_EVENT_ID_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getId());
+            ps.setObject(2, toOffsetDateTime(event.getTimestamp()).toLocalDate());
+            ps.setString(3, event.getId());
+        })[0];
+
+        List<AdEvent> claimed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (claimedRows[i] != 0) {
+                claimed.add(events.get(i));
+            }
+        }
+        return claimed;
     }
 
     @Override
     public Optional<AdEvent> findById(String id) {
-        return jpaRepository.findById(id)
-            .map(AdEventEntity::toDomain);
+        return jdbcTemplate.query(selectEventSql + BY_ID_SQL, this::mapRow, id)
+            .stream()
+            .findFirst();
     }
 
     @Override
     public List<AdEvent> findByAdId(String adId) {
-        return jpaRepository.findByAdId(adId)
-            .stream()
-            .map(AdEventEntity::toDomain)
-            .collect(Collectors.toList());
+        return jdbcTemplate.query(selectEventSql + BY_AD_ID_SQL, this::mapRow, adId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AdEvent> findByTimeRange(Instant startTime, Instant endTime) {
-        return jpaRepository.findByTimestampBetween(startTime, endTime)
-            .stream()
-            .map(AdEventEntity::toDomain)
-            .collect(Collectors.toList());
+        List<AdEvent> events = new ArrayList<>();
+        streamByTimeRange(startTime, endTime, events::add);
+        return events;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AdEvent> findByTimeRangeAfter(Instant startTime, Instant endTime,
+                                              Instant afterTimestamp, String afterId, int limit) {
+        if (afterTimestamp == null) {
+            return jdbcTemplate.query(selectEventSql + FIRST_PAGE_IN_RANGE_SQL, this::mapRow,
+                toOffsetDateTime(startTime), toOffsetDateTime(endTime), limit);
+        }
+        return jdbcTemplate.query(selectEventSql + NEXT_PAGE_IN_RANGE_SQL, this::mapRow,
+            toOffsetDateTime(startTime), toOffsetDateTime(endTime), toOffsetDateTime(afterTimestamp), afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByTimeRange(Instant startTime, Instant endTime, Consumer<AdEvent> consumer) {
+        String sql = selectEventSql + IN_RANGE_SQL;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setObject(1, toOffsetDateTime(startTime));
+            ps.setObject(2, toOffsetDateTime(endTime));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventFeedEntry> findFeedFrom(long fromOffset, int limit) {
+        long watermark = feedWatermark();
+        if (fromOffset > watermark) {
+            return List.of();
+        }
+        return jdbcTemplate.query(selectEventSql + FEED_FROM_SQL,
+            (rs, rowNum) -> new EventFeedEntry(rs.getLong("feed_offset"), mapRow(rs, rowNum)),
+            fromOffset, watermark, limit);
+    }
+
+    /**
+     * 피드로 내보낼 수 있는 마지막 offset
+     * - offset은 커밋 전에 부여되므로 작은 offset이 큰 offset보다 늦게 커밋될 수 있음
+     *   (그대로 내보내면 소비자가 늦게 커밋된 offset을 건너뜀)
+     * - visibility-lag 이상 전에 관측한 가장 큰 offset까지만 내보냄: 그 이하의 offset은 lag 이상 전에 부여되었으므로
+     *   저장 트랜잭션이 lag 안에 끝나면 이미 커밋(또는 롤백)됨
+     * - 관측은 조회할 때마다 기록하므로, 기동 직후나 오랜만의 조회는 빈 결과를 반환하고 다음 조회부터 내보냄
+     */
+    private long feedWatermark() {
+        Long maxOffset = jdbcTemplate.queryForObject(MAX_FEED_OFFSET_SQL, Long.class);
+        long now = clock.millis();
+        long safeBefore = now - feedVisibilityLag.toMillis();
+        synchronized (feedOffsetSamples) {
+            feedOffsetSamples.addLast(new long[]{now, maxOffset});
+            // lag보다 오래된 관측은 가장 최근 것 하나만 남김
+            long[] oldest = feedOffsetSamples.pollFirst();
+            while (!feedOffsetSamples.isEmpty() && feedOffsetSamples.peekFirst()[0] <= safeBefore) {
+                oldest = feedOffsetSamples.pollFirst();
+            }
+            feedOffsetSamples.addFirst(oldest);
+            return oldest[0] <= safeBefore ? oldest[1] : -1;
+        }
     }
 
     @Override
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
     }
+
+    /**
+     * 이미 저장된 ID (세그먼트 저장소가 보관 기간이 지나 지운 이벤트의 재전송을 거르는 데 사용)
+     */
+    public Set<String> findExistingIds(Collection<String> ids) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_IDS) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_IN_LIST_IDS, distinct.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM ad_events WHERE id IN (" + placeholders + ")", String.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    /**
+     * 이벤트 행 → 도메인 모델 (인코딩된 메타데이터 + 승격 컬럼 값 병합)
+     */
+    private AdEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Map<String, String> metadata = metadataCodec.decode(rs.getString("metadata"));
+        for (Map.Entry<String, String> promoted : metadataCodec.getPromotedColumns().entrySet()) {
+            String value = rs.getString(promoted.getValue());
+            if (value != null) {
+                metadata.put(promoted.getKey(), value);
+            }
+        }
+
+        return AdEvent.builder()
+            .id(rs.getString("id"))
+            .eventType(EventType.valueOf(rs.getString("event_type")))
+            .adId(rs.getString("ad_id"))
+            .campaignId(rs.getString("campaign_id"))
+            .adGroupId(rs.getString("ad_group_id"))
+            .userId(rs.getString("user_id"))
+            .sessionId(rs.getString("session_id"))
+            .timestamp(rs.getObject("timestamp", OffsetDateTime.class).toInstant())
+            .metadata(metadata)
+            .impressionToken(rs.getString("impression_token"))
+            .build();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
 }
@@ -0,0 +1,441 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 세그먼트 파일 (메모리 매핑)
+ * - 쓰는 중인 세그먼트는 segment-bytes 크기로 매핑해 두고 레코드를 이어 붙임
+ * - 가득 차거나 봉인되면 실제 길이로 잘라 읽기 전용으로 다시 매핑 (이후 변경 없음)
+ * - 희소 시간 인덱스: 레코드 INDEX_INTERVAL개마다 블록 하나 (시작 위치, 블록 내 최소/최대 timestamp)
+ * - ID / 광고 ID Bloom 필터로 해당 값이 없는 세그먼트는 읽지 않음
+ * - 피드 offset: 상위 32비트는 세그먼트 순번, 하위 32비트는 세그먼트 안의 레코드 순번 (기록 순서대로 증가)
+ *
+ * 인덱스와 필터는 파일에 저장하지 않고 기동 시 세그먼트를 읽어 다시 만듦
+ * 필터는 봉인할 때 실제 레코드 수에 맞는 크기로 다시 만듦 (덜 찬 세그먼트가 예상 크기의 필터를 계속 차지하지 않음)
+ * 상태 변경은 SegmentEventRepository의 락 안에서만 수행 (읽기는 View로 락 밖에서)
+ */
+final class EventSegment {
+
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".log";
+    static final String ROLLED_SUFFIX = ".rolled";
+    static final int INDEX_INTERVAL = 128;
+    static final int FILE_HEADER_BYTES = 8;
+
+    private static final int MAGIC = 0x41444556;  // "ADEV"
+    private static final int VERSION = 1;
+    private static final int ORDINAL_BITS = 32;
+    // ID 필터 오탐은 쓰기마다 세그먼트 전체를 읽게 하므로 광고 ID 필터보다 낮게 유지
+    private static final double ID_FALSE_POSITIVE_RATE = 0.001;
+    private static final double AD_ID_FALSE_POSITIVE_RATE = 0.01;
+
+    private final long sequence;
+    private final Path path;
+    private final List<IndexBlock> blocks = new ArrayList<>();
+
+    /**
+     * 쓰는 중인 세그먼트는 expected-events-per-segment 크기, 봉인 후에는 레코드 수 크기
+     * (기존 세그먼트를 열 때는 봉인 전까지 없음)
+     */
+    private SegmentBloomFilter ids;
+    private SegmentBloomFilter adIds;
+    private int expectedEvents;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int end = FILE_HEADER_BYTES;
+    private int count;
+    private boolean sealed;
+    private boolean rolled;
+    private int rolledCount;
+    private Instant minTimestamp;
+    private Instant maxTimestamp;
+
+    private EventSegment(long sequence, Path path) {
+        this.sequence = sequence;
+        this.path = path;
+    }
+
+    /**
+     * 새 세그먼트 생성 (capacity 크기로 매핑)
+     */
+    static EventSegment create(Path directory, long sequence, int capacity, int expectedEvents) throws IOException {
+        EventSegment segment = new EventSegment(sequence, directory.resolve(fileName(sequence)));
+        segment.createFilters(expectedEvents);
+        segment.channel = FileChannel.open(segment.path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        segment.buffer.putInt(0, MAGIC);
+        segment.buffer.putInt(4, VERSION);
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트 열기: 온전한 레코드까지 인덱스를 다시 만들고 봉인 (필터는 봉인하며 레코드 수 크기로 생성,
+     * 기록 중 중단된 꼬리는 버림)
+     */
+    static EventSegment open(Path path, long sequence) throws IOException {
+        EventSegment segment = new EventSegment(sequence, path);
+        segment.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) segment.channel.size();
+        segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (size < FILE_HEADER_BYTES || segment.buffer.getInt(0) != MAGIC) {
+            segment.channel.close();
+            throw new IOException("이벤트 세그먼트 파일이 아닙니다: " + path);
+        }
+
+        int offset = FILE_HEADER_BYTES;
+        int length;
+        while ((length = SegmentRecords.validLength(segment.buffer, offset, size)) > 0) {
+            segment.index(offset, SegmentRecords.decode(segment.buffer, offset));
+            offset += length;
+        }
+        segment.end = offset;
+        segment.rolled = Files.exists(rolledMarker(path));
+        segment.rolledCount = segment.rolled ? segment.count : 0;
+        segment.seal();
+        return segment;
+    }
+
+    /**
+     * 레코드 추가
+     * @return 남은 공간이 부족하면 false (호출자가 봉인 후 새 세그먼트에 기록)
+     */
+    boolean append(byte[] record, AdEvent event) {
+        if (sealed || record.length > buffer.capacity() - end) {
+            return false;
+        }
+        buffer.put(end, record);
+        index(end, event);
+        end += record.length;
+        return true;
+    }
+
+    /**
+     * 기록을 마치고 실제 길이로 잘라 읽기 전용으로 다시 매핑
+     * - 필터가 레코드 수의 2배를 넘는 크기로 만들어졌으면(덜 찬 세그먼트) 레코드 수 크기로 다시 만듦
+     */
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        buffer.force();
+        channel.truncate(end);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        channel.close();
+        sealed = true;
+        if (ids == null || count * 2L < expectedEvents) {
+            rebuildFilters();
+        }
+    }
+
+    /**
+     * Postgres로 옮긴 레코드 수 기록 (봉인된 세그먼트를 끝까지 옮겼으면 마커 파일로 표시)
+     */
+    void markRolled(int rolledCount) throws IOException {
+        this.rolledCount = rolledCount;
+        if (sealed && rolledCount >= count && !rolled) {
+            Files.createFile(rolledMarker(path));
+            rolled = true;
+        }
+    }
+
+    void delete() throws IOException {
+        if (!sealed) {
+            seal();
+        }
+        Files.deleteIfExists(rolledMarker(path));
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * @param idHash SegmentBloomFilter.hash(id) (여러 세그먼트를 확인할 때 해시는 한 번만 계산)
+     */
+    boolean mightContainId(long idHash) {
+        return ids.mightContain(idHash);
+    }
+
+    boolean mightContainAdId(String adId) {
+        return adIds.mightContain(adId);
+    }
+
+    boolean overlaps(Instant startTime, Instant endTime) {
+        return count > 0 && !minTimestamp.isAfter(endTime) && !maxTimestamp.isBefore(startTime);
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    boolean isRolled() {
+        return rolled;
+    }
+
+    /**
+     * Postgres로 옮긴 레코드 수 (앞에서부터)
+     */
+    int getRolledCount() {
+        return rolledCount;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * ID / 광고 ID 필터가 차지하는 메모리
+     */
+    long filterBytes() {
+        return ids == null ? 0 : (long) ids.sizeInBytes() + adIds.sizeInBytes();
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    Instant getMinTimestamp() {
+        return minTimestamp;
+    }
+
+    Instant getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    /**
+     * 현재까지 기록된 레코드에 대한 읽기 전용 뷰 (이후 추가되는 레코드는 보이지 않음)
+     */
+    View view() {
+        List<IndexBlock> snapshot = new ArrayList<>(blocks.size());
+        for (IndexBlock block : blocks) {
+            snapshot.add(new IndexBlock(block.start, block.minTimestamp, block.maxTimestamp));
+        }
+        return new View(sequence, buffer.duplicate(), end, count, snapshot, minTimestamp);
+    }
+
+    static long feedOffset(long sequence, int ordinal) {
+        return (sequence << ORDINAL_BITS) | ordinal;
+    }
+
+    static long sequenceOf(long feedOffset) {
+        return feedOffset >>> ORDINAL_BITS;
+    }
+
+    static int ordinalOf(long feedOffset) {
+        return (int) (feedOffset & 0xFFFFFFFFL);
+    }
+
+    private void index(int offset, AdEvent event) {
+        Instant timestamp = event.getTimestamp();
+        if (count % INDEX_INTERVAL == 0) {
+            blocks.add(new IndexBlock(offset, timestamp, timestamp));
+        } else {
+            blocks.get(blocks.size() - 1).include(timestamp);
+        }
+        if (ids != null) {
+            ids.put(event.getId());
+            adIds.put(event.getAdId());
+        }
+        minTimestamp = minTimestamp == null || timestamp.isBefore(minTimestamp) ? timestamp : minTimestamp;
+        maxTimestamp = maxTimestamp == null || timestamp.isAfter(maxTimestamp) ? timestamp : maxTimestamp;
+        count++;
+    }
+
+    private void createFilters(int expectedEntries) {
+        expectedEvents = Math.max(expectedEntries, 1);
+        ids = new SegmentBloomFilter(expectedEvents, ID_FALSE_POSITIVE_RATE);
+        adIds = new SegmentBloomFilter(expectedEvents, AD_ID_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 봉인된 파일의 레코드로 레코드 수 크기의 필터를 다시 만듦
+     */
+    private void rebuildFilters() {
+        createFilters(count);
+        for (int offset = FILE_HEADER_BYTES; offset < end; offset += SegmentRecords.length(buffer, offset)) {
+            ids.put(SegmentRecords.readId(buffer, offset));
+            adIds.put(SegmentRecords.readAdId(buffer, offset));
+        }
+    }
+
+    static String fileName(long sequence) {
+        return String.format("%s%016d%s", FILE_PREFIX, sequence, FILE_SUFFIX);
+    }
+
+    private static Path rolledMarker(Path path) {
+        return path.resolveSibling(path.getFileName() + ROLLED_SUFFIX);
+    }
+
+    /**
+     * 희소 시간 인덱스 블록
+     */
+    private static final class IndexBlock {
+
+        private final int start;
+        private Instant minTimestamp;
+        private Instant maxTimestamp;
+
+        private IndexBlock(int start, Instant minTimestamp, Instant maxTimestamp) {
+            this.start = start;
+            this.minTimestamp = minTimestamp;
+            this.maxTimestamp = maxTimestamp;
+        }
+
+        private void include(Instant timestamp) {
+            if (timestamp.isBefore(minTimestamp)) {
+                minTimestamp = timestamp;
+            }
+            if (timestamp.isAfter(maxTimestamp)) {
+                maxTimestamp = timestamp;
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 읽기 뷰 (락 없이 사용)
+     */
+    static final class View {
+
+        private final long sequence;
+        private final ByteBuffer buffer;
+        private final int end;
+        private final int count;
+        private final List<IndexBlock> blocks;
+        private final Instant minTimestamp;
+
+        private View(long sequence, ByteBuffer buffer, int end, int count, List<IndexBlock> blocks,
+                     Instant minTimestamp) {
+            this.sequence = sequence;
+            this.buffer = buffer;
+            this.end = end;
+            this.count = count;
+            this.blocks = blocks;
+            this.minTimestamp = minTimestamp;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        Instant getMinTimestamp() {
+            return minTimestamp;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        AdEvent read(int offset) {
+            return SegmentRecords.decode(buffer, offset);
+        }
+
+        /**
+         * ID의 레코드 위치 (없으면 -1)
+         */
+        int find(String id) {
+            byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+            for (int offset = FILE_HEADER_BYTES; offset < end; offset += SegmentRecords.length(buffer, offset)) {
+                if (SegmentRecords.idEquals(buffer, offset, idBytes)) {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        void forEachWithAdId(String adId, Consumer<AdEvent> consumer) {
+            for (int offset = FILE_HEADER_BYTES; offset < end; offset += SegmentRecords.length(buffer, offset)) {
+                if (adId.equals(SegmentRecords.readAdId(buffer, offset))) {
+                    consumer.accept(read(offset));
+                }
+            }
+        }
+
+        /**
+         * ordinal번째 레코드부터 최대 limit개를 피드 항목으로 전달 (인덱스 블록으로 시작 블록까지 건너뜀)
+         * @return 전달한 항목 수
+         */
+        int forEachFrom(int ordinal, int limit, Consumer<EventFeedEntry> consumer) {
+            if (ordinal >= count || limit <= 0) {
+                return 0;
+            }
+            int current = ordinal - ordinal % INDEX_INTERVAL;
+            int offset = blocks.get(ordinal / INDEX_INTERVAL).start;
+            for (; current < ordinal; current++) {
+                offset += SegmentRecords.length(buffer, offset);
+            }
+
+            int emitted = 0;
+            for (; current < count && emitted < limit; current++, emitted++) {
+                consumer.accept(new EventFeedEntry(feedOffset(sequence, current), read(offset)));
+                offset += SegmentRecords.length(buffer, offset);
+            }
+            return emitted;
+        }
+
+        /**
+         * 시간 범위 안의 레코드 키 수집 (범위와 겹치지 않는 인덱스 블록은 건너뜀)
+         */
+        List<SegmentKey> keysInRange(Instant startTime, Instant endTime) {
+            List<SegmentKey> keys = new ArrayList<>();
+            for (int i = 0; i < blocks.size(); i++) {
+                IndexBlock block = blocks.get(i);
+                if (block.minTimestamp.isAfter(endTime) || block.maxTimestamp.isBefore(startTime)) {
+                    continue;
+                }
+                int blockEnd = i + 1 < blocks.size() ? blocks.get(i + 1).start : end;
+                for (int offset = block.start; offset < blockEnd; offset += SegmentRecords.length(buffer, offset)) {
+                    Instant timestamp = SegmentRecords.readTimestamp(buffer, offset);
+                    if (!timestamp.isBefore(startTime) && !timestamp.isAfter(endTime)) {
+                        keys.add(new SegmentKey(timestamp, SegmentRecords.readId(buffer, offset), this, offset));
+                    }
+                }
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * 정렬 키 (timestamp, id) + 레코드 위치
+     */
+    static final class SegmentKey implements Comparable<SegmentKey> {
+
+        final Instant timestamp;
+        final String id;
+        final View view;
+        final int offset;
+
+        SegmentKey(Instant timestamp, String id, View view, int offset) {
+            this.timestamp = timestamp;
+            this.id = id;
+            this.view = view;
+            this.offset = offset;
+        }
+
+        @Override
+        public int compareTo(SegmentKey other) {
+            int byTimestamp = timestamp.compareTo(other.timestamp);
+            return byTimestamp != 0 ? byTimestamp : id.compareTo(other.id);
+        }
+    }
+}
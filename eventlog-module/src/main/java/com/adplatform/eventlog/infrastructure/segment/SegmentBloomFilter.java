@@ -0,0 +1,75 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+/**
+ * 세그먼트별 Bloom 필터 (이벤트 ID / 광고 ID)
+ * - 세그먼트에 없으면 확실히 없음, 있다고 하면 세그먼트를 실제로 읽어 확인
+ * - 동기화는 SegmentEventRepository의 락에 맡김
+ */
+final class SegmentBloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedEntries 세그먼트 하나에 들어갈 것으로 예상하는 값 수
+     * @param falsePositiveRate 목표 오탐률
+     */
+    SegmentBloomFilter(int expectedEntries, double falsePositiveRate) {
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        this.bits = new long[(bitCount + 63) >>> 6];
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String value) {
+        return mightContain(hash(value));
+    }
+
+    /**
+     * 미리 계산한 해시(hash(value))로 확인
+     */
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int sizeInBytes() {
+        return bits.length * Long.BYTES;
+    }
+
+    /**
+     * 64비트 FNV-1a + 비트 혼합 (RecentEventIdFilter와 같은 해시)
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,592 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.adplatform.eventlog.domain.repository.EventRepository;
+import com.adplatform.eventlog.infrastructure.persistence.EventRepositoryImpl;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 세그먼트 로그 이벤트 저장소 (eventlog.storage.backend=segment)
+ * - 관계형 DB 없이 로컬 세그먼트 파일(EventSegment)에 이벤트를 이어 붙여 저장
+ * - ID 조회/중복 확인과 광고별 조회는 세그먼트별 Bloom 필터로 후보 세그먼트만 읽음
+ * - 시간 범위 조회는 희소 시간 인덱스로 블록을 걸러내고, 세그먼트별 정렬 결과를 (timestamp, id) 순으로 병합
+ * - 봉인된 세그먼트는 SegmentRoller가 Postgres(EventRepositoryImpl)로 옮기고 보관 기간 후 삭제
+ * - roll-to-jdbc면 살아 있는 세그먼트에 없는 ID와 삭제된 세그먼트의 시간 범위는 Postgres에서 조회하고,
+ *   저장 전 중복 확인도 Postgres까지 확인 (보관 기간이 지난 재전송을 다시 저장하지 않음)
+ * - 피드 offset은 (세그먼트 순번, 레코드 순번): 저장 백엔드를 바꾸면 소비자 offset도 초기화해야 함
+ *   삭제된 세그먼트의 offset은 피드로 읽을 수 없으므로 그보다 뒤처진 소비자는 시간 범위 조회로 다시 집계해야 함
+ *
+ * 쓰기는 한 번에 하나 (이 객체의 락), 읽기는 락 안에서 뷰만 얻고 파일은 락 밖에서 읽음
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "eventlog.storage.backend", havingValue = "segment")
+@Slf4j
+public class SegmentEventRepository implements EventRepository {
+
+    /**
+     * 다음 세그먼트 순번 기록 파일 (세그먼트 삭제 시 갱신)
+     */
+    static final String NEXT_SEQUENCE_FILE = "next-sequence";
+
+    /**
+     * 삭제한 세그먼트의 가장 늦은 timestamp 기록 파일 (이 시각 이하의 범위는 Postgres에서도 조회)
+     */
+    static final String EVICTED_UNTIL_FILE = "evicted-until";
+
+    private static final Comparator<AdEvent> EVENT_ORDER =
+        Comparator.comparing(AdEvent::getTimestamp).thenComparing(AdEvent::getId);
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int expectedEventsPerSegment;
+
+    /**
+     * 삭제된 세그먼트의 이벤트를 조회할 저장소 (roll-to-jdbc가 아니면 null)
+     */
+    private final EventRepositoryImpl jdbcRepository;
+
+    private final List<EventSegment> segments = new ArrayList<>();
+    private EventSegment active;
+    private long nextSequence;
+    private Instant evictedUntil;
+
+    @Autowired
+    public SegmentEventRepository(
+        @Value("${eventlog.storage.segment.dir:./data/eventlog-segments}") String directory,
+        @Value("${eventlog.storage.segment.segment-bytes:67108864}") int segmentBytes,
+        @Value("${eventlog.storage.segment.expected-events-per-segment:500000}") int expectedEventsPerSegment,
+        @Value("${eventlog.storage.segment.roll-to-jdbc:true}") boolean rollToJdbc,
+        EventRepositoryImpl jdbcRepository
+    ) {
+        this(directory, segmentBytes, expectedEventsPerSegment, rollToJdbc ? jdbcRepository : null);
+    }
+
+    SegmentEventRepository(String directory, int segmentBytes, int expectedEventsPerSegment,
+                           EventRepositoryImpl jdbcRepository) {
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+        this.expectedEventsPerSegment = expectedEventsPerSegment;
+        this.jdbcRepository = jdbcRepository;
+        openSegments();
+    }
+
+    /**
+     * 남아있는 세그먼트를 순서대로 열기 (모두 봉인 상태로 열고, 새 이벤트는 새 세그먼트에 기록)
+     */
+    private void openSegments() {
+        List<Path> paths = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                EventSegment.FILE_PREFIX + "*" + EventSegment.FILE_SUFFIX)) {
+                stream.forEach(paths::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        Collections.sort(paths);
+        nextSequence = readNextSequence();
+        evictedUntil = readEvictedUntil();
+
+        for (Path path : paths) {
+            String name = path.getFileName().toString();
+            long sequence = Long.parseLong(name.substring(
+                EventSegment.FILE_PREFIX.length(), name.length() - EventSegment.FILE_SUFFIX.length()));
+            try {
+                segments.add(EventSegment.open(path, sequence));
+                nextSequence = Math.max(nextSequence, sequence + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException("세그먼트를 열 수 없습니다: " + path, e);
+            }
+        }
+        log.info("Opened {} event segments in {}", segments.size(), directory);
+    }
+
+    /**
+     * 단건 저장도 일괄 저장과 같은 경로 사용 (이미 존재하면 저장된 이벤트 반환)
+     */
+    @Override
+    public AdEvent save(AdEvent event) {
+        if (saveAll(List.of(event)).isEmpty()) {
+            return findById(event.getId()).orElse(event);
+        }
+        return event;
+    }
+
+    /**
+     * Postgres에 있는 ID는 락 밖에서 먼저 조회 (Postgres에만 있는 이벤트는 삭제된 세그먼트나 다른 노드의 이벤트라
+     * 락을 잡은 동안 새로 생기지 않음)
+     */
+    @Override
+    public List<AdEvent> saveAll(List<AdEvent> events) {
+        Set<String> storedIds = jdbcRepository == null || events.isEmpty()
+            ? Set.of()
+            : jdbcRepository.findExistingIds(events.stream().map(AdEvent::getId).collect(Collectors.toList()));
+
+        synchronized (this) {
+            List<AdEvent> inserted = new ArrayList<>(events.size());
+            Set<String> batchIds = new HashSet<>();
+            for (AdEvent event : events) {
+                if (!batchIds.add(event.getId()) || storedIds.contains(event.getId()) || contains(event.getId())) {
+                    continue;
+                }
+                append(event);
+                inserted.add(event);
+            }
+            return inserted;
+        }
+    }
+
+    @Override
+    public Optional<AdEvent> findById(String id) {
+        long idHash = SegmentBloomFilter.hash(id);
+        List<EventSegment.View> candidates;
+        synchronized (this) {
+            candidates = views(segment -> segment.mightContainId(idHash));
+        }
+
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            EventSegment.View view = candidates.get(i);
+            int offset = view.find(id);
+            if (offset >= 0) {
+                return Optional.of(view.read(offset));
+            }
+        }
+        return jdbcRepository == null ? Optional.empty() : jdbcRepository.findById(id);
+    }
+
+    /**
+     * 세그먼트가 삭제된 적이 있으면 Postgres 결과와 합침 (옮기는 중이라 양쪽에 있는 이벤트는 한 번만)
+     */
+    @Override
+    public List<AdEvent> findByAdId(String adId) {
+        List<EventSegment.View> candidates;
+        boolean evicted;
+        synchronized (this) {
+            candidates = views(segment -> segment.mightContainAdId(adId));
+            evicted = evictedUntil != null;
+        }
+
+        Map<String, AdEvent> events = new LinkedHashMap<>();
+        if (jdbcRepository != null && evicted) {
+            jdbcRepository.findByAdId(adId).forEach(event -> events.put(event.getId(), event));
+        }
+        candidates.forEach(view -> view.forEachWithAdId(adId, event -> events.putIfAbsent(event.getId(), event)));
+        List<AdEvent> sorted = new ArrayList<>(events.values());
+        sorted.sort(EVENT_ORDER);
+        return sorted;
+    }
+
+    @Override
+    public List<AdEvent> findByTimeRange(Instant startTime, Instant endTime) {
+        List<AdEvent> events = new ArrayList<>();
+        streamByTimeRange(startTime, endTime, events::add);
+        return events;
+    }
+
+    /**
+     * 삭제된 세그먼트와 겹치는 앞부분(evicted-until 이하)은 Postgres + 아직 옮기지 않은 세그먼트,
+     * 나머지는 살아 있는 세그먼트에서 조회
+     */
+    @Override
+    public List<AdEvent> findByTimeRangeAfter(Instant startTime, Instant endTime,
+                                              Instant afterTimestamp, String afterId, int limit) {
+        RangeViews range = rangeViews(startTime, endTime);
+        List<AdEvent> events = new ArrayList<>(limit);
+        if (range.storedUntil == null) {
+            scan(range.live, startTime, endTime, afterTimestamp, afterId, limit, events::add);
+            return events;
+        }
+
+        boolean afterStored = afterTimestamp != null && afterTimestamp.isAfter(range.storedUntil);
+        if (!afterStored) {
+            List<AdEvent> stored = jdbcRepository.findByTimeRangeAfter(
+                startTime, range.storedUntil, afterTimestamp, afterId, limit);
+            List<AdEvent> unrolled = new ArrayList<>();
+            scan(range.unrolled, startTime, range.storedUntil, afterTimestamp, afterId, limit, unrolled::add);
+            mergeDistinct(stored::forEach, unrolled, event -> {
+                if (events.size() < limit) {
+                    events.add(event);
+                }
+            });
+        }
+        Instant localStart = range.storedUntil.plusNanos(1);
+        if (events.size() < limit && !localStart.isAfter(endTime)) {
+            scan(range.live, localStart, endTime, afterStored ? afterTimestamp : null, afterStored ? afterId : null,
+                limit - events.size(), events::add);
+        }
+        return events;
+    }
+
+    @Override
+    public void streamByTimeRange(Instant startTime, Instant endTime, Consumer<AdEvent> consumer) {
+        RangeViews range = rangeViews(startTime, endTime);
+        Instant localStart = startTime;
+
+        if (range.storedUntil != null) {
+            List<AdEvent> unrolled = new ArrayList<>();
+            scan(range.unrolled, startTime, range.storedUntil, null, null, Integer.MAX_VALUE, unrolled::add);
+            mergeDistinct(stored -> jdbcRepository.streamByTimeRange(startTime, range.storedUntil, stored),
+                unrolled, consumer);
+            localStart = range.storedUntil.plusNanos(1);
+        }
+        if (!localStart.isAfter(endTime)) {
+            scan(range.live, localStart, endTime, null, null, Integer.MAX_VALUE, consumer);
+        }
+    }
+
+    @Override
+    public List<EventFeedEntry> findFeedFrom(long fromOffset, int limit) {
+        long fromSequence = EventSegment.sequenceOf(fromOffset);
+        List<EventSegment.View> candidates;
+        synchronized (this) {
+            candidates = views(segment -> segment.getSequence() >= fromSequence);
+            if (evictedUntil != null && fromOffset > 0
+                && (segments.isEmpty() || segments.get(0).getSequence() > fromSequence)) {
+                log.warn("Feed offset {} points into deleted event segments; continuing from the oldest live segment "
+                    + "(recompute days up to {} from the time-range API)", fromOffset, evictedUntil);
+            }
+        }
+
+        List<EventFeedEntry> entries = new ArrayList<>(Math.min(limit, 1024));
+        for (EventSegment.View view : candidates) {
+            int fromOrdinal = view.getSequence() == fromSequence ? EventSegment.ordinalOf(fromOffset) : 0;
+            view.forEachFrom(fromOrdinal, limit - entries.size(), entries::add);
+            if (entries.size() >= limit) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        synchronized (this) {
+            if (contains(id)) {
+                return true;
+            }
+        }
+        return jdbcRepository != null && jdbcRepository.existsById(id);
+    }
+
+    /**
+     * 쓰는 중인 세그먼트 봉인 (비어 있으면 유지)
+     * - 평소에는 가득 찼을 때만 봉인 (주기적으로 봉인하면 덜 찬 세그먼트와 그 필터가 늘어남)
+     */
+    public synchronized void sealActiveSegment() {
+        if (active == null || active.isEmpty()) {
+            return;
+        }
+        try {
+            active.seal();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트를 봉인할 수 없습니다: " + active.getPath(), e);
+        }
+        active = null;
+    }
+
+    /**
+     * 쓰는 중인 세그먼트의 이벤트가 모두 cutoff 이전이면 봉인 (더 채워지지 않는 세그먼트도 보관 기간 후 삭제되도록)
+     */
+    synchronized void sealActiveSegmentIfExpired(Instant cutoff) {
+        if (active != null && !active.isEmpty() && active.getMaxTimestamp().isBefore(cutoff)) {
+            sealActiveSegment();
+        }
+    }
+
+    /**
+     * 아직 Postgres로 옮기지 않은 레코드가 있는 세그먼트 (쓰는 중인 세그먼트 포함, 오래된 순)
+     */
+    synchronized List<EventSegment> unrolledSegments() {
+        return segments.stream()
+            .filter(segment -> segment.getRolledCount() < segment.getCount())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 세그먼트의 현재 뷰 (쓰는 중인 세그먼트도 있으므로 락 안에서 얻음)
+     */
+    synchronized EventSegment.View view(EventSegment segment) {
+        return segment.view();
+    }
+
+    /**
+     * 앞에서부터 rolledCount개 레코드를 Postgres로 옮겼음을 기록
+     */
+    synchronized void markRolled(EventSegment segment, int rolledCount) {
+        try {
+            segment.markRolled(rolledCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 이동 표시를 남길 수 없습니다: " + segment.getPath(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 봉인된 세그먼트 삭제
+     * - 삭제 후 다음 세그먼트 순번을 파일에 남김 (모든 세그먼트가 지워진 뒤 재기동해도 피드 offset이 되돌아가지 않음)
+     * @param cutoff 세그먼트의 가장 늦은 이벤트가 이 시각보다 이전이면 삭제
+     * @param requireRolled true면 Postgres로 옮긴 세그먼트만 삭제
+     * @return 삭제한 세그먼트 수
+     */
+    synchronized int deleteExpired(Instant cutoff, boolean requireRolled) {
+        int deleted = 0;
+        Iterator<EventSegment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            EventSegment segment = iterator.next();
+            boolean expired = segment.isEmpty() || segment.getMaxTimestamp().isBefore(cutoff);
+            if (!segment.isSealed() || !expired || (requireRolled && !segment.isRolled() && !segment.isEmpty())) {
+                continue;
+            }
+            try {
+                segment.delete();
+                iterator.remove();
+                deleted++;
+                if (!segment.isEmpty()
+                    && (evictedUntil == null || segment.getMaxTimestamp().isAfter(evictedUntil))) {
+                    evictedUntil = segment.getMaxTimestamp();
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete expired event segment: {}", segment.getPath(), e);
+            }
+        }
+        if (deleted > 0) {
+            writeNextSequence();
+            writeEvictedUntil();
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        sealActiveSegment();
+    }
+
+    private long readNextSequence() {
+        Path file = directory.resolve(NEXT_SEQUENCE_FILE);
+        try {
+            return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : 0;
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("세그먼트 순번 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private void writeNextSequence() {
+        Path file = directory.resolve(NEXT_SEQUENCE_FILE);
+        try {
+            Files.writeString(file, Long.toString(nextSequence));
+        } catch (IOException e) {
+            log.warn("Failed to record next event segment sequence: {}", file, e);
+        }
+    }
+
+    private Instant readEvictedUntil() {
+        Path file = directory.resolve(EVICTED_UNTIL_FILE);
+        try {
+            return Files.exists(file) ? Instant.parse(Files.readString(file).trim()) : null;
+        } catch (IOException | DateTimeParseException e) {
+            throw new IllegalStateException("삭제된 세그먼트 기록 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private void writeEvictedUntil() {
+        if (evictedUntil == null) {
+            return;
+        }
+        Path file = directory.resolve(EVICTED_UNTIL_FILE);
+        try {
+            Files.writeString(file, evictedUntil.toString());
+        } catch (IOException e) {
+            log.warn("Failed to record deleted event segment range: {}", file, e);
+        }
+    }
+
+    private List<EventSegment.View> views(Predicate<EventSegment> filter) {
+        return segments.stream()
+            .filter(filter)
+            .map(EventSegment::view)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 시간 범위 조회 대상 (삭제 기록과 세그먼트 뷰를 같은 락 안에서 얻음)
+     */
+    private synchronized RangeViews rangeViews(Instant startTime, Instant endTime) {
+        Instant storedUntil = null;
+        if (jdbcRepository != null && evictedUntil != null && !startTime.isAfter(evictedUntil)) {
+            storedUntil = endTime.isBefore(evictedUntil) ? endTime : evictedUntil;
+        }
+        return new RangeViews(storedUntil,
+            views(segment -> segment.overlaps(startTime, endTime)),
+            views(segment -> !segment.isRolled() && segment.overlaps(startTime, endTime)));
+    }
+
+    /**
+     * Postgres 결과(정렬됨)와 아직 옮기지 않은 세그먼트의 이벤트(정렬됨)를 (timestamp, id) 순으로 병합
+     * - 옮기는 도중이라 양쪽에 있는 이벤트는 한 번만 전달
+     */
+    private static void mergeDistinct(Consumer<Consumer<AdEvent>> stored, List<AdEvent> unrolled,
+                                      Consumer<AdEvent> consumer) {
+        int[] next = {0};
+        stored.accept(event -> {
+            while (next[0] < unrolled.size() && EVENT_ORDER.compare(unrolled.get(next[0]), event) < 0) {
+                consumer.accept(unrolled.get(next[0]++));
+            }
+            if (next[0] < unrolled.size() && EVENT_ORDER.compare(unrolled.get(next[0]), event) == 0) {
+                next[0]++;
+            }
+            consumer.accept(event);
+        });
+        while (next[0] < unrolled.size()) {
+            consumer.accept(unrolled.get(next[0]++));
+        }
+    }
+
+    private boolean contains(String id) {
+        long idHash = SegmentBloomFilter.hash(id);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            EventSegment segment = segments.get(i);
+            if (segment.mightContainId(idHash) && segment.view().find(id) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(AdEvent event) {
+        byte[] record = SegmentRecords.encode(event);
+        if (record.length > segmentBytes - EventSegment.FILE_HEADER_BYTES) {
+            throw new IllegalArgumentException("이벤트가 세그먼트 크기보다 큽니다: " + event.getId());
+        }
+
+        try {
+            if (active == null || !active.append(record, event)) {
+                if (active != null) {
+                    active.seal();
+                }
+                active = EventSegment.create(directory, nextSequence++, segmentBytes, expectedEventsPerSegment);
+                segments.add(active);
+                active.append(record, event);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 세그먼트에 기록할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 시간 범위 이벤트를 (timestamp, id) 순으로 전달
+     * - 세그먼트를 가장 이른 timestamp 순으로 정렬하고, 병합 중인 가장 작은 키에 도달했을 때만 다음 세그먼트를 읽음
+     *   (메모리에는 시간이 겹치는 세그먼트들의 키만 올라감)
+     */
+    private static void scan(List<EventSegment.View> views, Instant startTime, Instant endTime,
+                             Instant afterTimestamp, String afterId, int limit, Consumer<AdEvent> consumer) {
+        List<EventSegment.View> pending = new ArrayList<>(views);
+        pending.sort(Comparator.comparing(EventSegment.View::getMinTimestamp));
+
+        EventSegment.SegmentKey after = afterTimestamp == null
+            ? null
+            : new EventSegment.SegmentKey(afterTimestamp, afterId, null, -1);
+        PriorityQueue<MergeCursor> heap = new PriorityQueue<>();
+        int next = 0;
+        int emitted = 0;
+
+        while (emitted < limit) {
+            while (next < pending.size()
+                && (heap.isEmpty() || !pending.get(next).getMinTimestamp().isAfter(heap.peek().current().timestamp))) {
+                List<EventSegment.SegmentKey> keys = pending.get(next++).keysInRange(startTime, endTime);
+                if (after != null) {
+                    keys.removeIf(key -> key.compareTo(after) <= 0);
+                }
+                if (!keys.isEmpty()) {
+                    Collections.sort(keys);
+                    heap.add(new MergeCursor(keys));
+                }
+            }
+            if (heap.isEmpty()) {
+                return;
+            }
+
+            MergeCursor cursor = heap.poll();
+            EventSegment.SegmentKey key = cursor.current();
+            consumer.accept(key.view.read(key.offset));
+            emitted++;
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+    }
+
+    /**
+     * 시간 범위 조회 대상
+     * - storedUntil: Postgres에서도 읽어야 하는 범위의 끝 (없으면 null)
+     * - live: 범위와 겹치는 세그먼트, unrolled: 그중 아직 Postgres로 옮기지 않은 세그먼트
+     */
+    private static final class RangeViews {
+
+        private final Instant storedUntil;
+        private final List<EventSegment.View> live;
+        private final List<EventSegment.View> unrolled;
+
+        private RangeViews(Instant storedUntil, List<EventSegment.View> live, List<EventSegment.View> unrolled) {
+            this.storedUntil = storedUntil;
+            this.live = live;
+            this.unrolled = unrolled;
+        }
+    }
+
+    /**
+     * 세그먼트 하나의 정렬된 키 목록을 따라가는 병합 커서
+     */
+    private static final class MergeCursor implements Comparable<MergeCursor> {
+
+        private final List<EventSegment.SegmentKey> keys;
+        private int position;
+
+        private MergeCursor(List<EventSegment.SegmentKey> keys) {
+            this.keys = keys;
+        }
+
+        private EventSegment.SegmentKey current() {
+            return keys.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < keys.size();
+        }
+
+        @Override
+        public int compareTo(MergeCursor other) {
+            return current().compareTo(other.current());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 레코드 형식 (길이 접두 바이너리)
+ * - [payload 길이 int][payload CRC32 int][payload]
+ * - payload: timestamp(초 long, 나노 int), id, adId, campaignId, eventType, adGroupId, userId, sessionId,
+ *   impressionToken, 메타데이터 수 int + (키, 값)...
+ * - 문자열: UTF-8 바이트 수 int (null이면 -1) + 바이트
+ *
+ * 시간 범위/ID/광고 조회에 쓰는 timestamp, id, adId를 앞에 두어 이벤트 전체를 읽지 않고 걸러냄
+ */
+final class SegmentRecords {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final int TIMESTAMP_BYTES = 12;
+    private static final int NULL_LENGTH = -1;
+
+    private SegmentRecords() {
+    }
+
+    static byte[] encode(AdEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeLong(event.getTimestamp().getEpochSecond());
+            out.writeInt(event.getTimestamp().getNano());
+            writeString(out, event.getId());
+            writeString(out, event.getAdId());
+            writeString(out, event.getCampaignId());
+            writeString(out, event.getEventType().name());
+            writeString(out, event.getAdGroupId());
+            writeString(out, event.getUserId());
+            writeString(out, event.getSessionId());
+            writeString(out, event.getImpressionToken());
+            out.writeInt(event.getMetadata().size());
+            for (Map.Entry<String, String> entry : event.getMetadata().entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int payloadLength = record.capacity() - HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, payloadLength);
+        record.putInt(0, payloadLength);
+        record.putInt(4, (int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * offset의 레코드가 limit 안에 온전히 기록되어 있으면 레코드 전체 길이, 아니면 -1 (기록 중 중단된 꼬리)
+     */
+    static int validLength(ByteBuffer buffer, int offset, int limit) {
+        if (offset + HEADER_BYTES > limit) {
+            return -1;
+        }
+        int payloadLength = buffer.getInt(offset);
+        if (payloadLength <= TIMESTAMP_BYTES || payloadLength > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+
+        byte[] payload = new byte[payloadLength];
+        buffer.get(offset + HEADER_BYTES, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == buffer.getInt(offset + 4) ? HEADER_BYTES + payloadLength : -1;
+    }
+
+    static int length(ByteBuffer buffer, int offset) {
+        return HEADER_BYTES + buffer.getInt(offset);
+    }
+
+    static Instant readTimestamp(ByteBuffer buffer, int offset) {
+        int position = offset + HEADER_BYTES;
+        return Instant.ofEpochSecond(buffer.getLong(position), buffer.getInt(position + 8));
+    }
+
+    static String readId(ByteBuffer buffer, int offset) {
+        return readString(buffer, new int[]{offset + HEADER_BYTES + TIMESTAMP_BYTES});
+    }
+
+    /**
+     * 레코드의 ID가 주어진 UTF-8 바이트와 같은지 (문자열을 만들지 않고 비교)
+     */
+    static boolean idEquals(ByteBuffer buffer, int offset, byte[] id) {
+        int position = offset + HEADER_BYTES + TIMESTAMP_BYTES;
+        if (buffer.getInt(position) != id.length) {
+            return false;
+        }
+        position += 4;
+        for (int i = 0; i < id.length; i++) {
+            if (buffer.get(position + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String readAdId(ByteBuffer buffer, int offset) {
+        int[] position = {offset + HEADER_BYTES + TIMESTAMP_BYTES};
+        skipString(buffer, position);
+        return readString(buffer, position);
+    }
+
+    static AdEvent decode(ByteBuffer buffer, int offset) {
+        Instant timestamp = readTimestamp(buffer, offset);
+        int[] position = {offset + HEADER_BYTES + TIMESTAMP_BYTES};
+        AdEvent.AdEventBuilder builder = AdEvent.builder()
+            .timestamp(timestamp)
+            .id(readString(buffer, position))
+            .adId(readString(buffer, position))
+            .campaignId(readString(buffer, position))
+            .eventType(EventType.valueOf(readString(buffer, position)))
+            .adGroupId(readString(buffer, position))
+            .userId(readString(buffer, position))
+            .sessionId(readString(buffer, position))
+            .impressionToken(readString(buffer, position));
+
+        int metadataSize = buffer.getInt(position[0]);
+        position[0] += 4;
+        Map<String, String> metadata = new HashMap<>(Math.max(4, metadataSize * 2));
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(readString(buffer, position), readString(buffer, position));
+        }
+        return builder.metadata(metadata).build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, int[] position) {
+        int length = buffer.getInt(position[0]);
+        position[0] += 4;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position[0], bytes);
+        position[0] += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void skipString(ByteBuffer buffer, int[] position) {
+        int length = buffer.getInt(position[0]);
+        position[0] += 4 + Math.max(length, 0);
+    }
+}
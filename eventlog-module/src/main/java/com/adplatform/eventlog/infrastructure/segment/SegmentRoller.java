@@ -0,0 +1,108 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.infrastructure.persistence.EventRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세그먼트 → Postgres 이동 및 보관 기간 정리 (eventlog.storage.backend=segment)
+ * - 주기마다 아직 옮기지 않은 레코드를 배치로 ad_events에 저장 (ID 중복은 무시되므로 재시도 안전)
+ * - 쓰는 중인 세그먼트는 봉인하지 않고 지난번에 옮긴 레코드 다음부터 이어서 옮김 (세그먼트는 가득 찼을 때만 봉인)
+ * - 끝까지 옮긴 봉인된 세그먼트는 표시만 하고 retention 동안 계속 조회에 사용, 이후 삭제
+ * - 쓰는 중인 세그먼트는 이벤트가 모두 retention을 지났을 때만 봉인해 삭제 대상에 포함
+ * - roll-to-jdbc를 끄면 Postgres 없이 retention이 지난 세그먼트를 그대로 삭제
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.storage.backend", havingValue = "segment")
+@Slf4j
+public class SegmentRoller {
+
+    private static final int ROLL_BATCH_SIZE = 500;
+
+    private final SegmentEventRepository segmentRepository;
+    private final EventRepositoryImpl jdbcRepository;
+    private final boolean rollToJdbc;
+    private final Duration retention;
+    private final Clock clock;
+
+    @Autowired
+    public SegmentRoller(
+        SegmentEventRepository segmentRepository,
+        EventRepositoryImpl jdbcRepository,
+        @Value("${eventlog.storage.segment.roll-to-jdbc:true}") boolean rollToJdbc,
+        @Value("${eventlog.storage.segment.retention:P7D}") Duration retention
+    ) {
+        this(segmentRepository, jdbcRepository, rollToJdbc, retention, Clock.systemUTC());
+    }
+
+    SegmentRoller(
+        SegmentEventRepository segmentRepository,
+        EventRepositoryImpl jdbcRepository,
+        boolean rollToJdbc,
+        Duration retention,
+        Clock clock
+    ) {
+        this.segmentRepository = segmentRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.rollToJdbc = rollToJdbc;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${eventlog.storage.segment.roll-interval-ms:300000}")
+    public void roll() {
+        Instant cutoff = clock.instant().minus(retention);
+        segmentRepository.sealActiveSegmentIfExpired(cutoff);
+
+        if (rollToJdbc) {
+            for (EventSegment segment : segmentRepository.unrolledSegments()) {
+                try {
+                    EventSegment.View view = segmentRepository.view(segment);
+                    int rolled = rollSegment(view, segment.getRolledCount());
+                    segmentRepository.markRolled(segment, view.getCount());
+                    log.info("Rolled event segment {} into Postgres ({} new events)", segment.getPath(), rolled);
+                } catch (RuntimeException e) {
+                    // 다음 주기에 같은 세그먼트부터 다시 시도
+                    log.error("Failed to roll event segment {}", segment.getPath(), e);
+                    break;
+                }
+            }
+        }
+
+        int deleted = segmentRepository.deleteExpired(cutoff, rollToJdbc);
+        if (deleted > 0) {
+            log.info("Deleted {} expired event segments", deleted);
+        }
+    }
+
+    /**
+     * fromOrdinal번째 레코드부터 뷰의 끝까지 저장
+     * @return 새로 저장된 이벤트 수
+     */
+    private int rollSegment(EventSegment.View view, int fromOrdinal) {
+        List<AdEvent> batch = new ArrayList<>(ROLL_BATCH_SIZE);
+        int[] inserted = {0};
+        view.forEachFrom(fromOrdinal, Integer.MAX_VALUE, entry -> {
+            batch.add(entry.getEvent());
+            if (batch.size() == ROLL_BATCH_SIZE) {
+                inserted[0] += jdbcRepository.saveAll(batch).size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            inserted[0] += jdbcRepository.saveAll(batch).size();
+        }
+        return inserted[0];
+    }
+}
@@ -0,0 +1,19 @@
+package com.adplatform.eventlog.infrastructure.token;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 검증된 노출 토큰 내용
+ */
+@Getter
+@Builder
+public class ImpressionTokenClaims {
+    private final Instant issuedAt;
+    private final String placementId;
+    private final String campaignId;
+    private final String adId;
+    private final long bid;
+}
@@ -0,0 +1,158 @@
+package com.adplatform.eventlog.infrastructure.token;
+
+import com.adplatform.eventlog.domain.exception.InvalidImpressionTokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 노출 토큰 검증 (저장소 조회 없음)
+ * - Inventory Service가 발급한 HMAC 서명 토큰을 같은 비밀키로 검증
+ * - 형식: {발급시각 12자리 hex + 난수 16자리 hex}.{base64url payload}.{base64url 서명 16바이트}
+ * - 비밀키가 없거나 32바이트보다 짧으면 기동하지 않음 (알려진 키로는 누구나 토큰을 위조할 수 있음)
+ */
+@Component
+public class ImpressionTokenVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int ID_LENGTH = 28;
+    private static final int TIMESTAMP_DIGITS = 12;
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /**
+     * 발급 서버와의 시계 오차 허용치
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final ThreadLocal<Mac> mac;
+    private final Duration maxAge;
+
+    public ImpressionTokenVerifier(
+        @Value("${impression-token.secret:}") String secret,
+        @Value("${impression-token.max-age:P30D}") Duration maxAge
+    ) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("노출 토큰 비밀키는 필수입니다 (IMPRESSION_TOKEN_SECRET)");
+        }
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("노출 토큰 비밀키는 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다");
+        }
+        this.maxAge = maxAge;
+
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화에 실패했습니다", e);
+            }
+        });
+        this.mac.get();
+    }
+
+    /**
+     * 토큰 검증 후 내용 반환
+     *
+     * @throws InvalidImpressionTokenException 형식/서명/유효기간이 올바르지 않은 경우
+     */
+    public ImpressionTokenClaims verify(String token) {
+        if (token == null) {
+            throw InvalidImpressionTokenException.malformed();
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot != ID_LENGTH || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw InvalidImpressionTokenException.malformed();
+        }
+
+        // 서명 먼저 검증 (위조 토큰은 내용을 해석하지 않음)
+        byte[] signature = decode(token.substring(secondDot + 1));
+        byte[] expected = mac.get().doFinal(
+            token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII)
+        );
+        if (signature.length != SIGNATURE_LENGTH
+            || !MessageDigest.isEqual(signature, truncate(expected))) {
+            throw InvalidImpressionTokenException.badSignature();
+        }
+
+        Instant issuedAt = Instant.ofEpochMilli(parseHex(token, 0, TIMESTAMP_DIGITS));
+        Instant now = Instant.now();
+        if (issuedAt.isAfter(now.plus(CLOCK_SKEW)) || issuedAt.isBefore(now.minus(maxAge))) {
+            throw InvalidImpressionTokenException.expired();
+        }
+
+        try {
+            ByteBuffer payload = ByteBuffer.wrap(decode(token.substring(firstDot + 1, secondDot)));
+            long bid = payload.getLong();
+            return ImpressionTokenClaims.builder()
+                .issuedAt(issuedAt)
+                .bid(bid)
+                .placementId(readString(payload))
+                .campaignId(readString(payload))
+                .adId(readString(payload))
+                .build();
+        } catch (BufferUnderflowException e) {
+            throw InvalidImpressionTokenException.malformed();
+        }
+    }
+
+    /**
+     * 토큰 검증 및 이벤트의 캠페인/광고와 일치하는지 확인
+     */
+    public ImpressionTokenClaims verify(String token, String campaignId, String adId) {
+        ImpressionTokenClaims claims = verify(token);
+        if (!claims.getCampaignId().equals(campaignId)) {
+            throw InvalidImpressionTokenException.mismatch("캠페인 ID");
+        }
+        if (!claims.getAdId().equals(adId)) {
+            throw InvalidImpressionTokenException.mismatch("광고 ID");
+        }
+        return claims;
+    }
+
+    private static byte[] decode(String value) {
+        try {
+            return Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw InvalidImpressionTokenException.malformed();
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long parseHex(String value, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) {
+                throw InvalidImpressionTokenException.malformed();
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
+    private static byte[] truncate(byte[] signature) {
+        byte[] truncated = new byte[SIGNATURE_LENGTH];
+        System.arraycopy(signature, 0, truncated, 0, SIGNATURE_LENGTH);
+        return truncated;
+    }
+}
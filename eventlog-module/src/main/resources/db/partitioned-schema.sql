@@ -0,0 +1,46 @@
+-- EventLog Service Partitioned Schema (PostgreSQL 11+)
+-- Used by the "partitioned" profile (spring.sql.init runs this before JPA validation)
+-- ad_events is range-partitioned by event time (metadata is stored inline in the event row);
+-- daily partitions are created ahead of time and dropped after retention by EventPartitionManager
+
+CREATE TABLE IF NOT EXISTS ad_events (
+    id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    ad_id VARCHAR(255) NOT NULL,
+    campaign_id VARCHAR(255) NOT NULL,
+    ad_group_id VARCHAR(255),
+    user_id VARCHAR(255),
+    session_id VARCHAR(255),
+    timestamp TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    impression_token VARCHAR(255),
+    metadata TEXT,
+    feed_offset BIGINT,
+    -- The partition key must be part of the primary key, so this alone does not stop a resend
+    -- with a different timestamp; id uniqueness is enforced by ad_event_ids below
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Event ids claimed before insert, partitioned by the event's UTC day like ad_events so expired claims
+-- are dropped with the matching ad_events partition (no DELETE). An event is stored only if its id was
+-- claimed: the primary key rejects a same-day resend, and the claim checks the other days first, so ids
+-- are unique within the retention window
+CREATE TABLE IF NOT EXISTS ad_event_ids (
+    id VARCHAR(255) NOT NULL,
+    claim_date DATE NOT NULL,
+    PRIMARY KEY (id, claim_date)
+) PARTITION BY RANGE (claim_date);
+CREATE TABLE IF NOT EXISTS ad_event_ids_default PARTITION OF ad_event_ids DEFAULT;
+
+-- Catch-all for events outside the pre-created daily partitions (very late or far-future timestamps)
+CREATE TABLE IF NOT EXISTS ad_events_default PARTITION OF ad_events DEFAULT;
+
+-- Indexes are created per partition; idx_timestamp serves keyset pagination on (timestamp, id)
+CREATE INDEX IF NOT EXISTS idx_timestamp ON ad_events(timestamp, id);
+CREATE INDEX IF NOT EXISTS idx_ad_id ON ad_events(ad_id);
+CREATE INDEX IF NOT EXISTS idx_campaign_id ON ad_events(campaign_id);
+-- Feed reads scan partitions in feed_offset order (offsets of dropped partitions simply disappear)
+CREATE INDEX IF NOT EXISTS idx_feed_offset ON ad_events(feed_offset);
+
+-- Feed offsets come from the event_feed_offset_seq sequence, created by EventRepositoryImpl at startup
+
+COMMENT ON TABLE ad_events IS 'Append-only event log, range-partitioned by day on timestamp';
@@ -1,5 +1,6 @@
 -- EventLog Service Database Schema
 -- Events are append-only (no updates or deletes)
+-- Daily-partitioned variant with retention: db/partitioned-schema.sql ("partitioned" profile)
 
 CREATE TABLE IF NOT EXISTS ad_events (
     id VARCHAR(255) PRIMARY KEY,
@@ -10,16 +11,13 @@ CREATE TABLE IF NOT EXISTS ad_events (
     user_id VARCHAR(255),
     session_id VARCHAR(255),
     timestamp TIMESTAMP NOT NULL,
-    impression_token VARCHAR(255)
+    impression_token VARCHAR(255),
+    metadata TEXT,
+    feed_offset BIGINT
 );
 
-CREATE TABLE IF NOT EXISTS ad_event_metadata (
-    event_id VARCHAR(255) NOT NULL,
-    meta_key VARCHAR(255) NOT NULL,
-    meta_value TEXT,
-    PRIMARY KEY (event_id, meta_key),
-    FOREIGN KEY (event_id) REFERENCES ad_events(id)
-);
+-- Feed offsets come from the event_feed_offset_seq sequence (nextval per insert, no lock held until commit);
+-- EventRepositoryImpl creates it at startup, continuing after the largest existing feed_offset
 
 -- Indexes for performance
 CREATE INDEX IF NOT EXISTS idx_ad_id ON ad_events(ad_id);
@@ -27,8 +25,12 @@ CREATE INDEX IF NOT EXISTS idx_timestamp ON ad_events(timestamp);
 CREATE INDEX IF NOT EXISTS idx_campaign_id ON ad_events(campaign_id);
 CREATE INDEX IF NOT EXISTS idx_event_type ON ad_events(event_type);
 CREATE INDEX IF NOT EXISTS idx_impression_token ON ad_events(impression_token);
+CREATE INDEX IF NOT EXISTS idx_feed_offset ON ad_events(feed_offset);
 
 -- Comments
 COMMENT ON TABLE ad_events IS 'Append-only event log table for ad impressions, clicks, and conversions';
 COMMENT ON COLUMN ad_events.timestamp IS 'Event timestamp, indexed for time-range queries';
 COMMENT ON COLUMN ad_events.impression_token IS 'Used to track clicks and conversions back to impressions';
+COMMENT ON COLUMN ad_events.feed_offset IS 'Event feed position from event_feed_offset_seq; the feed serves offsets older than eventlog.feed.visibility-lag (GET /api/v1/events/feed)';
+COMMENT ON COLUMN ad_events.metadata IS 'Compact JSON metadata; common keys stored as dictionary codes (EventMetadataCodec)';
+-- Keys listed in eventlog.metadata.promoted-keys get their own meta_<key> VARCHAR(255) column (added at startup)
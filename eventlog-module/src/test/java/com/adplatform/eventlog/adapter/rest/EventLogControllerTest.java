@@ -13,10 +13,19 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +37,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("EventLogController 통합 테스트")
 class EventLogControllerTest {
 
+    /**
+     * application-test.yml의 impression-token.secret
+     */
+    private static final String IMPRESSION_TOKEN_SECRET = "test-impression-token-secret-0123456789";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -61,13 +75,14 @@ class EventLogControllerTest {
     @DisplayName("POST /api/v1/events - CLICK 이벤트 기록 성공")
     void recordClickEventSuccessfully() throws Exception {
         // given
+        String impressionToken = issueImpressionToken("campaign-789", "ad-456");
         RecordEventRequest request = RecordEventRequest.builder()
             .id("event-click-123")
             .eventType(EventType.CLICK)
             .adId("ad-456")
             .campaignId("campaign-789")
             .timestamp(Instant.now())
-            .impressionToken("impression-token-123")
+            .impressionToken(impressionToken)
             .build();
 
         // when & then
@@ -76,7 +91,7 @@ class EventLogControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isAccepted())
             .andExpect(jsonPath("$.eventType").value("CLICK"))
-            .andExpect(jsonPath("$.impressionToken").value("impression-token-123"));
+            .andExpect(jsonPath("$.impressionToken").value(impressionToken));
     }
 
     @Test
@@ -189,7 +204,7 @@ class EventLogControllerTest {
             .adId(adId)
             .campaignId("campaign-789")
             .timestamp(Instant.now())
-            .impressionToken("token-123")
+            .impressionToken(issueImpressionToken("campaign-789", adId))
             .build();
 
         mockMvc.perform(post("/api/v1/events")
@@ -238,6 +253,157 @@ class EventLogControllerTest {
             .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/events - Accept가 NDJSON이면 한 줄에 이벤트 하나씩 스트리밍")
+    void streamEventsByTimeRangeAsNdjson() throws Exception {
+        // given
+        Instant now = Instant.now();
+        String body = "{\"id\":\"ndjson-1\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-ndjson\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now.minusSeconds(10) + "\"}\n"
+            + "{\"id\":\"ndjson-2\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-ndjson\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now + "\"}\n";
+
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk());
+
+        // when
+        String content = mockMvc.perform(get("/api/v1/events")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .param("startTime", now.minusSeconds(60).toString())
+                .param("endTime", now.plusSeconds(60).toString()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        List<String> ids = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            ids.add(objectMapper.readTree(line).get("id").asText());
+        }
+        assertThat(ids, contains("ndjson-1", "ndjson-2"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/events/page - 커서로 다음 페이지 조회")
+    void getEventPagesWithCursor() throws Exception {
+        // given - 테스트 전용 시간대에 이벤트 3개
+        Instant base = Instant.parse("2020-01-01T00:00:00Z");
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 3; i++) {
+            body.append("{\"id\":\"page-").append(i)
+                .append("\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-page\",\"campaignId\":\"campaign-789\",\"timestamp\":\"")
+                .append(base.plusSeconds(i)).append("\"}\n");
+        }
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()))
+            .andExpect(status().isOk());
+
+        // when
+        String firstPage = mockMvc.perform(get("/api/v1/events/page")
+                .param("startTime", base.toString())
+                .param("endTime", base.plusSeconds(60).toString())
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events[*].id", contains("page-1", "page-2")))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // then
+        mockMvc.perform(get("/api/v1/events/page")
+                .param("startTime", base.toString())
+                .param("endTime", base.plusSeconds(60).toString())
+                .param("limit", "2")
+                .param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events[*].id", contains("page-3")))
+            .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/events/feed - offset 순으로 읽고 마지막 offset 다음부터 이어 읽기")
+    void readFeedFromOffset() throws Exception {
+        // given
+        Instant now = Instant.now();
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 3; i++) {
+            body.append("{\"id\":\"feed-").append(i)
+                .append("\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-feed\",\"campaignId\":\"campaign-789\",\"timestamp\":\"")
+                .append(now.minusSeconds(10 - i)).append("\"}\n");
+        }
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()))
+            .andExpect(status().isOk());
+
+        long firstOffset = -1;
+        for (String line : readFeed(0, 10000)) {
+            if ("feed-1".equals(objectMapper.readTree(line).get("id").asText())) {
+                firstOffset = objectMapper.readTree(line).get("offset").asLong();
+            }
+        }
+
+        // when
+        List<String> firstBatch = readFeed(firstOffset, 2);
+        long nextOffset = objectMapper.readTree(firstBatch.get(1)).get("offset").asLong() + 1;
+        List<String> secondBatch = readFeed(nextOffset, 2);
+
+        // then
+        assertThat(firstBatch, hasSize(2));
+        assertThat(objectMapper.readTree(firstBatch.get(0)).get("id").asText(), is("feed-1"));
+        assertThat(objectMapper.readTree(firstBatch.get(1)).get("id").asText(), is("feed-2"));
+        assertThat(secondBatch, hasSize(1));
+        assertThat(objectMapper.readTree(secondBatch.get(0)).get("id").asText(), is("feed-3"));
+        assertThat(objectMapper.readTree(secondBatch.get(0)).get("adId").asText(), is("ad-feed"));
+    }
+
+    /**
+     * Inventory Service의 ImpressionTokenIssuer와 같은 형식으로 테스트 비밀키로 발급
+     */
+    private String issueImpressionToken(String campaignId, String adId) {
+        try {
+            byte[] placement = "placement-1".getBytes(StandardCharsets.UTF_8);
+            byte[] campaign = campaignId.getBytes(StandardCharsets.UTF_8);
+            byte[] ad = adId.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer payload = ByteBuffer.allocate(8 + 6 + placement.length + campaign.length + ad.length);
+            payload.putLong(1000L);
+            for (byte[] value : new byte[][]{placement, campaign, ad}) {
+                payload.putShort((short) value.length);
+                payload.put(value);
+            }
+
+            Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+            String unsigned = String.format("%012x%016x", Instant.now().toEpochMilli(), 42L)
+                + "." + base64.encodeToString(payload.array());
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(IMPRESSION_TOKEN_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = Arrays.copyOf(
+                mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII)), 16);
+            return unsigned + "." + base64.encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> readFeed(long fromOffset, int limit) throws Exception {
+        String content = mockMvc.perform(get("/api/v1/events/feed")
+                .param("fromOffset", String.valueOf(fromOffset))
+                .param("limit", String.valueOf(limit)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
     @Test
     @DisplayName("GET /api/v1/events/ad/{adId} - 존재하지 않는 광고 ID로 조회 시 빈 배열")
     void returnEmptyArrayWhenNoEventsForAd() throws Exception {
@@ -261,4 +427,67 @@ class EventLogControllerTest {
                 .param("endTime", endTime))
             .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("POST /api/v1/events/bulk - JSON 배열 일괄 기록 시 이벤트별 결과 반환")
+    void recordBulkEventsFromJsonArray() throws Exception {
+        // given - 정상, 필수 필드 누락, 토큰 없는 CLICK
+        Instant now = Instant.now();
+        String body = "["
+            + "{\"id\":\"bulk-1\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-bulk\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now + "\"},"
+            + "{\"id\":\"bulk-2\",\"eventType\":\"IMPRESSION\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now + "\"},"
+            + "{\"id\":\"bulk-3\",\"eventType\":\"CLICK\",\"adId\":\"ad-bulk\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now + "\"}"
+            + "]";
+
+        // when & then
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accepted").value(1))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.results[0].status").value("ACCEPTED"))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].id").value("bulk-2"))
+            .andExpect(jsonPath("$.results[2].status").value("REJECTED"));
+
+        mockMvc.perform(get("/api/v1/events/ad/ad-bulk"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/events/bulk - NDJSON 일괄 기록 시 중복 ID와 깨진 줄 구분")
+    void recordBulkEventsFromNdjson() throws Exception {
+        // given
+        Instant now = Instant.now();
+        String event = "{\"id\":\"bulk-nd-1\",\"eventType\":\"IMPRESSION\",\"adId\":\"ad-456\",\"campaignId\":\"campaign-789\",\"timestamp\":\"" + now + "\"}";
+
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(event + "\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accepted").value(1));
+
+        // when & then - 같은 이벤트 재전송 + 깨진 줄
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(event + "\n{\"id\":\"broken\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accepted").value(0))
+            .andExpect(jsonPath("$.duplicates").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.results[0].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.results[1].index").value(1))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/events/bulk - JSON 배열이 아니면 400 에러")
+    void return400WhenBulkBodyIsNotArray() throws Exception {
+        mockMvc.perform(post("/api/v1/events/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"event-1\"}"))
+            .andExpect(status().isBadRequest());
+    }
 }
@@ -1,5 +1,7 @@
 package com.adplatform.eventlog.application.usecase;
 
+import com.adplatform.eventlog.application.dto.EventCursor;
+import com.adplatform.eventlog.application.dto.EventPage;
 import com.adplatform.eventlog.domain.model.AdEvent;
 import com.adplatform.eventlog.domain.model.EventType;
 import com.adplatform.eventlog.domain.repository.EventRepository;
@@ -13,8 +15,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -86,6 +90,75 @@ class GetEventsByTimeRangeUseCaseTest {
         verify(eventRepository).findByTimeRange(startTime, endTime);
     }
 
+    @Test
+    @DisplayName("시간 범위 이벤트를 하나씩 전달하고 전달한 수 반환")
+    void streamEventsByTimeRange() {
+        // given
+        doAnswer(invocation -> {
+            Consumer<AdEvent> consumer = invocation.getArgument(2);
+            events.forEach(consumer);
+            return null;
+        }).when(eventRepository).streamByTimeRange(eq(startTime), eq(endTime), any());
+
+        // when
+        List<AdEvent> received = new ArrayList<>();
+        long count = getEventsByTimeRangeUseCase.stream(startTime, endTime, received::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting(AdEvent::getId).containsExactly("event-1", "event-2");
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 많이 남아 있으면 다음 페이지 커서 반환")
+    void returnNextCursorWhenMoreEventsRemain() {
+        // given - limit 1 요청 시 한 건 더 조회
+        when(eventRepository.findByTimeRangeAfter(startTime, endTime, null, null, 2)).thenReturn(events);
+
+        // when
+        EventPage page = getEventsByTimeRangeUseCase.executePage(startTime, endTime, null, 1);
+
+        // then
+        assertThat(page.getEvents()).extracting(AdEvent::getId).containsExactly("event-1");
+        assertThat(page.getNextCursor()).isNotNull();
+
+        EventCursor cursor = EventCursor.decode(page.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo("event-1");
+        assertThat(cursor.getTimestamp()).isEqualTo(events.get(0).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("커서 이후 마지막 페이지 조회 시 다음 커서 없음")
+    void returnLastPageAfterCursor() {
+        // given
+        AdEvent first = events.get(0);
+        String cursor = EventCursor.after(first).encode();
+        when(eventRepository.findByTimeRangeAfter(startTime, endTime, first.getTimestamp(), "event-1", 11))
+            .thenReturn(List.of(events.get(1)));
+
+        // when
+        EventPage page = getEventsByTimeRangeUseCase.executePage(startTime, endTime, cursor, 10);
+
+        // then
+        assertThat(page.getEvents()).extracting(AdEvent::getId).containsExactly("event-2");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나거나 커서가 잘못되면 예외 발생")
+    void throwExceptionWhenInvalidPageRequest() {
+        // when & then
+        assertThatThrownBy(() -> getEventsByTimeRangeUseCase.executePage(startTime, endTime, null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getEventsByTimeRangeUseCase.executePage(
+                startTime, endTime, null, GetEventsByTimeRangeUseCase.MAX_PAGE_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getEventsByTimeRangeUseCase.executePage(startTime, endTime, "not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     @DisplayName("startTime이 null이면 예외 발생")
     void throwExceptionWhenStartTimeIsNull() {
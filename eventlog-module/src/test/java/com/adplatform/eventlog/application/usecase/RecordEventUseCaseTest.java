@@ -1,9 +1,15 @@
 package com.adplatform.eventlog.application.usecase;
 
+import com.adplatform.eventlog.application.dto.BulkEventResult;
 import com.adplatform.eventlog.application.dto.RecordEventCommand;
+import com.adplatform.eventlog.domain.exception.EventIngestOverloadedException;
+import com.adplatform.eventlog.domain.exception.InvalidImpressionTokenException;
 import com.adplatform.eventlog.domain.model.AdEvent;
 import com.adplatform.eventlog.domain.model.EventType;
 import com.adplatform.eventlog.domain.repository.EventRepository;
+import com.adplatform.eventlog.infrastructure.dedup.RecentEventIdFilter;
+import com.adplatform.eventlog.infrastructure.ingest.EventIngestPipeline;
+import com.adplatform.eventlog.infrastructure.token.ImpressionTokenVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,10 +19,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,15 @@ class RecordEventUseCaseTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ImpressionTokenVerifier impressionTokenVerifier;
+
+    @Mock
+    private EventIngestPipeline eventIngestPipeline;
+
+    @Mock
+    private RecentEventIdFilter recentEventIdFilter;
+
     @InjectMocks
     private RecordEventUseCase recordEventUseCase;
 
@@ -52,11 +69,11 @@ class RecordEventUseCaseTest {
     }
 
     @Test
-    @DisplayName("새 이벤트를 성공적으로 기록")
+    @DisplayName("최근에 본 적 없는 이벤트는 중복 확인 없이 INSERT 한 번으로 기록")
     void recordNewEventSuccessfully() {
         // given
-        when(eventRepository.existsById(command.getId())).thenReturn(false);
-        when(eventRepository.save(any(AdEvent.class))).thenReturn(event);
+        when(recentEventIdFilter.check(command.getId())).thenReturn(RecentEventIdFilter.Verdict.NEW);
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         AdEvent result = recordEventUseCase.execute(command);
@@ -64,14 +81,17 @@ class RecordEventUseCaseTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo("event-123");
-        verify(eventRepository).existsById(command.getId());
-        verify(eventRepository).save(any(AdEvent.class));
+        verify(eventRepository).saveAll(argThat(events -> events.size() == 1));
+        verify(eventRepository, never()).existsById(any());
+        verify(eventRepository, never()).findById(any());
+        verify(recentEventIdFilter).record("event-123");
     }
 
     @Test
     @DisplayName("중복 이벤트 기록 시 기존 이벤트 반환 (Idempotent)")
     void returnExistingEventWhenDuplicate() {
         // given
+        when(recentEventIdFilter.check(command.getId())).thenReturn(RecentEventIdFilter.Verdict.MAYBE_SEEN);
         when(eventRepository.existsById(command.getId())).thenReturn(true);
         when(eventRepository.findById(command.getId())).thenReturn(Optional.of(event));
 
@@ -83,7 +103,40 @@ class RecordEventUseCaseTest {
         assertThat(result.getId()).isEqualTo("event-123");
         verify(eventRepository).existsById(command.getId());
         verify(eventRepository).findById(command.getId());
-        verify(eventRepository, never()).save(any(AdEvent.class));
+        verify(eventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("필터에 기록된 ID는 존재 확인 없이 기존 이벤트 조회")
+    void returnExistingEventWhenRecentlySeen() {
+        // given
+        when(recentEventIdFilter.check(command.getId())).thenReturn(RecentEventIdFilter.Verdict.SEEN);
+        when(eventRepository.findById(command.getId())).thenReturn(Optional.of(event));
+
+        // when
+        AdEvent result = recordEventUseCase.execute(command);
+
+        // then
+        assertThat(result).isSameAs(event);
+        verify(eventRepository, never()).existsById(any());
+        verify(eventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("필터가 모르는 중복 이벤트는 PK 충돌로 판별하여 기존 이벤트 반환")
+    void returnExistingEventWhenInsertConflicts() {
+        // given - 다른 노드에서 이미 기록된 이벤트
+        when(recentEventIdFilter.check(command.getId())).thenReturn(RecentEventIdFilter.Verdict.NEW);
+        when(eventRepository.saveAll(anyList())).thenReturn(List.of());
+        when(eventRepository.findById(command.getId())).thenReturn(Optional.of(event));
+
+        // when
+        AdEvent result = recordEventUseCase.execute(command);
+
+        // then
+        assertThat(result).isSameAs(event);
+        verify(eventRepository, never()).existsById(any());
+        verify(recentEventIdFilter).record("event-123");
     }
 
     @Test
@@ -108,8 +161,8 @@ class RecordEventUseCaseTest {
             .impressionToken("impression-token-123")
             .build();
 
-        when(eventRepository.existsById(clickCommand.getId())).thenReturn(false);
-        when(eventRepository.save(any(AdEvent.class))).thenReturn(clickEvent);
+        when(recentEventIdFilter.check(clickCommand.getId())).thenReturn(RecentEventIdFilter.Verdict.NEW);
+        when(eventRepository.saveAll(anyList())).thenReturn(List.of(clickEvent));
 
         // when
         AdEvent result = recordEventUseCase.execute(clickCommand);
@@ -118,7 +171,141 @@ class RecordEventUseCaseTest {
         assertThat(result).isNotNull();
         assertThat(result.getEventType()).isEqualTo(EventType.CLICK);
         assertThat(result.getImpressionToken()).isEqualTo("impression-token-123");
-        verify(eventRepository).save(any(AdEvent.class));
+        verify(eventRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("노출 토큰 검증에 실패한 CLICK 이벤트는 저장소 조회 없이 거부")
+    void rejectClickEventWithInvalidImpressionToken() {
+        // given
+        RecordEventCommand clickCommand = RecordEventCommand.builder()
+            .id("event-click-123")
+            .eventType(EventType.CLICK)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .impressionToken("forged-token")
+            .build();
+
+        when(impressionTokenVerifier.verify("forged-token", "campaign-789", "ad-456"))
+            .thenThrow(InvalidImpressionTokenException.badSignature());
+
+        // when & then
+        assertThatThrownBy(() -> recordEventUseCase.execute(clickCommand))
+            .isInstanceOf(InvalidImpressionTokenException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("IMPRESSION 이벤트는 노출 토큰을 검증하지 않음")
+    void doNotVerifyTokenForImpression() {
+        // given
+        when(recentEventIdFilter.check(command.getId())).thenReturn(RecentEventIdFilter.Verdict.NEW);
+        when(eventRepository.saveAll(anyList())).thenReturn(List.of(event));
+
+        // when
+        recordEventUseCase.execute(command);
+
+        // then
+        verifyNoInteractions(impressionTokenVerifier);
+    }
+
+    @Test
+    @DisplayName("비동기 수집이 켜져 있으면 저장소 조회 없이 수집 파이프라인에 접수")
+    void submitToIngestPipelineWhenAsyncEnabled() {
+        // given
+        when(eventIngestPipeline.isEnabled()).thenReturn(true);
+
+        // when
+        AdEvent result = recordEventUseCase.execute(command);
+
+        // then
+        assertThat(result.getId()).isEqualTo("event-123");
+        assertThat(result.getEventType()).isEqualTo(EventType.IMPRESSION);
+        verify(eventIngestPipeline).submit(any(AdEvent.class));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("비동기 수집 버퍼가 가득 차면 예외 전파")
+    void propagateOverloadWhenIngestBufferFull() {
+        // given
+        when(eventIngestPipeline.isEnabled()).thenReturn(true);
+        doThrow(EventIngestOverloadedException.bufferFull(1))
+            .when(eventIngestPipeline).submit(any(AdEvent.class));
+
+        // when & then
+        assertThatThrownBy(() -> recordEventUseCase.execute(command))
+            .isInstanceOf(EventIngestOverloadedException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("일괄 기록 시 이벤트별로 저장/중복/거부 결과를 입력 순서대로 반환")
+    void recordBulkEventsWithPerEventStatus() {
+        // given
+        RecordEventCommand duplicate = RecordEventCommand.builder()
+            .id("event-dup")
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .build();
+        RecordEventCommand invalid = RecordEventCommand.builder()
+            .id("event-click-no-token")
+            .eventType(EventType.CLICK)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .build();
+
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AdEvent> events = invocation.getArgument(0);
+            return List.of(events.get(0));  // event-123만 새로 저장
+        });
+
+        // when
+        List<BulkEventResult> results = recordEventUseCase.executeBulk(List.of(command, invalid, duplicate));
+
+        // then
+        assertThat(results).extracting(BulkEventResult::getStatus).containsExactly(
+            BulkEventResult.Status.ACCEPTED,
+            BulkEventResult.Status.REJECTED,
+            BulkEventResult.Status.DUPLICATE
+        );
+        assertThat(results).extracting(BulkEventResult::getId)
+            .containsExactly("event-123", "event-click-no-token", "event-dup");
+        assertThat(results.get(1).getError()).contains("impressionToken");
+        verify(eventRepository).saveAll(argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    @DisplayName("일괄 기록 시 노출 토큰 검증에 실패한 이벤트만 거부")
+    void rejectOnlyForgedEventsInBulk() {
+        // given
+        RecordEventCommand forged = RecordEventCommand.builder()
+            .id("event-click-forged")
+            .eventType(EventType.CLICK)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .impressionToken("forged-token")
+            .build();
+
+        when(impressionTokenVerifier.verify("forged-token", "campaign-789", "ad-456"))
+            .thenThrow(InvalidImpressionTokenException.badSignature());
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<BulkEventResult> results = recordEventUseCase.executeBulk(List.of(forged, command));
+
+        // then
+        assertThat(results).extracting(BulkEventResult::getStatus).containsExactly(
+            BulkEventResult.Status.REJECTED,
+            BulkEventResult.Status.ACCEPTED
+        );
     }
 
     @Test
@@ -133,12 +320,10 @@ class RecordEventUseCaseTest {
             .timestamp(Instant.now())
             .build();
 
-        when(eventRepository.existsById(invalidCommand.getId())).thenReturn(false);
-
         // when & then
         assertThatThrownBy(() -> recordEventUseCase.execute(invalidCommand))
             .isInstanceOf(IllegalArgumentException.class);
 
-        verify(eventRepository, never()).save(any(AdEvent.class));
+        verifyNoInteractions(eventRepository);
     }
 }
@@ -0,0 +1,85 @@
+package com.adplatform.eventlog.infrastructure.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecentEventIdFilter 테스트")
+class RecentEventIdFilterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("기록하지 않은 ID는 NEW")
+    void unknownIdIsNew() {
+        // given
+        RecentEventIdFilter filter = createFilter(100);
+
+        // when & then
+        assertThat(filter.check("event-1")).isEqualTo(RecentEventIdFilter.Verdict.NEW);
+    }
+
+    @Test
+    @DisplayName("최근 기록한 ID는 LRU에서 SEEN, LRU에서 밀려나면 Bloom 필터로 MAYBE_SEEN")
+    void recentIdIsSeenThenMaybeSeen() {
+        // given
+        RecentEventIdFilter filter = createFilter(2);
+        filter.record("event-1");
+
+        // when & then
+        assertThat(filter.check("event-1")).isEqualTo(RecentEventIdFilter.Verdict.SEEN);
+
+        filter.record("event-2");
+        filter.record("event-3");
+        assertThat(filter.check("event-1")).isEqualTo(RecentEventIdFilter.Verdict.MAYBE_SEEN);
+    }
+
+    @Test
+    @DisplayName("기록한 ID는 한 창이 지나도 기억하고 두 창이 지나면 잊음")
+    void forgetIdsAfterTwoWindows() {
+        // given - LRU 크기 0으로 Bloom 필터만 확인
+        RecentEventIdFilter filter = createFilter(0);
+        filter.record("event-1");
+
+        // when & then
+        now.addAndGet(WINDOW.toMillis());
+        assertThat(filter.check("event-1")).isEqualTo(RecentEventIdFilter.Verdict.MAYBE_SEEN);
+
+        now.addAndGet(WINDOW.toMillis());
+        assertThat(filter.check("event-1")).isEqualTo(RecentEventIdFilter.Verdict.NEW);
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    void keepFalsePositiveRateNearConfigured() {
+        // given
+        RecentEventIdFilter filter = createFilter(0);
+        for (int i = 0; i < 10_000; i++) {
+            filter.record("event-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.check("other-" + i) != RecentEventIdFilter.Verdict.NEW) {
+                falsePositives++;
+            }
+        }
+
+        // then - 설정 1%, 여유를 두고 3% 미만
+        assertThat(falsePositives).isLessThan(300);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.check("event-" + i)).isNotEqualTo(RecentEventIdFilter.Verdict.NEW);
+        }
+    }
+
+    private RecentEventIdFilter createFilter(int lruSize) {
+        return new RecentEventIdFilter(WINDOW, 10_000, 0.01, lruSize, now::get);
+    }
+}
@@ -0,0 +1,217 @@
+package com.adplatform.eventlog.infrastructure.ingest;
+
+import com.adplatform.eventlog.domain.exception.EventIngestOverloadedException;
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
+import com.adplatform.eventlog.domain.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventIngestPipeline 테스트")
+class EventIngestPipelineTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @TempDir
+    Path walDir;
+
+    private EventIngestPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("접수된 이벤트를 writer가 일괄 저장하고 종료 시 남은 이벤트도 저장")
+    void saveSubmittedEventsInBatches() {
+        // given
+        List<AdEvent> saved = new CopyOnWriteArrayList<>();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AdEvent> events = invocation.getArgument(0);
+            saved.addAll(events);
+            return events;
+        });
+        pipeline = createPipeline(100, enabledWal());
+        pipeline.start();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            pipeline.submit(event("event-" + i));
+        }
+        pipeline.stop();
+
+        // then
+        assertThat(saved).extracting(AdEvent::getId)
+            .containsExactlyInAnyOrder("event-0", "event-1", "event-2", "event-3", "event-4",
+                "event-5", "event-6", "event-7", "event-8", "event-9");
+        assertThat(pipeline.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 EventIngestOverloadedException 발생")
+    void rejectWhenBufferFull() throws InterruptedException {
+        // given - writer가 첫 배치 저장 중에 멈춰 있는 상태
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        pipeline = createPipeline(1, enabledWal());
+        pipeline.start();
+
+        pipeline.submit(event("event-1"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        pipeline.submit(event("event-2"));
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.submit(event("event-3")))
+            .isInstanceOf(EventIngestOverloadedException.class);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("DB 연결 실패 시 같은 배치를 재시도")
+    void retryBatchOnTransientFailure() {
+        // given
+        when(eventRepository.saveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        pipeline = createPipeline(100, enabledWal());
+        pipeline.start();
+
+        // when
+        pipeline.submit(event("event-1"));
+
+        // then
+        verify(eventRepository, timeout(2000).times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("기동 시 WAL에 남은 이벤트를 재생하고 세그먼트 삭제")
+    void replayWriteAheadLogOnStart() throws Exception {
+        // given - 이전 프로세스가 커밋 전에 종료된 상태
+        EventWriteAheadLog previous = enabledWal();
+        previous.append(event("event-1"));
+        previous.append(event("event-2"));
+
+        List<AdEvent> saved = new CopyOnWriteArrayList<>();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AdEvent> events = invocation.getArgument(0);
+            saved.addAll(events);
+            return events;
+        });
+        pipeline = createPipeline(100, enabledWal());
+
+        // when
+        pipeline.start();
+        verify(eventRepository, timeout(2000)).saveAll(anyList());
+        pipeline.stop();
+
+        // then
+        assertThat(saved).extracting(AdEvent::getId).containsExactly("event-1", "event-2");
+        try (Stream<Path> files = Files.list(walDir)) {
+            assertThat(files.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("기동 시 DB에 저장할 수 없어도 기동을 막지 않고 재생하지 못한 WAL은 남김")
+    void keepWriteAheadLogWhenReplayFailsOnStart() throws Exception {
+        // given
+        EventWriteAheadLog previous = enabledWal();
+        previous.append(event("event-1"));
+        when(eventRepository.saveAll(anyList()))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        pipeline = createPipeline(100, enabledWal());
+
+        // when
+        pipeline.start();
+        pipeline.submit(event("event-2"));
+        verify(eventRepository, timeout(2000).atLeast(2)).saveAll(anyList());
+        pipeline.stop();
+
+        // then - 재생 중에는 새 이벤트를 저장하지 않음
+        verify(eventRepository, atLeast(2)).saveAll(argThat(events -> "event-1".equals(events.get(0).getId())));
+        try (Stream<Path> files = Files.list(walDir)) {
+            assertThat(files.count()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 수집이 꺼져 있으면 접수 불가")
+    void rejectSubmitWhenDisabled() {
+        // given
+        pipeline = new EventIngestPipeline(eventRepository, disabledWal(), false, 100, 10, 10);
+        pipeline.start();
+
+        // when & then
+        assertThat(pipeline.isEnabled()).isFalse();
+        assertThatThrownBy(() -> pipeline.submit(event("event-1")))
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("WAL 없이 비동기 수집을 켜면 기동 실패")
+    void requireWriteAheadLogWhenAsync() {
+        // given
+        pipeline = createPipeline(100, disabledWal());
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.start())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("WAL");
+        verifyNoInteractions(eventRepository);
+    }
+
+    private EventIngestPipeline createPipeline(int capacity, EventWriteAheadLog wal) {
+        return new EventIngestPipeline(eventRepository, wal, true, capacity, 10, 10);
+    }
+
+    private EventWriteAheadLog disabledWal() {
+        return new EventWriteAheadLog(new ObjectMapper(), false, walDir.toString(), 64 * 1024, false);
+    }
+
+    private EventWriteAheadLog enabledWal() {
+        return new EventWriteAheadLog(new ObjectMapper(), true, walDir.toString(), 64 * 1024, false);
+    }
+
+    private AdEvent event(String id) {
+        return AdEvent.builder()
+            .id(id)
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.adplatform.eventlog.infrastructure.ingest;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventWriteAheadLog 테스트")
+class EventWriteAheadLogTest {
+
+    @TempDir
+    Path walDir;
+
+    @Test
+    @DisplayName("기록된 이벤트를 다음 기동 시 그대로 복구")
+    void recoverAppendedEvents() {
+        // given
+        EventWriteAheadLog wal = createWal(64 * 1024);
+        wal.append(event("event-1", EventType.IMPRESSION, null));
+        wal.append(event("event-2", EventType.CLICK, "token-123"));
+
+        // when - 커밋되지 않은 상태로 재기동
+        List<AdEvent> recovered = createWal(64 * 1024).recover();
+
+        // then
+        assertThat(recovered).extracting(AdEvent::getId).containsExactly("event-1", "event-2");
+        assertThat(recovered.get(1).getImpressionToken()).isEqualTo("token-123");
+        assertThat(recovered.get(0).getMetadataValue("country")).isEqualTo("KR");
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 마지막 줄은 건너뛰고 복구")
+    void skipTornRecordOnRecover() throws IOException {
+        // given
+        EventWriteAheadLog wal = createWal(64 * 1024);
+        wal.append(event("event-1", EventType.IMPRESSION, null));
+        Path segment = segmentFiles().get(0);
+        Files.write(segment, "{\"id\":\"event-2\",\"eventT".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        // when
+        List<AdEvent> recovered = createWal(64 * 1024).recover();
+
+        // then
+        assertThat(recovered).extracting(AdEvent::getId).containsExactly("event-1");
+    }
+
+    @Test
+    @DisplayName("가득 찬 세그먼트는 모든 이벤트가 커밋되면 삭제")
+    void deleteSealedSegmentWhenAllReleased() {
+        // given - 세그먼트 크기를 1바이트로 두어 이벤트마다 세그먼트가 닫힘
+        EventWriteAheadLog wal = createWal(1);
+        EventWriteAheadLog.Segment first = wal.append(event("event-1", EventType.IMPRESSION, null));
+        EventWriteAheadLog.Segment second = wal.append(event("event-2", EventType.IMPRESSION, null));
+        assertThat(segmentFiles()).hasSize(2);
+
+        // when
+        wal.release(first);
+
+        // then
+        assertThat(segmentFiles()).hasSize(1);
+        wal.release(second);
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰는 중인 세그먼트는 모든 이벤트가 커밋되면 비움")
+    void truncateActiveSegmentWhenAllReleased() throws IOException {
+        // given
+        EventWriteAheadLog wal = createWal(64 * 1024);
+        EventWriteAheadLog.Segment segment = wal.append(event("event-1", EventType.IMPRESSION, null));
+
+        // when
+        wal.release(segment);
+
+        // then
+        assertThat(Files.size(segmentFiles().get(0))).isZero();
+        assertThat(createWal(64 * 1024).recover()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 파일을 만들지 않음")
+    void doNothingWhenDisabled() {
+        // given
+        EventWriteAheadLog wal = new EventWriteAheadLog(
+            new ObjectMapper(), false, walDir.toString(), 64 * 1024, false);
+
+        // when
+        EventWriteAheadLog.Segment segment = wal.append(event("event-1", EventType.IMPRESSION, null));
+
+        // then
+        assertThat(segment).isNull();
+        assertThat(segmentFiles()).isEmpty();
+        assertThat(wal.recover()).isEmpty();
+    }
+
+    private EventWriteAheadLog createWal(long segmentBytes) {
+        return new EventWriteAheadLog(new ObjectMapper(), true, walDir.toString(), segmentBytes, false);
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(walDir)) {
+            return files.sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AdEvent event(String id, EventType eventType, String impressionToken) {
+        return AdEvent.builder()
+            .id(id)
+            .eventType(eventType)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .metadata(Map.of("country", "KR"))
+            .impressionToken(impressionToken)
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.adplatform.eventlog.infrastructure.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventPartitionManager 테스트")
+class EventPartitionManagerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("어제부터 precreate-days 이후까지 이벤트와 등록 ID의 일별 파티션 생성")
+    void createDailyPartitionsAhead() {
+        // given
+        givenPartitioned(true);
+        EventPartitionManager manager = new EventPartitionManager(jdbcTemplate, 2, 0, true, CLOCK);
+
+        // when
+        manager.maintain();
+
+        // then
+        List<String> statements = executedStatements();
+        assertThat(statements).hasSize(8);  // 10/16 ~ 10/19, 테이블 2개
+        assertThat(statements).contains(
+            "CREATE TABLE IF NOT EXISTS ad_events_p20261016 PARTITION OF ad_events "
+                + "FOR VALUES FROM ('2026-10-16T00:00:00Z') TO ('2026-10-17T00:00:00Z')",
+            "CREATE TABLE IF NOT EXISTS ad_events_p20261019 PARTITION OF ad_events "
+                + "FOR VALUES FROM ('2026-10-19T00:00:00Z') TO ('2026-10-20T00:00:00Z')",
+            "CREATE TABLE IF NOT EXISTS ad_event_ids_p20261016 PARTITION OF ad_event_ids "
+                + "FOR VALUES FROM ('2026-10-16') TO ('2026-10-17')"
+        );
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 일별 파티션만 분리 후 삭제 (등록 ID도 DELETE 없이 파티션째 삭제)")
+    void detachAndDropExpiredPartitions() {
+        // given - 보관 30일이면 2026-09-17 이전 파티션 만료
+        givenPartitioned(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("ad_events"))).thenReturn(List.of(
+            "ad_events_default", "ad_events_p20260901", "ad_events_p20260916", "ad_events_p20260917"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("ad_event_ids"))).thenReturn(List.of(
+            "ad_event_ids_default", "ad_event_ids_p20260916", "ad_event_ids_p20260917"));
+        EventPartitionManager manager = new EventPartitionManager(jdbcTemplate, 0, 30, true, CLOCK);
+
+        // when
+        manager.maintain();
+
+        // then
+        List<String> statements = executedStatements();
+        assertThat(statements).filteredOn(sql -> !sql.startsWith("CREATE")).containsExactly(
+            "ALTER TABLE ad_events DETACH PARTITION ad_events_p20260901",
+            "DROP TABLE ad_events_p20260901",
+            "ALTER TABLE ad_events DETACH PARTITION ad_events_p20260916",
+            "DROP TABLE ad_events_p20260916",
+            "ALTER TABLE ad_event_ids DETACH PARTITION ad_event_ids_p20260916",
+            "DROP TABLE ad_event_ids_p20260916"
+        );
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("drop-expired가 false면 분리만 수행")
+    void onlyDetachWhenDropDisabled() {
+        // given
+        givenPartitioned(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("ad_events")))
+            .thenReturn(List.of("ad_events_p20260901"));
+        EventPartitionManager manager = new EventPartitionManager(jdbcTemplate, 0, 30, false, CLOCK);
+
+        // when
+        manager.maintain();
+
+        // then
+        assertThat(executedStatements()).filteredOn(sql -> !sql.startsWith("CREATE"))
+            .containsExactly("ALTER TABLE ad_events DETACH PARTITION ad_events_p20260901");
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 아무 작업도 하지 않음")
+    void doNothingWhenTableIsNotPartitioned() {
+        // given
+        givenPartitioned(false);
+        EventPartitionManager manager = new EventPartitionManager(jdbcTemplate, 7, 30, true, CLOCK);
+
+        // when
+        manager.maintain();
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void givenPartitioned(boolean partitioned) {
+        lenient().when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), anyString()))
+            .thenReturn(partitioned ? 1 : 0);
+    }
+
+    private List<String> executedStatements() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(captor.capture());
+        return captor.getAllValues();
+    }
+}
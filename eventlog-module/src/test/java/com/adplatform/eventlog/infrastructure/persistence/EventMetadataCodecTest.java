@@ -0,0 +1,104 @@
+package com.adplatform.eventlog.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventMetadataCodec 테스트")
+class EventMetadataCodecTest {
+
+    @Test
+    @DisplayName("사전에 있는 키는 코드로, 나머지 키는 그대로 인코딩 후 복원")
+    void encodeDictionaryKeysAsCodes() {
+        // given
+        EventMetadataCodec codec = new EventMetadataCodec(List.of());
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("country", "KR");
+        metadata.put("userAgent", "Mozilla/5.0");
+        metadata.put("campaignTag", "spring-sale");
+
+        // when
+        String encoded = codec.encode(metadata);
+
+        // then
+        assertThat(encoded).contains("\"#0\":\"KR\"", "\"#4\":\"Mozilla/5.0\"", "\"campaignTag\":\"spring-sale\"");
+        assertThat(encoded).doesNotContain("country", "userAgent");
+        assertThat(codec.decode(encoded)).isEqualTo(metadata);
+    }
+
+    @Test
+    @DisplayName("'#'로 시작하는 원래 키는 코드와 구분되도록 이스케이프")
+    void escapeKeysStartingWithCodePrefix() {
+        // given
+        EventMetadataCodec codec = new EventMetadataCodec(List.of());
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("#0", "literal");
+        metadata.put("#tag", "value");
+
+        // when
+        String encoded = codec.encode(metadata);
+
+        // then
+        assertThat(encoded).contains("\"##0\":\"literal\"", "\"##tag\":\"value\"");
+        assertThat(codec.decode(encoded)).isEqualTo(metadata);
+    }
+
+    @Test
+    @DisplayName("빈 문자열 키도 그대로 인코딩 후 복원")
+    void encodeEmptyKey() {
+        // given
+        EventMetadataCodec codec = new EventMetadataCodec(List.of());
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("", "value");
+
+        // when
+        String encoded = codec.encode(metadata);
+
+        // then
+        assertThat(encoded).isEqualTo("{\"\":\"value\"}");
+        assertThat(codec.decode(encoded)).isEqualTo(metadata);
+    }
+
+    @Test
+    @DisplayName("빈 메타데이터는 null로 저장하고 빈 맵으로 복원")
+    void encodeEmptyMetadataAsNull() {
+        // given
+        EventMetadataCodec codec = new EventMetadataCodec(List.of());
+
+        // when & then
+        assertThat(codec.encode(Map.of())).isNull();
+        assertThat(codec.decode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("승격된 키는 인코딩에서 빠지고 전용 컬럼 이름을 가짐")
+    void excludePromotedKeys() {
+        // given
+        EventMetadataCodec codec = new EventMetadataCodec(List.of("country", "placementId"));
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("country", "KR");
+        metadata.put("device", "mobile");
+
+        // when
+        String encoded = codec.encode(metadata);
+
+        // then
+        assertThat(codec.getPromotedColumns())
+            .containsEntry("country", "meta_country")
+            .containsEntry("placementId", "meta_placement_id");
+        assertThat(codec.decode(encoded)).containsOnlyKeys("device");
+        assertThat(codec.encode(Map.of("country", "KR"))).isNull();
+    }
+
+    @Test
+    @DisplayName("컬럼 이름으로 쓸 수 없는 키는 승격 불가")
+    void rejectInvalidPromotedKey() {
+        assertThatThrownBy(() -> new EventMetadataCodec(List.of("country; DROP TABLE ad_events")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
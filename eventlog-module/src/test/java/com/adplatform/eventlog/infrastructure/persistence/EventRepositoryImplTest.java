@@ -1,25 +1,34 @@
 package com.adplatform.eventlog.infrastructure.persistence;
 
 import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
 import com.adplatform.eventlog.domain.model.EventType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @DataJpaTest
-@Import(EventRepositoryImpl.class)
+@Import({EventRepositoryImpl.class, EventMetadataCodec.class})
 @ActiveProfiles("test")
 @DisplayName("EventRepositoryImpl 통합 테스트")
 class EventRepositoryImplTest {
@@ -27,6 +36,18 @@ class EventRepositoryImplTest {
     @Autowired
     private EventRepositoryImpl eventRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdEventJpaRepository jpaRepository;
+
+    @Autowired
+    private EventMetadataCodec metadataCodec;
+
     @Test
     @DisplayName("이벤트 저장 및 조회 성공")
     void saveAndFindEvent() {
@@ -150,6 +171,7 @@ class EventRepositoryImplTest {
         eventRepository.save(event1);
         eventRepository.save(event2);
         eventRepository.save(eventOutside);
+        entityManager.flush();  // 시간 범위 조회는 JDBC로 수행
 
         // when
         List<AdEvent> events = eventRepository.findByTimeRange(startTime, endTime);
@@ -160,6 +182,53 @@ class EventRepositoryImplTest {
             .containsExactlyInAnyOrder("event-time-1", "event-time-2");
     }
 
+    @Test
+    @DisplayName("시간 범위 keyset 페이지 조회 - (timestamp, id) 순, 메타데이터 포함")
+    void findEventPagesByTimeRange() {
+        // given - event-page-2/3은 timestamp가 같아 ID로 순서 결정
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        eventRepository.saveAll(List.of(
+            pageEvent("event-page-3", base.plusSeconds(20), Map.of("country", "KR")),
+            pageEvent("event-page-1", base.plusSeconds(10), Map.of("country", "US", "device", "mobile")),
+            pageEvent("event-page-2", base.plusSeconds(20), Map.of()),
+            pageEvent("event-page-4", base.plusSeconds(30), Map.of())
+        ));
+
+        // when
+        List<AdEvent> firstPage = eventRepository.findByTimeRangeAfter(
+            base, base.plusSeconds(60), null, null, 2);
+        AdEvent last = firstPage.get(firstPage.size() - 1);
+        List<AdEvent> secondPage = eventRepository.findByTimeRangeAfter(
+            base, base.plusSeconds(60), last.getTimestamp(), last.getId(), 2);
+
+        // then
+        assertThat(firstPage).extracting(AdEvent::getId).containsExactly("event-page-1", "event-page-2");
+        assertThat(firstPage.get(0).getMetadata()).containsEntry("country", "US").containsEntry("device", "mobile");
+        assertThat(secondPage).extracting(AdEvent::getId).containsExactly("event-page-3", "event-page-4");
+        assertThat(secondPage.get(0).getMetadataValue("country")).isEqualTo("KR");
+    }
+
+    @Test
+    @DisplayName("시간 범위 이벤트를 순서대로 하나씩 전달")
+    void streamEventsByTimeRange() {
+        // given
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        eventRepository.saveAll(List.of(
+            pageEvent("event-stream-2", base.plusSeconds(20), Map.of("country", "KR")),
+            pageEvent("event-stream-1", base.plusSeconds(10), Map.of("country", "US", "device", "mobile")),
+            pageEvent("event-stream-outside", base.minusSeconds(10), Map.of())
+        ));
+
+        // when
+        List<AdEvent> streamed = new ArrayList<>();
+        eventRepository.streamByTimeRange(base, base.plusSeconds(60), streamed::add);
+
+        // then
+        assertThat(streamed).extracting(AdEvent::getId).containsExactly("event-stream-1", "event-stream-2");
+        assertThat(streamed.get(0).getMetadata()).hasSize(2);
+        assertThat(streamed.get(1).getMetadata()).containsOnlyKeys("country");
+    }
+
     @Test
     @DisplayName("존재 여부 확인")
     void checkExistenceById() {
@@ -240,4 +309,199 @@ class EventRepositoryImplTest {
         assertThat(foundEvent.getImpressionToken()).isEqualTo("impression-token-404");
         assertThat(foundEvent.getMetadata()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("일괄 저장 시 이미 존재하는 ID는 건너뛰고 새 이벤트만 저장")
+    void saveAllSkipsExistingEvents() {
+        // given
+        AdEvent existing = AdEvent.builder()
+            .id("event-batch-1")
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .build();
+        eventRepository.saveAll(List.of(existing));
+
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("country", "KR");
+
+        AdEvent newEvent = AdEvent.builder()
+            .id("event-batch-2")
+            .eventType(EventType.CLICK)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .metadata(metadata)
+            .impressionToken("token-123")
+            .build();
+
+        // when
+        List<AdEvent> inserted = eventRepository.saveAll(List.of(existing, newEvent));
+
+        // then
+        assertThat(inserted).extracting(AdEvent::getId).containsExactly("event-batch-2");
+        assertThat(eventRepository.existsById("event-batch-1")).isTrue();
+
+        Optional<AdEvent> found = eventRepository.findById("event-batch-2");
+        assertThat(found).isPresent();
+        assertThat(found.get().getEventType()).isEqualTo(EventType.CLICK);
+        assertThat(found.get().getImpressionToken()).isEqualTo("token-123");
+        assertThat(found.get().getMetadataValue("country")).isEqualTo("KR");
+    }
+
+    @Test
+    @DisplayName("메타데이터는 별도 테이블 없이 이벤트 행에 인코딩되어 저장")
+    void storeMetadataInlineWithEventRow() {
+        // given
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("country", "KR");
+        metadata.put("campaignTag", "spring-sale");
+
+        AdEvent event = AdEvent.builder()
+            .id("event-inline-1")
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-456")
+            .campaignId("campaign-789")
+            .timestamp(Instant.now())
+            .metadata(metadata)
+            .build();
+
+        // when
+        eventRepository.saveAll(List.of(event));
+
+        // then
+        String stored = jdbcTemplate.queryForObject(
+            "SELECT metadata FROM ad_events WHERE id = ?", String.class, "event-inline-1");
+        assertThat(stored).contains("\"#0\":\"KR\"").contains("\"campaignTag\":\"spring-sale\"");
+        assertThat(eventRepository.findById("event-inline-1").get().getMetadata())
+            .containsEntry("country", "KR")
+            .containsEntry("campaignTag", "spring-sale");
+    }
+
+    @Test
+    @DisplayName("저장 순서대로 증가하는 피드 offset 부여, 중복 이벤트는 피드에 다시 나타나지 않음")
+    void assignIncreasingFeedOffsets() {
+        // given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        eventRepository.saveAll(List.of(
+            pageEvent("event-feed-1", now, Map.of()),
+            pageEvent("event-feed-2", now.minusSeconds(60), Map.of())));
+        eventRepository.saveAll(List.of(
+            pageEvent("event-feed-1", now, Map.of()),
+            pageEvent("event-feed-3", now.minusSeconds(120), Map.of())));
+
+        Long firstOffset = jdbcTemplate.queryForObject(
+            "SELECT feed_offset FROM ad_events WHERE id = ?", Long.class, "event-feed-1");
+
+        // when
+        List<EventFeedEntry> feed = eventRepository.findFeedFrom(firstOffset, 10);
+
+        // then
+        assertThat(feed).extracting(entry -> entry.getEvent().getId())
+            .containsExactly("event-feed-1", "event-feed-2", "event-feed-3");
+        assertThat(feed).extracting(EventFeedEntry::getOffset).isSorted().doesNotHaveDuplicates();
+        assertThat(eventRepository.findFeedFrom(feed.get(2).getOffset() + 1, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("피드는 visibility-lag 이상 전에 관측한 offset까지만 조회 (늦게 커밋되는 작은 offset을 건너뛰지 않음)")
+    void serveFeedOnlyUpToVisibilityWatermark() {
+        // given - 조회 시각 0s, 1s, 2.5s, 3.5s
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 1000L, 2500L, 3500L);
+        EventRepositoryImpl laggingRepository = new EventRepositoryImpl(
+            jpaRepository, jdbcTemplate, metadataCodec, false, "jdbc", true, Duration.ofSeconds(2), clock);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        laggingRepository.saveAll(List.of(pageEvent("event-lag-1", now, Map.of())));
+        long firstOffset = jdbcTemplate.queryForObject(
+            "SELECT feed_offset FROM ad_events WHERE id = ?", Long.class, "event-lag-1");
+
+        // when
+        List<EventFeedEntry> atStart = laggingRepository.findFeedFrom(firstOffset, 10);
+        laggingRepository.saveAll(List.of(pageEvent("event-lag-2", now, Map.of())));
+        List<EventFeedEntry> beforeLag = laggingRepository.findFeedFrom(firstOffset, 10);
+        List<EventFeedEntry> afterFirstLag = laggingRepository.findFeedFrom(firstOffset, 10);
+        List<EventFeedEntry> afterSecondLag = laggingRepository.findFeedFrom(firstOffset, 10);
+
+        // then - 관측 시점에 보인 offset까지만 lag이 지난 뒤 조회
+        assertThat(atStart).isEmpty();
+        assertThat(beforeLag).isEmpty();
+        assertThat(afterFirstLag).extracting(entry -> entry.getEvent().getId()).containsExactly("event-lag-1");
+        assertThat(afterSecondLag).extracting(entry -> entry.getEvent().getId())
+            .containsExactly("event-lag-1", "event-lag-2");
+    }
+
+    @Test
+    @DisplayName("ID 등록을 사용하면 timestamp나 날짜가 다른 재전송과 이미 등록된 ID는 저장하지 않음")
+    void claimEventIdsBeforeInsert() {
+        // given - 파티션 스키마의 ID 등록 테이블
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ad_event_ids "
+            + "(id VARCHAR(255) NOT NULL, claim_date DATE NOT NULL, PRIMARY KEY (id, claim_date))");
+        EventRepositoryImpl claimingRepository =
+            new EventRepositoryImpl(jpaRepository, jdbcTemplate, metadataCodec, true, "jdbc", true, Duration.ZERO);
+        Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("INSERT INTO ad_event_ids (id, claim_date) VALUES (?, ?)",
+            "event-claimed", yesterday.atOffset(ZoneOffset.UTC).toLocalDate());
+
+        // when
+        List<AdEvent> first = claimingRepository.saveAll(List.of(
+            pageEvent("event-claim-1", yesterday, Map.of()),
+            pageEvent("event-claimed", yesterday, Map.of())));
+        List<AdEvent> resent = claimingRepository.saveAll(List.of(
+            pageEvent("event-claim-1", yesterday.plusSeconds(5), Map.of())));
+        List<AdEvent> resentNextDay = claimingRepository.saveAll(List.of(
+            pageEvent("event-claim-1", yesterday.plus(1, ChronoUnit.DAYS), Map.of())));
+
+        // then
+        assertThat(first).extracting(AdEvent::getId).containsExactly("event-claim-1");
+        assertThat(resent).isEmpty();
+        assertThat(resentNextDay).isEmpty();
+        assertThat(eventRepository.findById("event-claim-1").get().getTimestamp()).isEqualTo(yesterday);
+        assertThat(eventRepository.existsById("event-claimed")).isFalse();
+    }
+
+    @Test
+    @DisplayName("ID 목록 중 이미 저장된 ID만 조회")
+    void findExistingIds() {
+        // given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        eventRepository.saveAll(List.of(
+            pageEvent("event-existing-1", now, Map.of()),
+            pageEvent("event-existing-2", now, Map.of())));
+
+        // when
+        Set<String> existing = eventRepository.findExistingIds(
+            List.of("event-existing-1", "event-missing", "event-existing-2", "event-existing-1"));
+
+        // then
+        assertThat(existing).containsExactlyInAnyOrder("event-existing-1", "event-existing-2");
+    }
+
+    @Test
+    @DisplayName("segment 저장소에서 roll-to-jdbc를 끄면 기동 시 DB를 조회하지 않음")
+    void skipSchemaSetupWithoutDatabase() {
+        // given
+        JdbcTemplate unusedJdbcTemplate = mock(JdbcTemplate.class);
+        EventRepositoryImpl segmentOnlyRepository =
+            new EventRepositoryImpl(jpaRepository, unusedJdbcTemplate, metadataCodec, false, "segment", false, Duration.ZERO);
+
+        // when
+        segmentOnlyRepository.ensurePromotedColumns();
+        segmentOnlyRepository.ensureFeedSequence();
+
+        // then
+        verifyNoInteractions(unusedJdbcTemplate);
+    }
+
+    private AdEvent pageEvent(String id, Instant timestamp, Map<String, String> metadata) {
+        return AdEvent.builder()
+            .id(id)
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-page")
+            .campaignId("campaign-789")
+            .timestamp(timestamp)
+            .metadata(metadata)
+            .build();
+    }
 }
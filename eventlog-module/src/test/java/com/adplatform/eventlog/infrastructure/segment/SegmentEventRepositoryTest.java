@@ -0,0 +1,323 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventFeedEntry;
+import com.adplatform.eventlog.domain.model.EventType;
+import com.adplatform.eventlog.infrastructure.persistence.EventRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SegmentEventRepository 테스트")
+class SegmentEventRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-15T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("이벤트 저장 후 ID로 조회")
+    void saveAndFindById() {
+        // given
+        SegmentEventRepository repository = newRepository(1 << 20);
+        AdEvent event = event("event-1", "ad-1", BASE, Map.of("country", "KR"));
+
+        // when
+        repository.save(event);
+
+        // then
+        AdEvent found = repository.findById("event-1").orElseThrow();
+        assertThat(found.getAdId()).isEqualTo("ad-1");
+        assertThat(found.getTimestamp()).isEqualTo(BASE);
+        assertThat(found.getMetadataValue("country")).isEqualTo("KR");
+        assertThat(repository.existsById("event-1")).isTrue();
+        assertThat(repository.findById("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 ID와 배치 안의 중복 ID는 건너뜀")
+    void skipDuplicateIds() {
+        // given
+        SegmentEventRepository repository = newRepository(1 << 20);
+        repository.saveAll(List.of(event("event-1", "ad-1", BASE, Map.of())));
+
+        // when
+        List<AdEvent> inserted = repository.saveAll(List.of(
+            event("event-1", "ad-1", BASE, Map.of()),
+            event("event-2", "ad-1", BASE, Map.of()),
+            event("event-2", "ad-1", BASE, Map.of())));
+
+        // then
+        assertThat(inserted).extracting(AdEvent::getId).containsExactly("event-2");
+        assertThat(repository.findByAdId("ad-1")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 세그먼트에 걸친 시간 범위 조회는 (timestamp, id) 순으로 병합")
+    void streamTimeRangeAcrossSegmentsInOrder() {
+        // given - 작은 세그먼트로 여러 번 교체, 늦게 도착한 이벤트 포함
+        SegmentEventRepository repository = newRepository(1024);
+        List<AdEvent> events = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            events.add(event("event-" + i, "ad-" + (i % 3), BASE.plusSeconds(i), Map.of()));
+        }
+        events.add(event("event-late", "ad-0", BASE.plusSeconds(5), Map.of()));
+        repository.saveAll(events);
+
+        // when
+        List<AdEvent> streamed = new ArrayList<>();
+        repository.streamByTimeRange(BASE.plusSeconds(4), BASE.plusSeconds(10), streamed::add);
+
+        // then
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(streamed).extracting(AdEvent::getId).containsExactly(
+            "event-4", "event-5", "event-late", "event-6", "event-7", "event-8", "event-9", "event-10");
+    }
+
+    @Test
+    @DisplayName("keyset 페이지는 이전 페이지 마지막 키 다음부터 limit개 조회")
+    void findPageAfterKey() {
+        // given
+        SegmentEventRepository repository = newRepository(1024);
+        List<AdEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(event("event-" + i, "ad-1", BASE.plusSeconds(i), Map.of()));
+        }
+        repository.saveAll(events);
+
+        // when
+        List<AdEvent> firstPage = repository.findByTimeRangeAfter(BASE, BASE.plusSeconds(60), null, null, 4);
+        AdEvent last = firstPage.get(firstPage.size() - 1);
+        List<AdEvent> secondPage = repository.findByTimeRangeAfter(
+            BASE, BASE.plusSeconds(60), last.getTimestamp(), last.getId(), 4);
+
+        // then
+        assertThat(firstPage).extracting(AdEvent::getId).containsExactly("event-0", "event-1", "event-2", "event-3");
+        assertThat(secondPage).extracting(AdEvent::getId).containsExactly("event-4", "event-5", "event-6", "event-7");
+    }
+
+    @Test
+    @DisplayName("재기동 시 세그먼트를 다시 읽고 기록 중 끊긴 꼬리는 버림")
+    void reopenSegmentsAndDropTornTail() throws IOException {
+        // given
+        SegmentEventRepository repository = newRepository(1 << 20);
+        repository.saveAll(List.of(
+            event("event-1", "ad-1", BASE, Map.of()),
+            event("event-2", "ad-2", BASE.plusSeconds(1), Map.of())));
+        repository.close();
+
+        Path segment = segmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // when
+        SegmentEventRepository reopened = newRepository(1 << 20);
+        reopened.save(event("event-3", "ad-3", BASE.plusSeconds(2), Map.of()));
+
+        // then
+        assertThat(reopened.findById("event-1")).isPresent();
+        assertThat(reopened.findById("event-2")).isEmpty();
+        assertThat(reopened.findByTimeRange(BASE, BASE.plusSeconds(60)))
+            .extracting(AdEvent::getId)
+            .containsExactly("event-1", "event-3");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 세그먼트는 Postgres로 옮긴 뒤에만 삭제")
+    void deleteExpiredSegmentsOnlyAfterRolled() {
+        // given
+        SegmentEventRepository repository = newRepository(1 << 20);
+        repository.save(event("event-1", "ad-1", BASE, Map.of()));
+        repository.sealActiveSegment();
+        Instant cutoff = BASE.plusSeconds(3600);
+
+        // when & then
+        assertThat(repository.deleteExpired(cutoff, true)).isZero();
+
+        repository.unrolledSegments().forEach(segment -> repository.markRolled(segment, segment.getCount()));
+        assertThat(repository.deleteExpired(cutoff, true)).isEqualTo(1);
+        assertThat(repository.findById("event-1")).isEmpty();
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 세그먼트의 이벤트는 Postgres에서 조회하고, 그 재전송은 다시 저장하지 않음")
+    void fallBackToPostgresForDeletedSegmentIds() {
+        // given
+        EventRepositoryImpl jdbcRepository = mock(EventRepositoryImpl.class);
+        SegmentEventRepository repository = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, jdbcRepository);
+        AdEvent expired = event("event-1", "ad-1", BASE, Map.of());
+        repository.save(expired);
+        deleteAfterRolling(repository, BASE.plusSeconds(3600));
+        when(jdbcRepository.findExistingIds(anyCollection())).thenReturn(Set.of("event-1"));
+        when(jdbcRepository.findById("event-1")).thenReturn(Optional.of(expired));
+        when(jdbcRepository.existsById("event-1")).thenReturn(true);
+
+        // when
+        List<AdEvent> inserted = repository.saveAll(List.of(
+            event("event-1", "ad-1", BASE, Map.of()),
+            event("event-2", "ad-1", BASE.plusSeconds(1), Map.of())));
+
+        // then
+        assertThat(inserted).extracting(AdEvent::getId).containsExactly("event-2");
+        assertThat(repository.findById("event-1")).contains(expired);
+        assertThat(repository.existsById("event-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제된 세그먼트와 겹치는 시간 범위는 Postgres와 아직 옮기지 않은 세그먼트를 합쳐 조회 (재기동 후에도)")
+    void readDeletedTimeRangeFromPostgres() {
+        // given - event-old는 옮긴 뒤 삭제, event-late는 삭제 범위 안의 timestamp로 늦게 도착해 아직 옮기지 않음
+        EventRepositoryImpl jdbcRepository = mock(EventRepositoryImpl.class);
+        SegmentEventRepository repository = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, jdbcRepository);
+        AdEvent old = event("event-old", "ad-1", BASE, Map.of());
+        repository.save(old);
+        deleteAfterRolling(repository, BASE.plusSeconds(3600));
+        repository.saveAll(List.of(
+            event("event-late", "ad-1", BASE.minusSeconds(10), Map.of()),
+            event("event-new", "ad-1", BASE.plusSeconds(10), Map.of())));
+        doAnswer(invocation -> {
+            invocation.<Consumer<AdEvent>>getArgument(2).accept(old);
+            return null;
+        }).when(jdbcRepository).streamByTimeRange(any(), eq(BASE), any());
+        when(jdbcRepository.findByTimeRangeAfter(any(), eq(BASE), any(), any(), anyInt()))
+            .thenAnswer(invocation -> invocation.getArgument(2) == null ? List.of(old) : List.of());
+        repository.close();
+        SegmentEventRepository reopened = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, jdbcRepository);
+
+        // when
+        List<AdEvent> all = reopened.findByTimeRange(BASE.minusSeconds(60), BASE.plusSeconds(60));
+        List<AdEvent> firstPage = reopened.findByTimeRangeAfter(BASE.minusSeconds(60), BASE.plusSeconds(60), null, null, 2);
+        List<AdEvent> secondPage = reopened.findByTimeRangeAfter(
+            BASE.minusSeconds(60), BASE.plusSeconds(60), BASE, "event-old", 2);
+
+        // then
+        assertThat(all).extracting(AdEvent::getId).containsExactly("event-late", "event-old", "event-new");
+        assertThat(firstPage).extracting(AdEvent::getId).containsExactly("event-late", "event-old");
+        assertThat(secondPage).extracting(AdEvent::getId).containsExactly("event-new");
+    }
+
+    @Test
+    @DisplayName("봉인하면 덜 찬 세그먼트의 필터를 레코드 수 크기로 다시 만듦")
+    void shrinkFiltersToRecordCountOnSeal() {
+        // given - 이벤트 1000개 기준 필터에 2개만 기록
+        SegmentEventRepository repository = newRepository(1 << 20);
+        repository.saveAll(List.of(
+            event("event-1", "ad-1", BASE, Map.of()),
+            event("event-2", "ad-2", BASE, Map.of())));
+        EventSegment segment = repository.unrolledSegments().get(0);
+        long activeFilterBytes = segment.filterBytes();
+
+        // when
+        repository.sealActiveSegment();
+
+        // then
+        assertThat(segment.filterBytes()).isLessThan(activeFilterBytes / 10);
+        assertThat(repository.findById("event-2")).isPresent();
+        assertThat(repository.findByAdId("ad-1")).extracting(AdEvent::getId).containsExactly("event-1");
+        assertThat(repository.existsById("event-3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("피드는 여러 세그먼트에 걸쳐 기록 순서대로 offset 이어 읽기")
+    void readFeedAcrossSegmentsInWriteOrder() {
+        // given - 인덱스 블록(128개)을 넘도록 여러 세그먼트에 기록, timestamp 순서와 기록 순서가 다름
+        SegmentEventRepository repository = newRepository(16 * 1024);
+        List<AdEvent> events = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            events.add(event("event-" + i, "ad-1", BASE.plusSeconds(400 - i), Map.of()));
+        }
+        repository.saveAll(events);
+
+        // when
+        List<EventFeedEntry> read = new ArrayList<>();
+        long fromOffset = 0;
+        List<EventFeedEntry> batch;
+        while (!(batch = repository.findFeedFrom(fromOffset, 37)).isEmpty()) {
+            read.addAll(batch);
+            fromOffset = batch.get(batch.size() - 1).getOffset() + 1;
+        }
+
+        // then
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(read).extracting(entry -> entry.getEvent().getId())
+            .containsExactlyElementsOf(events.stream().map(AdEvent::getId).collect(Collectors.toList()));
+        assertThat(read).extracting(EventFeedEntry::getOffset).isSorted().doesNotHaveDuplicates();
+        assertThat(repository.findFeedFrom(read.get(200).getOffset(), 1))
+            .extracting(entry -> entry.getEvent().getId())
+            .containsExactly("event-200");
+    }
+
+    @Test
+    @DisplayName("세그먼트가 모두 삭제된 뒤 재기동해도 피드 offset은 줄어들지 않음")
+    void keepFeedOffsetsIncreasingAfterSegmentsDeleted() {
+        // given
+        SegmentEventRepository repository = newRepository(1 << 20);
+        repository.save(event("event-1", "ad-1", BASE, Map.of()));
+        long lastOffset = repository.findFeedFrom(0, 10).get(0).getOffset();
+        repository.sealActiveSegment();
+        repository.deleteExpired(BASE.plusSeconds(3600), false);
+        repository.close();
+
+        // when
+        SegmentEventRepository reopened = newRepository(1 << 20);
+        reopened.save(event("event-2", "ad-1", BASE.plusSeconds(1), Map.of()));
+
+        // then
+        List<EventFeedEntry> feed = reopened.findFeedFrom(lastOffset + 1, 10);
+        assertThat(feed).extracting(entry -> entry.getEvent().getId()).containsExactly("event-2");
+    }
+
+    private void deleteAfterRolling(SegmentEventRepository repository, Instant cutoff) {
+        repository.sealActiveSegment();
+        repository.unrolledSegments().forEach(segment -> repository.markRolled(segment, segment.getCount()));
+        assertThat(repository.deleteExpired(cutoff, true)).isEqualTo(1);
+    }
+
+    private SegmentEventRepository newRepository(int segmentBytes) {
+        return new SegmentEventRepository(directory.toString(), segmentBytes, 1000, null);
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().endsWith(EventSegment.FILE_SUFFIX))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AdEvent event(String id, String adId, Instant timestamp, Map<String, String> metadata) {
+        return AdEvent.builder()
+            .id(id)
+            .eventType(EventType.IMPRESSION)
+            .adId(adId)
+            .campaignId("campaign-1")
+            .timestamp(timestamp)
+            .metadata(metadata)
+            .build();
+    }
+}
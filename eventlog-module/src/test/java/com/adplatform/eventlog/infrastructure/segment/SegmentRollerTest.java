@@ -0,0 +1,111 @@
+package com.adplatform.eventlog.infrastructure.segment;
+
+import com.adplatform.eventlog.domain.model.AdEvent;
+import com.adplatform.eventlog.domain.model.EventType;
+import com.adplatform.eventlog.infrastructure.persistence.EventRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SegmentRoller 테스트")
+class SegmentRollerTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-15T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private EventRepositoryImpl jdbcRepository;
+
+    @Test
+    @DisplayName("쓰는 중인 세그먼트의 레코드를 Postgres로 한 번만 옮김")
+    void rollSealedSegmentsOnce() {
+        // given
+        SegmentEventRepository segmentRepository = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, null);
+        segmentRepository.saveAll(List.of(event("event-1"), event("event-2")));
+        when(jdbcRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        SegmentRoller roller = new SegmentRoller(segmentRepository, jdbcRepository, true, Duration.ofDays(7),
+            Clock.fixed(BASE.plusSeconds(60), ZoneOffset.UTC));
+
+        // when
+        roller.roll();
+        roller.roll();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AdEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AdEvent::getId).containsExactly("event-1", "event-2");
+        assertThat(segmentRepository.findById("event-1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("덜 찬 세그먼트는 봉인하지 않고 지난번에 옮긴 레코드 다음부터 이어서 옮김")
+    void rollActiveSegmentIncrementallyWithoutSealing() {
+        // given
+        SegmentEventRepository segmentRepository = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, null);
+        segmentRepository.saveAll(List.of(event("event-1"), event("event-2")));
+        when(jdbcRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        SegmentRoller roller = new SegmentRoller(segmentRepository, jdbcRepository, true, Duration.ofDays(7),
+            Clock.fixed(BASE.plusSeconds(60), ZoneOffset.UTC));
+
+        // when
+        roller.roll();
+        segmentRepository.saveAll(List.of(event("event-3")));
+        roller.roll();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AdEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(AdEvent::getId).containsExactly("event-3");
+        assertThat(segmentRepository.unrolledSegments()).isEmpty();
+        segmentRepository.saveAll(List.of(event("event-4")));
+        assertThat(segmentRepository.unrolledSegments()).singleElement()
+            .satisfies(segment -> assertThat(segment.isSealed()).isFalse());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 세그먼트는 옮긴 뒤 삭제")
+    void deleteExpiredSegmentsAfterRolling() {
+        // given
+        SegmentEventRepository segmentRepository = new SegmentEventRepository(directory.toString(), 1 << 20, 1000, null);
+        segmentRepository.saveAll(List.of(event("event-1")));
+        when(jdbcRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        SegmentRoller roller = new SegmentRoller(segmentRepository, jdbcRepository, true, Duration.ofDays(7),
+            Clock.fixed(BASE.plus(Duration.ofDays(8)), ZoneOffset.UTC));
+
+        // when
+        roller.roll();
+
+        // then
+        verify(jdbcRepository).saveAll(anyList());
+        assertThat(segmentRepository.findById("event-1")).isEmpty();
+    }
+
+    private AdEvent event(String id) {
+        return AdEvent.builder()
+            .id(id)
+            .eventType(EventType.IMPRESSION)
+            .adId("ad-1")
+            .campaignId("campaign-1")
+            .timestamp(BASE)
+            .build();
+    }
+}
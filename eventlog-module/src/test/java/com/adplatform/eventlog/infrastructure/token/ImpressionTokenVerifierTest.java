@@ -0,0 +1,135 @@
+package com.adplatform.eventlog.infrastructure.token;
+
+import com.adplatform.eventlog.domain.exception.InvalidImpressionTokenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ImpressionTokenVerifier 테스트")
+class ImpressionTokenVerifierTest {
+
+    private static final String SECRET = "test-impression-token-secret-0123456789";
+
+    private final ImpressionTokenVerifier verifier =
+        new ImpressionTokenVerifier(SECRET, Duration.ofDays(30));
+
+    @Test
+    @DisplayName("Inventory Service가 발급한 토큰을 검증하고 내용을 반환")
+    void verifyValidToken() {
+        // given
+        long issuedAt = Instant.now().toEpochMilli();
+        String token = issue(SECRET, issuedAt, "placement-1", "campaign-1", "ad-1", 5000L);
+
+        // when
+        ImpressionTokenClaims claims = verifier.verify(token, "campaign-1", "ad-1");
+
+        // then
+        assertThat(claims.getIssuedAt()).isEqualTo(Instant.ofEpochMilli(issuedAt));
+        assertThat(claims.getPlacementId()).isEqualTo("placement-1");
+        assertThat(claims.getCampaignId()).isEqualTo("campaign-1");
+        assertThat(claims.getAdId()).isEqualTo("ad-1");
+        assertThat(claims.getBid()).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명한 토큰은 거부")
+    void rejectForgedToken() {
+        String token = issue("other-impression-token-secret-0123456789", Instant.now().toEpochMilli(),
+            "placement-1", "campaign-1", "ad-1", 5000L);
+
+        assertThatThrownBy(() -> verifier.verify(token))
+            .isInstanceOf(InvalidImpressionTokenException.class)
+            .hasMessageContaining("서명");
+    }
+
+    @Test
+    @DisplayName("내용이 변조된 토큰은 거부")
+    void rejectTamperedToken() {
+        String token = issue(SECRET, Instant.now().toEpochMilli(),
+            "placement-1", "campaign-1", "ad-1", 5000L);
+        String other = issue(SECRET, Instant.now().toEpochMilli(),
+            "placement-1", "campaign-1", "ad-1", 9000L);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + other.split("\\.")[1] + "." + parts[2];
+
+        assertThatThrownBy(() -> verifier.verify(tampered))
+            .isInstanceOf(InvalidImpressionTokenException.class);
+    }
+
+    @Test
+    @DisplayName("유효기간이 지난 토큰은 거부")
+    void rejectExpiredToken() {
+        long issuedAt = Instant.now().minus(Duration.ofDays(31)).toEpochMilli();
+        String token = issue(SECRET, issuedAt, "placement-1", "campaign-1", "ad-1", 5000L);
+
+        assertThatThrownBy(() -> verifier.verify(token))
+            .isInstanceOf(InvalidImpressionTokenException.class)
+            .hasMessageContaining("만료");
+    }
+
+    @Test
+    @DisplayName("다른 광고에 대해 발급된 토큰은 거부")
+    void rejectTokenForOtherAd() {
+        String token = issue(SECRET, Instant.now().toEpochMilli(),
+            "placement-1", "campaign-1", "ad-1", 5000L);
+
+        assertThatThrownBy(() -> verifier.verify(token, "campaign-1", "ad-2"))
+            .isInstanceOf(InvalidImpressionTokenException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 거부")
+    void rejectMalformedToken() {
+        assertThatThrownBy(() -> verifier.verify("impression-token-123"))
+            .isInstanceOf(InvalidImpressionTokenException.class);
+    }
+
+    @Test
+    @DisplayName("비밀키가 없거나 짧으면 생성할 수 없다")
+    void requiresSecret() {
+        assertThatThrownBy(() -> new ImpressionTokenVerifier("", Duration.ofDays(30)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ImpressionTokenVerifier("short-secret", Duration.ofDays(30)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Inventory Service의 ImpressionTokenIssuer와 같은 형식으로 발급
+     */
+    private String issue(String secret, long issuedAt, String placementId,
+                         String campaignId, String adId, long bid) {
+        try {
+            byte[] placement = placementId.getBytes(StandardCharsets.UTF_8);
+            byte[] campaign = campaignId.getBytes(StandardCharsets.UTF_8);
+            byte[] ad = adId.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer payload = ByteBuffer.allocate(8 + 6 + placement.length + campaign.length + ad.length);
+            payload.putLong(bid);
+            for (byte[] value : new byte[][]{placement, campaign, ad}) {
+                payload.putShort((short) value.length);
+                payload.put(value);
+            }
+
+            Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+            String unsigned = String.format("%012x%016x", issuedAt, 42L)
+                + "." + base64.encodeToString(payload.array());
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = Arrays.copyOf(
+                mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII)), 16);
+            return unsigned + "." + base64.encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.adplatform.inventory.adapter.rest;
+
+import com.adplatform.inventory.infrastructure.client.CampaignChangeDto;
+import com.adplatform.inventory.infrastructure.security.InternalApiAuthenticator;
+import com.adplatform.inventory.infrastructure.snapshot.ActiveCampaignSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 캠페인 변경 알림 수신 Controller (서비스 간 내부 API)
+ * - Campaign Service가 캠페인 저장 후 변경 내용을 푸시
+ * - 공유 토큰(X-Internal-Token)이 맞는 요청만 반영
+ */
+@RestController
+@RequestMapping("/api/v1/inventory/internal")
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignChangeController {
+
+    private final ActiveCampaignSnapshot activeCampaignSnapshot;
+    private final InternalApiAuthenticator internalApiAuthenticator;
+
+    /**
+     * 캠페인 변경 반영
+     * POST /api/v1/inventory/internal/campaign-changes
+     */
+    @PostMapping("/campaign-changes")
+    public ResponseEntity<Void> applyCampaignChange(
+        @RequestHeader(value = InternalApiAuthenticator.TOKEN_HEADER, required = false) String token,
+        @RequestBody CampaignChangeDto change
+    ) {
+        if (!internalApiAuthenticator.authenticate(token)) {
+            log.warn("Rejected unauthenticated campaign change: {}", change.getCampaignId());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (change.getCampaignId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.debug("Campaign change received: {} (active={}, version={})",
+            change.getCampaignId(), change.isActive(), change.getVersion());
+        activeCampaignSnapshot.applyChange(change);
+
+        return ResponseEntity.accepted().build();
+    }
+}
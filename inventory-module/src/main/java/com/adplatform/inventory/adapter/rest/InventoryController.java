@@ -14,6 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Inventory REST Controller
  * - 게재 위치 관리 API
@@ -114,6 +117,31 @@ public class InventoryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 다중 슬롯 광고 선택
+     * POST /api/v1/inventory/select-ads
+     * - 순위순으로 최대 slots개 반환
+     */
+    @PostMapping("/select-ads")
+    public ResponseEntity<List<AdSelectionResponse>> selectAds(
+        @Valid @RequestBody SelectAdRequest request
+    ) {
+        log.info("Selecting {} ads for placement: {}", request.getSlots(), request.getPlacementId());
+
+        SelectAdCommand command = SelectAdCommand.builder()
+            .placementId(request.getPlacementId())
+            .userContext(convertUserContext(request.getUserContext()))
+            .slots(request.getSlots())
+            .build();
+
+        List<AdSelectionResponse> response = selectAdUseCase.executeForSlots(command)
+            .stream()
+            .map(AdSelectionResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용자 컨텍스트 변환
      */
@@ -1,5 +1,7 @@
 package com.adplatform.inventory.adapter.rest.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -24,6 +26,10 @@ public class SelectAdRequest {
     @NotNull(message = "사용자 컨텍스트는 필수입니다")
     private UserContext userContext;
 
+    @Min(value = 1, message = "슬롯 수는 1 이상이어야 합니다")
+    @Max(value = 10, message = "슬롯 수는 10 이하여야 합니다")
+    private Integer slots;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -13,6 +13,14 @@ import java.util.List;
 public class SelectAdCommand {
     private final String placementId;
     private final UserContext userContext;
+    private final Integer slots;
+
+    /**
+     * 게재 슬롯 수 (미지정 시 1)
+     */
+    public int getSlotCount() {
+        return slots != null ? slots : 1;
+    }
 
     @Getter
     @Builder
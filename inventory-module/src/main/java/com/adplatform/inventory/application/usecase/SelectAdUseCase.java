@@ -8,10 +8,17 @@ import com.adplatform.inventory.domain.exception.PlacementNotFoundException;
 import com.adplatform.inventory.domain.model.AdSelection;
 import com.adplatform.inventory.domain.model.Placement;
 import com.adplatform.inventory.domain.model.SelectedAd;
+import com.adplatform.inventory.domain.model.ServableCampaign;
+import com.adplatform.inventory.domain.model.TargetingContext;
 import com.adplatform.inventory.domain.repository.PlacementRepository;
+import com.adplatform.inventory.domain.service.AuctionCandidates;
+import com.adplatform.inventory.domain.service.AuctionEngine;
+import com.adplatform.inventory.domain.service.AuctionResult;
 import com.adplatform.inventory.infrastructure.client.*;
+import com.adplatform.inventory.infrastructure.snapshot.ActiveCampaignSnapshot;
+import com.adplatform.inventory.infrastructure.snapshot.TargetingRuleSnapshot;
+import com.adplatform.inventory.infrastructure.token.ImpressionTokenIssuer;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,10 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * 프로세스:
  * 1. 게재 위치 검증 (존재 여부, 활성 상태)
- * 2. Campaign Service에서 활성 캠페인 목록 조회
- * 3. Targeting Service로 각 캠페인의 타겟팅 매칭 수행
- * 4. 랭킹 스코어 계산 (bid * matchScore / 100)
- * 5. 최고 점수의 광고 선택 및 반환
+ * 2. 로컬 활성 캠페인 스냅샷에서 게재 가능한 캠페인과 광고그룹/광고 조회 (네트워크 호출 없음)
+ * 3. 로컬 타겟팅 룰 스냅샷으로 각 캠페인의 매칭 스코어 계산
+ *    (스냅샷이 아직 준비되지 않은 경우에만 Targeting Service 배치 매칭을 마감 시간 내 병렬 호출)
+ * 4. 경매 (광고그룹 입찰가 기준, 설정된 랭킹 전략으로 상위 K개 선별, 2차 가격 청산)
+ * 5. 순위순 광고 선택 결과 반환 (단일 슬롯이면 1위만)
  */
 @Service
 @RequiredArgsConstructor
@@ -33,38 +41,59 @@ import org.springframework.transaction.annotation.Transactional;
 public class SelectAdUseCase {
 
     private final PlacementRepository placementRepository;
-    private final CampaignClient campaignClient;
-    private final TargetingClient targetingClient;
+    private final ActiveCampaignSnapshot activeCampaignSnapshot;
+    private final TargetingMatchFanout targetingMatchFanout;
+    private final TargetingRuleSnapshot targetingRuleSnapshot;
+    private final AuctionEngine auctionEngine;
+    private final ImpressionTokenIssuer impressionTokenIssuer;
 
+    /**
+     * 단일 슬롯 광고 선택
+     */
     @Transactional(readOnly = true)
     public AdSelectionResult execute(SelectAdCommand command) {
+        return select(command, 1).get(0);
+    }
+
+    /**
+     * 다중 슬롯 광고 선택
+     * - 순위순으로 최대 슬롯 수만큼 반환 (캠페인당 하나)
+     */
+    @Transactional(readOnly = true)
+    public List<AdSelectionResult> executeForSlots(SelectAdCommand command) {
+        return select(command, command.getSlotCount());
+    }
+
+    private List<AdSelectionResult> select(SelectAdCommand command, int slots) {
         log.info("Selecting ad for placement: {}", command.getPlacementId());
 
         // 1. 게재 위치 검증
         Placement placement = validatePlacement(command.getPlacementId());
 
-        // 2. 활성 캠페인 목록 조회
-        List<CampaignDto> activeCampaigns = campaignClient.getActiveCampaigns();
+        // 2. 활성 캠페인 목록 조회 (스냅샷 준비 전이면 빈 목록)
+        List<ServableCampaign> activeCampaigns = activeCampaignSnapshot.getServableCampaigns();
         if (activeCampaigns.isEmpty()) {
-            log.warn("No active campaigns available");
+            log.warn(
+                "No active campaigns available (snapshot ready: {})",
+                activeCampaignSnapshot.isReady()
+            );
             throw NoAdsAvailableException.forPlacement(
                 command.getPlacementId()
             );
         }
         log.info("Found {} active campaigns", activeCampaigns.size());
 
-        // 3. 사용자 컨텍스트를 DTO로 변환
-        UserContextDto userContext = convertUserContext(
-            command.getUserContext()
+        // 3. 각 캠페인에 대해 타겟팅 매칭 수행
+        // (matchedCampaigns[i]가 경매 후보 i에 대응)
+        AuctionCandidates candidates = new AuctionCandidates(activeCampaigns.size());
+        List<ServableCampaign> matchedCampaigns = new ArrayList<>(activeCampaigns.size());
+        matchCampaigns(
+            activeCampaigns,
+            command.getUserContext(),
+            candidates,
+            matchedCampaigns
         );
 
-        // 4. 각 캠페인에 대해 타겟팅 매칭 수행
-        List<AdCandidate> candidates = activeCampaigns
-            .stream()
-            .map(campaign -> matchCampaign(campaign, userContext))
-            .filter(AdCandidate::isMatched)
-            .collect(Collectors.toList());
-
         if (candidates.isEmpty()) {
             log.warn("No ads matched the targeting criteria");
             throw NoAdsAvailableException.forPlacement(
@@ -76,28 +105,38 @@ public class SelectAdUseCase {
             candidates.size()
         );
 
-        // 5. 랭킹 스코어로 정렬하여 최고 점수 광고 선택
-        AdCandidate selectedCandidate = candidates
-            .stream()
-            .max(Comparator.comparingLong(AdCandidate::getRankingScore))
-            .orElseThrow(() ->
-                NoAdsAvailableException.forPlacement(command.getPlacementId())
-            );
-
-        log.info(
-            "Selected ad from campaign: {}, rankingScore: {}",
-            selectedCandidate.getCampaignId(),
-            selectedCandidate.getRankingScore()
+        // 4. 경매 (기본가를 최저가로 사용)
+        AuctionResult auctionResult = auctionEngine.run(
+            candidates,
+            slots,
+            placement.getBasePrice()
         );
+        if (auctionResult.isEmpty()) {
+            throw NoAdsAvailableException.forPlacement(command.getPlacementId());
+        }
 
-        // 6. AdSelection 도메인 객체 생성
-        AdSelection adSelection = createAdSelection(
-            selectedCandidate,
-            placement
-        );
+        // 5. 순위별 AdSelection 생성
+        List<AdSelectionResult> results = new ArrayList<>(auctionResult.size());
+        for (int rank = 0; rank < auctionResult.size(); rank++) {
+            int index = auctionResult.candidateIndex(rank);
+            ServableCampaign campaign = matchedCampaigns.get(index);
+            log.info(
+                "Selected ad from campaign: {} (rank {}), rankingScore: {}, clearingPrice: {}",
+                campaign.getCampaignId(),
+                rank + 1,
+                auctionResult.rankingScore(rank),
+                auctionResult.clearingPrice(rank)
+            );
 
-        // 7. 결과 반환
-        return AdSelectionResult.from(adSelection);
+            AdSelection adSelection = createAdSelection(
+                campaign,
+                candidates.matchScore(index),
+                auctionResult.clearingPrice(rank),
+                placement
+            );
+            results.add(AdSelectionResult.from(adSelection));
+        }
+        return results;
     }
 
     /**
@@ -119,23 +158,50 @@ public class SelectAdUseCase {
     }
 
     /**
-     * 캠페인 매칭 수행
+     * 캠페인 매칭 수행 (매칭된 캠페인만 경매 후보로 추가)
+     * - 로컬 스냅샷이 준비되어 있으면 메모리에서 스코어 계산 (네트워크 호출 없음)
+     * - 준비 전(기동 직후 최초 동기화 전)에는 Targeting Service 배치 매칭으로 대체
+     *   (청크 단위 병렬 호출, 경매 마감 시간을 넘긴 청크는 미매칭 처리)
      */
-    private AdCandidate matchCampaign(
-        CampaignDto campaign,
-        UserContextDto userContext
+    private void matchCampaigns(
+        List<ServableCampaign> campaigns,
+        SelectAdCommand.UserContext context,
+        AuctionCandidates candidates,
+        List<ServableCampaign> matchedCampaigns
     ) {
-        TargetingMatchDto matchResult = targetingClient.matchTargeting(
-            campaign.getId(),
-            userContext
-        );
+        if (targetingRuleSnapshot.isReady()) {
+            TargetingContext targetingContext = convertTargetingContext(context);
+            for (int i = 0; i < campaigns.size(); i++) {
+                ServableCampaign campaign = campaigns.get(i);
+                int matchScore = targetingRuleSnapshot.matchScore(
+                    campaign.getCampaignId(),
+                    targetingContext
+                );
+                if (matchScore > 0) {
+                    candidates.add(campaign.getCampaignId(), campaign.getBid(), matchScore);
+                    matchedCampaigns.add(campaign);
+                }
+            }
+            return;
+        }
 
-        return AdCandidate.builder()
-            .campaignId(campaign.getId())
-            .bid(campaign.getBidAmount())
-            .matchScore(matchResult.getMatchScore())
-            .matched(matchResult.isMatched() && matchResult.getMatchScore() > 0)
-            .build();
+        log.debug("Targeting rule snapshot not ready, falling back to remote batch matching");
+        UserContextDto userContext = convertUserContext(context);
+        List<String> campaignIds = new ArrayList<>(campaigns.size());
+        for (ServableCampaign campaign : campaigns) {
+            campaignIds.add(campaign.getCampaignId());
+        }
+        Map<String, TargetingMatchDto> matchResults =
+            targetingMatchFanout.match(campaignIds, userContext);
+
+        // 배치 결과에 없는 캠페인은 매칭되지 않은 것으로 처리
+        for (ServableCampaign campaign : campaigns) {
+            TargetingMatchDto matchResult = matchResults.get(campaign.getCampaignId());
+            if (matchResult != null && matchResult.isMatched() && matchResult.getMatchScore() > 0) {
+                candidates.add(campaign.getCampaignId(), campaign.getBid(), matchResult.getMatchScore());
+                matchedCampaigns.add(campaign);
+            }
+        }
     }
 
     /**
@@ -155,36 +221,57 @@ public class SelectAdUseCase {
             .build();
     }
 
+    /**
+     * 로컬 매칭용 사용자 컨텍스트 변환
+     */
+    private TargetingContext convertTargetingContext(
+        SelectAdCommand.UserContext context
+    ) {
+        return TargetingContext.of(
+            context.getAge(),
+            context.getGender(),
+            context.getCountry(),
+            context.getCity(),
+            context.getDeviceType(),
+            context.getKeywords()
+        );
+    }
+
     /**
      * AdSelection 도메인 객체 생성
+     * - 광고그룹 내 광고는 로테이션하여 선택
+     * - 예상 비용은 입찰가가 아닌 경매 청산 가격 기준
      */
     private AdSelection createAdSelection(
-        AdCandidate candidate,
+        ServableCampaign campaign,
+        int matchScore,
+        long clearingPrice,
         Placement placement
     ) {
-        // 실제로는 Campaign Service에서 Ad 정보를 가져와야 하지만,
-        // 여기서는 간단하게 캠페인 ID를 기반으로 생성
         SelectedAd selectedAd = SelectedAd.of(
-            candidate.getCampaignId(),
-            "adgroup-" + candidate.getCampaignId(),
-            "ad-" + candidate.getCampaignId()
+            campaign.getCampaignId(),
+            campaign.getAdGroupId(),
+            campaign.pickAdId()
         );
 
         // 예상 비용 계산 (가격 모델에 따라 다르게 계산 가능)
         long estimatedCost = calculateEstimatedCost(
-            candidate.getBid(),
+            clearingPrice,
             placement
         );
 
-        // 노출 토큰 생성
-        String impressionToken = generateImpressionToken(
-            candidate.getCampaignId()
+        // 노출 토큰 생성 (서명된 토큰, Event Log Service에서 검증)
+        String impressionToken = impressionTokenIssuer.issue(
+            placement.getId(),
+            selectedAd.getCampaignId(),
+            selectedAd.getAdId(),
+            campaign.getBid()
         );
 
         return AdSelection.of(
             selectedAd,
-            candidate.getMatchScore(),
-            candidate.getBid(),
+            matchScore,
+            campaign.getBid(),
             estimatedCost,
             impressionToken
         );
@@ -193,44 +280,17 @@ public class SelectAdUseCase {
     /**
      * 예상 비용 계산
      */
-    private long calculateEstimatedCost(long bid, Placement placement) {
-        // CPM의 경우 1회 노출당 비용 = bid / 1000
-        // CPC의 경우 클릭당 비용 = bid
-        // CPA의 경우 액션당 비용 = bid
+    private long calculateEstimatedCost(long price, Placement placement) {
+        // CPM의 경우 1회 노출당 비용 = price / 1000
+        // CPC의 경우 클릭당 비용 = price
+        // CPA의 경우 액션당 비용 = price
         switch (placement.getPricingModel()) {
             case CPM:
-                return bid / 1000;
+                return price / 1000;
             case CPC:
             case CPA:
             default:
-                return bid;
-        }
-    }
-
-    /**
-     * 노출 토큰 생성
-     */
-    private String generateImpressionToken(String campaignId) {
-        return UUID.randomUUID().toString() + "-" + campaignId;
-    }
-
-    /**
-     * 광고 후보 내부 클래스
-     */
-    @lombok.Builder
-    @lombok.Getter
-    private static class AdCandidate {
-
-        private final String campaignId;
-        private final long bid;
-        private final int matchScore;
-        private final boolean matched;
-
-        /**
-         * 랭킹 스코어 계산: bid * matchScore / 100
-         */
-        public long getRankingScore() {
-            return (bid * matchScore) / 100;
+                return price;
         }
     }
 }
@@ -0,0 +1,38 @@
+package com.adplatform.inventory.config;
+
+import com.adplatform.inventory.domain.service.AuctionEngine;
+import com.adplatform.inventory.domain.service.BidTimesMatchScoreRanker;
+import com.adplatform.inventory.domain.service.ECpmRanker;
+import com.adplatform.inventory.domain.service.Ranker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 광고 경매 설정
+ * - inventory.auction.ranker: bid-match-score (기본) | ecpm
+ * - ecpm은 캠페인별 예측 CTR이 아직 없으므로 기본 CTR을 사용
+ */
+@Configuration
+public class AuctionConfig {
+
+    @Bean
+    public Ranker ranker(
+        @Value("${inventory.auction.ranker:bid-match-score}") String rankerType,
+        @Value("${inventory.auction.default-ctr:0.01}") double defaultCtr
+    ) {
+        switch (rankerType) {
+            case "bid-match-score":
+                return new BidTimesMatchScoreRanker();
+            case "ecpm":
+                return new ECpmRanker(campaignId -> defaultCtr);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 랭킹 방식입니다: " + rankerType);
+        }
+    }
+
+    @Bean
+    public AuctionEngine auctionEngine(Ranker ranker) {
+        return new AuctionEngine(ranker);
+    }
+}
@@ -1,8 +1,10 @@
 package com.adplatform.inventory.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
@@ -10,15 +12,30 @@ import java.time.Duration;
 /**
  * RestTemplate 설정
  * - 외부 서비스 호출을 위한 RestTemplate 빈 구성
+ * - 광고 선택 중 원격 타겟팅 매칭은 마감 시간에 맞춘 짧은 타임아웃의 전용 RestTemplate 사용
+ *   (블로킹 소켓 I/O는 future.cancel로 중단되지 않으므로, 타임아웃으로 팬아웃 스레드를 돌려받음)
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
+    @Primary
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         return builder
             .setConnectTimeout(Duration.ofSeconds(5))
             .setReadTimeout(Duration.ofSeconds(5))
             .build();
     }
+
+    @Bean(name = "targetingMatchRestTemplate")
+    public RestTemplate targetingMatchRestTemplate(
+        RestTemplateBuilder builder,
+        @Value("${inventory.selection.fanout.connect-timeout-ms:100}") long connectTimeoutMs,
+        @Value("${inventory.selection.fanout.read-timeout-ms:150}") long readTimeoutMs
+    ) {
+        return builder
+            .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+            .build();
+    }
 }
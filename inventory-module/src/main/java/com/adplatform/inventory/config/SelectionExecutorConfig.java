@@ -0,0 +1,45 @@
+package com.adplatform.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 광고 선택 병렬 실행 설정
+ * - 원격 타겟팅 매칭을 나눠서 동시에 호출하기 위한 전용 스레드 풀
+ * - 큐가 가득 차면 즉시 거절하여 요청 스레드가 대신 실행하며 마감 시간을 넘기지 않도록 함
+ *   (거절된 요청은 매칭 누락으로 집계)
+ */
+@Configuration
+public class SelectionExecutorConfig {
+
+    @Bean(name = "targetingFanoutExecutor")
+    public ExecutorService targetingFanoutExecutor(
+        @Value("${inventory.selection.fanout.threads:32}") int threads,
+        @Value("${inventory.selection.fanout.queue-capacity:256}") int queueCapacity
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "targeting-fanout-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        return new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,201 @@
+package com.adplatform.inventory.domain.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 인벤토리 로컬 매칭용으로 컴파일된 타겟팅 룰 (불변)
+ * - Targeting Service의 TargetingRule.matchScore와 동일한 점수 체계
+ *   (인구통계 30, 지역 25, 디바이스 20, 키워드 25 → 조건이 있는 항목 기준으로 0-100 정규화)
+ * - 문자열 비교용 값은 컴파일 시점에 미리 정규화하여 매칭 시 추가 할당이 없도록 함
+ */
+@Getter
+public class CompiledTargetingRule {
+
+    private static final String ANY_GENDER = "ANY";
+
+    private final String ruleId;
+    private final String campaignId;
+    private final Integer ageMin;
+    private final Integer ageMax;
+    private final String gender;
+    private final Set<String> geoTargets;
+    private final Set<String> deviceTypes;
+    private final Set<String> keywords;
+    private final boolean demographicsCriteria;
+    private final boolean unrestricted;
+
+    private CompiledTargetingRule(
+        String ruleId,
+        String campaignId,
+        Integer ageMin,
+        Integer ageMax,
+        String gender,
+        Set<String> geoTargets,
+        Set<String> deviceTypes,
+        Set<String> keywords
+    ) {
+        this.ruleId = ruleId;
+        this.campaignId = campaignId;
+        this.ageMin = ageMin;
+        this.ageMax = ageMax;
+        this.gender = gender;
+        this.geoTargets = geoTargets;
+        this.deviceTypes = deviceTypes;
+        this.keywords = keywords;
+        this.demographicsCriteria =
+            ageMin != null || ageMax != null || !ANY_GENDER.equals(gender);
+        this.unrestricted =
+            !demographicsCriteria &&
+            geoTargets.isEmpty() &&
+            deviceTypes.isEmpty() &&
+            keywords.isEmpty();
+    }
+
+    /**
+     * 타겟팅 룰 컴파일
+     */
+    public static CompiledTargetingRule compile(
+        String ruleId,
+        String campaignId,
+        Integer ageMin,
+        Integer ageMax,
+        String gender,
+        List<String> geoTargets,
+        List<String> deviceTypes,
+        List<String> keywords
+    ) {
+        if (ruleId == null || ruleId.trim().isEmpty()) {
+            throw new IllegalArgumentException("타겟팅 룰 ID는 필수입니다");
+        }
+        if (campaignId == null || campaignId.trim().isEmpty()) {
+            throw new IllegalArgumentException("캠페인 ID는 필수입니다");
+        }
+
+        return new CompiledTargetingRule(
+            ruleId,
+            campaignId,
+            ageMin,
+            ageMax,
+            gender != null ? gender.toUpperCase(Locale.ROOT) : ANY_GENDER,
+            normalize(geoTargets, false),
+            normalize(deviceTypes, true),
+            normalize(keywords, false)
+        );
+    }
+
+    /**
+     * 사용자 컨텍스트와의 매칭 스코어 계산 (0-100)
+     */
+    public int matchScore(TargetingContext context) {
+        if (context == null) {
+            return 0;
+        }
+
+        // 모든 조건이 비어있으면 100점 (모든 사용자 타겟)
+        if (unrestricted) {
+            return 100;
+        }
+
+        int totalScore = 0;
+        int maxScore = 0;
+
+        if (demographicsCriteria) {
+            maxScore += 30;
+            if (matchesDemographics(context)) {
+                totalScore += 30;
+            }
+        }
+
+        if (!geoTargets.isEmpty()) {
+            maxScore += 25;
+            if (matchesGeo(context)) {
+                totalScore += 25;
+            }
+        }
+
+        if (!deviceTypes.isEmpty()) {
+            maxScore += 20;
+            if (context.getDeviceType() != null &&
+                deviceTypes.contains(context.getDeviceType())) {
+                totalScore += 20;
+            }
+        }
+
+        if (!keywords.isEmpty()) {
+            maxScore += 25;
+            totalScore += calculateKeywordScore(context.getKeywords());
+        }
+
+        return (totalScore * 100) / maxScore;
+    }
+
+    private boolean matchesDemographics(TargetingContext context) {
+        Integer age = context.getAge();
+        if (age == null) {
+            return false;
+        }
+        if (ageMin != null && age < ageMin) {
+            return false;
+        }
+        if (ageMax != null && age > ageMax) {
+            return false;
+        }
+        return ANY_GENDER.equals(gender) || gender.equals(context.getGender());
+    }
+
+    private boolean matchesGeo(TargetingContext context) {
+        if (context.getCountry() == null) {
+            return false;
+        }
+        if (geoTargets.contains(context.getCountry())) {
+            return true;
+        }
+        return context.getCity() != null && geoTargets.contains(context.getCity());
+    }
+
+    private int calculateKeywordScore(Set<String> userKeywords) {
+        if (userKeywords.isEmpty()) {
+            return 0;
+        }
+
+        // 작은 쪽을 순회하며 교집합 크기 계산
+        int intersection = 0;
+        if (userKeywords.size() < keywords.size()) {
+            for (String keyword : userKeywords) {
+                if (keywords.contains(keyword)) {
+                    intersection++;
+                }
+            }
+        } else {
+            for (String keyword : keywords) {
+                if (userKeywords.contains(keyword)) {
+                    intersection++;
+                }
+            }
+        }
+
+        return (intersection * 25) / keywords.size();
+    }
+
+    private static Set<String> normalize(List<String> values, boolean upperCase) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String value : values) {
+            if (value != null) {
+                normalized.add(
+                    upperCase
+                        ? value.toUpperCase(Locale.ROOT)
+                        : value.toLowerCase(Locale.ROOT)
+                );
+            }
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+}
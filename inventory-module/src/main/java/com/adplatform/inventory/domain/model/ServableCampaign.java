@@ -0,0 +1,62 @@
+package com.adplatform.inventory.domain.model;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 게재 가능한 캠페인 크리에이티브 Value Object
+ * - 캠페인에서 경매에 참여할 광고그룹(활성 광고가 있는 광고그룹 중 최고 입찰가)과
+ *   그 광고그룹의 활성 광고 목록
+ * - 광고 선택 시 Campaign Service 조회 없이 실제 광고그룹/광고를 고르기 위해 사용
+ */
+@Getter
+public class ServableCampaign {
+
+    private final String campaignId;
+    private final String adGroupId;
+    private final long bid;
+    @Getter(AccessLevel.NONE)
+    private final String[] adIds;
+
+    private ServableCampaign(String campaignId, String adGroupId, long bid, String[] adIds) {
+        this.campaignId = campaignId;
+        this.adGroupId = adGroupId;
+        this.bid = bid;
+        this.adIds = adIds;
+    }
+
+    public static ServableCampaign of(
+        String campaignId,
+        String adGroupId,
+        long bid,
+        List<String> adIds
+    ) {
+        if (campaignId == null || adGroupId == null) {
+            throw new IllegalArgumentException("캠페인 ID와 광고그룹 ID는 필수입니다");
+        }
+        if (bid <= 0) {
+            throw new IllegalArgumentException("입찰가는 0보다 커야 합니다");
+        }
+        if (adIds == null || adIds.isEmpty()) {
+            throw new IllegalArgumentException("게재 가능한 광고가 없습니다");
+        }
+        return new ServableCampaign(campaignId, adGroupId, bid, adIds.toArray(new String[0]));
+    }
+
+    /**
+     * 게재할 광고 선택
+     * - 광고그룹 내 광고를 균등하게 로테이션
+     */
+    public String pickAdId() {
+        if (adIds.length == 1) {
+            return adIds[0];
+        }
+        return adIds[ThreadLocalRandom.current().nextInt(adIds.length)];
+    }
+
+    public int getAdCount() {
+        return adIds.length;
+    }
+}
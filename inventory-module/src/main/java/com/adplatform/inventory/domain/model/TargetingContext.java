@@ -0,0 +1,69 @@
+package com.adplatform.inventory.domain.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 로컬 타겟팅 매칭용 사용자 컨텍스트 Value Object
+ * - 요청당 한 번만 정규화(대소문자 통일, 키워드 Set 변환)하여
+ *   캠페인별 스코어 계산에서 반복 변환이 일어나지 않도록 함
+ */
+@Getter
+public class TargetingContext {
+
+    private static final String ANY_GENDER = "ANY";
+
+    private final Integer age;
+    private final String gender;
+    private final String country;
+    private final String city;
+    private final String deviceType;
+    private final Set<String> keywords;
+
+    private TargetingContext(
+        Integer age,
+        String gender,
+        String country,
+        String city,
+        String deviceType,
+        Set<String> keywords
+    ) {
+        this.age = age;
+        this.gender = gender;
+        this.country = country;
+        this.city = city;
+        this.deviceType = deviceType;
+        this.keywords = keywords;
+    }
+
+    public static TargetingContext of(
+        Integer age,
+        String gender,
+        String country,
+        String city,
+        String deviceType,
+        List<String> keywords
+    ) {
+        Set<String> normalizedKeywords = new HashSet<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                if (keyword != null) {
+                    normalizedKeywords.add(keyword.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        return new TargetingContext(
+            age,
+            gender != null ? gender.toUpperCase(Locale.ROOT) : ANY_GENDER,
+            country != null ? country.toLowerCase(Locale.ROOT) : null,
+            city != null ? city.toLowerCase(Locale.ROOT) : null,
+            deviceType != null ? deviceType.toUpperCase(Locale.ROOT) : null,
+            Collections.unmodifiableSet(normalizedKeywords)
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.adplatform.inventory.domain.service;
+
+import java.util.Arrays;
+
+/**
+ * 경매 후보 버퍼
+ * - 후보별 객체 대신 병렬 원시 배열로 보관 (박싱 없음)
+ */
+public class AuctionCandidates {
+
+    private String[] campaignIds;
+    private long[] bids;
+    private int[] matchScores;
+    private int size;
+
+    public AuctionCandidates(int expectedSize) {
+        int capacity = Math.max(expectedSize, 1);
+        this.campaignIds = new String[capacity];
+        this.bids = new long[capacity];
+        this.matchScores = new int[capacity];
+    }
+
+    /**
+     * 후보 추가
+     */
+    public void add(String campaignId, long bid, int matchScore) {
+        if (size == bids.length) {
+            int capacity = size * 2;
+            campaignIds = Arrays.copyOf(campaignIds, capacity);
+            bids = Arrays.copyOf(bids, capacity);
+            matchScores = Arrays.copyOf(matchScores, capacity);
+        }
+        campaignIds[size] = campaignId;
+        bids[size] = bid;
+        matchScores[size] = matchScore;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String campaignId(int index) {
+        return campaignIds[index];
+    }
+
+    public long bid(int index) {
+        return bids[index];
+    }
+
+    public int matchScore(int index) {
+        return matchScores[index];
+    }
+}
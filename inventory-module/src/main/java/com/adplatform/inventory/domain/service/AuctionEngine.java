@@ -0,0 +1,151 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * 광고 경매 도메인 서비스
+ * - 랭킹 스코어 상위 K개를 크기 K+1의 최소 힙으로 선별 (전체 정렬 없음)
+ * - 일반화 2차 가격(GSP): 각 낙찰자는 바로 아래 순위를 이기는 데 필요한 최소 입찰가를 지불
+ * - 입찰가가 최저가(reserve price)보다 낮은 후보는 경매에서 제외 (낙찰되지 않고 다음 순위 가격에도 쓰이지 않음)
+ * - 다음 순위가 없으면 최저가를 지불하며, 어떤 경우에도 자신의 입찰가를 넘지 않음
+ * - 동점이면 먼저 추가된 후보가 우선
+ */
+public class AuctionEngine {
+
+    /**
+     * 부동소수점 오차로 청산 가격이 1 올라가는 것을 막기 위한 허용치
+     */
+    private static final double PRICE_EPSILON = 1e-9;
+
+    private final Ranker ranker;
+
+    public AuctionEngine(Ranker ranker) {
+        this.ranker = ranker;
+    }
+
+    /**
+     * 경매 실행
+     *
+     * @param candidates 경매 후보
+     * @param slots 낙찰자 수 (게재 슬롯 수)
+     * @param reservePrice 최저가
+     * @return 순위별 낙찰 결과 (최대 slots개, 최저가 이상 입찰한 후보가 없으면 비어 있음)
+     */
+    public AuctionResult run(AuctionCandidates candidates, int slots, long reservePrice) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("슬롯 수는 1 이상이어야 합니다");
+        }
+
+        // 마지막 슬롯의 2차 가격 계산을 위해 한 개 더 선별
+        int capacity = slots + 1;
+        int[] heapIndexes = new int[capacity];
+        double[] heapScores = new double[capacity];
+        double[] qualities = new double[candidates.size()];
+        int heapSize = 0;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            double quality = ranker.qualityFactor(candidates.campaignId(i), candidates.matchScore(i));
+            qualities[i] = quality;
+            if (quality <= 0 || candidates.bid(i) <= 0 || candidates.bid(i) < reservePrice) {
+                continue;
+            }
+
+            double score = candidates.bid(i) * quality;
+            if (heapSize < capacity) {
+                heapIndexes[heapSize] = i;
+                heapScores[heapSize] = score;
+                siftUp(heapIndexes, heapScores, heapSize);
+                heapSize++;
+            } else if (isBetter(score, i, heapScores[0], heapIndexes[0])) {
+                heapIndexes[0] = i;
+                heapScores[0] = score;
+                siftDown(heapIndexes, heapScores, heapSize);
+            }
+        }
+
+        // 힙에서 최하위부터 꺼내 뒤에서부터 채우면 내림차순 정렬
+        int ranked = heapSize;
+        int[] rankedIndexes = new int[ranked];
+        double[] rankedScores = new double[ranked];
+        while (heapSize > 0) {
+            heapSize--;
+            rankedIndexes[heapSize] = heapIndexes[0];
+            rankedScores[heapSize] = heapScores[0];
+            heapIndexes[0] = heapIndexes[heapSize];
+            heapScores[0] = heapScores[heapSize];
+            siftDown(heapIndexes, heapScores, heapSize);
+        }
+
+        int winners = Math.min(slots, ranked);
+        long[] clearingPrices = new long[winners];
+        for (int rank = 0; rank < winners; rank++) {
+            int index = rankedIndexes[rank];
+            double nextScore = rank + 1 < ranked ? rankedScores[rank + 1] : 0;
+            clearingPrices[rank] = clearingPrice(
+                candidates.bid(index), qualities[index], nextScore, reservePrice
+            );
+        }
+
+        return new AuctionResult(rankedIndexes, rankedScores, clearingPrices, winners);
+    }
+
+    private static long clearingPrice(long bid, double quality, double nextScore, long reservePrice) {
+        long price = nextScore > 0
+            ? (long) Math.ceil(nextScore / quality - PRICE_EPSILON)
+            : 0L;
+        price = Math.max(price, reservePrice);
+        return Math.min(price, bid);
+    }
+
+    /**
+     * 스코어가 높을수록, 동점이면 인덱스가 작을수록 우선
+     */
+    private static boolean isBetter(double score, int index, double otherScore, int otherIndex) {
+        if (score != otherScore) {
+            return score > otherScore;
+        }
+        return index < otherIndex;
+    }
+
+    /**
+     * 최소 힙 (루트가 가장 우선순위가 낮은 후보)
+     */
+    private static void siftUp(int[] indexes, double[] scores, int position) {
+        int index = indexes[position];
+        double score = scores[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBetter(scores[parent], indexes[parent], score, index)) {
+                break;
+            }
+            indexes[position] = indexes[parent];
+            scores[position] = scores[parent];
+            position = parent;
+        }
+        indexes[position] = index;
+        scores[position] = score;
+    }
+
+    private static void siftDown(int[] indexes, double[] scores, int size) {
+        if (size == 0) {
+            return;
+        }
+        int position = 0;
+        int index = indexes[0];
+        double score = scores[0];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && isBetter(scores[child], indexes[child], scores[right], indexes[right])) {
+                child = right;
+            }
+            if (!isBetter(score, index, scores[child], indexes[child])) {
+                break;
+            }
+            indexes[position] = indexes[child];
+            scores[position] = scores[child];
+            position = child;
+        }
+        indexes[position] = index;
+        scores[position] = score;
+    }
+}
@@ -0,0 +1,46 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * 경매 결과
+ * - 순위(0부터) 순으로 정렬된 낙찰 후보와 청산 가격
+ */
+public class AuctionResult {
+
+    private final int[] candidateIndexes;
+    private final double[] rankingScores;
+    private final long[] clearingPrices;
+    private final int size;
+
+    AuctionResult(int[] candidateIndexes, double[] rankingScores, long[] clearingPrices, int size) {
+        this.candidateIndexes = candidateIndexes;
+        this.rankingScores = rankingScores;
+        this.clearingPrices = clearingPrices;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 해당 순위 낙찰자의 후보 인덱스 (AuctionCandidates 기준)
+     */
+    public int candidateIndex(int rank) {
+        return candidateIndexes[rank];
+    }
+
+    public double rankingScore(int rank) {
+        return rankingScores[rank];
+    }
+
+    /**
+     * 해당 순위 낙찰자가 지불할 가격 (입찰가 이하)
+     */
+    public long clearingPrice(int rank) {
+        return clearingPrices[rank];
+    }
+}
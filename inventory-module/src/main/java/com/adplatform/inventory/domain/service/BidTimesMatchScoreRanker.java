@@ -0,0 +1,13 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * 입찰가 * 매칭 스코어 랭킹 (기본)
+ * - 랭킹 스코어 = bid * matchScore / 100
+ */
+public class BidTimesMatchScoreRanker implements Ranker {
+
+    @Override
+    public double qualityFactor(String campaignId, int matchScore) {
+        return matchScore / 100.0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * 캠페인 클릭률(CTR) 예측
+ */
+@FunctionalInterface
+public interface CtrPredictor {
+
+    /**
+     * 예측 클릭률 (0-1)
+     */
+    double predictCtr(String campaignId);
+}
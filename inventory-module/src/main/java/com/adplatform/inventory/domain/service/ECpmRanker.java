@@ -0,0 +1,20 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * eCPM 랭킹
+ * - 랭킹 스코어 = bid * pCTR * 1000 * matchScore / 100
+ * - 클릭당 입찰가를 노출 1000회당 기대 수익으로 환산하여 비교
+ */
+public class ECpmRanker implements Ranker {
+
+    private final CtrPredictor ctrPredictor;
+
+    public ECpmRanker(CtrPredictor ctrPredictor) {
+        this.ctrPredictor = ctrPredictor;
+    }
+
+    @Override
+    public double qualityFactor(String campaignId, int matchScore) {
+        return ctrPredictor.predictCtr(campaignId) * 1000.0 * matchScore / 100.0;
+    }
+}
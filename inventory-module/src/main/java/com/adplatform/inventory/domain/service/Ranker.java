@@ -0,0 +1,15 @@
+package com.adplatform.inventory.domain.service;
+
+/**
+ * 경매 랭킹 전략
+ * - 랭킹 스코어 = 입찰가 * 품질 계수
+ * - 2차 가격은 품질 계수로 역산하므로 스코어가 입찰가에 비례하는 형태만 지원
+ */
+public interface Ranker {
+
+    /**
+     * 입찰가에 곱해지는 품질 계수
+     * - 0 이하이면 경매에서 제외
+     */
+    double qualityFactor(String campaignId, int matchScore);
+}
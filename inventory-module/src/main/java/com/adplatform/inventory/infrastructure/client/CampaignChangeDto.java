@@ -0,0 +1,22 @@
+package com.adplatform.inventory.infrastructure.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캠페인 변경 알림 DTO (Campaign Service로부터 푸시 받음)
+ * - active=false이면 게재 대상에서 제외
+ * - version: Campaign Service 시각 기준 변경 시각 (epoch millis), 더 오래된 알림은 무시
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignChangeDto {
+    private String campaignId;
+    private boolean active;
+    private Long version;
+    private CampaignDto campaign;
+}
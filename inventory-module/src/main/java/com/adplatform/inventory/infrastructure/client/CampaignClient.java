@@ -31,27 +31,22 @@ public class CampaignClient {
 
     /**
      * 활성 캠페인 목록 조회
+     * - 실패 시 예외 발생 (빈 목록으로 대체하면 스냅샷이 비워지므로)
      */
     public List<CampaignDto> getActiveCampaigns() {
-        try {
-            String url = campaignServiceUrl + "/api/v1/campaigns/active";
-            log.info("Fetching active campaigns from: {}", url);
-
-            ResponseEntity<List<CampaignDto>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<CampaignDto>>() {}
-            );
+        String url = campaignServiceUrl + "/api/v1/campaigns/active";
+        log.info("Fetching active campaigns from: {}", url);
 
-            List<CampaignDto> campaigns = response.getBody();
-            log.info("Fetched {} active campaigns", campaigns != null ? campaigns.size() : 0);
-            return campaigns != null ? campaigns : Collections.emptyList();
+        ResponseEntity<List<CampaignDto>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<CampaignDto>>() {}
+        );
 
-        } catch (Exception e) {
-            log.error("Failed to fetch active campaigns", e);
-            return Collections.emptyList();
-        }
+        List<CampaignDto> campaigns = response.getBody();
+        log.info("Fetched {} active campaigns", campaigns != null ? campaigns.size() : 0);
+        return campaigns != null ? campaigns : Collections.emptyList();
     }
 
     /**
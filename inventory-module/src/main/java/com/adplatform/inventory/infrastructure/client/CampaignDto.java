@@ -5,8 +5,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * 캠페인 정보 DTO (Campaign Service로부터 받음)
+ * - version: 활성 캠페인 목록에서만 채워지는 조회 시각 (Campaign Service 시각 기준 epoch millis)
  */
 @Data
 @Builder
@@ -17,6 +20,35 @@ public class CampaignDto {
     private String advertiserId;
     private String name;
     private Long dailyBudget;
+    private Long totalBudget;
+    private Long spent;
     private Long bidAmount;
     private String status;
+    private Long version;
+    private List<AdGroupDto> adGroups;
+
+    /**
+     * 활성 광고그룹 (활성 광고만 포함)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AdGroupDto {
+        private String id;
+        private String name;
+        private Long bid;
+        private List<AdDto> ads;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AdDto {
+        private String id;
+        private String title;
+        private String description;
+        private String landingUrl;
+    }
 }
@@ -1,79 +1,122 @@
 package com.adplatform.inventory.infrastructure.client;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Targeting Service 연동 클라이언트
+ * - 배치 매칭은 광고 선택 마감 시간에 맞춘 짧은 타임아웃의 RestTemplate으로 호출 (targetingMatchRestTemplate)
  */
 @Component
 @Slf4j
 public class TargetingClient {
 
     private final RestTemplate restTemplate;
+    private final RestTemplate matchRestTemplate;
     private final String targetingServiceUrl;
 
     public TargetingClient(
         RestTemplate restTemplate,
+        @Qualifier("targetingMatchRestTemplate") RestTemplate matchRestTemplate,
         @Value("${services.targeting.url:http://localhost:8083}") String targetingServiceUrl
     ) {
         this.restTemplate = restTemplate;
+        this.matchRestTemplate = matchRestTemplate;
         this.targetingServiceUrl = targetingServiceUrl;
     }
 
     /**
-     * 타겟팅 매칭 수행
+     * 배치 타겟팅 매칭 수행
+     * - 사용자 컨텍스트 하나로 여러 캠페인을 한 번의 요청으로 스코어링
+     * - 결과에 없는 캠페인은 매칭되지 않은 것으로 간주
+     * - 실패(타임아웃 포함) 시 예외를 그대로 전파: 호출하는 쪽(TargetingMatchFanout)이 누락으로 집계
+     *
+     * @return 캠페인 ID별 매칭 결과
+     * @throws org.springframework.web.client.RestClientException 호출에 실패한 경우
      */
-    public TargetingMatchDto matchTargeting(String campaignId, UserContextDto userContext) {
-        try {
-            String url = targetingServiceUrl + "/api/v1/targeting/match";
-            log.info("Matching targeting for campaign {} at: {}", campaignId, url);
+    public Map<String, TargetingMatchDto> matchTargetingBatch(
+        List<String> campaignIds,
+        UserContextDto userContext
+    ) {
+        String url = targetingServiceUrl + "/api/v1/targeting/match/batch";
+        log.info("Matching targeting for {} campaigns at: {}", campaignIds.size(), url);
 
-            // 요청 바디 구성
-            MatchTargetingRequest request = new MatchTargetingRequest();
-            request.setCampaignId(campaignId);
-            request.setUserContext(userContext);
+        BatchMatchTargetingRequest request = new BatchMatchTargetingRequest();
+        request.setCampaignIds(campaignIds);
+        request.setUserContext(userContext);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<MatchTargetingRequest> entity = new HttpEntity<>(request, headers);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<BatchMatchTargetingRequest> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<TargetingMatchDto> response = restTemplate.postForEntity(
-                url,
-                entity,
-                TargetingMatchDto.class
-            );
+        ResponseEntity<List<TargetingMatchDto>> response = matchRestTemplate.exchange(
+            url,
+            HttpMethod.POST,
+            entity,
+            new ParameterizedTypeReference<List<TargetingMatchDto>>() {}
+        );
 
-            TargetingMatchDto result = response.getBody();
-            if (result != null) {
-                log.info("Targeting match result for campaign {}: score={}, matched={}",
-                    campaignId, result.getMatchScore(), result.isMatched());
-            }
-            return result;
+        List<TargetingMatchDto> results = response.getBody();
+        if (results == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, TargetingMatchDto> resultsByCampaign = new HashMap<>();
+        for (TargetingMatchDto result : results) {
+            resultsByCampaign.put(result.getCampaignId(), result);
+        }
+        log.info("Targeting batch match result: {} of {} campaigns matched",
+            resultsByCampaign.size(), campaignIds.size());
+        return resultsByCampaign;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to match targeting for campaign: {}", campaignId, e);
-            // 실패 시 기본값 반환 (스코어 0, 매칭 안됨)
-            return TargetingMatchDto.builder()
-                .campaignId(campaignId)
-                .matchScore(0)
-                .matched(false)
-                .build();
+    /**
+     * 타겟팅 룰 피드 조회
+     * - since가 null이면 전체 룰, 아니면 해당 시각 이후 수정된 룰만 조회
+     * - 실패 시 예외를 그대로 전파 (빈 목록으로 오인하여 로컬 스냅샷을 비우지 않도록)
+     */
+    public List<TargetingRuleDto> getRulesUpdatedSince(Instant since) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder
+            .fromHttpUrl(targetingServiceUrl + "/api/v1/targeting/rules");
+        if (since != null) {
+            uriBuilder.queryParam("updatedSince", since.toString());
         }
+        String url = uriBuilder.toUriString();
+        log.debug("Fetching targeting rules from: {}", url);
+
+        ResponseEntity<List<TargetingRuleDto>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<TargetingRuleDto>>() {}
+        );
+
+        List<TargetingRuleDto> rules = response.getBody();
+        return rules != null ? rules : Collections.emptyList();
     }
 
     /**
-     * 타겟팅 매칭 요청 DTO
+     * 배치 타겟팅 매칭 요청 DTO
      */
     @lombok.Data
-    private static class MatchTargetingRequest {
-        private String campaignId;
+    private static class BatchMatchTargetingRequest {
+        private List<String> campaignIds;
         private UserContextDto userContext;
     }
 }
@@ -0,0 +1,126 @@
+package com.adplatform.inventory.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 원격 타겟팅 매칭 병렬 실행기
+ * - 캠페인 목록을 청크로 나눠 배치 매칭을 동시에 호출하고, 하나의 경매 마감 시간 안에 결과를 모음
+ * - 마감 시간을 넘긴 청크는 버리고(매칭되지 않은 것으로 처리) 누락 건수를 메트릭으로 집계
+ * - 선택 지연 시간은 호출 합계가 아니라 마감 시간으로 제한됨
+ */
+@Component
+@Slf4j
+public class TargetingMatchFanout {
+
+    private static final String DROPPED_METRIC = "inventory.selection.targeting.dropped";
+
+    private final TargetingClient targetingClient;
+    private final ExecutorService executor;
+    private final long deadlineNanos;
+    private final int chunkSize;
+    private final Counter timedOut;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public TargetingMatchFanout(
+        TargetingClient targetingClient,
+        @Qualifier("targetingFanoutExecutor") ExecutorService executor,
+        MeterRegistry meterRegistry,
+        @Value("${inventory.selection.deadline-ms:150}") long deadlineMs,
+        @Value("${inventory.selection.fanout.chunk-size:50}") int chunkSize
+    ) {
+        this.targetingClient = targetingClient;
+        this.executor = executor;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.timedOut = droppedCounter(meterRegistry, "timeout");
+        this.rejected = droppedCounter(meterRegistry, "rejected");
+        this.failed = droppedCounter(meterRegistry, "error");
+    }
+
+    /**
+     * 마감 시간 안에 매칭 결과 수집
+     *
+     * @return 캠페인 ID별 매칭 결과 (마감 시간 내 응답한 청크만 포함)
+     */
+    public Map<String, TargetingMatchDto> match(List<String> campaignIds, UserContextDto userContext) {
+        long deadline = System.nanoTime() + deadlineNanos;
+
+        List<List<String>> chunks = partition(campaignIds);
+        List<Future<Map<String, TargetingMatchDto>>> futures = new ArrayList<>(chunks.size());
+        int dropped = 0;
+        for (List<String> chunk : chunks) {
+            try {
+                futures.add(executor.submit(() -> targetingClient.matchTargetingBatch(chunk, userContext)));
+            } catch (RejectedExecutionException e) {
+                rejected.increment(chunk.size());
+                dropped += chunk.size();
+                futures.add(null);
+            }
+        }
+
+        Map<String, TargetingMatchDto> results = new HashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            Future<Map<String, TargetingMatchDto>> future = futures.get(i);
+            if (future == null) {
+                continue;
+            }
+
+            int chunkCampaigns = chunks.get(i).size();
+            long remaining = deadline - System.nanoTime();
+            try {
+                results.putAll(future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // 블로킹 소켓 I/O는 인터럽트로 중단되지 않을 수 있으나 요청은 더 기다리지 않음
+                future.cancel(true);
+                timedOut.increment(chunkCampaigns);
+                dropped += chunkCampaigns;
+            } catch (ExecutionException e) {
+                log.warn("Targeting match chunk failed", e.getCause());
+                failed.increment(chunkCampaigns);
+                dropped += chunkCampaigns;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                failed.increment(chunkCampaigns);
+                dropped += chunkCampaigns;
+            }
+        }
+
+        if (dropped > 0) {
+            log.debug("Targeting fan-out finished with {} of {} campaigns dropped", dropped, campaignIds.size());
+        }
+        return results;
+    }
+
+    private List<List<String>> partition(List<String> campaignIds) {
+        List<List<String>> chunks = new ArrayList<>((campaignIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < campaignIds.size(); from += chunkSize) {
+            chunks.add(campaignIds.subList(from, Math.min(from + chunkSize, campaignIds.size())));
+        }
+        return chunks;
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(DROPPED_METRIC)
+            .description("경매 마감 시간 안에 매칭 결과를 받지 못해 제외된 캠페인 수")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.adplatform.inventory.infrastructure.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 타겟팅 룰 DTO (Targeting Service 룰 피드로부터 받음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TargetingRuleDto {
+    private String id;
+    private String campaignId;
+    private Integer ageMin;
+    private Integer ageMax;
+    private String gender;
+    private List<String> geoTargets;
+    private List<String> deviceTypes;
+    private List<String> keywords;
+    private Instant updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.adplatform.inventory.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 서비스 간 내부 API 인증
+ * - 호출 서비스는 공유 토큰을 X-Internal-Token 헤더로 보냄 (Campaign Service 변경 알림 등)
+ * - 토큰이 없거나 32바이트보다 짧으면 기동하지 않음 (인증 없이 스냅샷을 바꿀 수 있게 되므로)
+ * - 비교는 고정 시간 (응답 시간으로 토큰을 추측할 수 없음)
+ */
+@Component
+public class InternalApiAuthenticator {
+
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+    static final int MIN_TOKEN_BYTES = 32;
+
+    private final byte[] token;
+
+    public InternalApiAuthenticator(
+        @Value("${internal-api.token:}") String token
+    ) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("내부 API 토큰은 필수입니다 (INTERNAL_API_TOKEN)");
+        }
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        if (this.token.length < MIN_TOKEN_BYTES) {
+            throw new IllegalArgumentException("내부 API 토큰은 " + MIN_TOKEN_BYTES + "바이트 이상이어야 합니다");
+        }
+    }
+
+    /**
+     * 요청 헤더의 토큰이 공유 토큰과 같은지 확인
+     */
+    public boolean authenticate(String presentedToken) {
+        if (presentedToken == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(token, presentedToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,237 @@
+package com.adplatform.inventory.infrastructure.snapshot;
+
+import com.adplatform.inventory.domain.model.ServableCampaign;
+import com.adplatform.inventory.infrastructure.client.CampaignChangeDto;
+import com.adplatform.inventory.infrastructure.client.CampaignDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 캠페인 로컬 스냅샷 (크리에이티브 카탈로그)
+ * - Campaign Service의 게재 가능한 캠페인과 그 광고그룹/광고를 메모리에 보관
+ * - 캠페인마다 경매에 참여할 광고그룹(활성 광고가 있는 광고그룹 중 최고 입찰가)을 미리 골라둠
+ * - 읽기는 락 없이 불변 스냅샷 참조만 사용하고, 갱신은 새 스냅샷을 만들어 교체 (copy-on-write)
+ * - 교체될 때마다 버전 증가
+ * - 캠페인마다 마지막으로 반영한 Campaign Service 버전(변경 시각)을 기억해 더 새로운 항목을 유지
+ *   (전체 동기화 목록보다 늦게 도착한 알림이 더 새로우면 목록으로 덮어쓰지 않고, 늦게 도착한 오래된 알림은 무시)
+ */
+@Component
+@Slf4j
+public class ActiveCampaignSnapshot {
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * 캠페인별 마지막으로 반영한 Campaign Service 버전 (제거된 캠페인 포함, 갱신 메서드에서만 접근)
+     */
+    private final Map<String, Long> campaignVersions = new HashMap<>();
+
+    /**
+     * 최초 전체 동기화가 끝났는지 여부
+     */
+    public boolean isReady() {
+        return current.get().loaded;
+    }
+
+    /**
+     * 게재 가능한 캠페인 목록 (불변)
+     */
+    public List<ServableCampaign> getServableCampaigns() {
+        return current.get().campaigns;
+    }
+
+    public long getVersion() {
+        return current.get().version;
+    }
+
+    /**
+     * 전체 캠페인으로 스냅샷 교체
+     * - 목록의 버전보다 새로운 알림을 이미 반영한 캠페인은 현재 항목(또는 제거 상태)을 유지
+     * - 목록에 없는 캠페인은 목록 조회 이후에 바뀐 경우에만 유지하고 나머지는 제거
+     *   (버전이 없는 목록이면 모두 목록대로 교체)
+     */
+    public synchronized void replaceAll(List<CampaignDto> campaigns) {
+        Snapshot previous = current.get();
+        Long listedAt = listedAt(campaigns);
+        Map<String, ServableCampaign> campaignsById = new LinkedHashMap<>();
+        Map<String, Long> versions = new HashMap<>();
+        Set<String> listedIds = new HashSet<>();
+        int kept = 0;
+
+        for (CampaignDto campaign : campaigns) {
+            if (campaign.getId() == null) {
+                continue;
+            }
+            listedIds.add(campaign.getId());
+            Long known = campaignVersions.get(campaign.getId());
+            if (isNewer(known, campaign.getVersion())) {
+                keepCurrent(previous, campaign.getId(), campaignsById);
+                versions.put(campaign.getId(), known);
+                kept++;
+                continue;
+            }
+            ServableCampaign servable = toServable(campaign);
+            if (servable != null) {
+                campaignsById.put(servable.getCampaignId(), servable);
+            }
+            if (campaign.getVersion() != null) {
+                versions.put(campaign.getId(), campaign.getVersion());
+            }
+        }
+
+        for (Map.Entry<String, Long> entry : campaignVersions.entrySet()) {
+            if (!listedIds.contains(entry.getKey()) && isNewer(entry.getValue(), listedAt)) {
+                keepCurrent(previous, entry.getKey(), campaignsById);
+                versions.put(entry.getKey(), entry.getValue());
+                kept++;
+            }
+        }
+
+        campaignVersions.clear();
+        campaignVersions.putAll(versions);
+        Snapshot next = previous.next(campaignsById);
+        current.set(next);
+        log.info("Active campaign snapshot replaced: {} campaigns, {} kept from newer changes (version {})",
+            campaignsById.size(), kept, next.version);
+    }
+
+    /**
+     * 캠페인 변경 알림 반영
+     * - 이미 반영한 버전보다 오래된 알림은 무시
+     * - 게재 불가 상태가 되면 제거, 그 외에는 교체
+     */
+    public synchronized void applyChange(CampaignChangeDto change) {
+        Long known = campaignVersions.get(change.getCampaignId());
+        if (isNewer(known, change.getVersion())) {
+            log.debug("Stale campaign change ignored: {} (version {} < {})",
+                change.getCampaignId(), change.getVersion(), known);
+            return;
+        }
+        if (change.getVersion() != null) {
+            campaignVersions.put(change.getCampaignId(), change.getVersion());
+        }
+
+        Snapshot previous = current.get();
+        Map<String, ServableCampaign> campaignsById = new LinkedHashMap<>(previous.campaignsById);
+
+        ServableCampaign servable = change.isActive() ? toServable(change.getCampaign()) : null;
+        if (servable != null) {
+            campaignsById.put(change.getCampaignId(), servable);
+        } else if (campaignsById.remove(change.getCampaignId()) == null) {
+            // 스냅샷에 없던 캠페인이 비활성화된 경우 교체할 필요 없음
+            return;
+        }
+
+        Snapshot next = previous.next(campaignsById);
+        current.set(next);
+        log.debug("Active campaign snapshot updated by change of {} (version {})",
+            change.getCampaignId(), next.version);
+    }
+
+    /**
+     * 목록 조회 시각 (항목 버전 중 가장 이른 값, 버전이 없으면 null)
+     */
+    private static Long listedAt(List<CampaignDto> campaigns) {
+        Long listedAt = null;
+        for (CampaignDto campaign : campaigns) {
+            if (campaign.getVersion() != null && (listedAt == null || campaign.getVersion() < listedAt)) {
+                listedAt = campaign.getVersion();
+            }
+        }
+        return listedAt;
+    }
+
+    private static boolean isNewer(Long known, Long version) {
+        return known != null && version != null && known > version;
+    }
+
+    private static void keepCurrent(Snapshot previous, String campaignId, Map<String, ServableCampaign> campaignsById) {
+        ServableCampaign existing = previous.campaignsById.get(campaignId);
+        if (existing != null) {
+            campaignsById.put(campaignId, existing);
+        }
+    }
+
+    /**
+     * 게재 가능한 캠페인으로 변환
+     * - 활성 상태이고, 활성 광고가 하나 이상 있는 광고그룹이 있어야 함
+     * - 그런 광고그룹이 여러 개면 입찰가가 가장 높은 광고그룹 사용 (동일하면 먼저 나온 것)
+     */
+    private ServableCampaign toServable(CampaignDto campaign) {
+        if (campaign == null
+            || campaign.getId() == null
+            || !"ACTIVE".equals(campaign.getStatus())
+            || campaign.getAdGroups() == null) {
+            return null;
+        }
+
+        CampaignDto.AdGroupDto best = null;
+        for (CampaignDto.AdGroupDto adGroup : campaign.getAdGroups()) {
+            if (adGroup.getId() == null
+                || adGroup.getBid() == null
+                || adGroup.getBid() <= 0
+                || adGroup.getAds() == null
+                || adGroup.getAds().isEmpty()) {
+                continue;
+            }
+            if (best == null || adGroup.getBid() > best.getBid()) {
+                best = adGroup;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+
+        List<String> adIds = new ArrayList<>(best.getAds().size());
+        for (CampaignDto.AdDto ad : best.getAds()) {
+            adIds.add(ad.getId());
+        }
+        return ServableCampaign.of(campaign.getId(), best.getId(), best.getBid(), adIds);
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(
+            Collections.emptyMap(), Collections.emptyList(), 0L, false
+        );
+
+        final Map<String, ServableCampaign> campaignsById;
+        final List<ServableCampaign> campaigns;
+        final long version;
+        final boolean loaded;
+
+        private Snapshot(
+            Map<String, ServableCampaign> campaignsById,
+            List<ServableCampaign> campaigns,
+            long version,
+            boolean loaded
+        ) {
+            this.campaignsById = campaignsById;
+            this.campaigns = campaigns;
+            this.version = version;
+            this.loaded = loaded;
+        }
+
+        Snapshot next(Map<String, ServableCampaign> campaignsById) {
+            return new Snapshot(
+                Collections.unmodifiableMap(campaignsById),
+                Collections.unmodifiableList(new ArrayList<>(campaignsById.values())),
+                version + 1,
+                true
+            );
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.adplatform.inventory.infrastructure.snapshot;
+
+import com.adplatform.inventory.infrastructure.client.CampaignClient;
+import com.adplatform.inventory.infrastructure.client.CampaignDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 캠페인 스냅샷 동기화
+ * - 변경은 Campaign Service의 푸시 알림으로 즉시 반영
+ * - 알림 유실에 대비해 시작 시 및 주기적으로 전체 동기화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveCampaignSynchronizer {
+
+    private final CampaignClient campaignClient;
+    private final ActiveCampaignSnapshot snapshot;
+
+    /**
+     * 전체 동기화
+     * - 최초 동기화 전에는 짧은 주기로 재시도
+     */
+    @Scheduled(fixedDelayString = "${inventory.campaign-sync.retry-interval-ms:2000}")
+    public void syncUntilReady() {
+        if (!snapshot.isReady()) {
+            fullResync();
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${inventory.campaign-sync.full-resync-interval-ms:60000}",
+        initialDelayString = "${inventory.campaign-sync.full-resync-interval-ms:60000}"
+    )
+    public void fullResync() {
+        try {
+            List<CampaignDto> campaigns = campaignClient.getActiveCampaigns();
+            snapshot.replaceAll(campaigns);
+        } catch (Exception e) {
+            log.warn("Full active campaign sync failed, keeping current snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.adplatform.inventory.infrastructure.snapshot;
+
+import com.adplatform.inventory.domain.model.CompiledTargetingRule;
+import com.adplatform.inventory.domain.model.TargetingContext;
+import com.adplatform.inventory.infrastructure.client.TargetingRuleDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 타겟팅 룰 로컬 스냅샷
+ * - Targeting Service의 룰을 컴파일된 형태로 메모리에 보관
+ * - 읽기는 락 없이 불변 스냅샷 참조만 사용하고, 갱신은 새 스냅샷을 만들어 교체 (copy-on-write)
+ * - 광고 선택 시 캠페인별 매칭 스코어를 네트워크 호출 없이 계산
+ */
+@Component
+@Slf4j
+public class TargetingRuleSnapshot {
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * 최초 전체 동기화가 끝났는지 여부
+     */
+    public boolean isReady() {
+        return current.get().loaded;
+    }
+
+    /**
+     * 캠페인의 매칭 스코어 (0-100)
+     * - 캠페인에 룰이 여러 개면 가장 높은 스코어 사용
+     * - 룰이 없는 캠페인은 0 (Targeting Service 매칭 결과에 포함되지 않는 것과 동일)
+     */
+    public int matchScore(String campaignId, TargetingContext context) {
+        List<CompiledTargetingRule> rules = current.get().rulesByCampaign.get(campaignId);
+        if (rules == null) {
+            return 0;
+        }
+
+        int bestScore = 0;
+        for (CompiledTargetingRule rule : rules) {
+            int score = rule.matchScore(context);
+            if (score > bestScore) {
+                bestScore = score;
+            }
+        }
+        return bestScore;
+    }
+
+    /**
+     * 마지막으로 반영된 룰의 최신 수정 시각 (증분 동기화 기준점)
+     */
+    public Instant getWatermark() {
+        return current.get().watermark;
+    }
+
+    public int size() {
+        return current.get().rulesById.size();
+    }
+
+    /**
+     * 전체 룰로 스냅샷 교체 (삭제된 룰 정리 포함)
+     */
+    public synchronized void replaceAll(List<TargetingRuleDto> rules) {
+        Map<String, CompiledTargetingRule> rulesById = new HashMap<>();
+        Instant watermark = null;
+        for (TargetingRuleDto rule : rules) {
+            rulesById.put(rule.getId(), compile(rule));
+            watermark = latest(watermark, rule.getUpdatedAt());
+        }
+        current.set(Snapshot.of(rulesById, watermark));
+        log.info("Targeting rule snapshot replaced: {} rules", rulesById.size());
+    }
+
+    /**
+     * 변경된 룰만 반영
+     */
+    public synchronized void applyChanges(List<TargetingRuleDto> changedRules) {
+        if (changedRules.isEmpty()) {
+            return;
+        }
+
+        Snapshot previous = current.get();
+        Map<String, CompiledTargetingRule> rulesById = new HashMap<>(previous.rulesById);
+        Instant watermark = previous.watermark;
+        for (TargetingRuleDto rule : changedRules) {
+            rulesById.put(rule.getId(), compile(rule));
+            watermark = latest(watermark, rule.getUpdatedAt());
+        }
+        current.set(Snapshot.of(rulesById, watermark));
+        log.debug("Targeting rule snapshot updated: {} changed rules", changedRules.size());
+    }
+
+    private CompiledTargetingRule compile(TargetingRuleDto rule) {
+        return CompiledTargetingRule.compile(
+            rule.getId(),
+            rule.getCampaignId(),
+            rule.getAgeMin(),
+            rule.getAgeMax(),
+            rule.getGender(),
+            rule.getGeoTargets(),
+            rule.getDeviceTypes(),
+            rule.getKeywords()
+        );
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(
+            Collections.emptyMap(), Collections.emptyMap(), null, false
+        );
+
+        final Map<String, CompiledTargetingRule> rulesById;
+        final Map<String, List<CompiledTargetingRule>> rulesByCampaign;
+        final Instant watermark;
+        final boolean loaded;
+
+        private Snapshot(
+            Map<String, CompiledTargetingRule> rulesById,
+            Map<String, List<CompiledTargetingRule>> rulesByCampaign,
+            Instant watermark,
+            boolean loaded
+        ) {
+            this.rulesById = rulesById;
+            this.rulesByCampaign = rulesByCampaign;
+            this.watermark = watermark;
+            this.loaded = loaded;
+        }
+
+        static Snapshot of(Map<String, CompiledTargetingRule> rulesById, Instant watermark) {
+            Map<String, List<CompiledTargetingRule>> rulesByCampaign = new HashMap<>();
+            for (CompiledTargetingRule rule : rulesById.values()) {
+                rulesByCampaign
+                    .computeIfAbsent(rule.getCampaignId(), key -> new ArrayList<>())
+                    .add(rule);
+            }
+            return new Snapshot(
+                Collections.unmodifiableMap(rulesById),
+                Collections.unmodifiableMap(rulesByCampaign),
+                watermark,
+                true
+            );
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.adplatform.inventory.infrastructure.snapshot;
+
+import com.adplatform.inventory.infrastructure.client.TargetingClient;
+import com.adplatform.inventory.infrastructure.client.TargetingRuleDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 타겟팅 룰 스냅샷 동기화
+ * - 시작 시 및 주기적으로 전체 동기화 (삭제된 룰 정리)
+ * - 그 사이에는 updatedAt 기준 증분 동기화로 변경분만 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TargetingRuleSynchronizer {
+
+    /**
+     * 커밋 지연으로 워터마크보다 늦게 보이는 변경을 놓치지 않기 위한 겹침 구간
+     * (같은 룰을 다시 받아도 덮어쓰기이므로 안전)
+     */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+
+    private final TargetingClient targetingClient;
+    private final TargetingRuleSnapshot snapshot;
+
+    /**
+     * 전체 동기화
+     */
+    @Scheduled(fixedDelayString = "${inventory.targeting-sync.full-resync-interval-ms:300000}")
+    public void fullResync() {
+        try {
+            List<TargetingRuleDto> rules = targetingClient.getRulesUpdatedSince(null);
+            snapshot.replaceAll(rules);
+        } catch (Exception e) {
+            log.warn("Full targeting rule sync failed, keeping current snapshot", e);
+        }
+    }
+
+    /**
+     * 증분 동기화
+     */
+    @Scheduled(
+        fixedDelayString = "${inventory.targeting-sync.interval-ms:2000}",
+        initialDelayString = "${inventory.targeting-sync.interval-ms:2000}"
+    )
+    public void syncChanges() {
+        if (!snapshot.isReady()) {
+            fullResync();
+            return;
+        }
+
+        Instant watermark = snapshot.getWatermark();
+        if (watermark == null) {
+            // 아직 룰이 하나도 없으면 전체 조회와 동일
+            fullResync();
+            return;
+        }
+
+        try {
+            List<TargetingRuleDto> changedRules =
+                targetingClient.getRulesUpdatedSince(watermark.minus(WATERMARK_OVERLAP));
+            snapshot.applyChanges(changedRules);
+        } catch (Exception e) {
+            log.warn("Incremental targeting rule sync failed", e);
+        }
+    }
+}
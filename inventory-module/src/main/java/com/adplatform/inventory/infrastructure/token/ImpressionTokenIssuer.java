@@ -0,0 +1,113 @@
+package com.adplatform.inventory.infrastructure.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 노출 토큰 발급
+ *
+ * 형식: {id}.{payload}.{signature}
+ * - id: 발급 시각(epoch millis, 12자리 hex) + 난수(16자리 hex), 문자열 정렬 = 시간 순서
+ * - payload: base64url(bid(8) + placementId + campaignId + adId), 문자열은 길이(2) + UTF-8
+ * - signature: base64url(HMAC-SHA256(secret, id + "." + payload) 앞 16바이트)
+ *
+ * Event Log Service는 같은 비밀키로 저장소 조회 없이 토큰을 검증한다.
+ * 비밀키가 없거나 32바이트보다 짧으면 기동하지 않는다 (알려진 키로 서명하면 누구나 토큰을 위조할 수 있음).
+ * 난수는 ThreadLocalRandom을 사용 (SecureRandom 경합 없음, 위조 방지는 서명이 담당).
+ */
+@Component
+public class ImpressionTokenIssuer {
+
+    static final String HMAC_ALGORITHM = "HmacSHA256";
+    static final int SIGNATURE_LENGTH = 16;
+    static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Mac> mac;
+
+    public ImpressionTokenIssuer(
+        @Value("${impression-token.secret:}") String secret
+    ) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("노출 토큰 비밀키는 필수입니다 (IMPRESSION_TOKEN_SECRET)");
+        }
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("노출 토큰 비밀키는 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화에 실패했습니다", e);
+            }
+        });
+        // 설정 오류를 기동 시점에 드러냄
+        this.mac.get();
+    }
+
+    /**
+     * 노출 토큰 발급
+     */
+    public String issue(String placementId, String campaignId, String adId, long bid) {
+        return issue(placementId, campaignId, adId, bid, System.currentTimeMillis());
+    }
+
+    String issue(String placementId, String campaignId, String adId, long bid, long issuedAtMillis) {
+        StringBuilder token = new StringBuilder(96);
+        appendHex(token, issuedAtMillis, 12);
+        appendHex(token, ThreadLocalRandom.current().nextLong(), 16);
+        token.append('.');
+        token.append(BASE64.encodeToString(payload(placementId, campaignId, adId, bid)));
+
+        byte[] signature = mac.get().doFinal(token.toString().getBytes(StandardCharsets.US_ASCII));
+        token.append('.');
+        token.append(BASE64.encodeToString(truncate(signature)));
+        return token.toString();
+    }
+
+    private static byte[] payload(String placementId, String campaignId, String adId, long bid) {
+        byte[] placement = placementId.getBytes(StandardCharsets.UTF_8);
+        byte[] campaign = campaignId.getBytes(StandardCharsets.UTF_8);
+        byte[] ad = adId.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 6 + placement.length + campaign.length + ad.length);
+        buffer.putLong(bid);
+        putString(buffer, placement);
+        putString(buffer, campaign);
+        putString(buffer, ad);
+        return buffer.array();
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value.length > 0xFFFF) {
+            throw new IllegalArgumentException("토큰에 담을 수 없는 길이입니다");
+        }
+        buffer.putShort((short) value.length);
+        buffer.put(value);
+    }
+
+    private static byte[] truncate(byte[] signature) {
+        byte[] truncated = new byte[SIGNATURE_LENGTH];
+        System.arraycopy(signature, 0, truncated, 0, SIGNATURE_LENGTH);
+        return truncated;
+    }
+
+    private static void appendHex(StringBuilder builder, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            builder.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+}
@@ -201,6 +201,54 @@ class InventoryControllerTest {
         verify(selectAdUseCase, times(1)).execute(any());
     }
 
+    @Test
+    @DisplayName("다중 슬롯 광고를 순위순으로 선택할 수 있다")
+    void selectAds_Success() throws Exception {
+        // given
+        SelectAdRequest request = SelectAdRequest.builder()
+            .placementId("placement-1")
+            .userContext(SelectAdRequest.UserContext.builder()
+                .userId("user-1")
+                .build())
+            .slots(2)
+            .build();
+
+        when(selectAdUseCase.executeForSlots(any())).thenReturn(Arrays.asList(
+            AdSelectionResult.builder().campaignId("campaign-2").impressionToken("token-1").build(),
+            AdSelectionResult.builder().campaignId("campaign-1").impressionToken("token-2").build()
+        ));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/inventory/select-ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].campaignId").value("campaign-2"))
+            .andExpect(jsonPath("$[1].campaignId").value("campaign-1"));
+    }
+
+    @Test
+    @DisplayName("슬롯 수가 범위를 벗어나면 400을 반환한다")
+    void selectAds_InvalidSlots() throws Exception {
+        // given
+        SelectAdRequest request = SelectAdRequest.builder()
+            .placementId("placement-1")
+            .userContext(SelectAdRequest.UserContext.builder()
+                .userId("user-1")
+                .build())
+            .slots(0)
+            .build();
+
+        // when & then
+        mockMvc.perform(post("/api/v1/inventory/select-ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+
+        verify(selectAdUseCase, never()).executeForSlots(any());
+    }
+
     @Test
     @DisplayName("선택 가능한 광고가 없으면 404를 반환한다")
     void selectAd_NoAdsAvailable() throws Exception {
@@ -9,26 +9,34 @@ import com.adplatform.inventory.domain.model.Placement;
 import com.adplatform.inventory.domain.model.PlacementStatus;
 import com.adplatform.inventory.domain.model.PlacementType;
 import com.adplatform.inventory.domain.model.PricingModel;
+import com.adplatform.inventory.domain.model.ServableCampaign;
 import com.adplatform.inventory.domain.repository.PlacementRepository;
-import com.adplatform.inventory.infrastructure.client.CampaignClient;
-import com.adplatform.inventory.infrastructure.client.CampaignDto;
-import com.adplatform.inventory.infrastructure.client.TargetingClient;
+import com.adplatform.inventory.domain.service.AuctionEngine;
+import com.adplatform.inventory.domain.service.BidTimesMatchScoreRanker;
+import com.adplatform.inventory.infrastructure.client.TargetingMatchFanout;
 import com.adplatform.inventory.infrastructure.client.TargetingMatchDto;
+import com.adplatform.inventory.infrastructure.snapshot.ActiveCampaignSnapshot;
+import com.adplatform.inventory.infrastructure.snapshot.TargetingRuleSnapshot;
+import com.adplatform.inventory.infrastructure.token.ImpressionTokenIssuer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,10 +47,19 @@ class SelectAdUseCaseTest {
     private PlacementRepository placementRepository;
 
     @Mock
-    private CampaignClient campaignClient;
+    private ActiveCampaignSnapshot activeCampaignSnapshot;
 
     @Mock
-    private TargetingClient targetingClient;
+    private TargetingMatchFanout targetingMatchFanout;
+
+    @Mock
+    private TargetingRuleSnapshot targetingRuleSnapshot;
+
+    @Spy
+    private AuctionEngine auctionEngine = new AuctionEngine(new BidTimesMatchScoreRanker());
+
+    @Spy
+    private ImpressionTokenIssuer impressionTokenIssuer = new ImpressionTokenIssuer("test-impression-token-secret-0123456789");
 
     @InjectMocks
     private SelectAdUseCase useCase;
@@ -54,19 +71,20 @@ class SelectAdUseCaseTest {
         Placement placement = createActivePlacement();
         SelectAdCommand command = createSelectAdCommand();
 
-        List<CampaignDto> campaigns = Arrays.asList(
-            createCampaignDto("campaign-1", 5000L),
-            createCampaignDto("campaign-2", 3000L)
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 5000L),
+            createServableCampaign("campaign-2", 3000L)
         );
 
         when(placementRepository.findById("placement-1"))
             .thenReturn(Optional.of(placement));
-        when(campaignClient.getActiveCampaigns())
+        when(activeCampaignSnapshot.getServableCampaigns())
             .thenReturn(campaigns);
-        when(targetingClient.matchTargeting(eq("campaign-1"), any()))
-            .thenReturn(createTargetingMatch("campaign-1", 80, true));
-        when(targetingClient.matchTargeting(eq("campaign-2"), any()))
-            .thenReturn(createTargetingMatch("campaign-2", 90, true));
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 80, true),
+                createTargetingMatch("campaign-2", 90, true)
+            ));
 
         // when
         AdSelectionResult result = useCase.execute(command);
@@ -76,9 +94,49 @@ class SelectAdUseCaseTest {
         // campaign-2: 3000 * 90 / 100 = 2700
         // campaign-1: 5000 * 80 / 100 = 4000 <- 선택됨
         assertThat(result.getCampaignId()).isEqualTo("campaign-1");
+        assertThat(result.getAdGroupId()).isEqualTo("adgroup-campaign-1");
+        assertThat(result.getAdId()).isEqualTo("ad-campaign-1");
         assertThat(result.getBid()).isEqualTo(5000L);
         assertThat(result.getMatchScore()).isEqualTo(80);
         assertThat(result.getImpressionToken()).isNotBlank();
+        verify(impressionTokenIssuer).issue("placement-1", "campaign-1", "ad-campaign-1", 5000L);
+        // 캠페인 수와 무관하게 원격 매칭은 한 번의 팬아웃으로 처리
+        verify(targetingMatchFanout, times(1)).match(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("타겟팅 스냅샷이 준비되어 있으면 Targeting Service를 호출하지 않고 선택한다")
+    void execute_UsesLocalTargetingSnapshot() {
+        // given
+        Placement placement = createActivePlacement();
+        SelectAdCommand command = createSelectAdCommand();
+
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 5000L),
+            createServableCampaign("campaign-2", 3000L),
+            createServableCampaign("campaign-3", 9000L)
+        );
+
+        when(placementRepository.findById("placement-1"))
+            .thenReturn(Optional.of(placement));
+        when(activeCampaignSnapshot.getServableCampaigns())
+            .thenReturn(campaigns);
+        when(targetingRuleSnapshot.isReady()).thenReturn(true);
+        when(targetingRuleSnapshot.matchScore(eq("campaign-1"), any()))
+            .thenReturn(80);
+        when(targetingRuleSnapshot.matchScore(eq("campaign-2"), any()))
+            .thenReturn(90);
+        when(targetingRuleSnapshot.matchScore(eq("campaign-3"), any()))
+            .thenReturn(0);
+
+        // when
+        AdSelectionResult result = useCase.execute(command);
+
+        // then
+        // campaign-3은 매칭 스코어 0으로 제외
+        assertThat(result.getCampaignId()).isEqualTo("campaign-1");
+        assertThat(result.getMatchScore()).isEqualTo(80);
+        verify(targetingMatchFanout, never()).match(anyList(), any());
     }
 
     @Test
@@ -88,22 +146,22 @@ class SelectAdUseCaseTest {
         Placement placement = createActivePlacement();
         SelectAdCommand command = createSelectAdCommand();
 
-        List<CampaignDto> campaigns = Arrays.asList(
-            createCampaignDto("campaign-1", 2000L),
-            createCampaignDto("campaign-2", 3000L),
-            createCampaignDto("campaign-3", 1000L)
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 2000L),
+            createServableCampaign("campaign-2", 3000L),
+            createServableCampaign("campaign-3", 1000L)
         );
 
         when(placementRepository.findById("placement-1"))
             .thenReturn(Optional.of(placement));
-        when(campaignClient.getActiveCampaigns())
+        when(activeCampaignSnapshot.getServableCampaigns())
             .thenReturn(campaigns);
-        when(targetingClient.matchTargeting(eq("campaign-1"), any()))
-            .thenReturn(createTargetingMatch("campaign-1", 50, true));
-        when(targetingClient.matchTargeting(eq("campaign-2"), any()))
-            .thenReturn(createTargetingMatch("campaign-2", 100, true));
-        when(targetingClient.matchTargeting(eq("campaign-3"), any()))
-            .thenReturn(createTargetingMatch("campaign-3", 30, true));
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 50, true),
+                createTargetingMatch("campaign-2", 100, true),
+                createTargetingMatch("campaign-3", 30, true)
+            ));
 
         // when
         AdSelectionResult result = useCase.execute(command);
@@ -123,19 +181,20 @@ class SelectAdUseCaseTest {
         Placement placement = createActivePlacement();
         SelectAdCommand command = createSelectAdCommand();
 
-        List<CampaignDto> campaigns = Arrays.asList(
-            createCampaignDto("campaign-1", 5000L),
-            createCampaignDto("campaign-2", 3000L)
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 5000L),
+            createServableCampaign("campaign-2", 3000L)
         );
 
         when(placementRepository.findById("placement-1"))
             .thenReturn(Optional.of(placement));
-        when(campaignClient.getActiveCampaigns())
+        when(activeCampaignSnapshot.getServableCampaigns())
             .thenReturn(campaigns);
-        when(targetingClient.matchTargeting(eq("campaign-1"), any()))
-            .thenReturn(createTargetingMatch("campaign-1", 0, false));
-        when(targetingClient.matchTargeting(eq("campaign-2"), any()))
-            .thenReturn(createTargetingMatch("campaign-2", 80, true));
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 0, false),
+                createTargetingMatch("campaign-2", 80, true)
+            ));
 
         // when
         AdSelectionResult result = useCase.execute(command);
@@ -144,6 +203,76 @@ class SelectAdUseCaseTest {
         assertThat(result.getCampaignId()).isEqualTo("campaign-2");
     }
 
+    @Test
+    @DisplayName("예상 비용은 2차 가격 기준으로 계산한다")
+    void execute_ChargesSecondPrice() {
+        // given
+        Placement placement = createActivePlacement();
+        SelectAdCommand command = createSelectAdCommand();
+
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 5000L),
+            createServableCampaign("campaign-2", 3000L)
+        );
+
+        when(placementRepository.findById("placement-1"))
+            .thenReturn(Optional.of(placement));
+        when(activeCampaignSnapshot.getServableCampaigns())
+            .thenReturn(campaigns);
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 80, true),
+                createTargetingMatch("campaign-2", 90, true)
+            ));
+
+        // when
+        AdSelectionResult result = useCase.execute(command);
+
+        // then
+        // campaign-1이 campaign-2(2700)를 이기기 위한 최소 입찰가 = 2700 / 0.8 = 3375
+        // CPM이므로 노출당 비용 = 3375 / 1000 = 3
+        assertThat(result.getCampaignId()).isEqualTo("campaign-1");
+        assertThat(result.getBid()).isEqualTo(5000L);
+        assertThat(result.getEstimatedCost()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("다중 슬롯이면 순위순으로 슬롯 수만큼 선택한다")
+    void executeForSlots_ReturnsRankedAds() {
+        // given
+        Placement placement = createActivePlacement();
+        SelectAdCommand command = SelectAdCommand.builder()
+            .placementId("placement-1")
+            .userContext(createSelectAdCommand().getUserContext())
+            .slots(2)
+            .build();
+
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 2000L),
+            createServableCampaign("campaign-2", 3000L),
+            createServableCampaign("campaign-3", 1000L)
+        );
+
+        when(placementRepository.findById("placement-1"))
+            .thenReturn(Optional.of(placement));
+        when(activeCampaignSnapshot.getServableCampaigns())
+            .thenReturn(campaigns);
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 50, true),
+                createTargetingMatch("campaign-2", 100, true),
+                createTargetingMatch("campaign-3", 30, true)
+            ));
+
+        // when
+        List<AdSelectionResult> results = useCase.executeForSlots(command);
+
+        // then
+        assertThat(results)
+            .extracting(AdSelectionResult::getCampaignId)
+            .containsExactly("campaign-2", "campaign-1");
+    }
+
     @Test
     @DisplayName("게재 위치가 존재하지 않으면 예외가 발생한다")
     void execute_PlacementNotFound_ThrowsException() {
@@ -191,7 +320,7 @@ class SelectAdUseCaseTest {
 
         when(placementRepository.findById("placement-1"))
             .thenReturn(Optional.of(placement));
-        when(campaignClient.getActiveCampaigns())
+        when(activeCampaignSnapshot.getServableCampaigns())
             .thenReturn(Collections.emptyList());
 
         // when & then
@@ -206,17 +335,19 @@ class SelectAdUseCaseTest {
         Placement placement = createActivePlacement();
         SelectAdCommand command = createSelectAdCommand();
 
-        List<CampaignDto> campaigns = Arrays.asList(
-            createCampaignDto("campaign-1", 5000L),
-            createCampaignDto("campaign-2", 3000L)
+        List<ServableCampaign> campaigns = Arrays.asList(
+            createServableCampaign("campaign-1", 5000L),
+            createServableCampaign("campaign-2", 3000L)
         );
 
         when(placementRepository.findById("placement-1"))
             .thenReturn(Optional.of(placement));
-        when(campaignClient.getActiveCampaigns())
+        when(activeCampaignSnapshot.getServableCampaigns())
             .thenReturn(campaigns);
-        when(targetingClient.matchTargeting(anyString(), any()))
-            .thenReturn(createTargetingMatch("campaign-1", 0, false));
+        when(targetingMatchFanout.match(anyList(), any()))
+            .thenReturn(matchResults(
+                createTargetingMatch("campaign-1", 0, false)
+            ));
 
         // when & then
         assertThatThrownBy(() -> useCase.execute(command))
@@ -251,14 +382,13 @@ class SelectAdUseCaseTest {
             .build();
     }
 
-    private CampaignDto createCampaignDto(String campaignId, Long bidAmount) {
-        return CampaignDto.builder()
-            .id(campaignId)
-            .advertiserId("adv-1")
-            .name("Campaign " + campaignId)
-            .bidAmount(bidAmount)
-            .status("ACTIVE")
-            .build();
+    private ServableCampaign createServableCampaign(String campaignId, Long bidAmount) {
+        return ServableCampaign.of(
+            campaignId,
+            "adgroup-" + campaignId,
+            bidAmount,
+            Collections.singletonList("ad-" + campaignId)
+        );
     }
 
     private TargetingMatchDto createTargetingMatch(String campaignId, int score, boolean matched) {
@@ -268,4 +398,9 @@ class SelectAdUseCaseTest {
             .matched(matched)
             .build();
     }
+
+    private Map<String, TargetingMatchDto> matchResults(TargetingMatchDto... matches) {
+        return Arrays.stream(matches)
+            .collect(Collectors.toMap(TargetingMatchDto::getCampaignId, Function.identity()));
+    }
 }
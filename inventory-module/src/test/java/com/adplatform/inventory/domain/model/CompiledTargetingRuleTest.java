@@ -0,0 +1,116 @@
+package com.adplatform.inventory.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompiledTargetingRule 테스트")
+class CompiledTargetingRuleTest {
+
+    @Test
+    @DisplayName("조건이 없는 룰은 모든 사용자에게 100점을 반환한다")
+    void matchScore_NoCriteria_Returns100() {
+        // given
+        CompiledTargetingRule rule = CompiledTargetingRule.compile(
+            "rule-1", "campaign-1", null, null, null, null, null, null
+        );
+
+        // when
+        int score = rule.matchScore(createContext(25, "M", "KR", "Seoul", "MOBILE", "sports"));
+
+        // then
+        assertThat(score).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("모든 조건이 일치하면 100점을 반환한다")
+    void matchScore_AllMatched_Returns100() {
+        // given
+        CompiledTargetingRule rule = CompiledTargetingRule.compile(
+            "rule-1", "campaign-1", 20, 40, "M",
+            Arrays.asList("KR"),
+            Arrays.asList("MOBILE"),
+            Arrays.asList("Sports", "tech")
+        );
+
+        // when
+        int score = rule.matchScore(
+            TargetingContext.of(25, "m", "kr", null, "mobile", Arrays.asList("sports", "TECH"))
+        );
+
+        // then
+        assertThat(score).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("조건이 있는 항목 기준으로 부분 점수를 정규화한다")
+    void matchScore_PartialMatch_Normalized() {
+        // given: 지역(25) 일치, 디바이스(20) 불일치, 키워드(25) 절반 일치
+        CompiledTargetingRule rule = CompiledTargetingRule.compile(
+            "rule-1", "campaign-1", null, null, null,
+            Arrays.asList("Seoul"),
+            Arrays.asList("DESKTOP"),
+            Arrays.asList("sports", "tech")
+        );
+
+        // when
+        int score = rule.matchScore(createContext(25, "M", "KR", "Seoul", "MOBILE", "sports"));
+
+        // then: (25 + 0 + 12) * 100 / 70 = 52
+        assertThat(score).isEqualTo(52);
+    }
+
+    @Test
+    @DisplayName("연령 정보가 없으면 인구통계 조건은 불일치로 처리한다")
+    void matchScore_NoAge_DemographicsNotMatched() {
+        // given
+        CompiledTargetingRule rule = CompiledTargetingRule.compile(
+            "rule-1", "campaign-1", 20, 40, null, null, null, null
+        );
+
+        // when
+        int score = rule.matchScore(createContext(null, "M", "KR", null, "MOBILE", "sports"));
+
+        // then
+        assertThat(score).isZero();
+    }
+
+    @Test
+    @DisplayName("국가 정보가 없으면 도시만으로는 지역 조건이 일치하지 않는다")
+    void matchScore_NoCountry_GeoNotMatched() {
+        // given
+        CompiledTargetingRule rule = CompiledTargetingRule.compile(
+            "rule-1", "campaign-1", null, null, null,
+            Arrays.asList("Seoul"), null, null
+        );
+
+        // when
+        int score = rule.matchScore(createContext(25, "M", null, "Seoul", "MOBILE", "sports"));
+
+        // then
+        assertThat(score).isZero();
+    }
+
+    @Test
+    @DisplayName("룰 ID가 없으면 예외가 발생한다")
+    void compile_NullRuleId_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() ->
+            CompiledTargetingRule.compile(
+                null, "campaign-1", null, null, null,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()
+            )
+        ).isInstanceOf(IllegalArgumentException.class)
+         .hasMessageContaining("타겟팅 룰 ID는 필수입니다");
+    }
+
+    private TargetingContext createContext(
+        Integer age, String gender, String country, String city, String deviceType, String keyword
+    ) {
+        return TargetingContext.of(age, gender, country, city, deviceType, Arrays.asList(keyword));
+    }
+}
@@ -0,0 +1,129 @@
+package com.adplatform.inventory.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuctionEngine 테스트")
+class AuctionEngineTest {
+
+    private final AuctionEngine engine = new AuctionEngine(new BidTimesMatchScoreRanker());
+
+    @Test
+    @DisplayName("랭킹 스코어 상위 K개를 순위순으로 반환한다")
+    void run_ReturnsTopKInRankOrder() {
+        // given
+        AuctionCandidates candidates = new AuctionCandidates(2);
+        candidates.add("campaign-1", 2000L, 50);   // 1000
+        candidates.add("campaign-2", 3000L, 100);  // 3000
+        candidates.add("campaign-3", 1000L, 30);   // 300
+        candidates.add("campaign-4", 4000L, 40);   // 1600
+
+        // when
+        AuctionResult result = engine.run(candidates, 3, 0L);
+
+        // then
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(candidates.campaignId(result.candidateIndex(0))).isEqualTo("campaign-2");
+        assertThat(candidates.campaignId(result.candidateIndex(1))).isEqualTo("campaign-4");
+        assertThat(candidates.campaignId(result.candidateIndex(2))).isEqualTo("campaign-1");
+        assertThat(result.rankingScore(0)).isEqualTo(3000.0);
+    }
+
+    @Test
+    @DisplayName("각 낙찰자는 바로 아래 순위를 이기는 최소 가격을 지불한다")
+    void run_ClearsAtSecondPrice() {
+        // given
+        AuctionCandidates candidates = new AuctionCandidates(4);
+        candidates.add("campaign-1", 5000L, 80);   // 4000
+        candidates.add("campaign-2", 3000L, 90);   // 2700
+        candidates.add("campaign-3", 2000L, 100);  // 2000
+
+        // when
+        AuctionResult result = engine.run(candidates, 2, 0L);
+
+        // then
+        // 1위: 2700 / 0.8 = 3375, 2위: 슬롯 밖의 3위(2000) 기준 2000 / 0.9 = 2223
+        assertThat(result.clearingPrice(0)).isEqualTo(3375L);
+        assertThat(result.clearingPrice(1)).isEqualTo(2223L);
+    }
+
+    @Test
+    @DisplayName("경쟁자가 없으면 최저가를 지불한다")
+    void run_SingleBidderPaysReservePrice() {
+        // given
+        AuctionCandidates exact = new AuctionCandidates(1);
+        exact.add("campaign-1", 1000L, 100);
+        AuctionCandidates rich = new AuctionCandidates(1);
+        rich.add("campaign-1", 5000L, 100);
+
+        // when & then
+        assertThat(engine.run(exact, 1, 1000L).clearingPrice(0)).isEqualTo(1000L);
+        assertThat(engine.run(rich, 1, 1000L).clearingPrice(0)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("최저가보다 낮게 입찰한 후보는 낙찰되지 않고 가격에도 영향을 주지 않는다")
+    void run_ExcludesBidsBelowReservePrice() {
+        // given
+        AuctionCandidates candidates = new AuctionCandidates(3);
+        candidates.add("campaign-1", 5000L, 100);  // 5000
+        candidates.add("campaign-2", 900L, 100);   // 900, 최저가 미만
+        candidates.add("campaign-3", 500L, 100);   // 500, 최저가 미만
+        AuctionCandidates cheap = new AuctionCandidates(1);
+        cheap.add("campaign-2", 900L, 100);
+
+        // when
+        AuctionResult result = engine.run(candidates, 2, 1000L);
+
+        // then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(candidates.campaignId(result.candidateIndex(0))).isEqualTo("campaign-1");
+        assertThat(result.clearingPrice(0)).isEqualTo(1000L);
+        assertThat(engine.run(cheap, 1, 1000L).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동점이면 먼저 추가된 후보가 우선한다")
+    void run_TieBreaksByInsertionOrder() {
+        // given
+        AuctionCandidates candidates = new AuctionCandidates(2);
+        candidates.add("campaign-1", 1000L, 100);
+        candidates.add("campaign-2", 2000L, 50);
+
+        // when
+        AuctionResult result = engine.run(candidates, 1, 0L);
+
+        // then
+        assertThat(candidates.campaignId(result.candidateIndex(0))).isEqualTo("campaign-1");
+        assertThat(result.clearingPrice(0)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("eCPM 랭킹은 예측 CTR을 반영한다")
+    void run_WithECpmRanker() {
+        // given
+        AuctionEngine ecpmEngine = new AuctionEngine(new ECpmRanker(
+            campaignId -> campaignId.equals("campaign-1") ? 0.01 : 0.05
+        ));
+        AuctionCandidates candidates = new AuctionCandidates(2);
+        candidates.add("campaign-1", 500L, 100);  // 500 * 10 = 5000
+        candidates.add("campaign-2", 200L, 100);  // 200 * 50 = 10000
+
+        // when
+        AuctionResult result = ecpmEngine.run(candidates, 1, 0L);
+
+        // then
+        // campaign-2가 5000을 이기기 위한 최소 입찰가 = 5000 / 50 = 100
+        assertThat(candidates.campaignId(result.candidateIndex(0))).isEqualTo("campaign-2");
+        assertThat(result.clearingPrice(0)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("슬롯 수가 1 미만이면 예외가 발생한다")
+    void run_InvalidSlots() {
+        assertThatThrownBy(() -> engine.run(new AuctionCandidates(0), 0, 0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.adplatform.inventory.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TargetingMatchFanout 테스트")
+class TargetingMatchFanoutTest {
+
+    @Mock
+    private TargetingClient targetingClient;
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private TargetingMatchFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+        fanout = new TargetingMatchFanout(targetingClient, executor, meterRegistry, 200L, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("캠페인 목록을 청크로 나눠 병렬 호출하고 결과를 합친다")
+    void match_MergesChunkResults() {
+        // given
+        UserContextDto userContext = UserContextDto.builder().age(30).build();
+        when(targetingClient.matchTargetingBatch(eq(Arrays.asList("campaign-1", "campaign-2")), any()))
+            .thenReturn(Map.of("campaign-1", createMatch("campaign-1", 80)));
+        when(targetingClient.matchTargetingBatch(eq(Collections.singletonList("campaign-3")), any()))
+            .thenReturn(Map.of("campaign-3", createMatch("campaign-3", 60)));
+
+        // when
+        Map<String, TargetingMatchDto> results = fanout.match(
+            Arrays.asList("campaign-1", "campaign-2", "campaign-3"),
+            userContext
+        );
+
+        // then
+        assertThat(results).containsOnlyKeys("campaign-1", "campaign-3");
+        verify(targetingClient, times(2)).matchTargetingBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 청크는 버리고 누락 건수를 집계한다")
+    void match_DropsChunksMissingDeadline() {
+        // given
+        UserContextDto userContext = UserContextDto.builder().age(30).build();
+        when(targetingClient.matchTargetingBatch(eq(Arrays.asList("campaign-1", "campaign-2")), any()))
+            .thenReturn(Map.of("campaign-1", createMatch("campaign-1", 80)));
+        when(targetingClient.matchTargetingBatch(eq(Collections.singletonList("campaign-3")), any()))
+            .thenAnswer(invocation -> {
+                Thread.sleep(2000L);
+                return Map.of("campaign-3", createMatch("campaign-3", 60));
+            });
+
+        // when
+        long startedAt = System.nanoTime();
+        Map<String, TargetingMatchDto> results = fanout.match(
+            Arrays.asList("campaign-1", "campaign-2", "campaign-3"),
+            userContext
+        );
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(results).containsOnlyKeys("campaign-1");
+        assertThat(elapsedMs).isLessThan(1000L);
+        assertThat(meterRegistry.get("inventory.selection.targeting.dropped")
+            .tag("reason", "timeout")
+            .counter()
+            .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("호출에 실패한 청크는 버리고 오류로 집계한다")
+    void match_CountsFailedChunksAsErrors() {
+        // given
+        UserContextDto userContext = UserContextDto.builder().age(30).build();
+        when(targetingClient.matchTargetingBatch(eq(Arrays.asList("campaign-1", "campaign-2")), any()))
+            .thenReturn(Map.of("campaign-1", createMatch("campaign-1", 80)));
+        when(targetingClient.matchTargetingBatch(eq(Collections.singletonList("campaign-3")), any()))
+            .thenThrow(new ResourceAccessException("Read timed out"));
+
+        // when
+        Map<String, TargetingMatchDto> results = fanout.match(
+            Arrays.asList("campaign-1", "campaign-2", "campaign-3"),
+            userContext
+        );
+
+        // then
+        assertThat(results).containsOnlyKeys("campaign-1");
+        assertThat(meterRegistry.get("inventory.selection.targeting.dropped")
+            .tag("reason", "error")
+            .counter()
+            .count()).isEqualTo(1.0);
+    }
+
+    private TargetingMatchDto createMatch(String campaignId, int score) {
+        return TargetingMatchDto.builder()
+            .campaignId(campaignId)
+            .matchScore(score)
+            .matched(true)
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.adplatform.inventory.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InternalApiAuthenticator 테스트")
+class InternalApiAuthenticatorTest {
+
+    private static final String TOKEN = "test-internal-api-token-0123456789abcdef";
+
+    private final InternalApiAuthenticator authenticator = new InternalApiAuthenticator(TOKEN);
+
+    @Test
+    @DisplayName("공유 토큰과 같은 토큰만 인증한다")
+    void authenticate() {
+        assertThat(authenticator.authenticate(TOKEN)).isTrue();
+        assertThat(authenticator.authenticate("other-internal-api-token-0123456789abcd")).isFalse();
+        assertThat(authenticator.authenticate("")).isFalse();
+        assertThat(authenticator.authenticate(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 짧으면 생성할 수 없다")
+    void requiresToken() {
+        assertThatThrownBy(() -> new InternalApiAuthenticator(""))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InternalApiAuthenticator("short-token"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
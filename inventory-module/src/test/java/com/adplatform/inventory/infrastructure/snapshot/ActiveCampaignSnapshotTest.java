@@ -0,0 +1,191 @@
+package com.adplatform.inventory.infrastructure.snapshot;
+
+import com.adplatform.inventory.domain.model.ServableCampaign;
+import com.adplatform.inventory.infrastructure.client.CampaignChangeDto;
+import com.adplatform.inventory.infrastructure.client.CampaignDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ActiveCampaignSnapshot 테스트")
+class ActiveCampaignSnapshotTest {
+
+    private final ActiveCampaignSnapshot snapshot = new ActiveCampaignSnapshot();
+
+    @Test
+    @DisplayName("최초 동기화 전에는 준비되지 않은 빈 스냅샷이다")
+    void notReadyBeforeFirstSync() {
+        assertThat(snapshot.isReady()).isFalse();
+        assertThat(snapshot.getServableCampaigns()).isEmpty();
+        assertThat(snapshot.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 동기화 시 활성 광고가 있는 활성 캠페인만 보관한다")
+    void replaceAll_KeepsServableCampaignsOnly() {
+        // when
+        snapshot.replaceAll(Arrays.asList(
+            campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1")),
+            campaign("campaign-2", "ACTIVE", adGroup("ag-2", 3000L)),
+            campaign("campaign-3", "PAUSED", adGroup("ag-3", 3000L, "ad-3"))
+        ));
+
+        // then
+        assertThat(snapshot.isReady()).isTrue();
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+        assertThat(snapshot.getServableCampaigns())
+            .extracting(ServableCampaign::getCampaignId)
+            .containsExactly("campaign-1");
+    }
+
+    @Test
+    @DisplayName("활성 광고가 있는 광고그룹 중 입찰가가 가장 높은 광고그룹으로 경매에 참여한다")
+    void replaceAll_PicksHighestBidAdGroupWithAds() {
+        // when
+        snapshot.replaceAll(List.of(campaign("campaign-1", "ACTIVE",
+            adGroup("ag-1", 3000L, "ad-1", "ad-2"),
+            adGroup("ag-2", 9000L),
+            adGroup("ag-3", 5000L, "ad-3")
+        )));
+
+        // then
+        ServableCampaign servable = snapshot.getServableCampaigns().get(0);
+        assertThat(servable.getAdGroupId()).isEqualTo("ag-3");
+        assertThat(servable.getBid()).isEqualTo(5000L);
+        assertThat(servable.pickAdId()).isEqualTo("ad-3");
+    }
+
+    @Test
+    @DisplayName("변경 알림으로 캠페인을 교체하거나 제거한다")
+    void applyChange_UpsertsAndRemoves() {
+        // given
+        snapshot.replaceAll(List.of(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1"))));
+        List<ServableCampaign> before = snapshot.getServableCampaigns();
+
+        // when
+        snapshot.applyChange(change("campaign-1", true,
+            campaign("campaign-1", "ACTIVE", adGroup("ag-1", 7000L, "ad-1"))));
+        snapshot.applyChange(change("campaign-2", true,
+            campaign("campaign-2", "ACTIVE", adGroup("ag-2", 3000L, "ad-2"))));
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(3L);
+        assertThat(snapshot.getServableCampaigns())
+            .extracting(ServableCampaign::getCampaignId, ServableCampaign::getBid)
+            .containsExactly(tuple("campaign-1", 7000L), tuple("campaign-2", 3000L));
+        // 이전에 읽은 스냅샷은 변경되지 않음
+        assertThat(before).extracting(ServableCampaign::getBid).containsExactly(5000L);
+
+        // when
+        snapshot.applyChange(change("campaign-1", false,
+            campaign("campaign-1", "PAUSED", adGroup("ag-1", 7000L, "ad-1"))));
+
+        // then
+        assertThat(snapshot.getServableCampaigns())
+            .extracting(ServableCampaign::getCampaignId)
+            .containsExactly("campaign-2");
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 캠페인의 비활성화 알림은 버전을 바꾸지 않는다")
+    void applyChange_IgnoresUnknownDeactivation() {
+        // given
+        snapshot.replaceAll(List.of(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1"))));
+
+        // when
+        snapshot.applyChange(change("campaign-9", false,
+            campaign("campaign-9", "PAUSED", adGroup("ag-9", 1000L, "ad-9"))));
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+        assertThat(snapshot.getServableCampaigns()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 동기화 목록보다 새로운 변경 알림은 목록으로 덮어쓰지 않는다")
+    void replaceAll_KeepsNewerChanges() {
+        // given: 목록 조회(100) 이후에 campaign-1 입찰가 변경과 campaign-2 활성화 알림(200)이 먼저 도착
+        snapshot.replaceAll(List.of(versioned(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1")), 50L)));
+        snapshot.applyChange(versioned(change("campaign-1", true,
+            campaign("campaign-1", "ACTIVE", adGroup("ag-1", 7000L, "ad-1"))), 200L));
+        snapshot.applyChange(versioned(change("campaign-2", true,
+            campaign("campaign-2", "ACTIVE", adGroup("ag-2", 3000L, "ad-2"))), 200L));
+
+        // when: 알림보다 먼저 조회한 목록 (campaign-2 없음, campaign-1은 이전 입찰가)
+        snapshot.replaceAll(List.of(versioned(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1")), 100L)));
+
+        // then
+        assertThat(snapshot.getServableCampaigns())
+            .extracting(ServableCampaign::getCampaignId, ServableCampaign::getBid)
+            .containsExactly(tuple("campaign-1", 7000L), tuple("campaign-2", 3000L));
+
+        // when: 알림 이후에 조회한 목록은 그대로 반영
+        snapshot.replaceAll(List.of(versioned(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 6000L, "ad-1")), 300L)));
+
+        // then
+        assertThat(snapshot.getServableCampaigns())
+            .extracting(ServableCampaign::getCampaignId, ServableCampaign::getBid)
+            .containsExactly(tuple("campaign-1", 6000L));
+    }
+
+    @Test
+    @DisplayName("이미 반영한 버전보다 오래된 변경 알림은 무시한다")
+    void applyChange_IgnoresStaleChange() {
+        // given
+        snapshot.replaceAll(List.of(versioned(campaign("campaign-1", "ACTIVE", adGroup("ag-1", 5000L, "ad-1")), 100L)));
+
+        // when
+        snapshot.applyChange(versioned(change("campaign-1", false,
+            campaign("campaign-1", "PAUSED", adGroup("ag-1", 5000L, "ad-1"))), 90L));
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+        assertThat(snapshot.getServableCampaigns()).hasSize(1);
+    }
+
+    private CampaignDto campaign(String id, String status, CampaignDto.AdGroupDto... adGroups) {
+        return CampaignDto.builder()
+            .id(id)
+            .advertiserId("adv-1")
+            .name("Campaign " + id)
+            .dailyBudget(100000L)
+            .status(status)
+            .adGroups(Arrays.asList(adGroups))
+            .build();
+    }
+
+    private CampaignDto.AdGroupDto adGroup(String id, Long bid, String... adIds) {
+        List<CampaignDto.AdDto> ads = Arrays.stream(adIds)
+            .map(adId -> CampaignDto.AdDto.builder().id(adId).title("Ad " + adId).build())
+            .collect(Collectors.toList());
+        return CampaignDto.AdGroupDto.builder()
+            .id(id)
+            .name("AdGroup " + id)
+            .bid(bid)
+            .ads(ads)
+            .build();
+    }
+
+    private CampaignChangeDto change(String campaignId, boolean active, CampaignDto campaign) {
+        return CampaignChangeDto.builder()
+            .campaignId(campaignId)
+            .active(active)
+            .campaign(campaign)
+            .build();
+    }
+
+    private CampaignDto versioned(CampaignDto campaign, long version) {
+        campaign.setVersion(version);
+        return campaign;
+    }
+
+    private CampaignChangeDto versioned(CampaignChangeDto change, long version) {
+        change.setVersion(version);
+        return change;
+    }
+}
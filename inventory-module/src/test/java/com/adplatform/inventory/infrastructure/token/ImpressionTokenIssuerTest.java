@@ -0,0 +1,70 @@
+package com.adplatform.inventory.infrastructure.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ImpressionTokenIssuer 테스트")
+class ImpressionTokenIssuerTest {
+
+    private final ImpressionTokenIssuer issuer = new ImpressionTokenIssuer("test-impression-token-secret-0123456789");
+
+    @Test
+    @DisplayName("토큰은 id, payload, 서명 세 부분으로 구성된다")
+    void issue_Format() {
+        // when
+        String token = issuer.issue("placement-1", "campaign-1", "ad-1", 5000L);
+
+        // then
+        String[] parts = token.split("\\.");
+        assertThat(parts).hasSize(3);
+        assertThat(parts[0]).hasSize(28).matches("[0-9a-f]+");
+        assertThat(Base64.getUrlDecoder().decode(parts[2])).hasSize(16);
+
+        ByteBuffer payload = ByteBuffer.wrap(Base64.getUrlDecoder().decode(parts[1]));
+        assertThat(payload.getLong()).isEqualTo(5000L);
+        assertThat(readString(payload)).isEqualTo("placement-1");
+        assertThat(readString(payload)).isEqualTo("campaign-1");
+        assertThat(readString(payload)).isEqualTo("ad-1");
+    }
+
+    @Test
+    @DisplayName("토큰 문자열 순서는 발급 시각 순서와 같다")
+    void issue_TimeOrdered() {
+        // when
+        String earlier = issuer.issue("placement-1", "campaign-1", "ad-1", 5000L, 1_700_000_000_000L);
+        String later = issuer.issue("placement-1", "campaign-1", "ad-1", 5000L, 1_700_000_000_001L);
+
+        // then
+        assertThat(earlier).isLessThan(later);
+    }
+
+    @Test
+    @DisplayName("같은 내용이라도 매번 다른 토큰을 발급한다")
+    void issue_Unique() {
+        String first = issuer.issue("placement-1", "campaign-1", "ad-1", 5000L, 1_700_000_000_000L);
+        String second = issuer.issue("placement-1", "campaign-1", "ad-1", 5000L, 1_700_000_000_000L);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("비밀키가 없거나 짧으면 생성할 수 없다")
+    void requiresSecret() {
+        assertThatThrownBy(() -> new ImpressionTokenIssuer(""))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ImpressionTokenIssuer("test-secret"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,10 +1,15 @@
 package com.adplatform.metrics.adapter.rest;
 
 import com.adplatform.metrics.adapter.rest.dto.AggregateMetricsRequest;
+import com.adplatform.metrics.adapter.rest.dto.BackfillProgressResponse;
 import com.adplatform.metrics.adapter.rest.dto.CampaignMetricsResponse;
 import com.adplatform.metrics.adapter.rest.dto.DailyMetricsResponse;
+import com.adplatform.metrics.adapter.rest.dto.PeriodMetricsResponse;
 import com.adplatform.metrics.application.dto.CampaignMetricsDto;
 import com.adplatform.metrics.application.usecase.AggregateMetricsUseCase;
+import com.adplatform.metrics.application.usecase.BackfillMetricsUseCase;
+import com.adplatform.metrics.application.usecase.FeedWatermarkGuard;
+import com.adplatform.metrics.application.usecase.GetLiveMetricsUseCase;
 import com.adplatform.metrics.application.usecase.GetMetricsByAdUseCase;
 import com.adplatform.metrics.application.usecase.GetMetricsByCampaignUseCase;
 import com.adplatform.metrics.domain.model.DailyMetrics;
@@ -16,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,16 +37,29 @@ public class MetricsController {
     private final AggregateMetricsUseCase aggregateMetricsUseCase;
     private final GetMetricsByAdUseCase getMetricsByAdUseCase;
     private final GetMetricsByCampaignUseCase getMetricsByCampaignUseCase;
+    private final GetLiveMetricsUseCase getLiveMetricsUseCase;
+    private final BackfillMetricsUseCase backfillMetricsUseCase;
     private final DailyMetricsRepository metricsRepository;
+    private final FeedWatermarkGuard feedWatermarkGuard;
 
     /**
      * 메트릭스 집계 트리거 (비동기)
      * POST /api/v1/metrics/aggregate
+     * - 피드 사용 중에는 피드가 반영을 마친 날짜만 재집계 (아니면 400)
      */
     @PostMapping("/aggregate")
     public ResponseEntity<String> aggregateMetrics(@RequestBody AggregateMetricsRequest request) {
         log.info("메트릭스 집계 요청: {}", request);
 
+        LocalDate lastDate = request.getDate() != null ? request.getDate()
+            : request.getStartDate() != null && request.getEndDate() != null ? request.getEndDate()
+            : LocalDate.now().minusDays(1);
+        try {
+            feedWatermarkGuard.checkRecomputable(lastDate);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
         // 비동기 처리 (별도 스레드에서 실행)
         new Thread(() -> {
             try {
@@ -64,6 +83,51 @@ public class MetricsController {
         return ResponseEntity.accepted().body("메트릭스 집계가 시작되었습니다");
     }
 
+    /**
+     * 메트릭스 백필 트리거 (비동기, 파티션 병렬 집계)
+     * POST /api/v1/metrics/backfill
+     * - 같은 범위로 다시 요청하면 완료된 파티션은 건너뛰고 이어서 집계
+     * - 피드 사용 중에는 피드가 반영을 마친 날짜까지만 백필 (아니면 400)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<String> backfillMetrics(@RequestBody AggregateMetricsRequest request) {
+        log.info("메트릭스 백필 요청: {} ~ {}", request.getStartDate(), request.getEndDate());
+
+        if (request.getStartDate() == null || request.getEndDate() == null
+            || request.getStartDate().isAfter(request.getEndDate())) {
+            return ResponseEntity.badRequest().body("startDate와 endDate를 올바르게 입력해야 합니다");
+        }
+        try {
+            feedWatermarkGuard.checkRecomputable(request.getEndDate());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        // 비동기 처리 (별도 스레드에서 실행)
+        new Thread(() -> {
+            try {
+                backfillMetricsUseCase.backfill(request.getStartDate(), request.getEndDate());
+            } catch (Exception e) {
+                log.error("메트릭스 백필 실패", e);
+            }
+        }).start();
+
+        return ResponseEntity.accepted().body("메트릭스 백필이 시작되었습니다");
+    }
+
+    /**
+     * 메트릭스 백필 진행 상황 조회
+     * GET /api/v1/metrics/backfill/progress?startDate={startDate}&endDate={endDate}
+     */
+    @GetMapping("/backfill/progress")
+    public ResponseEntity<BackfillProgressResponse> getBackfillProgress(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return ResponseEntity.ok(BackfillProgressResponse.from(
+            backfillMetricsUseCase.getProgress(startDate, endDate)));
+    }
+
     /**
      * 광고별 메트릭스 조회
      * GET /api/v1/metrics/ad/{adId}?startDate={startDate}&endDate={endDate}
@@ -85,6 +149,29 @@ public class MetricsController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 광고별 시계열 메트릭스 조회 (구간을 일/시간/분 단위로 나누어 조회)
+     * GET /api/v1/metrics/ad/{adId}/timeseries?from={from}&to={to}
+     */
+    @GetMapping("/ad/{adId}/timeseries")
+    public ResponseEntity<?> getTimeSeriesByAd(
+        @PathVariable String adId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("광고 시계열 메트릭스 조회: adId={}, from={}, to={}", adId, from, to);
+
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().body("from은 to보다 이전이어야 합니다");
+        }
+
+        List<PeriodMetricsResponse> response = getMetricsByAdUseCase.executeTimeSeries(adId, from, to).stream()
+            .map(PeriodMetricsResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 캠페인별 메트릭스 조회 (롤업)
      * GET /api/v1/metrics/campaign/{campaignId}?startDate={startDate}&endDate={endDate}
@@ -103,6 +190,30 @@ public class MetricsController {
         return ResponseEntity.ok(CampaignMetricsResponse.from(dto));
     }
 
+    /**
+     * 캠페인별 시계열 메트릭스 조회 (구간마다 캠페인의 모든 광고를 합침)
+     * GET /api/v1/metrics/campaign/{campaignId}/timeseries?from={from}&to={to}
+     */
+    @GetMapping("/campaign/{campaignId}/timeseries")
+    public ResponseEntity<?> getTimeSeriesByCampaign(
+        @PathVariable String campaignId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("캠페인 시계열 메트릭스 조회: campaignId={}, from={}, to={}", campaignId, from, to);
+
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().body("from은 to보다 이전이어야 합니다");
+        }
+
+        List<PeriodMetricsResponse> response = getMetricsByCampaignUseCase.executeTimeSeries(campaignId, from, to)
+            .stream()
+            .map(PeriodMetricsResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 날짜의 모든 메트릭스 조회
      * GET /api/v1/metrics/daily?date={date}
@@ -122,6 +233,30 @@ public class MetricsController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 오늘 실시간 메트릭스 조회 (아직 저장되지 않은 피드 증분 포함)
+     * GET /api/v1/metrics/live
+     */
+    @GetMapping("/live")
+    public ResponseEntity<List<DailyMetricsResponse>> getLiveMetrics() {
+        List<DailyMetricsResponse> response = getLiveMetricsUseCase.execute().stream()
+            .map(DailyMetricsResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 광고의 오늘 실시간 메트릭스 조회
+     * GET /api/v1/metrics/live/ad/{adId}
+     */
+    @GetMapping("/live/ad/{adId}")
+    public ResponseEntity<DailyMetricsResponse> getLiveMetricsByAd(@PathVariable String adId) {
+        return getLiveMetricsUseCase.executeForAd(adId)
+            .map(metrics -> ResponseEntity.ok(DailyMetricsResponse.from(metrics)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Health Check
      */
@@ -0,0 +1,34 @@
+package com.adplatform.metrics.adapter.rest.dto;
+
+import com.adplatform.metrics.application.dto.BackfillProgressDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 백필 진행 상황 응답 DTO
+ */
+@Getter
+@Builder
+public class BackfillProgressResponse {
+    private String backfillId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long totalPartitions;
+    private Long completedPartitions;
+    private Long aggregatedAds;
+    private Boolean completed;
+
+    public static BackfillProgressResponse from(BackfillProgressDto dto) {
+        return BackfillProgressResponse.builder()
+            .backfillId(dto.getBackfillId())
+            .startDate(dto.getStartDate())
+            .endDate(dto.getEndDate())
+            .totalPartitions(dto.getTotalPartitions())
+            .completedPartitions(dto.getCompletedPartitions())
+            .aggregatedAds(dto.getAggregatedAds())
+            .completed(dto.isCompleted())
+            .build();
+    }
+}
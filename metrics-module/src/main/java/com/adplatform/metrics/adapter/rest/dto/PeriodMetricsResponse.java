@@ -0,0 +1,44 @@
+package com.adplatform.metrics.adapter.rest.dto;
+
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 단위별 메트릭스 응답 DTO
+ * - 캠페인 합계는 adId, adGroupId가 없음
+ */
+@Getter
+@Builder
+public class PeriodMetricsResponse {
+    private MetricsGrain grain;
+    private LocalDateTime periodStart;
+    private String adId;
+    private String adGroupId;
+    private String campaignId;
+    private Long impressions;
+    private Long clicks;
+    private Long conversions;
+    private Long cost;
+    private Double ctr;
+    private Double cvr;
+
+    public static PeriodMetricsResponse from(PeriodMetrics metrics) {
+        return PeriodMetricsResponse.builder()
+            .grain(metrics.getGrain())
+            .periodStart(metrics.getPeriodStart())
+            .adId(metrics.getAdId())
+            .adGroupId(metrics.getAdGroupId())
+            .campaignId(metrics.getCampaignId())
+            .impressions(metrics.getImpressions())
+            .clicks(metrics.getClicks())
+            .conversions(metrics.getConversions())
+            .cost(metrics.getCost())
+            .ctr(metrics.ctr())
+            .cvr(metrics.cvr())
+            .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.adplatform.metrics.adapter.scheduler;
+
+import com.adplatform.metrics.application.usecase.ConsumeEventFeedUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 피드 스트리밍 집계 스케줄러 (metrics.feed.enabled, 기본 활성화)
+ * - poll-interval-ms마다 피드를 읽어 실시간 버퍼에 누적 (한 번에 batch-size개씩, 읽을 이벤트가 남아 있는 동안 이어서)
+ * - flush-interval-ms마다 버퍼의 증분을 분/시간/일 메트릭스에 더하고 다음 offset과 함께 저장
+ * - 스케줄러 스레드 하나에서 번갈아 실행되므로 poll과 flush가 겹치지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "metrics.feed.enabled", havingValue = "true", matchIfMissing = true)
+public class EventFeedScheduler {
+
+    private final ConsumeEventFeedUseCase consumeEventFeedUseCase;
+    private final String consumerId;
+    private final int batchSize;
+
+    public EventFeedScheduler(
+        ConsumeEventFeedUseCase consumeEventFeedUseCase,
+        @Value("${metrics.feed.consumer-id:daily-metrics}") String consumerId,
+        @Value("${metrics.feed.batch-size:1000}") int batchSize
+    ) {
+        this.consumeEventFeedUseCase = consumeEventFeedUseCase;
+        this.consumerId = consumerId;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.feed.poll-interval-ms:1000}")
+    public void pollFeed() {
+        try {
+            long total = 0;
+            int consumed;
+            do {
+                consumed = consumeEventFeedUseCase.poll(consumerId, batchSize);
+                total += consumed;
+            } while (consumed == batchSize);
+
+            if (total > 0) {
+                log.debug("이벤트 피드 누적: consumer={}, 이벤트 수={}", consumerId, total);
+            }
+        } catch (Exception e) {
+            // 버퍼의 offset은 그대로이므로 다음 주기에 같은 구간부터 다시 시도
+            log.error("이벤트 피드 읽기 실패: consumer={}", consumerId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.feed.flush-interval-ms:5000}")
+    public void flushFeed() {
+        try {
+            int flushed = consumeEventFeedUseCase.flush(consumerId);
+            if (flushed > 0) {
+                log.info("이벤트 피드 집계 저장: consumer={}, 메트릭스 수={}", consumerId, flushed);
+            }
+        } catch (Exception e) {
+            // 증분은 버퍼에 남으므로 다음 주기에 다시 저장
+            log.error("이벤트 피드 집계 저장 실패: consumer={}", consumerId, e);
+        }
+    }
+
+    /**
+     * 종료 전 남은 증분 저장 (저장하지 못해도 재시작 후 저장된 offset부터 다시 읽음)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushFeed();
+    }
+}
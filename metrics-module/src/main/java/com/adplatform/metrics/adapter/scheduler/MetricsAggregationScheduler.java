@@ -3,6 +3,7 @@ package com.adplatform.metrics.adapter.scheduler;
 import com.adplatform.metrics.application.usecase.AggregateMetricsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,9 +12,12 @@ import java.time.LocalDate;
 /**
  * 메트릭스 집계 스케줄러
  * - 매 시간마다 이전 시간의 이벤트를 집계
+ * - 피드 증분 집계(EventFeedScheduler)를 끈 경우에만 사용 (metrics.feed.enabled=false)
+ *   함께 실행하면 같은 이벤트가 두 번 더해짐
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "metrics.feed.enabled", havingValue = "false")
 @RequiredArgsConstructor
 public class MetricsAggregationScheduler {
 
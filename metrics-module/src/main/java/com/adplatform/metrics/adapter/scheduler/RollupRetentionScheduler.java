@@ -0,0 +1,43 @@
+package com.adplatform.metrics.adapter.scheduler;
+
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.RollupRetention;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 분/시간 메트릭스 보관 기간 정리 스케줄러
+ * - 분 단위는 minute-retention-days, 시간 단위는 hour-retention-days가 지난 행을 삭제 (RollupRetention)
+ * - 일일 메트릭스는 삭제하지 않으므로 오래된 구간은 일 단위로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollupRetentionScheduler {
+
+    private final PeriodMetricsRepository periodMetricsRepository;
+    private final RollupRetention retention;
+
+    /**
+     * 매일 00:30에 실행 (cron: "0 30 0 * * *")
+     */
+    @Scheduled(cron = "0 30 0 * * *")
+    public void purgeExpired() {
+        LocalDate today = LocalDate.now();
+
+        try {
+            int minutes = periodMetricsRepository.deleteBefore(MetricsGrain.MINUTE,
+                retention.retainedFrom(MetricsGrain.MINUTE, today));
+            int hours = periodMetricsRepository.deleteBefore(MetricsGrain.HOUR,
+                retention.retainedFrom(MetricsGrain.HOUR, today));
+            log.info("분/시간 메트릭스 정리 완료: 분 {}행, 시간 {}행 삭제", minutes, hours);
+        } catch (Exception e) {
+            log.error("분/시간 메트릭스 정리 실패", e);
+        }
+    }
+}
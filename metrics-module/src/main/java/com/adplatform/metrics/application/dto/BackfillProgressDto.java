@@ -0,0 +1,24 @@
+package com.adplatform.metrics.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 백필 진행 상황 DTO
+ */
+@Getter
+@Builder
+public class BackfillProgressDto {
+    private final String backfillId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long totalPartitions;
+    private final long completedPartitions;
+    private final long aggregatedAds;
+
+    public boolean isCompleted() {
+        return completedPartitions >= totalPartitions;
+    }
+}
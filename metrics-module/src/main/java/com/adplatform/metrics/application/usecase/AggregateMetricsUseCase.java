@@ -1,20 +1,29 @@
 package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.EventCounts;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
 import com.adplatform.metrics.domain.model.PricingModel;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.adplatform.metrics.infrastructure.client.AdGroupCache;
 import com.adplatform.metrics.infrastructure.client.CampaignClient;
 import com.adplatform.metrics.infrastructure.client.EventLogClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,23 +31,41 @@ import java.util.stream.Collectors;
  * 메트릭스 집계 Use Case
  * - 이벤트 로그를 집계하여 일일 메트릭스 생성
  * - 배치 작업으로 주기적으로 실행 (매 시간)
- * - Idempotent: 동일한 날짜에 대해 여러 번 실행해도 결과 동일
+ * - Idempotent: (날짜, 광고)별로 하루 이벤트 전체를 다시 집계해 교체하므로 여러 번 실행해도 결과 동일
+ * - 광고별로 조회/저장하지 않고 CHUNK_SIZE개씩 일괄 Upsert: 묶음마다 커밋되어 광고 수가 많아도 메모리가 늘지 않음
+ * - 광고그룹 정보(입찰가, 가격 모델)는 날짜마다 한 번 AdGroupCache로 일괄 조회 (광고마다 Campaign 서비스를 호출하지 않음)
+ * - 긴 기간은 날짜를 하나씩 처리하므로, 여러 날짜를 병렬로 다시 집계할 때는 BackfillMetricsUseCase 사용
+ * - 이벤트가 없는 광고(보관 기간이 지나 이벤트가 삭제된 날짜 등)의 메트릭스는 그대로 둠
+ * - 증분 집계는 이벤트 피드 소비(ConsumeEventFeedUseCase)가 담당: 피드가 아직 읽지 않은 이벤트가 있는 날짜(오늘)를
+ *   재집계하면 피드가 그 이벤트를 다시 더하므로, 피드 사용 중에는 피드가 반영을 마친 날짜만 재집계 (FeedWatermarkGuard)
+ * - 분/시간 메트릭스를 아직 보관하는 날짜는 같은 이벤트로 분/시간 행도 다시 만들어 교체
+ *   (일 합계와 분/시간 합계가 어긋나지 않음)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AggregateMetricsUseCase {
 
+    /**
+     * 한 번에 저장(커밋)하는 광고 수
+     */
+    private static final int CHUNK_SIZE = 1000;
+
     private final DailyMetricsRepository metricsRepository;
+    private final PeriodMetricsRepository periodMetricsRepository;
     private final EventLogClient eventLogClient;
-    private final CampaignClient campaignClient;
+    private final AdGroupCache adGroupCache;
     private final MetricsCalculator metricsCalculator;
+    private final RollupRetention rollupRetention;
+    private final FeedWatermarkGuard feedWatermarkGuard;
 
     /**
      * 특정 날짜의 이벤트를 집계
+     *
+     * @throws IllegalArgumentException 피드가 반영을 마치지 않은 날짜인 경우
      */
     public void aggregateByDate(LocalDate date) {
+        feedWatermarkGuard.checkRecomputable(date);
         log.info("메트릭스 집계 시작: {}", date);
 
         // 1. 날짜별 이벤트 조회
@@ -53,22 +80,63 @@ public class AggregateMetricsUseCase {
         Map<String, List<EventLogClient.AdEventDto>> eventsByAd = events.stream()
             .collect(Collectors.groupingBy(EventLogClient.AdEventDto::getAdId));
 
-        // 3. 각 광고별로 메트릭스 집계
-        eventsByAd.forEach((adId, adEvents) -> {
+        // 3. 광고별로 다시 집계해 일괄 저장
+        int saved = aggregateAds(date, eventsByAd.values());
+
+        log.info("메트릭스 집계 완료: {}, 광고 수={}", date, saved);
+    }
+
+    /**
+     * 광고들의 메트릭스를 다시 집계해 CHUNK_SIZE개씩 일괄 저장 (묶음마다 커밋)
+     * - 백필(BackfillMetricsUseCase)이 파티션마다 호출: 광고가 겹치지 않으면 여러 스레드에서 동시에 호출해도 됨
+     * - 재집계 가능한 날짜인지는 호출하는 쪽에서 확인 (FeedWatermarkGuard)
+     *
+     * @param eventsByAd 광고별 하루 이벤트 (광고마다 그날 이벤트 전체)
+     * @return 저장한 광고 수 (집계에 실패한 광고는 빠짐)
+     */
+    public int aggregateAds(LocalDate date, Collection<List<EventLogClient.AdEventDto>> eventsByAd) {
+        // 광고그룹 정보 일괄 조회 (캐시에 없는 것만 Campaign 서비스에 요청)
+        Map<String, CampaignClient.AdGroupDto> adGroups = adGroupCache.getAll(eventsByAd.stream()
+            .map(events -> events.get(0).getAdGroupId())
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList());
+
+        // 분/시간 행을 아직 보관하는 날짜면 분 단위 증분도 다시 계산 (시간 단위는 분 증분을 합쳐 만듦)
+        LocalDate today = LocalDate.now();
+        List<MetricsGrain> periodGrains = List.of(MetricsGrain.MINUTE, MetricsGrain.HOUR).stream()
+            .filter(grain -> rollupRetention.isRetained(grain, date, today))
+            .toList();
+
+        List<DailyMetrics> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<MetricsDelta> minuteDeltas = new ArrayList<>();
+        int saved = 0;
+        for (List<EventLogClient.AdEventDto> adEvents : eventsByAd) {
             try {
-                aggregateForAd(date, adId, adEvents);
+                CampaignClient.AdGroupDto adGroup = findAdGroup(adEvents, adGroups);
+                DailyMetrics metrics = aggregateForAd(adEvents, adGroup);
+                if (!periodGrains.isEmpty()) {
+                    minuteDeltas.addAll(toMinuteDeltas(adEvents, adGroup));
+                }
+                chunk.add(metrics);
             } catch (Exception e) {
-                log.error("광고 메트릭스 집계 실패: adId={}, date={}", adId, date, e);
+                log.error("광고 메트릭스 집계 실패: adId={}, date={}", adEvents.get(0).getAdId(), date, e);
             }
-        });
-
-        log.info("메트릭스 집계 완료: {}, 광고 수={}", date, eventsByAd.size());
+            if (chunk.size() == CHUNK_SIZE) {
+                saved += saveChunk(date, chunk, periodGrains, minuteDeltas);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+                minuteDeltas = new ArrayList<>();
+            }
+        }
+        saved += saveChunk(date, chunk, periodGrains, minuteDeltas);
+        return saved;
     }
 
     /**
      * 날짜 범위의 이벤트를 집계
      */
     public void aggregateByDateRange(LocalDate startDate, LocalDate endDate) {
+        feedWatermarkGuard.checkRecomputable(endDate);
         log.info("메트릭스 집계 시작 (범위): {} ~ {}", startDate, endDate);
 
         LocalDate currentDate = startDate;
@@ -81,54 +149,81 @@ public class AggregateMetricsUseCase {
     }
 
     /**
-     * 특정 광고의 메트릭스 집계
+     * 특정 광고의 메트릭스 재집계
+     * - 날짜의 이벤트 전체로 계산: 저장 시 기존 값을 교체하므로 (날짜, 광고) 단위로 원자적
      */
-    private void aggregateForAd(LocalDate date, String adId, List<EventLogClient.AdEventDto> events) {
-        if (events.isEmpty()) {
-            return;
-        }
+    private DailyMetrics aggregateForAd(List<EventLogClient.AdEventDto> events, CampaignClient.AdGroupDto adGroup) {
+        // 새 ID는 처음 저장될 때만 쓰이고, 이미 있으면 기존 ID 유지
+        return metricsCalculator.aggregateEvents(generateMetricsId(), events, pricingModelOf(adGroup), adGroup.getBid());
+    }
 
-        // 첫 번째 이벤트에서 메타정보 추출
+    /**
+     * 광고의 하루 이벤트를 분 단위 증분으로 나눔 (비용은 1/1000 단위, 피드와 같은 계산)
+     */
+    private List<MetricsDelta> toMinuteDeltas(List<EventLogClient.AdEventDto> events, CampaignClient.AdGroupDto adGroup) {
         EventLogClient.AdEventDto firstEvent = events.get(0);
-        String adGroupId = firstEvent.getAdGroupId();
-        String campaignId = firstEvent.getCampaignId();
+        PricingModel pricingModel = pricingModelOf(adGroup);
+
+        Map<LocalDateTime, List<EventLogClient.AdEventDto>> eventsByMinute = events.stream()
+            .collect(Collectors.groupingBy(
+                event -> MetricsGrain.MINUTE.truncate(LocalDateTime.ofInstant(event.getTimestamp(), ZoneId.systemDefault()))
+            ));
+
+        List<MetricsDelta> deltas = new ArrayList<>(eventsByMinute.size());
+        eventsByMinute.forEach((minute, minuteEvents) -> {
+            EventCounts counts = metricsCalculator.countEvents(minuteEvents, firstEvent.getAdId());
+            deltas.add(MetricsDelta.builder()
+                .date(minute.toLocalDate())
+                .periodStart(minute)
+                .adId(firstEvent.getAdId())
+                .adGroupId(firstEvent.getAdGroupId())
+                .campaignId(firstEvent.getCampaignId())
+                .impressions(counts.getImpressions())
+                .clicks(counts.getClicks())
+                .conversions(counts.getConversions())
+                .costMilli(metricsCalculator.calculateCostMilliByModel(pricingModel, adGroup.getBid(),
+                    counts.getImpressions(), counts.getClicks(), counts.getConversions()))
+                .build());
+        });
+        return deltas;
+    }
+
+    /**
+     * 광고그룹 정보 (입찰가, 가격 모델)
+     */
+    private CampaignClient.AdGroupDto findAdGroup(List<EventLogClient.AdEventDto> events,
+                                                  Map<String, CampaignClient.AdGroupDto> adGroups) {
+        String adGroupId = events.get(0).getAdGroupId();
+        CampaignClient.AdGroupDto adGroup = adGroups.get(adGroupId);
+        if (adGroup == null) {
+            throw new IllegalArgumentException("광고그룹을 찾을 수 없습니다: " + adGroupId);
+        }
+        return adGroup;
+    }
 
-        // 광고그룹 정보 조회 (입찰가, 가격 모델)
-        CampaignClient.AdGroupDto adGroup = campaignClient.getAdGroup(adGroupId);
-        Long bid = adGroup.getBid();
-        PricingModel pricingModel = adGroup.getPricingModel() != null
+    private PricingModel pricingModelOf(CampaignClient.AdGroupDto adGroup) {
+        return adGroup.getPricingModel() != null
             ? adGroup.getPricingModel()
             : PricingModel.CPC;
+    }
 
-        // 기존 메트릭스 조회
-        Optional<DailyMetrics> existingMetrics = metricsRepository.findByDateAndAdId(date, adId);
-
-        DailyMetrics newMetrics;
-        if (existingMetrics.isPresent()) {
-            // 기존 메트릭스에 집계
-            DailyMetrics existing = existingMetrics.get();
-            DailyMetrics additional = metricsCalculator.aggregateEvents(
-                existing.getId(), events, pricingModel, bid
-            );
-
-            newMetrics = existing.aggregate(
-                additional.getImpressions(),
-                additional.getClicks(),
-                additional.getConversions(),
-                additional.getCost()
-            );
-        } else {
-            // 신규 메트릭스 생성
-            String metricsId = generateMetricsId();
-            newMetrics = metricsCalculator.aggregateEvents(
-                metricsId, events, pricingModel, bid
-            );
+    /**
+     * 묶음 저장 (일 단위 Upsert, 보관 중인 분/시간 단위는 그날 행을 교체)
+     */
+    private int saveChunk(LocalDate date, List<DailyMetrics> chunk, List<MetricsGrain> periodGrains,
+                          List<MetricsDelta> minuteDeltas) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
+        metricsRepository.upsertAll(chunk);
 
-        // 저장 (Upsert)
-        metricsRepository.save(newMetrics);
-        log.debug("메트릭스 저장 완료: adId={}, date={}, impressions={}, clicks={}, conversions={}",
-            adId, date, newMetrics.getImpressions(), newMetrics.getClicks(), newMetrics.getConversions());
+        List<String> adIds = chunk.stream().map(DailyMetrics::getAdId).toList();
+        for (MetricsGrain grain : periodGrains) {
+            periodMetricsRepository.replaceAll(grain, adIds, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                minuteDeltas);
+        }
+        log.debug("메트릭스 일괄 저장 완료: 광고 수={}", chunk.size());
+        return chunk.size();
     }
 
     private String generateMetricsId() {
@@ -0,0 +1,198 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.application.dto.BackfillProgressDto;
+import com.adplatform.metrics.domain.repository.BackfillProgressRepository;
+import com.adplatform.metrics.infrastructure.client.EventLogClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 메트릭스 백필 Use Case
+ * - 날짜 범위를 (날짜, 광고 ID 해시) 파티션으로 나누어 parallelism개 스레드에서 병렬로 다시 집계
+ * - 파티션마다 따로 저장하고 완료를 기록: 중단 후 같은 범위로 다시 실행하면 완료된 파티션은 건너뜀
+ *   (저장 후 완료 기록 전에 중단된 파티션은 다시 집계하지만, 재집계는 값을 교체하므로 결과는 같음)
+ * - 파티션끼리 광고가 겹치지 않아 같은 행을 동시에 저장하지 않음
+ * - 날짜의 이벤트는 한 번만 조회: 한 날짜의 파티션이 실행되는 동안 다음 날짜의 이벤트를 조회 (메모리에는 최대 두 날짜)
+ * - 날짜 재집계와 마찬가지로 피드 사용 중에는 피드가 반영을 마친 날짜까지만 백필 (FeedWatermarkGuard)
+ */
+@Slf4j
+@Service
+public class BackfillMetricsUseCase {
+
+    private final EventLogClient eventLogClient;
+    private final AggregateMetricsUseCase aggregateMetricsUseCase;
+    private final BackfillProgressRepository progressRepository;
+    private final FeedWatermarkGuard feedWatermarkGuard;
+    private final int parallelism;
+    private final int partitions;
+
+    public BackfillMetricsUseCase(
+        EventLogClient eventLogClient,
+        AggregateMetricsUseCase aggregateMetricsUseCase,
+        BackfillProgressRepository progressRepository,
+        FeedWatermarkGuard feedWatermarkGuard,
+        @Value("${metrics.backfill.parallelism:0}") int parallelism,
+        @Value("${metrics.backfill.partitions:16}") int partitions
+    ) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("백필 파티션 수는 1 이상이어야 합니다");
+        }
+        this.eventLogClient = eventLogClient;
+        this.aggregateMetricsUseCase = aggregateMetricsUseCase;
+        this.progressRepository = progressRepository;
+        this.feedWatermarkGuard = feedWatermarkGuard;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.partitions = partitions;
+    }
+
+    /**
+     * 날짜 범위 백필 (완료된 파티션은 건너뜀)
+     * - 실패한 파티션은 완료로 기록하지 않고 나머지를 계속 집계: 같은 범위로 다시 실행하면 실패한 파티션만 집계
+     *
+     * @return 실행 후 진행 상황
+     * @throws IllegalArgumentException 기간이 올바르지 않거나 피드가 반영을 마치지 않은 날짜까지인 경우
+     */
+    public BackfillProgressDto backfill(LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        feedWatermarkGuard.checkRecomputable(endDate);
+        String backfillId = backfillId(startDate, endDate);
+        long totalPartitions = totalPartitions(startDate, endDate);
+        AtomicLong completed = new AtomicLong(progressRepository.countCompletedPartitions(backfillId));
+        log.info("메트릭스 백필 시작: {}, 파티션 {}/{} 완료, 스레드 수={}",
+            backfillId, completed.get(), totalPartitions, parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        int failed = 0;
+        try {
+            List<Future<?>> previousDate = List.of();
+            LocalDate date = startDate;
+            while (!date.isAfter(endDate)) {
+                List<Future<?>> currentDate = submitDate(executor, backfillId, date, completed, totalPartitions);
+                failed += await(previousDate);
+                previousDate = currentDate;
+                date = date.plusDays(1);
+            }
+            failed += await(previousDate);
+        } finally {
+            executor.shutdown();
+        }
+
+        BackfillProgressDto progress = getProgress(startDate, endDate);
+        if (progress.isCompleted()) {
+            log.info("메트릭스 백필 완료: {}, 광고 수={}", backfillId, progress.getAggregatedAds());
+        } else {
+            log.warn("메트릭스 백필 일부 실패: {}, 실패 파티션 수={}, 같은 범위로 다시 실행하면 이어서 집계",
+                backfillId, failed);
+        }
+        return progress;
+    }
+
+    /**
+     * 백필 진행 상황 조회
+     */
+    public BackfillProgressDto getProgress(LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        String backfillId = backfillId(startDate, endDate);
+        return BackfillProgressDto.builder()
+            .backfillId(backfillId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .totalPartitions(totalPartitions(startDate, endDate))
+            .completedPartitions(progressRepository.countCompletedPartitions(backfillId))
+            .aggregatedAds(progressRepository.sumAggregatedAds(backfillId))
+            .build();
+    }
+
+    /**
+     * 날짜의 남은 파티션을 스레드 풀에 제출
+     */
+    private List<Future<?>> submitDate(ExecutorService executor, String backfillId, LocalDate date,
+                                       AtomicLong completed, long totalPartitions) {
+        Set<Integer> done = progressRepository.findCompletedPartitions(backfillId, date);
+        if (done.size() >= partitions) {
+            log.debug("백필 완료된 날짜 건너뜀: {}", date);
+            return List.of();
+        }
+
+        Map<Integer, List<List<EventLogClient.AdEventDto>>> eventsByPartition =
+            eventLogClient.getEventsByDate(date).stream()
+                .collect(Collectors.groupingBy(EventLogClient.AdEventDto::getAdId))
+                .values().stream()
+                .collect(Collectors.groupingBy(events -> partitionOf(events.get(0).getAdId(), partitions)));
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            if (done.contains(partition)) {
+                continue;
+            }
+            int current = partition;
+            List<List<EventLogClient.AdEventDto>> eventsByAd = eventsByPartition.getOrDefault(current, List.of());
+            futures.add(executor.submit(() -> {
+                int adCount = aggregateMetricsUseCase.aggregateAds(date, eventsByAd);
+                progressRepository.markCompleted(backfillId, date, current, adCount);
+                log.info("메트릭스 백필 진행: {} {}/{} (date={}, partition={}, 광고 수={})",
+                    backfillId, completed.incrementAndGet(), totalPartitions, date, current, adCount);
+            }));
+        }
+        return futures;
+    }
+
+    /**
+     * 제출한 파티션이 끝날 때까지 대기
+     *
+     * @return 실패한 파티션 수
+     */
+    private int await(List<Future<?>> futures) {
+        int failed = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("메트릭스 백필 파티션 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("메트릭스 백필이 중단되었습니다", e);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 같은 범위와 파티션 수로 다시 실행하면 같은 ID (파티션 수가 바뀌면 처음부터)
+     */
+    private String backfillId(LocalDate startDate, LocalDate endDate) {
+        return startDate + "~" + endDate + "/" + partitions;
+    }
+
+    private long totalPartitions(LocalDate startDate, LocalDate endDate) {
+        return (ChronoUnit.DAYS.between(startDate, endDate) + 1) * partitions;
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다: " + startDate + " ~ " + endDate);
+        }
+    }
+
+    /**
+     * 광고 ID 해시로 파티션 번호 계산 (String.hashCode는 JVM이 달라도 같음)
+     */
+    static int partitionOf(String adId, int partitions) {
+        return Math.floorMod(adId.hashCode(), partitions);
+    }
+}
@@ -0,0 +1,230 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.model.EventCounts;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PricingModel;
+import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.EventFeedOffsetRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
+import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.adplatform.metrics.infrastructure.client.AdGroupCache;
+import com.adplatform.metrics.infrastructure.client.CampaignClient;
+import com.adplatform.metrics.infrastructure.client.EventLogClient;
+import com.adplatform.metrics.infrastructure.live.LiveMetricsBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 피드 스트리밍 집계 Use Case
+ * - poll: 버퍼의 다음 offset부터 EventLog 피드를 읽어 (분, 광고)별 증분을 실시간 버퍼에 누적 (DB 쓰기 없음)
+ * - flush: 분 단위 증분을 시간, 일 단위로 차례로 합쳐 분/시간/일 메트릭스에 더하고 다음 offset을 한 트랜잭션에서 저장
+ *   (세 단위 모두 조회 없이 묶음마다 문장 하나로 더함)
+ *   실패하면 둘 다 롤백되고 증분은 버퍼에 남아 다음 flush에서 다시 시도
+ *   (재시작하면 버퍼는 사라지고 저장된 offset부터 다시 읽으므로 이벤트를 두 번 더하지 않음)
+ * - 다른 인스턴스가 먼저 offset을 옮겼으면 버퍼를 버리고 저장된 offset부터 다시 읽음
+ * - offset과 함께 반영한 가장 늦은 분을 워터마크로 저장 (재집계/백필은 워터마크 날짜 이전만 허용, FeedWatermarkGuard)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsumeEventFeedUseCase {
+
+    private final DailyMetricsRepository metricsRepository;
+    private final PeriodMetricsRepository periodMetricsRepository;
+    private final EventFeedOffsetRepository offsetRepository;
+    private final EventLogClient eventLogClient;
+    private final AdGroupCache adGroupCache;
+    private final MetricsCalculator metricsCalculator;
+    private final LiveMetricsBuffer liveMetrics;
+
+    /**
+     * 피드에서 최대 limit개 이벤트를 읽어 버퍼에 누적
+     * - 광고그룹 정보는 읽은 이벤트 묶음마다 AdGroupCache로 일괄 조회
+     * - 광고그룹 조회 실패(외부 서비스 오류)는 그대로 던져 같은 구간부터 다시 읽음
+     * - Campaign 서비스에 없는 광고그룹의 이벤트는 다시 읽어도 같으므로 건너뜀
+     *
+     * @param consumerId offset을 저장할 소비자 ID
+     * @return 읽은 이벤트 수 (limit과 같으면 아직 읽을 이벤트가 남아 있을 수 있음)
+     */
+    public int poll(String consumerId, int limit) {
+        if (!liveMetrics.isInitialized()) {
+            liveMetrics.reset(offsetRepository.findNextOffset(consumerId));
+        }
+
+        long fromOffset = liveMetrics.nextOffset();
+        List<EventLogClient.FeedEventDto> events = eventLogClient.readFeed(fromOffset, limit);
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // (분, 광고)별로 그룹화
+        Map<LocalDateTime, Map<String, List<EventLogClient.FeedEventDto>>> eventsByMinuteAndAd = events.stream()
+            .collect(Collectors.groupingBy(
+                event -> MetricsGrain.MINUTE.truncate(LocalDateTime.ofInstant(event.getTimestamp(), ZoneId.systemDefault())),
+                Collectors.groupingBy(EventLogClient.FeedEventDto::getAdId)
+            ));
+
+        // 광고그룹 정보 일괄 조회 (캐시에 없는 것만 Campaign 서비스에 요청)
+        Map<String, CampaignClient.AdGroupDto> adGroups = adGroupCache.getAll(events.stream()
+            .map(EventLogClient.FeedEventDto::getAdGroupId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList());
+
+        List<MetricsDelta> deltas = new ArrayList<>();
+        eventsByMinuteAndAd.forEach((minute, eventsByAd) ->
+            eventsByAd.forEach((adId, adEvents) -> {
+                try {
+                    deltas.add(toDelta(minute, adId, adEvents, adGroups));
+                } catch (IllegalArgumentException e) {
+                    log.error("피드 증분 계산 실패: adId={}, minute={}", adId, minute, e);
+                }
+            }));
+
+        long nextOffset = events.get(events.size() - 1).getOffset() + 1;
+        if (!liveMetrics.record(fromOffset, deltas, nextOffset)) {
+            return 0;
+        }
+        log.debug("이벤트 피드 누적: consumer={}, offset {} ~ {}, 이벤트 수={}",
+            consumerId, fromOffset, nextOffset - 1, events.size());
+
+        return events.size();
+    }
+
+    /**
+     * 버퍼에 쌓인 증분을 분/시간/일 메트릭스에 반영하고 다음 offset 저장
+     * - 시간 증분은 분 증분을, 일 증분은 시간 증분을 합쳐 만들고 세 단위 모두 같은 트랜잭션에서 더함
+     *   (원본 이벤트를 다시 읽지 않고, 어느 단위도 두 번 더하거나 빠뜨리지 않음)
+     * - 커밋되면 반영한 증분을 버퍼에서 버리고, 롤백되면 다시 쌓아 둠
+     *
+     * @return 반영한 (날짜, 광고) 수
+     */
+    @Transactional
+    public int flush(String consumerId) {
+        long committedOffset = offsetRepository.findNextOffsetForUpdate(consumerId);
+        Optional<LiveMetricsBuffer.Flush> pending = liveMetrics.beginFlush();
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        LiveMetricsBuffer.Flush flush = pending.get();
+        if (flush.getFromOffset() != committedOffset) {
+            log.warn("저장된 피드 offset이 버퍼와 다름, 저장된 offset부터 다시 읽음: consumer={}, 버퍼={}, 저장={}",
+                consumerId, flush.getFromOffset(), committedOffset);
+            liveMetrics.reset(committedOffset);
+            return 0;
+        }
+
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        liveMetrics.completeFlush(flush);
+                    } else {
+                        liveMetrics.abortFlush(flush);
+                    }
+                }
+            });
+        }
+
+        List<MetricsDelta> hourDeltas = MetricsDelta.rollUp(flush.getDeltas(), MetricsGrain.HOUR);
+        List<MetricsDelta> dayDeltas = MetricsDelta.rollUp(hourDeltas, MetricsGrain.DAY);
+
+        try {
+            periodMetricsRepository.addAll(MetricsGrain.MINUTE, flush.getDeltas());
+            periodMetricsRepository.addAll(MetricsGrain.HOUR, hourDeltas);
+            metricsRepository.addAll(dailyDeltas(dayDeltas));
+            offsetRepository.saveNextOffset(consumerId, flush.getNextOffset());
+            flush.getDeltas().stream()
+                .map(MetricsDelta::getPeriodStart)
+                .max(Comparator.naturalOrder())
+                .ifPresent(watermark -> offsetRepository.advanceWatermark(consumerId, watermark));
+        } catch (RuntimeException e) {
+            if (!inTransaction) {
+                liveMetrics.abortFlush(flush);
+            }
+            throw e;
+        }
+
+        if (!inTransaction) {
+            liveMetrics.completeFlush(flush);
+        }
+        log.debug("이벤트 피드 반영: consumer={}, offset {} ~ {}, 분/시간/일 메트릭스 수={}/{}/{}",
+            consumerId, flush.getFromOffset(), flush.getNextOffset() - 1,
+            flush.getDeltas().size(), hourDeltas.size(), dayDeltas.size());
+
+        return dayDeltas.size();
+    }
+
+    /**
+     * (분, 광고)의 이벤트 수와 비용 증분 계산
+     */
+    private MetricsDelta toDelta(LocalDateTime minute, String adId, List<EventLogClient.FeedEventDto> events,
+                                 Map<String, CampaignClient.AdGroupDto> adGroups) {
+        EventLogClient.FeedEventDto firstEvent = events.get(0);
+
+        // 광고그룹 정보 (입찰가, 가격 모델)
+        CampaignClient.AdGroupDto adGroup = adGroups.get(firstEvent.getAdGroupId());
+        if (adGroup == null) {
+            throw new IllegalArgumentException("광고그룹을 찾을 수 없습니다: " + firstEvent.getAdGroupId());
+        }
+        PricingModel pricingModel = adGroup.getPricingModel() != null
+            ? adGroup.getPricingModel()
+            : PricingModel.CPC;
+
+        EventCounts counts = metricsCalculator.countEvents(events, adId);
+        long impressions = counts.getImpressions();
+        long clicks = counts.getClicks();
+        long conversions = counts.getConversions();
+        // 1/1000 단위로 내리지 않고 넘겨 일 합계에서만 내림 (분마다 내리면 CPM 비용이 0으로 사라짐)
+        long costMilli = metricsCalculator.calculateCostMilliByModel(pricingModel, adGroup.getBid(),
+            impressions, clicks, conversions);
+
+        return MetricsDelta.builder()
+            .date(minute.toLocalDate())
+            .periodStart(minute)
+            .adId(adId)
+            .adGroupId(firstEvent.getAdGroupId())
+            .campaignId(firstEvent.getCampaignId())
+            .impressions(impressions)
+            .clicks(clicks)
+            .conversions(conversions)
+            .costMilli(costMilli)
+            .build();
+    }
+
+    /**
+     * 일일 메트릭스에 더할 증분 (캠페인 ID가 없는 등 다시 읽어도 같은 증분은 건너뜀)
+     * - 노출보다 많은 클릭(노출이 전날에 잡힌 클릭 등)은 저장할 때 한도까지만 더하고 노출과 비용은 그대로 반영
+     */
+    private List<MetricsDelta> dailyDeltas(List<MetricsDelta> dayDeltas) {
+        List<MetricsDelta> valid = new ArrayList<>(dayDeltas.size());
+        for (MetricsDelta delta : dayDeltas) {
+            if (delta.getCampaignId() == null || delta.getCampaignId().isBlank()) {
+                log.error("피드 증분 반영 실패, 캠페인 ID가 없음: adId={}, date={}", delta.getAdId(), delta.getDate());
+                continue;
+            }
+            valid.add(delta);
+        }
+        return valid;
+    }
+}
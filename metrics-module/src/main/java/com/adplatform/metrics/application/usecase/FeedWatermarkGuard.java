@@ -0,0 +1,74 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.repository.EventFeedOffsetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 재집계 가능 날짜 검사
+ * - 피드(metrics.feed.enabled)를 사용 중이면 피드가 반영을 마친 날짜만 재집계/백필 가능
+ *   (피드가 아직 읽지 않은 이벤트가 있는 날짜를 재집계하면 피드가 그 이벤트를 다시 더함)
+ * - 반영을 마친 날짜: 피드 워터마크(반영한 가장 늦은 분)의 날짜 이전이고 오늘 이전인 날짜
+ *   (워터마크보다 한참 늦게 저장된 이벤트는 고려하지 않음)
+ * - 피드를 끄면 제한 없음
+ */
+@Component
+public class FeedWatermarkGuard {
+
+    private final EventFeedOffsetRepository offsetRepository;
+    private final boolean feedEnabled;
+    private final String consumerId;
+    private final Clock clock;
+
+    @Autowired
+    public FeedWatermarkGuard(
+        EventFeedOffsetRepository offsetRepository,
+        @Value("${metrics.feed.enabled:true}") boolean feedEnabled,
+        @Value("${metrics.feed.consumer-id:daily-metrics}") String consumerId
+    ) {
+        this(offsetRepository, feedEnabled, consumerId, Clock.systemDefaultZone());
+    }
+
+    FeedWatermarkGuard(EventFeedOffsetRepository offsetRepository, boolean feedEnabled, String consumerId, Clock clock) {
+        this.offsetRepository = offsetRepository;
+        this.feedEnabled = feedEnabled;
+        this.consumerId = consumerId;
+        this.clock = clock;
+    }
+
+    /**
+     * 재집계할 수 있는 마지막 날짜 (제한이 없으면 empty, 피드가 아직 아무것도 반영하지 않았으면 LocalDate.MIN)
+     */
+    public Optional<LocalDate> lastRecomputableDate() {
+        if (!feedEnabled) {
+            return Optional.empty();
+        }
+        LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+        LocalDate beforeWatermark = offsetRepository.findWatermark(consumerId)
+            .map(LocalDateTime::toLocalDate)
+            .map(date -> date.minusDays(1))
+            .orElse(LocalDate.MIN);
+        return Optional.of(beforeWatermark.isBefore(yesterday) ? beforeWatermark : yesterday);
+    }
+
+    /**
+     * date까지 재집계할 수 있는지 확인
+     *
+     * @throws IllegalArgumentException 피드가 아직 반영을 마치지 않은 날짜인 경우
+     */
+    public void checkRecomputable(LocalDate date) {
+        lastRecomputableDate()
+            .filter(last -> date.isAfter(last))
+            .ifPresent(last -> {
+                throw new IllegalArgumentException(last.equals(LocalDate.MIN)
+                    ? "피드가 아직 반영한 이벤트가 없어 재집계할 수 없습니다: " + date
+                    : "피드가 반영을 마치지 않은 날짜는 재집계할 수 없습니다: " + date + " (" + last + "까지 가능)");
+            });
+    }
+}
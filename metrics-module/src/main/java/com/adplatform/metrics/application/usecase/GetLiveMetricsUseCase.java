@@ -0,0 +1,86 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.infrastructure.live.LiveMetricsBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 실시간 메트릭스 조회 Use Case
+ * - 오늘(시스템 시간대) 일일 메트릭스에 아직 저장되지 않은 버퍼 증분을 더해 반환
+ * - 저장 주기(flush-interval)를 기다리지 않고 피드 poll 주기만큼의 지연으로 조회
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class GetLiveMetricsUseCase {
+
+    private final DailyMetricsRepository metricsRepository;
+    private final LiveMetricsBuffer liveMetrics;
+    private final Clock clock;
+
+    @Autowired
+    public GetLiveMetricsUseCase(DailyMetricsRepository metricsRepository, LiveMetricsBuffer liveMetrics) {
+        this(metricsRepository, liveMetrics, Clock.systemDefaultZone());
+    }
+
+    GetLiveMetricsUseCase(DailyMetricsRepository metricsRepository, LiveMetricsBuffer liveMetrics, Clock clock) {
+        this.metricsRepository = metricsRepository;
+        this.liveMetrics = liveMetrics;
+        this.clock = clock;
+    }
+
+    /**
+     * 오늘 모든 광고의 실시간 메트릭스
+     */
+    public List<DailyMetrics> execute() {
+        LocalDate today = LocalDate.now(clock);
+
+        Map<String, DailyMetrics> metricsByAd = new LinkedHashMap<>();
+        metricsRepository.findByDate(today).forEach(metrics -> metricsByAd.put(metrics.getAdId(), metrics));
+
+        for (MetricsDelta delta : liveMetrics.findByDate(today)) {
+            DailyMetrics persisted = metricsByAd.get(delta.getAdId());
+            merge(persisted, delta).ifPresent(metrics -> metricsByAd.put(delta.getAdId(), metrics));
+        }
+
+        return new ArrayList<>(metricsByAd.values());
+    }
+
+    /**
+     * 오늘 광고의 실시간 메트릭스 (저장된 메트릭스도 증분도 없으면 empty)
+     */
+    public Optional<DailyMetrics> executeForAd(String adId) {
+        LocalDate today = LocalDate.now(clock);
+        log.debug("실시간 메트릭스 조회: adId={}, date={}", adId, today);
+
+        Optional<DailyMetrics> persisted = metricsRepository.findByDateAndAdId(today, adId);
+        Optional<MetricsDelta> pending = liveMetrics.find(today, adId);
+        if (pending.isEmpty()) {
+            return persisted;
+        }
+        return merge(persisted.orElse(null), pending.get());
+    }
+
+    private Optional<DailyMetrics> merge(DailyMetrics persisted, MetricsDelta delta) {
+        try {
+            return Optional.of(delta.applyTo(persisted, null));
+        } catch (IllegalArgumentException e) {
+            // 규칙을 위반하는 증분은 flush에서도 건너뛰므로 저장된 값만 보여 줌
+            log.warn("실시간 증분 합산 실패: adId={}, date={}", delta.getAdId(), delta.getDate(), e);
+            return Optional.ofNullable(persisted);
+        }
+    }
+}
@@ -1,26 +1,54 @@
 package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.GrainRange;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
-import lombok.RequiredArgsConstructor;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 광고별 메트릭스 조회 Use Case
  * - 특정 광고의 날짜 범위별 메트릭스 조회
+ * - 시각 구간 조회는 구간을 가장 큰 집계 단위(일/시간/분)로 나누어 각 단위의 메트릭스를 읽음
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetMetricsByAdUseCase {
 
     private final DailyMetricsRepository metricsRepository;
+    private final PeriodMetricsRepository periodMetricsRepository;
+    private final RollupRetention rollupRetention;
+    private final Clock clock;
+
+    @Autowired
+    public GetMetricsByAdUseCase(
+        DailyMetricsRepository metricsRepository,
+        PeriodMetricsRepository periodMetricsRepository,
+        RollupRetention rollupRetention
+    ) {
+        this(metricsRepository, periodMetricsRepository, rollupRetention, Clock.systemDefaultZone());
+    }
+
+    GetMetricsByAdUseCase(DailyMetricsRepository metricsRepository, PeriodMetricsRepository periodMetricsRepository,
+                          RollupRetention rollupRetention, Clock clock) {
+        this.metricsRepository = metricsRepository;
+        this.periodMetricsRepository = periodMetricsRepository;
+        this.rollupRetention = rollupRetention;
+        this.clock = clock;
+    }
 
     /**
      * 광고 ID와 날짜 범위로 메트릭스 조회
@@ -30,4 +58,30 @@ public class GetMetricsByAdUseCase {
 
         return metricsRepository.findByAdIdAndDateRange(adId, startDate, endDate);
     }
+
+    /**
+     * 광고 ID와 시각 구간 [from, to)로 집계 단위별 메트릭스 조회 (구간 시작 순)
+     * - from은 분 단위로 내리고 to는 분 단위로 올림
+     * - 예: 1일 22:30 ~ 4일 01:00 -> 분 30행, 시간 1행, 일 2행, 시간 1행
+     * - 분/시간 보관 기간이 지난 쪽 끝은 보관 중인 더 큰 단위로 넓혀 읽음 (GrainRange.split)
+     *
+     * @throws IllegalArgumentException from이 to보다 늦거나 같은 경우
+     */
+    public List<PeriodMetrics> executeTimeSeries(String adId, LocalDateTime from, LocalDateTime to) {
+        log.debug("광고 시계열 메트릭스 조회: adId={}, from={}, to={}", adId, from, to);
+
+        List<PeriodMetrics> result = new ArrayList<>();
+        for (GrainRange range : GrainRange.split(MetricsGrain.MINUTE.truncate(from), MetricsGrain.MINUTE.ceil(to),
+                rollupRetention, LocalDate.now(clock))) {
+            if (range.getGrain() == MetricsGrain.DAY) {
+                metricsRepository.findByAdIdAndDateRange(adId,
+                        range.getFrom().toLocalDate(), range.getTo().toLocalDate().minusDays(1))
+                    .forEach(metrics -> result.add(PeriodMetrics.fromDaily(metrics)));
+            } else {
+                result.addAll(periodMetricsRepository.findByAdIdAndRange(
+                    range.getGrain(), adId, range.getFrom(), range.getTo()));
+            }
+        }
+        return result;
+    }
 }
@@ -2,26 +2,56 @@ package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.application.dto.CampaignMetricsDto;
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.GrainRange;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
-import lombok.RequiredArgsConstructor;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 캠페인별 메트릭스 조회 Use Case
  * - 캠페인의 모든 광고 메트릭스를 롤업하여 집계
+ * - 시각 구간 조회는 구간을 가장 큰 집계 단위(일/시간/분)로 나누어 각 단위의 메트릭스를 구간별로 합침
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetMetricsByCampaignUseCase {
 
     private final DailyMetricsRepository metricsRepository;
+    private final PeriodMetricsRepository periodMetricsRepository;
+    private final RollupRetention rollupRetention;
+    private final Clock clock;
+
+    @Autowired
+    public GetMetricsByCampaignUseCase(
+        DailyMetricsRepository metricsRepository,
+        PeriodMetricsRepository periodMetricsRepository,
+        RollupRetention rollupRetention
+    ) {
+        this(metricsRepository, periodMetricsRepository, rollupRetention, Clock.systemDefaultZone());
+    }
+
+    GetMetricsByCampaignUseCase(DailyMetricsRepository metricsRepository, PeriodMetricsRepository periodMetricsRepository,
+                                RollupRetention rollupRetention, Clock clock) {
+        this.metricsRepository = metricsRepository;
+        this.periodMetricsRepository = periodMetricsRepository;
+        this.rollupRetention = rollupRetention;
+        this.clock = clock;
+    }
 
     /**
      * 캠페인 ID와 날짜 범위로 메트릭스 롤업 조회
@@ -35,4 +65,34 @@ public class GetMetricsByCampaignUseCase {
 
         return CampaignMetricsDto.fromDailyMetrics(campaignId, startDate, endDate, dailyMetrics);
     }
+
+    /**
+     * 캠페인 ID와 시각 구간 [from, to)로 집계 단위별 캠페인 합계 조회 (구간 시작 순)
+     * - from은 분 단위로 내리고 to는 분 단위로 올림
+     * - 분/시간 보관 기간이 지난 쪽 끝은 보관 중인 더 큰 단위로 넓혀 읽음 (GrainRange.split)
+     *
+     * @throws IllegalArgumentException from이 to보다 늦거나 같은 경우
+     */
+    public List<PeriodMetrics> executeTimeSeries(String campaignId, LocalDateTime from, LocalDateTime to) {
+        log.debug("캠페인 시계열 메트릭스 조회: campaignId={}, from={}, to={}", campaignId, from, to);
+
+        List<PeriodMetrics> adMetrics = new ArrayList<>();
+        for (GrainRange range : GrainRange.split(MetricsGrain.MINUTE.truncate(from), MetricsGrain.MINUTE.ceil(to),
+                rollupRetention, LocalDate.now(clock))) {
+            if (range.getGrain() == MetricsGrain.DAY) {
+                metricsRepository.findByCampaignIdAndDateRange(campaignId,
+                        range.getFrom().toLocalDate(), range.getTo().toLocalDate().minusDays(1))
+                    .forEach(metrics -> adMetrics.add(PeriodMetrics.fromDaily(metrics)));
+            } else {
+                adMetrics.addAll(periodMetricsRepository.findByCampaignIdAndRange(
+                    range.getGrain(), campaignId, range.getFrom(), range.getTo()));
+            }
+        }
+
+        // 구간마다 광고들의 메트릭스를 합침 (구간 시작은 단위와 관계없이 겹치지 않음)
+        Map<LocalDateTime, PeriodMetrics> totals = new TreeMap<>();
+        adMetrics.forEach(metrics -> totals.merge(metrics.getPeriodStart(),
+            metrics.toBuilder().adId(null).adGroupId(null).build(), PeriodMetrics::plus));
+        return new ArrayList<>(totals.values());
+    }
 }
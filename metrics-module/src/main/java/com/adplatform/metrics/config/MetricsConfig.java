@@ -0,0 +1,27 @@
+package com.adplatform.metrics.config;
+
+import com.adplatform.metrics.domain.model.RollupRetention;
+import com.adplatform.metrics.domain.service.MetricsCalculator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭스 도메인 서비스 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MetricsCalculator metricsCalculator() {
+        return new MetricsCalculator();
+    }
+
+    @Bean
+    public RollupRetention rollupRetention(
+        @Value("${metrics.rollup.minute-retention-days:7}") int minuteRetentionDays,
+        @Value("${metrics.rollup.hour-retention-days:90}") int hourRetentionDays
+    ) {
+        return new RollupRetention(minuteRetentionDays, hourRetentionDays);
+    }
+}
@@ -16,6 +16,11 @@ import java.time.LocalDate;
 @Getter
 public class DailyMetrics {
 
+    /**
+     * 비용 1의 세분 단위 수 (1 미만 비용은 1/1000 단위로 보관)
+     */
+    public static final long COST_SCALE = 1000L;
+
     private final String id;
     private final LocalDate date;
     private final String adId;
@@ -25,6 +30,11 @@ public class DailyMetrics {
     private final Long clicks;
     private final Long conversions;
     private final Long cost;
+    /**
+     * 아직 비용으로 올리지 않은 1 미만 비용 (1/1000 단위, 0 ~ 999)
+     * - CPM처럼 증분마다 1 미만이 되는 비용을 내림으로 잃지 않도록 다음 증분으로 이월
+     */
+    private final Long costRemainder;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -38,7 +48,8 @@ public class DailyMetrics {
         Long impressions,
         Long clicks,
         Long conversions,
-        Long cost
+        Long cost,
+        Long costRemainder
     ) {
         validateDate(date);
         validateAdId(adId);
@@ -47,6 +58,7 @@ public class DailyMetrics {
         validateClicks(impressions, clicks);
         validateConversions(clicks, conversions);
         validateCost(cost);
+        validateCostRemainder(costRemainder);
 
         this.id = id;
         this.date = date;
@@ -57,6 +69,7 @@ public class DailyMetrics {
         this.clicks = clicks != null ? clicks : 0L;
         this.conversions = conversions != null ? conversions : 0L;
         this.cost = cost != null ? cost : 0L;
+        this.costRemainder = costRemainder != null ? costRemainder : 0L;
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
@@ -73,6 +86,7 @@ public class DailyMetrics {
         Long clicks,
         Long conversions,
         Long cost,
+        Long costRemainder,
         Instant createdAt,
         Instant updatedAt
     ) {
@@ -83,6 +97,7 @@ public class DailyMetrics {
         validateClicks(impressions, clicks);
         validateConversions(clicks, conversions);
         validateCost(cost);
+        validateCostRemainder(costRemainder);
 
         this.id = id;
         this.date = date;
@@ -93,6 +108,7 @@ public class DailyMetrics {
         this.clicks = clicks != null ? clicks : 0L;
         this.conversions = conversions != null ? conversions : 0L;
         this.cost = cost != null ? cost : 0L;
+        this.costRemainder = costRemainder != null ? costRemainder : 0L;
         this.createdAt = createdAt != null ? createdAt : Instant.now();
         this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
     }
@@ -145,6 +161,12 @@ public class DailyMetrics {
         }
     }
 
+    private void validateCostRemainder(Long costRemainder) {
+        if (costRemainder != null && (costRemainder < 0 || costRemainder >= COST_SCALE)) {
+            throw new IllegalArgumentException("1 미만 비용은 0 이상 " + COST_SCALE + " 미만이어야 합니다");
+        }
+    }
+
     /**
      * CTR (Click-Through Rate) 계산
      * @return 클릭률 (%)
@@ -194,6 +216,56 @@ public class DailyMetrics {
             .clicks(this.clicks + (additionalClicks != null ? additionalClicks : 0))
             .conversions(this.conversions + (additionalConversions != null ? additionalConversions : 0))
             .cost(this.cost + (additionalCost != null ? additionalCost : 0))
+            .costRemainder(this.costRemainder)
+            .createdAt(this.createdAt)
+            .updatedAt(Instant.now())
+            .build();
+    }
+
+    /**
+     * 피드 증분 누적
+     * - 비용은 1/1000 단위 증분을 이월된 1 미만 비용과 합친 뒤 내림 (작은 증분마다 내려 비용이 사라지지 않음)
+     * - 클릭/전환이 누적 노출/클릭을 넘으면 규칙 한도까지만 더함 (예: 자정 직전 노출의 클릭이 다음 날에 잡힌 경우)
+     *   노출과 비용은 그대로 더하므로 증분 전체를 버리지 않음
+     */
+    public DailyMetrics accumulate(long additionalImpressions, long additionalClicks,
+                                   long additionalConversions, long additionalCostMilli) {
+        long newImpressions = this.impressions + additionalImpressions;
+        long newClicks = Math.min(this.clicks + additionalClicks, newImpressions);
+        long newConversions = Math.min(this.conversions + additionalConversions, newClicks);
+        long costMilli = this.cost * COST_SCALE + this.costRemainder + additionalCostMilli;
+
+        return DailyMetrics.builderWithTimestamps()
+            .id(this.id)
+            .date(this.date)
+            .adId(this.adId)
+            .adGroupId(this.adGroupId)
+            .campaignId(this.campaignId)
+            .impressions(newImpressions)
+            .clicks(newClicks)
+            .conversions(newConversions)
+            .cost(costMilli / COST_SCALE)
+            .costRemainder(costMilli % COST_SCALE)
+            .createdAt(this.createdAt)
+            .updatedAt(Instant.now())
+            .build();
+    }
+
+    /**
+     * 메트릭스 재집계 (교체)
+     * - 같은 날짜/광고의 이벤트 전체를 다시 집계한 값으로 바꿈: aggregate와 달리 더하지 않으므로 여러 번 실행해도 결과 동일
+     */
+    public DailyMetrics recalculate(Long impressions, Long clicks, Long conversions, Long cost) {
+        return DailyMetrics.builderWithTimestamps()
+            .id(this.id)
+            .date(this.date)
+            .adId(this.adId)
+            .adGroupId(this.adGroupId)
+            .campaignId(this.campaignId)
+            .impressions(impressions)
+            .clicks(clicks)
+            .conversions(conversions)
+            .cost(cost)
             .createdAt(this.createdAt)
             .updatedAt(Instant.now())
             .build();
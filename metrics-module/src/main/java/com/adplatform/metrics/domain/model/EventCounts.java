@@ -0,0 +1,16 @@
+package com.adplatform.metrics.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 광고 하나의 이벤트 타입별 수
+ */
+@Getter
+@RequiredArgsConstructor
+public class EventCounts {
+
+    private final long impressions;
+    private final long clicks;
+    private final long conversions;
+}
@@ -0,0 +1,28 @@
+package com.adplatform.metrics.domain.model;
+
+/**
+ * 이벤트 타입
+ * - IMPRESSION: 광고 노출
+ * - CLICK: 광고 클릭
+ * - CONVERSION: 전환
+ */
+public enum EventType {
+    IMPRESSION,
+    CLICK,
+    CONVERSION;
+
+    /**
+     * 이벤트 타입 문자열 변환 (알 수 없는 타입이나 null이면 null, 집계에서 제외)
+     */
+    public static EventType parse(String eventType) {
+        if (eventType == null) {
+            return null;
+        }
+        return switch (eventType) {
+            case "IMPRESSION" -> IMPRESSION;
+            case "CLICK" -> CLICK;
+            case "CONVERSION" -> CONVERSION;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.adplatform.metrics.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 집계 단위로 읽을 시간 구간 [from, to)
+ */
+@Getter
+@RequiredArgsConstructor
+public class GrainRange {
+
+    private final MetricsGrain grain;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * 조회 구간을 가장 큰 집계 단위로 나눔 (시간 순)
+     * - 예: 1일 22:30 ~ 4일 01:00 -> 분(22:30~23:00), 시간(23:00~2일 00:00), 일(2일~3일), 시간(4일 00:00~01:00)
+     * - 구간이 길어도 읽는 행은 양 끝의 시간/분 몇 개와 일 단위뿐
+     *
+     * @throws IllegalArgumentException from이 to보다 늦거나 같은 경우, 분 단위로 맞지 않는 경우
+     */
+    public static List<GrainRange> split(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 구간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        if (!MetricsGrain.MINUTE.truncate(from).equals(from) || !MetricsGrain.MINUTE.truncate(to).equals(to)) {
+            throw new IllegalArgumentException("조회 구간은 분 단위여야 합니다: " + from + " ~ " + to);
+        }
+
+        List<GrainRange> ranges = new ArrayList<>();
+        splitInto(ranges, MetricsGrain.DAY, from, to);
+        return ranges;
+    }
+
+    /**
+     * 보관 기간 안의 집계 단위로만 나눔 (시간 순)
+     * - 분/시간 행이 이미 삭제된 쪽 끝은 보관 중인 더 큰 단위의 경계까지 넓혀 읽음
+     *   (예: 분 보관 기간이 지난 22:30 시작 -> 22:00부터 시간 단위, 시간 보관 기간도 지났으면 그날 0시부터 일 단위)
+     * - 넓힌 구간의 행은 요청 구간 밖의 이벤트를 포함할 수 있음 (행의 단위와 시작 시각으로 구분)
+     *
+     * @throws IllegalArgumentException from이 to보다 늦거나 같은 경우, 분 단위로 맞지 않는 경우
+     */
+    public static List<GrainRange> split(LocalDateTime from, LocalDateTime to, RollupRetention retention, LocalDate today) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 구간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        LocalDateTime minuteFrom = retention.retainedFrom(MetricsGrain.MINUTE, today);
+        LocalDateTime hourFrom = retention.retainedFrom(MetricsGrain.HOUR, today);
+
+        // 앞쪽 끝: 분 구간은 from에서, 시간 구간은 from이 속한 날에서 시작
+        LocalDateTime start = from;
+        if (start.isBefore(minuteFrom)) {
+            start = MetricsGrain.HOUR.truncate(start);
+        }
+        if (start.isBefore(hourFrom)) {
+            start = MetricsGrain.DAY.truncate(start);
+        }
+
+        // 뒤쪽 끝: 분 구간은 to가 속한 시간에서, 시간 구간은 to가 속한 날에서 시작
+        LocalDateTime end = to;
+        if (MetricsGrain.HOUR.truncate(end).isBefore(minuteFrom)) {
+            end = MetricsGrain.HOUR.ceil(end);
+        }
+        if (MetricsGrain.DAY.truncate(end).isBefore(hourFrom)) {
+            end = MetricsGrain.DAY.ceil(end);
+        }
+        return split(start, end);
+    }
+
+    private static void splitInto(List<GrainRange> ranges, MetricsGrain grain, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (grain == MetricsGrain.MINUTE) {
+            ranges.add(new GrainRange(grain, from, to));
+            return;
+        }
+
+        LocalDateTime start = grain.ceil(from);
+        LocalDateTime end = grain.truncate(to);
+        if (start.isBefore(end)) {
+            splitInto(ranges, grain.finer(), from, start);
+            ranges.add(new GrainRange(grain, start, end));
+            splitInto(ranges, grain.finer(), end, to);
+        } else {
+            splitInto(ranges, grain.finer(), from, to);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.adplatform.metrics.domain.model;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메트릭스 증분
+ * - (구간, 광고)별로 아직 메트릭스에 더하지 않은 이벤트 수와 비용
+ * - 비용은 내림하지 않은 1/1000 단위 값: 작은 증분을 합쳐도 1 미만 비용이 사라지지 않고, 저장할 때 합계에서만 내림
+ * - 피드는 분 단위로 만들고, rollUp으로 시간/일 단위 증분을 만듦
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MetricsDelta {
+
+    private final LocalDate date;
+    private final LocalDateTime periodStart;
+    private final String adId;
+    private final String adGroupId;
+    private final String campaignId;
+    private final long impressions;
+    private final long clicks;
+    private final long conversions;
+    private final long costMilli;
+
+    /**
+     * 증분을 더한 일일 메트릭스 (기존 메트릭스가 없으면 증분으로 새로 생성, ID는 호출자가 부여)
+     * - 누적 규칙(비용 이월, 클릭/전환 한도)은 DailyMetrics.accumulate를 따름
+     */
+    public DailyMetrics applyTo(DailyMetrics existing, String newId) {
+        DailyMetrics base = existing != null ? existing : DailyMetrics.builder()
+            .id(newId)
+            .date(date)
+            .adId(adId)
+            .adGroupId(adGroupId)
+            .campaignId(campaignId)
+            .impressions(0L)
+            .clicks(0L)
+            .conversions(0L)
+            .cost(0L)
+            .build();
+        return base.accumulate(impressions, clicks, conversions, costMilli);
+    }
+
+    /**
+     * 내림한 비용 (1 미만 버림)
+     */
+    public long getCost() {
+        return costMilli / DailyMetrics.COST_SCALE;
+    }
+
+    /**
+     * 더 큰 단위의 증분으로 합침 (구간 시작을 grain으로 자르고 (구간, 광고)별로 더함)
+     */
+    public static List<MetricsDelta> rollUp(Collection<MetricsDelta> deltas, MetricsGrain grain) {
+        Map<Key, MetricsDelta> rolledUp = new LinkedHashMap<>();
+        for (MetricsDelta delta : deltas) {
+            LocalDateTime periodStart = grain.truncate(delta.periodStart);
+            rolledUp.merge(new Key(periodStart, delta.adId), delta.toBuilder().periodStart(periodStart).build(),
+                MetricsDelta::plus);
+        }
+        return List.copyOf(rolledUp.values());
+    }
+
+    private MetricsDelta plus(MetricsDelta other) {
+        return toBuilder()
+            .impressions(impressions + other.impressions)
+            .clicks(clicks + other.clicks)
+            .conversions(conversions + other.conversions)
+            .costMilli(costMilli + other.costMilli)
+            .build();
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final LocalDateTime periodStart;
+        private final String adId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.adplatform.metrics.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 메트릭스 집계 단위
+ * - MINUTE, HOUR: 피드가 분 단위 증분에서 올려 저장 (period_metrics)
+ * - DAY: 일일 메트릭스 (daily_metrics)
+ */
+public enum MetricsGrain {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    MetricsGrain(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 시각 이후 첫 구간의 시작 (구간 시작이면 그대로)
+     */
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime start = truncate(time);
+        return start.equals(time) ? time : start.plus(1, unit);
+    }
+
+    /**
+     * 한 단계 작은 단위 (MINUTE이면 null)
+     */
+    public MetricsGrain finer() {
+        return switch (this) {
+            case MINUTE -> null;
+            case HOUR -> MINUTE;
+            case DAY -> HOUR;
+        };
+    }
+}
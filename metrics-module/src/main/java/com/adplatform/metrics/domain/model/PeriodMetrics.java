@@ -0,0 +1,69 @@
+package com.adplatform.metrics.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 단위(분/시간/일)별 메트릭스
+ * - 분/시간 메트릭스는 피드 증분을 더해 가므로 구간 안에서만 의미가 있음
+ *   (예: 노출은 이전 분에, 클릭은 다음 분에 들어갈 수 있어 일일 메트릭스의 클릭 <= 노출 규칙을 적용하지 않음)
+ * - 캠페인 합계는 adId, adGroupId 없이 캠페인의 모든 광고를 더한 값
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PeriodMetrics {
+
+    private final MetricsGrain grain;
+    private final LocalDateTime periodStart;
+    private final String adId;
+    private final String adGroupId;
+    private final String campaignId;
+    private final long impressions;
+    private final long clicks;
+    private final long conversions;
+    private final long cost;
+
+    public static PeriodMetrics fromDaily(DailyMetrics metrics) {
+        return PeriodMetrics.builder()
+            .grain(MetricsGrain.DAY)
+            .periodStart(metrics.getDate().atStartOfDay())
+            .adId(metrics.getAdId())
+            .adGroupId(metrics.getAdGroupId())
+            .campaignId(metrics.getCampaignId())
+            .impressions(metrics.getImpressions())
+            .clicks(metrics.getClicks())
+            .conversions(metrics.getConversions())
+            .cost(metrics.getCost())
+            .build();
+    }
+
+    /**
+     * 같은 구간의 메트릭스를 더함 (캠페인 합계용, 광고 구분 없음)
+     */
+    public PeriodMetrics plus(PeriodMetrics other) {
+        return toBuilder()
+            .adId(null)
+            .adGroupId(null)
+            .impressions(impressions + other.impressions)
+            .clicks(clicks + other.clicks)
+            .conversions(conversions + other.conversions)
+            .cost(cost + other.cost)
+            .build();
+    }
+
+    /**
+     * CTR (Click Through Rate) = (클릭 / 노출) * 100
+     */
+    public double ctr() {
+        return impressions == 0 ? 0.0 : (double) clicks / impressions * 100;
+    }
+
+    /**
+     * CVR (Conversion Rate) = (전환 / 클릭) * 100
+     */
+    public double cvr() {
+        return clicks == 0 ? 0.0 : (double) conversions / clicks * 100;
+    }
+}
@@ -0,0 +1,38 @@
+package com.adplatform.metrics.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분/시간 메트릭스 보관 기간
+ * - 분 단위는 minuteRetentionDays, 시간 단위는 hourRetentionDays일 동안 보관 (일 단위는 삭제하지 않음)
+ * - 오늘에서 보관 일수를 뺀 날짜의 0시부터 보관
+ */
+@Getter
+@RequiredArgsConstructor
+public class RollupRetention {
+
+    private final int minuteRetentionDays;
+    private final int hourRetentionDays;
+
+    /**
+     * grain 단위 행을 보관하는 첫 시각 (DAY는 LocalDateTime.MIN)
+     */
+    public LocalDateTime retainedFrom(MetricsGrain grain, LocalDate today) {
+        return switch (grain) {
+            case MINUTE -> today.minusDays(minuteRetentionDays).atStartOfDay();
+            case HOUR -> today.minusDays(hourRetentionDays).atStartOfDay();
+            case DAY -> LocalDateTime.MIN;
+        };
+    }
+
+    /**
+     * 날짜 전체가 grain 단위로 보관되는지 여부
+     */
+    public boolean isRetained(MetricsGrain grain, LocalDate date, LocalDate today) {
+        return !date.atStartOfDay().isBefore(retainedFrom(grain, today));
+    }
+}
@@ -0,0 +1,31 @@
+package com.adplatform.metrics.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 백필 진행 상황 Repository
+ * - 백필마다 (날짜, 파티션)별 완료 여부를 저장하여, 중단 후 다시 실행하면 완료된 파티션은 건너뜀
+ */
+public interface BackfillProgressRepository {
+
+    /**
+     * 날짜에서 완료된 파티션 번호 조회
+     */
+    Set<Integer> findCompletedPartitions(String backfillId, LocalDate date);
+
+    /**
+     * 파티션 완료 기록 (이미 있으면 집계한 광고 수만 갱신)
+     */
+    void markCompleted(String backfillId, LocalDate date, int partition, int adCount);
+
+    /**
+     * 완료된 파티션 수
+     */
+    long countCompletedPartitions(String backfillId);
+
+    /**
+     * 완료된 파티션에서 집계한 광고 수 합계
+     */
+    long sumAggregatedAds(String backfillId);
+}
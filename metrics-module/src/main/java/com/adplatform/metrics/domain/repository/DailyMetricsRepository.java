@@ -1,8 +1,10 @@
 package com.adplatform.metrics.domain.repository;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsDelta;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,21 @@ public interface DailyMetricsRepository {
      */
     DailyMetrics save(DailyMetrics metrics);
 
+    /**
+     * 메트릭스 일괄 저장 (Upsert)
+     * - date + adId가 이미 있으면 ID와 생성 시각은 두고 나머지 값을 교체, 없으면 새로 생성
+     * - 조회 없이 묶음마다 문장 하나로 저장 (같은 date + adId가 여러 번 있으면 마지막 값 사용)
+     */
+    void upsertAll(List<DailyMetrics> metrics);
+
+    /**
+     * 증분을 일일 메트릭스에 더함 (Upsert)
+     * - date + adId가 이미 있으면 값에 더하고, 없으면 새로 생성
+     * - 누적 규칙(비용 이월, 클릭/전환 한도)은 DailyMetrics.accumulate와 같음
+     * - 증분은 먼저 일 단위로 합친 뒤 조회 없이 묶음마다 문장 하나로 저장
+     */
+    void addAll(Collection<MetricsDelta> deltas);
+
     /**
      * ID로 메트릭스 조회
      */
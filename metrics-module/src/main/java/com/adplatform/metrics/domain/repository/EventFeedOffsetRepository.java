@@ -0,0 +1,39 @@
+package com.adplatform.metrics.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이벤트 피드 소비 위치 Repository
+ * - 소비자별로 다음에 읽을 EventLog 피드 offset 저장
+ * - 메트릭스 반영과 같은 트랜잭션에서 저장하여, 중단 후 재시작해도 이벤트를 두 번 집계하지 않음
+ * - 워터마크: 반영한 이벤트 중 가장 늦은 분 (워터마크 날짜 이전 날짜는 피드가 반영을 마친 것으로 봄)
+ */
+public interface EventFeedOffsetRepository {
+
+    /**
+     * 다음에 읽을 offset 조회 (처음이면 0, 잠그지 않음)
+     */
+    long findNextOffset(String consumerId);
+
+    /**
+     * 다음에 읽을 offset 조회 (처음이면 0)
+     * - 트랜잭션이 끝날 때까지 소비자 행을 잠가 여러 인스턴스가 같은 구간을 동시에 집계하지 않음
+     */
+    long findNextOffsetForUpdate(String consumerId);
+
+    /**
+     * 다음에 읽을 offset 저장
+     */
+    void saveNextOffset(String consumerId, long nextOffset);
+
+    /**
+     * 워터마크를 watermark로 올림 (더 이른 값이면 그대로, saveNextOffset 이후 같은 트랜잭션에서 호출)
+     */
+    void advanceWatermark(String consumerId, LocalDateTime watermark);
+
+    /**
+     * 워터마크 조회 (아직 반영한 이벤트가 없으면 empty)
+     */
+    Optional<LocalDateTime> findWatermark(String consumerId);
+}
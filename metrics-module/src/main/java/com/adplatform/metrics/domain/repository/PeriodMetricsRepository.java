@@ -0,0 +1,52 @@
+package com.adplatform.metrics.domain.repository;
+
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분/시간 메트릭스 Repository
+ * - 일 단위는 DailyMetricsRepository에 저장
+ */
+public interface PeriodMetricsRepository {
+
+    /**
+     * 증분을 grain 단위 메트릭스에 더함 (Upsert)
+     * - grain + 구간 시작 + adId가 이미 있으면 값에 더하고, 없으면 새로 생성
+     * - 증분은 먼저 grain 단위로 합친 뒤 묶음마다 문장 하나로 저장
+     *
+     * @throws IllegalArgumentException grain이 DAY인 경우
+     */
+    void addAll(MetricsGrain grain, Collection<MetricsDelta> deltas);
+
+    /**
+     * 광고들의 [from, to) 구간 grain 단위 메트릭스를 증분으로 교체 (재집계용)
+     * - 기존 행을 지우고 증분을 더하므로 같은 구간을 여러 번 재집계해도 결과 동일
+     *
+     * @throws IllegalArgumentException grain이 DAY인 경우
+     */
+    void replaceAll(MetricsGrain grain, Collection<String> adIds, LocalDateTime from, LocalDateTime to,
+                    Collection<MetricsDelta> deltas);
+
+    /**
+     * 광고 ID와 구간 [from, to)로 메트릭스 조회 (구간 시작 순)
+     */
+    List<PeriodMetrics> findByAdIdAndRange(MetricsGrain grain, String adId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 캠페인 ID와 구간 [from, to)로 광고별 메트릭스 조회 (구간 시작 순)
+     */
+    List<PeriodMetrics> findByCampaignIdAndRange(MetricsGrain grain, String campaignId,
+                                                 LocalDateTime from, LocalDateTime to);
+
+    /**
+     * before 이전에 시작한 grain 단위 메트릭스 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    int deleteBefore(MetricsGrain grain, LocalDateTime before);
+}
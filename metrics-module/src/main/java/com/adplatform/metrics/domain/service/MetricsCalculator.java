@@ -1,17 +1,18 @@
 package com.adplatform.metrics.domain.service;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.EventCounts;
+import com.adplatform.metrics.domain.model.EventType;
 import com.adplatform.metrics.domain.model.PricingModel;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 메트릭스 계산 도메인 서비스
  * - 이벤트를 집계하여 DailyMetrics 생성
  * - 가격 모델에 따른 비용 계산
+ * - 이벤트 수는 한 번 순회하며 이벤트 타입 순번별 long 카운터에 세어, 이벤트마다 박싱하거나 객체를 만들지 않음
  */
 public class MetricsCalculator {
 
@@ -41,24 +42,14 @@ public class MetricsCalculator {
         String campaignId = firstEvent.getCampaignId();
         LocalDate date = firstEvent.getDate();
 
-        // 해당 광고의 이벤트만 필터링
-        List<T> filteredEvents = events.stream()
-            .filter(e -> e.getAdId().equals(adId))
-            .collect(Collectors.toList());
+        // 해당 광고의 이벤트만 타입별로 카운트
+        EventCounts counts = countEvents(events, adId);
+        long impressions = counts.getImpressions();
+        long clicks = counts.getClicks();
+        long conversions = counts.getConversions();
 
-        // 이벤트 타입별로 카운트
-        Map<String, Long> eventCounts = filteredEvents.stream()
-            .collect(Collectors.groupingBy(
-                EventData::getEventType,
-                Collectors.counting()
-            ));
-
-        Long impressions = eventCounts.getOrDefault("IMPRESSION", 0L);
-        Long clicks = eventCounts.getOrDefault("CLICK", 0L);
-        Long conversions = eventCounts.getOrDefault("CONVERSION", 0L);
-
-        // 비용 계산 (가격 모델에 따라)
-        Long cost = calculateCostByModel(pricingModel, bid, impressions, clicks, conversions);
+        // 비용 계산 (가격 모델에 따라, 1 미만 비용은 피드 누적과 같도록 costRemainder로 보관)
+        long costMilli = calculateCostMilliByModel(pricingModel, bid, impressions, clicks, conversions);
 
         return DailyMetrics.builder()
             .id(id)
@@ -69,7 +60,8 @@ public class MetricsCalculator {
             .impressions(impressions)
             .clicks(clicks)
             .conversions(conversions)
-            .cost(cost)
+            .cost(costMilli / DailyMetrics.COST_SCALE)
+            .costRemainder(costMilli % DailyMetrics.COST_SCALE)
             .build();
     }
 
@@ -104,14 +96,51 @@ public class MetricsCalculator {
     }
 
     /**
-     * 가격 모델에 따른 비용 계산
+     * 광고의 이벤트 타입별 수 (한 번 순회)
+     * - adId가 다른 이벤트와 알 수 없는 타입의 이벤트는 세지 않음
      */
-    private Long calculateCostByModel(PricingModel pricingModel, Long bid,
-                                       Long impressions, Long clicks, Long conversions) {
+    public EventCounts countEvents(List<? extends EventData> events, String adId) {
+        long impressions = 0;
+        long clicks = 0;
+        long conversions = 0;
+
+        for (EventData event : events) {
+            EventType type = event.getType();
+            if (type == null || !adId.equals(event.getAdId())) {
+                continue;
+            }
+            switch (type) {
+                case IMPRESSION -> impressions++;
+                case CLICK -> clicks++;
+                case CONVERSION -> conversions++;
+            }
+        }
+
+        return new EventCounts(impressions, clicks, conversions);
+    }
+
+    /**
+     * 가격 모델에 따른 내림하지 않은 비용 (1/1000 단위)
+     * - 작은 증분의 비용을 더할 때 사용 (CPM 비용을 증분마다 내리면 1 미만 비용이 계속 버려짐)
+     */
+    public long calculateCostMilliByModel(PricingModel pricingModel, Long bid,
+                                          long impressions, long clicks, long conversions) {
+        long eventCount = switch (pricingModel) {
+            case CPM -> impressions;
+            case CPC -> clicks;
+            case CPA -> conversions;
+        };
+        if (eventCount == 0) {
+            return 0L;
+        }
+
+        if (bid == null || bid <= 0) {
+            throw new IllegalArgumentException("입찰가는 0보다 커야 합니다");
+        }
+
         return switch (pricingModel) {
-            case CPM -> calculateCost(pricingModel, bid, impressions);
-            case CPC -> calculateCost(pricingModel, bid, clicks);
-            case CPA -> calculateCost(pricingModel, bid, conversions);
+            case CPM -> bid * eventCount;
+            case CPC, CPA -> bid * eventCount * DailyMetrics.COST_SCALE;
         };
     }
 
@@ -156,5 +185,12 @@ public class MetricsCalculator {
         String getAdGroupId();
         String getCampaignId();
         LocalDate getDate();
+
+        /**
+         * 이벤트 타입 (알 수 없으면 null, 구현체는 역직렬화할 때 한 번 변환해 두면 집계에서 문자열을 비교하지 않음)
+         */
+        default EventType getType() {
+            return EventType.parse(getEventType());
+        }
     }
 }
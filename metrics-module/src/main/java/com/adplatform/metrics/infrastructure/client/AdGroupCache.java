@@ -0,0 +1,99 @@
+package com.adplatform.metrics.infrastructure.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 광고그룹 조회 캐시 (TTL + LRU)
+ * - 집계할 광고들의 광고그룹 중 캐시에 없는 것만 모아 Campaign 서비스에 일괄 조회
+ *   (광고가 많아도 집계 한 번에 요청은 한두 번)
+ * - ttl이 지나면 다시 조회해 입찰가 변경을 반영하고, max-size를 넘으면 가장 오래 쓰지 않은 항목부터 제거
+ */
+@Component
+public class AdGroupCache {
+
+    private final CampaignClient campaignClient;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    @Autowired
+    public AdGroupCache(
+        CampaignClient campaignClient,
+        @Value("${metrics.ad-group-cache.ttl-seconds:300}") long ttlSeconds,
+        @Value("${metrics.ad-group-cache.max-size:10000}") int maxSize
+    ) {
+        this(campaignClient, Duration.ofSeconds(ttlSeconds), maxSize, Clock.systemUTC());
+    }
+
+    AdGroupCache(CampaignClient campaignClient, Duration ttl, int maxSize, Clock clock) {
+        this.campaignClient = campaignClient;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 광고그룹 일괄 조회 (캐시에 없거나 만료된 것만 Campaign 서비스에서 조회)
+     *
+     * @return 광고그룹 ID별 정보 (Campaign 서비스에 없는 ID와 null은 빠짐)
+     */
+    public Map<String, CampaignClient.AdGroupDto> getAll(Collection<String> adGroupIds) {
+        Map<String, CampaignClient.AdGroupDto> adGroups = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        Instant now = clock.instant();
+
+        synchronized (entries) {
+            for (String adGroupId : adGroupIds) {
+                if (adGroupId == null) {
+                    continue;
+                }
+                Entry entry = entries.get(adGroupId);
+                if (entry != null && entry.expiresAt.isAfter(now)) {
+                    adGroups.put(adGroupId, entry.adGroup);
+                } else {
+                    misses.add(adGroupId);
+                }
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return adGroups;
+        }
+
+        // 외부 호출은 잠그지 않고 수행 (동시에 같은 ID를 조회하면 나중 결과로 덮어씀)
+        Map<String, CampaignClient.AdGroupDto> fetched = campaignClient.getAdGroups(misses);
+        Instant expiresAt = clock.instant().plus(ttl);
+        synchronized (entries) {
+            fetched.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(adGroup -> entries.put(adGroup.getId(), new Entry(adGroup, expiresAt)));
+        }
+        adGroups.putAll(fetched);
+        return adGroups;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final CampaignClient.AdGroupDto adGroup;
+        private final Instant expiresAt;
+    }
+}
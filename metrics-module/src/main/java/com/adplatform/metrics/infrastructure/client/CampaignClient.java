@@ -2,35 +2,81 @@ package com.adplatform.metrics.infrastructure.client;
 
 import com.adplatform.metrics.domain.model.PricingModel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Campaign 서비스 클라이언트
- * - 캠페인 정보 조회를 위한 외부 서비스 통신
+ * - 캠페인 정보 조회를 위한 외부 서비스 통신 (services.campaign.url)
  */
 @Component
-@RequiredArgsConstructor
 public class CampaignClient {
 
+    /**
+     * 일괄 조회 한 번에 담는 광고그룹 ID 수 (요청 URL 길이 제한)
+     */
+    private static final int AD_GROUP_BATCH_SIZE = 100;
+
     private final RestTemplate restTemplate;
-    private static final String CAMPAIGN_SERVICE_URL = "http://localhost:8082/api/v1/campaigns";
+    private final String campaignsUrl;
+
+    public CampaignClient(
+        RestTemplate restTemplate,
+        @Value("${services.campaign.url:http://localhost:8082}") String campaignServiceUrl
+    ) {
+        this.restTemplate = restTemplate;
+        this.campaignsUrl = campaignServiceUrl + "/api/v1/campaigns";
+    }
 
     /**
      * 광고그룹 정보 조회
      */
     public AdGroupDto getAdGroup(String adGroupId) {
-        String url = String.format("%s/adgroups/%s", CAMPAIGN_SERVICE_URL, adGroupId);
+        String url = String.format("%s/adgroups/%s", campaignsUrl, adGroupId);
         return restTemplate.getForObject(url, AdGroupDto.class);
     }
 
+    /**
+     * 광고그룹 일괄 조회 (AD_GROUP_BATCH_SIZE개씩 나누어 요청)
+     *
+     * @return 광고그룹 ID별 정보 (Campaign 서비스에 없는 ID는 빠짐)
+     */
+    public Map<String, AdGroupDto> getAdGroups(Collection<String> adGroupIds) {
+        List<String> ids = new ArrayList<>(adGroupIds);
+        Map<String, AdGroupDto> adGroups = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += AD_GROUP_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + AD_GROUP_BATCH_SIZE, ids.size()));
+            URI uri = UriComponentsBuilder.fromHttpUrl(campaignsUrl + "/adgroups")
+                .queryParam("ids", String.join(",", batch))
+                .encode()
+                .build()
+                .toUri();
+
+            AdGroupDto[] response = restTemplate.getForObject(uri, AdGroupDto[].class);
+            if (response != null) {
+                Arrays.stream(response).forEach(adGroup -> adGroups.put(adGroup.getId(), adGroup));
+            }
+        }
+        return adGroups;
+    }
+
     /**
      * 광고 정보 조회 (광고그룹 정보 포함)
      */
     public AdDto getAd(String adId) {
-        String url = String.format("%s/ads/%s", CAMPAIGN_SERVICE_URL, adId);
+        String url = String.format("%s/ads/%s", campaignsUrl, adId);
         return restTemplate.getForObject(url, AdDto.class);
     }
 
@@ -39,7 +85,7 @@ public class CampaignClient {
      */
     public boolean campaignExists(String campaignId) {
         try {
-            String url = String.format("%s/%s/exists", CAMPAIGN_SERVICE_URL, campaignId);
+            String url = String.format("%s/%s/exists", campaignsUrl, campaignId);
             Boolean exists = restTemplate.getForObject(url, Boolean.class);
             return exists != null && exists;
         } catch (Exception e) {
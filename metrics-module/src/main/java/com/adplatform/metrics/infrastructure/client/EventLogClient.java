@@ -1,33 +1,58 @@
 package com.adplatform.metrics.infrastructure.client;
 
+import com.adplatform.metrics.domain.model.EventType;
 import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * EventLog 서비스 클라이언트
- * - 이벤트 조회를 위한 외부 서비스 통신
+ * - 이벤트 조회를 위한 외부 서비스 통신 (services.eventlog.url)
+ * - 증분 집계는 피드(readFeed), 날짜 단위 재집계는 시간 범위 조회 사용
  */
 @Component
-@RequiredArgsConstructor
 public class EventLogClient {
 
     private final RestTemplate restTemplate;
-    private static final String EVENT_LOG_SERVICE_URL = "http://localhost:8084/api/v1/events";
+    private final ObjectMapper objectMapper;
+    private final String eventsUrl;
+
+    public EventLogClient(
+        RestTemplate restTemplate,
+        ObjectMapper objectMapper,
+        @Value("${services.eventlog.url:http://localhost:8085}") String eventLogServiceUrl
+    ) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.eventsUrl = eventLogServiceUrl + "/api/v1/events";
+    }
 
     /**
      * 날짜 범위로 이벤트 조회
+     * - 시간 범위 조회 API 사용: startDate 00:00부터 endDate 다음 날 00:00 직전까지 (시스템 시간대 기준, getDate와 같음)
      */
     public List<AdEventDto> getEventsByDateRange(LocalDate startDate, LocalDate endDate) {
-        String url = String.format("%s/range?startDate=%s&endDate=%s",
-            EVENT_LOG_SERVICE_URL, startDate, endDate);
+        ZoneId zone = ZoneId.systemDefault();
+        Instant startTime = startDate.atStartOfDay(zone).toInstant();
+        Instant endTime = endDate.plusDays(1).atStartOfDay(zone).toInstant().minusNanos(1);
+        String url = String.format("%s?startTime=%s&endTime=%s", eventsUrl, startTime, endTime);
 
         AdEventDto[] events = restTemplate.getForObject(url, AdEventDto[].class);
         return events != null ? Arrays.asList(events) : List.of();
@@ -37,20 +62,43 @@ public class EventLogClient {
      * 특정 날짜의 이벤트 조회
      */
     public List<AdEventDto> getEventsByDate(LocalDate date) {
-        String url = String.format("%s/date?date=%s", EVENT_LOG_SERVICE_URL, date);
-
-        AdEventDto[] events = restTemplate.getForObject(url, AdEventDto[].class);
-        return events != null ? Arrays.asList(events) : List.of();
+        return getEventsByDateRange(date, date);
     }
 
     /**
      * 광고 ID와 날짜로 이벤트 조회
+     * - EventLog는 광고별 전체 이벤트를 반환하므로 날짜는 여기서 거름
      */
     public List<AdEventDto> getEventsByAdIdAndDate(String adId, LocalDate date) {
-        String url = String.format("%s/ad/%s?date=%s", EVENT_LOG_SERVICE_URL, adId, date);
+        String url = String.format("%s/ad/%s", eventsUrl, adId);
 
         AdEventDto[] events = restTemplate.getForObject(url, AdEventDto[].class);
-        return events != null ? Arrays.asList(events) : List.of();
+        if (events == null) {
+            return List.of();
+        }
+        return Arrays.stream(events)
+            .filter(event -> event.getDate().equals(date))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 이벤트 피드 조회 (NDJSON)
+     * - offset 순으로 fromOffset 이상인 이벤트를 최대 limit개
+     * - 다음 조회는 마지막 이벤트의 offset + 1부터
+     */
+    public List<FeedEventDto> readFeed(long fromOffset, int limit) {
+        String url = String.format("%s/feed?fromOffset=%d&limit=%d", eventsUrl, fromOffset, limit);
+
+        List<FeedEventDto> events = restTemplate.execute(url, HttpMethod.GET,
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+            response -> readNdjson(response.getBody()));
+        return events != null ? events : List.of();
+    }
+
+    private List<FeedEventDto> readNdjson(InputStream body) throws IOException {
+        try (MappingIterator<FeedEventDto> iterator = objectMapper.readerFor(FeedEventDto.class).readValues(body)) {
+            return iterator.readAll();
+        }
     }
 
     /**
@@ -68,6 +116,7 @@ public class EventLogClient {
         private String sessionId;
         private Instant timestamp;
         private String impressionToken;
+        private EventType type;
 
         @Override
         public LocalDate getDate() {
@@ -79,8 +128,18 @@ public class EventLogClient {
             this.id = id;
         }
 
+        /**
+         * 역직렬화할 때 변환해 둔 이벤트 타입 (집계에서 문자열을 비교하지 않음)
+         */
+        @JsonIgnore
+        @Override
+        public EventType getType() {
+            return type;
+        }
+
         public void setEventType(String eventType) {
             this.eventType = eventType;
+            this.type = EventType.parse(eventType);
         }
 
         public void setAdId(String adId) {
@@ -111,4 +170,13 @@ public class EventLogClient {
             this.impressionToken = impressionToken;
         }
     }
+
+    /**
+     * 이벤트 피드 항목 DTO (피드 offset + 이벤트)
+     */
+    @Getter
+    @Setter
+    public static class FeedEventDto extends AdEventDto {
+        private long offset;
+    }
 }
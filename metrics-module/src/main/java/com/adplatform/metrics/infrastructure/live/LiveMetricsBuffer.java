@@ -0,0 +1,211 @@
+package com.adplatform.metrics.infrastructure.live;
+
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 메트릭스 버퍼 (인메모리)
+ * - 피드에서 읽은 이벤트 수와 비용을 (분, 광고)별 LongAdder에 누적하고, 주기적으로 분/시간/일 메트릭스에 반영(flush)
+ * - 쌓인 증분은 아직 저장되지 않은 피드 구간 [committedOffset, nextOffset)과 정확히 대응:
+ *   flush가 증분과 nextOffset을 한 트랜잭션에서 저장하므로, 중단되면 버퍼는 사라지고 저장된 offset부터 다시 읽음
+ * - 누적/flush 시작/완료는 서로 잠그고, 조회는 잠그지 않고 LongAdder 합계를 읽음
+ *   (flush 중인 증분도 포함하며, 맵을 교체하는 순간에는 잠깐 덜 보일 수 있음)
+ */
+@Component
+public class LiveMetricsBuffer {
+
+    private static final long UNINITIALIZED = -1;
+
+    private volatile Map<Key, Counters> pending = new ConcurrentHashMap<>();
+    private volatile Map<Key, Counters> flushing = Map.of();
+    private Flush currentFlush;
+    private long committedOffset = UNINITIALIZED;
+    private long nextOffset = UNINITIALIZED;
+
+    public synchronized boolean isInitialized() {
+        return nextOffset != UNINITIALIZED;
+    }
+
+    /**
+     * 다음에 읽을 피드 offset
+     */
+    public synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * 저장된 offset부터 다시 시작 (쌓인 증분과 진행 중인 flush는 버림)
+     */
+    public synchronized void reset(long committedOffset) {
+        this.pending = new ConcurrentHashMap<>();
+        this.flushing = Map.of();
+        this.currentFlush = null;
+        this.committedOffset = committedOffset;
+        this.nextOffset = committedOffset;
+    }
+
+    /**
+     * 피드 한 배치의 분 단위 증분을 누적하고 다음에 읽을 offset으로 이동
+     * - 배치 단위로 잠가 flush가 배치의 일부만 가져가지 않음
+     * - 읽는 사이 reset되어 fromOffset이 다음 offset과 다르면 버림
+     *
+     * @return 누적했으면 true
+     */
+    public synchronized boolean record(long fromOffset, List<MetricsDelta> deltas, long nextOffset) {
+        if (fromOffset != this.nextOffset) {
+            return false;
+        }
+        Map<Key, Counters> target = pending;
+        for (MetricsDelta delta : deltas) {
+            target.computeIfAbsent(new Key(MetricsGrain.MINUTE.truncate(delta.getPeriodStart()), delta.getAdId()),
+                    key -> new Counters(delta.getAdGroupId(), delta.getCampaignId()))
+                .add(delta.getImpressions(), delta.getClicks(), delta.getConversions(), delta.getCostMilli());
+        }
+        this.nextOffset = nextOffset;
+        return true;
+    }
+
+    /**
+     * flush 시작: 쌓인 분 단위 증분을 떼어 내고 반영할 구간 반환 (반영할 것이 없으면 empty)
+     * - 끝나면 completeFlush 또는 abortFlush 호출
+     */
+    public synchronized Optional<Flush> beginFlush() {
+        if (currentFlush != null) {
+            throw new IllegalStateException("이전 flush가 끝나지 않았습니다");
+        }
+        if (pending.isEmpty() && nextOffset == committedOffset) {
+            return Optional.empty();
+        }
+
+        flushing = pending;
+        pending = new ConcurrentHashMap<>();
+        currentFlush = new Flush(committedOffset, nextOffset, snapshot(flushing));
+        return Optional.of(currentFlush);
+    }
+
+    /**
+     * flush 커밋 후 호출: 반영된 증분을 버리고 저장된 offset 갱신
+     */
+    public synchronized void completeFlush(Flush flush) {
+        if (currentFlush != flush) {
+            return;
+        }
+        committedOffset = flush.getNextOffset();
+        flushing = Map.of();
+        currentFlush = null;
+    }
+
+    /**
+     * flush 롤백 후 호출: 떼어 낸 증분을 다시 쌓아 다음 flush에서 재시도
+     */
+    public synchronized void abortFlush(Flush flush) {
+        if (currentFlush != flush) {
+            return;
+        }
+        flushing.forEach((key, counters) ->
+            pending.computeIfAbsent(key, k -> new Counters(counters.adGroupId, counters.campaignId))
+                .add(counters));
+        flushing = Map.of();
+        currentFlush = null;
+    }
+
+    /**
+     * 아직 저장되지 않은 (날짜, 광고)의 증분 (분 단위 증분을 일 단위로 합침)
+     */
+    public Optional<MetricsDelta> find(LocalDate date, String adId) {
+        List<MetricsDelta> minutes = new ArrayList<>();
+        collect(flushing, date, adId, minutes);
+        collect(pending, date, adId, minutes);
+        return MetricsDelta.rollUp(minutes, MetricsGrain.DAY).stream().findFirst();
+    }
+
+    /**
+     * 아직 저장되지 않은 날짜의 광고별 증분 (분 단위 증분을 일 단위로 합침)
+     */
+    public List<MetricsDelta> findByDate(LocalDate date) {
+        List<MetricsDelta> minutes = new ArrayList<>();
+        collect(flushing, date, null, minutes);
+        collect(pending, date, null, minutes);
+        return MetricsDelta.rollUp(minutes, MetricsGrain.DAY);
+    }
+
+    private static void collect(Map<Key, Counters> source, LocalDate date, String adId, List<MetricsDelta> target) {
+        source.forEach((key, counters) -> {
+            if (key.minute.toLocalDate().equals(date) && (adId == null || key.adId.equals(adId))) {
+                target.add(counters.toDelta(key));
+            }
+        });
+    }
+
+    private static List<MetricsDelta> snapshot(Map<Key, Counters> counters) {
+        List<MetricsDelta> deltas = new ArrayList<>(counters.size());
+        counters.forEach((key, value) -> deltas.add(value.toDelta(key)));
+        return deltas;
+    }
+
+    /**
+     * 반영할 피드 구간 [fromOffset, nextOffset)과 그 구간의 증분
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Flush {
+        private final long fromOffset;
+        private final long nextOffset;
+        private final List<MetricsDelta> deltas;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final LocalDateTime minute;
+        private final String adId;
+    }
+
+    @RequiredArgsConstructor
+    private static class Counters {
+        private final String adGroupId;
+        private final String campaignId;
+        private final LongAdder impressions = new LongAdder();
+        private final LongAdder clicks = new LongAdder();
+        private final LongAdder conversions = new LongAdder();
+        private final LongAdder costMilli = new LongAdder();
+
+        void add(long impressions, long clicks, long conversions, long costMilli) {
+            this.impressions.add(impressions);
+            this.clicks.add(clicks);
+            this.conversions.add(conversions);
+            this.costMilli.add(costMilli);
+        }
+
+        void add(Counters other) {
+            add(other.impressions.sum(), other.clicks.sum(), other.conversions.sum(), other.costMilli.sum());
+        }
+
+        MetricsDelta toDelta(Key key) {
+            return MetricsDelta.builder()
+                .date(key.minute.toLocalDate())
+                .periodStart(key.minute)
+                .adId(key.adId)
+                .adGroupId(adGroupId)
+                .campaignId(campaignId)
+                .impressions(impressions.sum())
+                .clicks(clicks.sum())
+                .conversions(conversions.sum())
+                .costMilli(costMilli.sum())
+                .build();
+        }
+    }
+}
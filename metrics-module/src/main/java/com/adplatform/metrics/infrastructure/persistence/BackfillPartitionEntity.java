@@ -0,0 +1,58 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 백필 완료 파티션 JPA Entity
+ * - ID: {backfillId}/{date}/{partition}
+ */
+@Entity
+@Table(
+    name = "metrics_backfill_partitions",
+    indexes = @Index(name = "idx_backfill_partitions_backfill_date", columnList = "backfill_id, date")
+)
+@Getter
+@NoArgsConstructor
+public class BackfillPartitionEntity {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false, name = "backfill_id")
+    private String backfillId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, name = "partition_no")
+    private int partitionNo;
+
+    @Column(nullable = false, name = "ad_count")
+    private int adCount;
+
+    @Column(nullable = false)
+    private Instant completedAt;
+
+    public BackfillPartitionEntity(String backfillId, LocalDate date, int partitionNo, int adCount) {
+        this.id = backfillId + "/" + date + "/" + partitionNo;
+        this.backfillId = backfillId;
+        this.date = date;
+        this.partitionNo = partitionNo;
+        this.adCount = adCount;
+    }
+
+    public void complete(int adCount) {
+        this.adCount = adCount;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        completedAt = Instant.now();
+    }
+}
@@ -0,0 +1,25 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 백필 완료 파티션 Spring Data JPA Repository
+ */
+public interface BackfillPartitionJpaRepository extends JpaRepository<BackfillPartitionEntity, String> {
+
+    @Query("SELECT p.partitionNo FROM BackfillPartitionEntity p WHERE p.backfillId = :backfillId AND p.date = :date")
+    List<Integer> findPartitionNosByBackfillIdAndDate(
+        @Param("backfillId") String backfillId,
+        @Param("date") LocalDate date
+    );
+
+    long countByBackfillId(String backfillId);
+
+    @Query("SELECT COALESCE(SUM(p.adCount), 0) FROM BackfillPartitionEntity p WHERE p.backfillId = :backfillId")
+    long sumAdCountByBackfillId(@Param("backfillId") String backfillId);
+}
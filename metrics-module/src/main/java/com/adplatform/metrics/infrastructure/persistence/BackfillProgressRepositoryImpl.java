@@ -0,0 +1,47 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import com.adplatform.metrics.domain.repository.BackfillProgressRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 백필 진행 상황 Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class BackfillProgressRepositoryImpl implements BackfillProgressRepository {
+
+    private final BackfillPartitionJpaRepository jpaRepository;
+
+    @Override
+    public Set<Integer> findCompletedPartitions(String backfillId, LocalDate date) {
+        return new HashSet<>(jpaRepository.findPartitionNosByBackfillIdAndDate(backfillId, date));
+    }
+
+    @Override
+    public void markCompleted(String backfillId, LocalDate date, int partition, int adCount) {
+        BackfillPartitionEntity entity = new BackfillPartitionEntity(backfillId, date, partition, adCount);
+        jpaRepository.findById(entity.getId())
+            .ifPresentOrElse(
+                existing -> {
+                    existing.complete(adCount);
+                    jpaRepository.save(existing);
+                },
+                () -> jpaRepository.save(entity)
+            );
+    }
+
+    @Override
+    public long countCompletedPartitions(String backfillId) {
+        return jpaRepository.countByBackfillId(backfillId);
+    }
+
+    @Override
+    public long sumAggregatedAds(String backfillId) {
+        return jpaRepository.sumAdCountByBackfillId(backfillId);
+    }
+}
@@ -51,6 +51,12 @@ public class DailyMetricsEntity {
     @Column(nullable = false)
     private Long cost;
 
+    /**
+     * 아직 비용으로 올리지 않은 1 미만 비용 (1/1000 단위, 예전 행은 null)
+     */
+    @Column(name = "cost_remainder")
+    private Long costRemainder;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -77,7 +83,7 @@ public class DailyMetricsEntity {
      */
     public void updateFromDomain(LocalDate date, String adId, String adGroupId,
                                   String campaignId, Long impressions, Long clicks,
-                                  Long conversions, Long cost) {
+                                  Long conversions, Long cost, Long costRemainder) {
         this.date = date;
         this.adId = adId;
         this.adGroupId = adGroupId;
@@ -86,5 +92,6 @@ public class DailyMetricsEntity {
         this.clicks = clicks;
         this.conversions = conversions;
         this.cost = cost;
+        this.costRemainder = costRemainder;
     }
 }
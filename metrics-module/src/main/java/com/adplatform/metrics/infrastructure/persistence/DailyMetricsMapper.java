@@ -28,6 +28,7 @@ public class DailyMetricsMapper {
             .clicks(entity.getClicks())
             .conversions(entity.getConversions())
             .cost(entity.getCost())
+            .costRemainder(entity.getCostRemainder())
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
             .build();
@@ -51,6 +52,7 @@ public class DailyMetricsMapper {
             .clicks(domain.getClicks())
             .conversions(domain.getConversions())
             .cost(domain.getCost())
+            .costRemainder(domain.getCostRemainder())
             .createdAt(domain.getCreatedAt())
             .updatedAt(domain.getUpdatedAt())
             .build();
@@ -72,7 +74,8 @@ public class DailyMetricsMapper {
             domain.getImpressions(),
             domain.getClicks(),
             domain.getConversions(),
-            domain.getCost()
+            domain.getCost(),
+            domain.getCostRemainder()
         );
     }
 }
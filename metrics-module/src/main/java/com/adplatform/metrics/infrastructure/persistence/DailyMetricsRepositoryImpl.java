@@ -1,26 +1,99 @@
 package com.adplatform.metrics.infrastructure.persistence;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * DailyMetrics Repository 구현체
  * - Domain Repository 인터페이스 구현
  * - JPA Repository와 Mapper를 사용하여 영속성 처리
+ * - 일괄 저장은 JDBC로 INSERT ... ON CONFLICT (date, ad_id) DO UPDATE (영속성 컨텍스트를 거치지 않음)
+ * - 증분 저장은 기존 행을 UPDATE하고 없는 행만 INSERT하는 문장 하나로 더함
+ *   (클릭/전환 한도는 LEAST로 기존 값 + 증분 기준으로 맞추므로 조회 후 저장하지 않음)
  */
 @Repository
 @RequiredArgsConstructor
 public class DailyMetricsRepositoryImpl implements DailyMetricsRepository {
 
+    private static final String UPSERT_COLUMNS =
+        "id, date, ad_id, ad_group_id, campaign_id, impressions, clicks, conversions, cost, cost_remainder, " +
+        "created_at, updated_at";
+    private static final int UPSERT_PARAMETERS = 12;
+    private static final String UPSERT_ROW = "(" + String.join(", ", Collections.nCopies(UPSERT_PARAMETERS, "?")) + ")";
+    private static final String UPSERT_CONFLICT =
+        " ON CONFLICT (date, ad_id) DO UPDATE SET" +
+        " ad_group_id = EXCLUDED.ad_group_id, campaign_id = EXCLUDED.campaign_id," +
+        " impressions = EXCLUDED.impressions, clicks = EXCLUDED.clicks," +
+        " conversions = EXCLUDED.conversions, cost = EXCLUDED.cost, cost_remainder = EXCLUDED.cost_remainder," +
+        " updated_at = EXCLUDED.updated_at";
+
+    private static final String ADD_ROW =
+        "(?, CAST(? AS DATE), ?, ?, ?, ?, ?, ?, ?, CAST(? AS TIMESTAMP WITH TIME ZONE))";
+    private static final String CURRENT_COST_MILLI =
+        "(daily_metrics.cost * 1000 + COALESCE(daily_metrics.cost_remainder, 0))";
+
+    /**
+     * 증분 더하기: 있는 행은 UPDATE, 없는 행만 INSERT
+     * - ON CONFLICT의 EXCLUDED에는 한도를 맞춘 값만 남아 기존 노출로 허용되는 클릭을 잃으므로 UPDATE를 먼저 수행
+     * - 그 사이 다른 트랜잭션이 같은 행을 만든 경우만 ON CONFLICT로 더함
+     */
+    private static final String ADD_PREFIX =
+        "WITH delta (id, date, ad_id, ad_group_id, campaign_id, impressions, clicks, conversions, cost_milli, updated_at)" +
+        " AS (VALUES ";
+    private static final String ADD_SUFFIX = ")," +
+        " updated AS (UPDATE daily_metrics SET" +
+        " ad_group_id = delta.ad_group_id, campaign_id = delta.campaign_id," +
+        " impressions = daily_metrics.impressions + delta.impressions," +
+        " clicks = LEAST(daily_metrics.clicks + delta.clicks, daily_metrics.impressions + delta.impressions)," +
+        " conversions = LEAST(daily_metrics.conversions + delta.conversions," +
+        " daily_metrics.clicks + delta.clicks, daily_metrics.impressions + delta.impressions)," +
+        " cost = (" + CURRENT_COST_MILLI + " + delta.cost_milli) / 1000," +
+        " cost_remainder = (" + CURRENT_COST_MILLI + " + delta.cost_milli) % 1000," +
+        " updated_at = delta.updated_at" +
+        " FROM delta WHERE daily_metrics.date = delta.date AND daily_metrics.ad_id = delta.ad_id" +
+        " RETURNING daily_metrics.date, daily_metrics.ad_id)" +
+        " INSERT INTO daily_metrics (" + UPSERT_COLUMNS + ")" +
+        " SELECT id, date, ad_id, ad_group_id, campaign_id, impressions," +
+        " LEAST(clicks, impressions), LEAST(conversions, clicks, impressions)," +
+        " cost_milli / 1000, cost_milli % 1000, updated_at, updated_at FROM delta" +
+        " WHERE NOT EXISTS (SELECT 1 FROM updated WHERE updated.date = delta.date AND updated.ad_id = delta.ad_id)" +
+        " ON CONFLICT (date, ad_id) DO UPDATE SET" +
+        " ad_group_id = EXCLUDED.ad_group_id, campaign_id = EXCLUDED.campaign_id," +
+        " impressions = daily_metrics.impressions + EXCLUDED.impressions," +
+        " clicks = LEAST(daily_metrics.clicks + EXCLUDED.clicks, daily_metrics.impressions + EXCLUDED.impressions)," +
+        " conversions = LEAST(daily_metrics.conversions + EXCLUDED.conversions," +
+        " daily_metrics.clicks + EXCLUDED.clicks, daily_metrics.impressions + EXCLUDED.impressions)," +
+        " cost = (" + CURRENT_COST_MILLI + " + EXCLUDED.cost * 1000 + EXCLUDED.cost_remainder) / 1000," +
+        " cost_remainder = (" + CURRENT_COST_MILLI + " + EXCLUDED.cost * 1000 + EXCLUDED.cost_remainder) % 1000," +
+        " updated_at = EXCLUDED.updated_at";
+
+    /**
+     * 문장 하나에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 한도 65535 이내)
+     */
+    private static final int MAX_UPSERT_ROWS = 1000;
+
     private final DailyMetricsJpaRepository jpaRepository;
     private final DailyMetricsMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public DailyMetrics save(DailyMetrics metrics) {
@@ -42,6 +115,66 @@ public class DailyMetricsRepositoryImpl implements DailyMetricsRepository {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public void upsertAll(List<DailyMetrics> metrics) {
+        // 한 문장 안에서 같은 (date, ad_id)를 두 번 갱신할 수 없으므로 마지막 값만 남김
+        Map<String, DailyMetrics> byDateAndAd = new LinkedHashMap<>();
+        metrics.forEach(m -> byDateAndAd.put(m.getDate() + "/" + m.getAdId(), m));
+        List<DailyMetrics> rows = new ArrayList<>(byDateAndAd.values());
+
+        for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+            List<DailyMetrics> chunk = rows.subList(from, Math.min(from + MAX_UPSERT_ROWS, rows.size()));
+            String sql = "INSERT INTO daily_metrics (" + UPSERT_COLUMNS + ") VALUES " +
+                String.join(", ", Collections.nCopies(chunk.size(), UPSERT_ROW)) + UPSERT_CONFLICT;
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (DailyMetrics m : chunk) {
+                    ps.setString(index++, m.getId());
+                    ps.setObject(index++, m.getDate());
+                    ps.setString(index++, m.getAdId());
+                    ps.setString(index++, m.getAdGroupId());
+                    ps.setString(index++, m.getCampaignId());
+                    ps.setLong(index++, m.getImpressions());
+                    ps.setLong(index++, m.getClicks());
+                    ps.setLong(index++, m.getConversions());
+                    ps.setLong(index++, m.getCost());
+                    ps.setLong(index++, m.getCostRemainder());
+                    ps.setObject(index++, toOffsetDateTime(m.getCreatedAt()));
+                    ps.setObject(index++, toOffsetDateTime(m.getUpdatedAt()));
+                }
+            });
+        }
+    }
+
+    @Override
+    public void addAll(Collection<MetricsDelta> deltas) {
+        // 한 문장 안에서 같은 (date, ad_id)를 두 번 갱신할 수 없으므로 먼저 합침
+        List<MetricsDelta> rows = MetricsDelta.rollUp(deltas, MetricsGrain.DAY);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+            List<MetricsDelta> chunk = rows.subList(from, Math.min(from + MAX_UPSERT_ROWS, rows.size()));
+            String sql = ADD_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ADD_ROW)) + ADD_SUFFIX;
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (MetricsDelta delta : chunk) {
+                    ps.setString(index++, "metrics-" + UUID.randomUUID());
+                    ps.setObject(index++, delta.getDate());
+                    ps.setString(index++, delta.getAdId());
+                    ps.setString(index++, delta.getAdGroupId());
+                    ps.setString(index++, delta.getCampaignId());
+                    ps.setLong(index++, delta.getImpressions());
+                    ps.setLong(index++, delta.getClicks());
+                    ps.setLong(index++, delta.getConversions());
+                    ps.setLong(index++, delta.getCostMilli());
+                    ps.setObject(index++, now);
+                }
+            });
+        }
+    }
+
     @Override
     public Optional<DailyMetrics> findById(String id) {
         return jpaRepository.findById(id)
@@ -91,4 +224,8 @@ public class DailyMetricsRepositoryImpl implements DailyMetricsRepository {
     public void deleteById(String id) {
         jpaRepository.deleteById(id);
     }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
 }
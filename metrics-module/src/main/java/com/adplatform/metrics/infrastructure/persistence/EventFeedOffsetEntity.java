@@ -0,0 +1,55 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 피드 소비 위치 JPA Entity
+ */
+@Entity
+@Table(name = "event_feed_offsets")
+@Getter
+@NoArgsConstructor
+public class EventFeedOffsetEntity {
+
+    @Id
+    @Column(name = "consumer_id")
+    private String consumerId;
+
+    @Column(nullable = false, name = "next_offset")
+    private long nextOffset;
+
+    /**
+     * 반영한 이벤트 중 가장 늦은 분
+     */
+    @Column(name = "watermark")
+    private LocalDateTime watermark;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public EventFeedOffsetEntity(String consumerId, long nextOffset) {
+        this.consumerId = consumerId;
+        this.nextOffset = nextOffset;
+    }
+
+    public void advance(long nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+
+    public void advanceWatermark(LocalDateTime watermark) {
+        if (this.watermark == null || watermark.isAfter(this.watermark)) {
+            this.watermark = watermark;
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,22 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 이벤트 피드 소비 위치 Spring Data JPA Repository
+ */
+public interface EventFeedOffsetJpaRepository extends JpaRepository<EventFeedOffsetEntity, String> {
+
+    /**
+     * 소비자 ID로 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM EventFeedOffsetEntity o WHERE o.consumerId = :consumerId")
+    Optional<EventFeedOffsetEntity> findByIdForUpdate(@Param("consumerId") String consumerId);
+}
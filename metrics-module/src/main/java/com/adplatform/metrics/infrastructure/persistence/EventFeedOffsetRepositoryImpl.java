@@ -0,0 +1,55 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import com.adplatform.metrics.domain.repository.EventFeedOffsetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이벤트 피드 소비 위치 Repository 구현체
+ * - 처음 소비하는 소비자는 행이 없으므로 잠그지 못함: 동시에 처음 저장하면 한쪽이 기본 키 충돌로 롤백됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventFeedOffsetRepositoryImpl implements EventFeedOffsetRepository {
+
+    private final EventFeedOffsetJpaRepository jpaRepository;
+
+    @Override
+    public long findNextOffset(String consumerId) {
+        return jpaRepository.findById(consumerId)
+            .map(EventFeedOffsetEntity::getNextOffset)
+            .orElse(0L);
+    }
+
+    @Override
+    public long findNextOffsetForUpdate(String consumerId) {
+        return jpaRepository.findByIdForUpdate(consumerId)
+            .map(EventFeedOffsetEntity::getNextOffset)
+            .orElse(0L);
+    }
+
+    @Override
+    public void saveNextOffset(String consumerId, long nextOffset) {
+        EventFeedOffsetEntity entity = jpaRepository.findById(consumerId)
+            .orElseGet(() -> new EventFeedOffsetEntity(consumerId, nextOffset));
+        entity.advance(nextOffset);
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    public void advanceWatermark(String consumerId, LocalDateTime watermark) {
+        jpaRepository.findById(consumerId).ifPresent(entity -> {
+            entity.advanceWatermark(watermark);
+            jpaRepository.save(entity);
+        });
+    }
+
+    @Override
+    public Optional<LocalDateTime> findWatermark(String consumerId) {
+        return jpaRepository.findById(consumerId)
+            .map(EventFeedOffsetEntity::getWatermark);
+    }
+}
@@ -0,0 +1,68 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 분/시간 메트릭스 JPA Entity
+ * - grain 컬럼으로 분 단위와 시간 단위 행을 한 테이블에 저장
+ * - 쓰기는 PeriodMetricsRepositoryImpl의 JDBC Upsert로만 수행
+ */
+@Entity
+@Table(
+    name = "period_metrics",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"grain", "period_start", "ad_id"}),
+    indexes = @Index(name = "idx_period_metrics_campaign", columnList = "grain, campaign_id, period_start")
+)
+@Getter
+@NoArgsConstructor
+public class PeriodMetricsEntity {
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private MetricsGrain grain;
+
+    @Column(nullable = false, name = "period_start")
+    private LocalDateTime periodStart;
+
+    @Column(nullable = false, name = "ad_id")
+    private String adId;
+
+    @Column(name = "ad_group_id")
+    private String adGroupId;
+
+    @Column(nullable = false, name = "campaign_id")
+    private String campaignId;
+
+    @Column(nullable = false)
+    private Long impressions;
+
+    @Column(nullable = false)
+    private Long clicks;
+
+    @Column(nullable = false)
+    private Long conversions;
+
+    @Column(nullable = false)
+    private Long cost;
+
+    /**
+     * 내림하지 않은 비용 합계 (1/1000 단위, cost = cost_milli / 1000)
+     */
+    @Column(name = "cost_milli")
+    private Long costMilli;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
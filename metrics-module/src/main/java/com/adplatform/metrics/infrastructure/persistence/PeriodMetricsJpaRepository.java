@@ -0,0 +1,67 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분/시간 메트릭스 Spring Data JPA Repository
+ */
+public interface PeriodMetricsJpaRepository extends JpaRepository<PeriodMetricsEntity, String> {
+
+    /**
+     * 광고 ID와 구간 [from, to)로 조회
+     */
+    @Query("SELECT m FROM PeriodMetricsEntity m WHERE m.grain = :grain AND m.adId = :adId " +
+           "AND m.periodStart >= :from AND m.periodStart < :to ORDER BY m.periodStart")
+    List<PeriodMetricsEntity> findByAdIdAndRange(
+        @Param("grain") MetricsGrain grain,
+        @Param("adId") String adId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 캠페인 ID와 구간 [from, to)로 조회
+     */
+    @Query("SELECT m FROM PeriodMetricsEntity m WHERE m.grain = :grain AND m.campaignId = :campaignId " +
+           "AND m.periodStart >= :from AND m.periodStart < :to ORDER BY m.periodStart")
+    List<PeriodMetricsEntity> findByCampaignIdAndRange(
+        @Param("grain") MetricsGrain grain,
+        @Param("campaignId") String campaignId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * before 이전에 시작한 행 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PeriodMetricsEntity m WHERE m.grain = :grain AND m.periodStart < :before")
+    int deleteByGrainAndPeriodStartBefore(
+        @Param("grain") MetricsGrain grain,
+        @Param("before") LocalDateTime before
+    );
+
+    /**
+     * 광고들의 구간 [from, to) 행 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PeriodMetricsEntity m WHERE m.grain = :grain AND m.adId IN :adIds " +
+           "AND m.periodStart >= :from AND m.periodStart < :to")
+    int deleteByAdIdsAndRange(
+        @Param("grain") MetricsGrain grain,
+        @Param("adIds") Collection<String> adIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+}
@@ -0,0 +1,139 @@
+package com.adplatform.metrics.infrastructure.persistence;
+
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 분/시간 메트릭스 Repository 구현체
+ * - 증분 저장은 JDBC로 INSERT ... ON CONFLICT (grain, period_start, ad_id) DO UPDATE로 기존 값에 더함
+ *   (조회 없이 묶음마다 문장 하나, 영속성 컨텍스트를 거치지 않음)
+ * - 비용은 내림하지 않은 1/1000 단위 합계(cost_milli)에 더하고 cost는 그 합계를 내려 다시 계산
+ *   (작은 증분의 비용을 하나씩 내려 더하지 않음, cost_milli가 없는 예전 행은 cost * 1000에서 시작)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PeriodMetricsRepositoryImpl implements PeriodMetricsRepository {
+
+    private static final String UPSERT_COLUMNS =
+        "id, grain, period_start, ad_id, ad_group_id, campaign_id, impressions, clicks, conversions, cost, " +
+        "cost_milli, created_at, updated_at";
+    private static final int UPSERT_PARAMETERS = 13;
+    private static final String CURRENT_COST_MILLI = "COALESCE(period_metrics.cost_milli, period_metrics.cost * 1000)";
+    private static final String UPSERT_ROW = "(" + String.join(", ", Collections.nCopies(UPSERT_PARAMETERS, "?")) + ")";
+    private static final String UPSERT_CONFLICT =
+        " ON CONFLICT (grain, period_start, ad_id) DO UPDATE SET" +
+        " ad_group_id = EXCLUDED.ad_group_id, campaign_id = EXCLUDED.campaign_id," +
+        " impressions = period_metrics.impressions + EXCLUDED.impressions," +
+        " clicks = period_metrics.clicks + EXCLUDED.clicks," +
+        " conversions = period_metrics.conversions + EXCLUDED.conversions," +
+        " cost_milli = " + CURRENT_COST_MILLI + " + EXCLUDED.cost_milli," +
+        " cost = (" + CURRENT_COST_MILLI + " + EXCLUDED.cost_milli) / 1000, updated_at = EXCLUDED.updated_at";
+
+    /**
+     * 문장 하나에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 한도 65535 이내)
+     */
+    private static final int MAX_UPSERT_ROWS = 1000;
+
+    private final PeriodMetricsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addAll(MetricsGrain grain, Collection<MetricsDelta> deltas) {
+        if (grain == MetricsGrain.DAY) {
+            throw new IllegalArgumentException("일 단위 메트릭스는 daily_metrics에 저장합니다");
+        }
+
+        // 한 문장 안에서 같은 (grain, period_start, ad_id)를 두 번 갱신할 수 없으므로 먼저 합침
+        List<MetricsDelta> rows = MetricsDelta.rollUp(deltas, grain);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+            List<MetricsDelta> chunk = rows.subList(from, Math.min(from + MAX_UPSERT_ROWS, rows.size()));
+            String sql = "INSERT INTO period_metrics (" + UPSERT_COLUMNS + ") VALUES " +
+                String.join(", ", Collections.nCopies(chunk.size(), UPSERT_ROW)) + UPSERT_CONFLICT;
+
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (MetricsDelta delta : chunk) {
+                    ps.setString(index++, "period-" + UUID.randomUUID());
+                    ps.setString(index++, grain.name());
+                    ps.setObject(index++, delta.getPeriodStart());
+                    ps.setString(index++, delta.getAdId());
+                    ps.setString(index++, delta.getAdGroupId());
+                    ps.setString(index++, delta.getCampaignId());
+                    ps.setLong(index++, delta.getImpressions());
+                    ps.setLong(index++, delta.getClicks());
+                    ps.setLong(index++, delta.getConversions());
+                    ps.setLong(index++, delta.getCost());
+                    ps.setLong(index++, delta.getCostMilli());
+                    ps.setObject(index++, now);
+                    ps.setObject(index++, now);
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(MetricsGrain grain, Collection<String> adIds, LocalDateTime from, LocalDateTime to,
+                           Collection<MetricsDelta> deltas) {
+        if (grain == MetricsGrain.DAY) {
+            throw new IllegalArgumentException("일 단위 메트릭스는 daily_metrics에 저장합니다");
+        }
+        if (adIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByAdIdsAndRange(grain, adIds, from, to);
+        addAll(grain, deltas);
+    }
+
+    @Override
+    public List<PeriodMetrics> findByAdIdAndRange(MetricsGrain grain, String adId,
+                                                  LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.findByAdIdAndRange(grain, adId, from, to).stream()
+            .map(PeriodMetricsRepositoryImpl::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PeriodMetrics> findByCampaignIdAndRange(MetricsGrain grain, String campaignId,
+                                                        LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.findByCampaignIdAndRange(grain, campaignId, from, to).stream()
+            .map(PeriodMetricsRepositoryImpl::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteBefore(MetricsGrain grain, LocalDateTime before) {
+        return jpaRepository.deleteByGrainAndPeriodStartBefore(grain, before);
+    }
+
+    private static PeriodMetrics toDomain(PeriodMetricsEntity entity) {
+        return PeriodMetrics.builder()
+            .grain(entity.getGrain())
+            .periodStart(entity.getPeriodStart())
+            .adId(entity.getAdId())
+            .adGroupId(entity.getAdGroupId())
+            .campaignId(entity.getCampaignId())
+            .impressions(entity.getImpressions())
+            .clicks(entity.getClicks())
+            .conversions(entity.getConversions())
+            .cost(entity.getCost())
+            .build();
+    }
+}
@@ -1,23 +1,34 @@
 package com.adplatform.metrics.adapter.rest;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.adplatform.metrics.application.dto.BackfillProgressDto;
 import com.adplatform.metrics.application.dto.CampaignMetricsDto;
+import com.adplatform.metrics.application.usecase.BackfillMetricsUseCase;
+import com.adplatform.metrics.application.usecase.FeedWatermarkGuard;
+import com.adplatform.metrics.application.usecase.GetLiveMetricsUseCase;
 import com.adplatform.metrics.application.usecase.GetMetricsByAdUseCase;
 import com.adplatform.metrics.application.usecase.GetMetricsByCampaignUseCase;
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 /**
@@ -35,12 +46,21 @@ class MetricsControllerTest {
     @MockBean
     private GetMetricsByCampaignUseCase getMetricsByCampaignUseCase;
 
+    @MockBean
+    private GetLiveMetricsUseCase getLiveMetricsUseCase;
+
+    @MockBean
+    private BackfillMetricsUseCase backfillMetricsUseCase;
+
     @MockBean
     private DailyMetricsRepository metricsRepository;
 
     @MockBean
     private com.adplatform.metrics.application.usecase.AggregateMetricsUseCase aggregateMetricsUseCase;
 
+    @MockBean
+    private FeedWatermarkGuard feedWatermarkGuard;
+
     @Test
     void 광고별_메트릭스_조회_API_성공() throws Exception {
         // given
@@ -137,6 +157,134 @@ class MetricsControllerTest {
             .andExpect(jsonPath("$[1].adId").value("ad-2"));
     }
 
+    @Test
+    void 광고_실시간_메트릭스_조회_API_성공() throws Exception {
+        // given
+        when(getLiveMetricsUseCase.executeForAd("ad-1")).thenReturn(Optional.of(
+            createMetrics("metrics-1", "ad-1", LocalDate.now(), 1200L, 60L, 6L, 60000L)
+        ));
+
+        // when & then
+        mockMvc
+            .perform(get("/api/v1/metrics/live/ad/{adId}", "ad-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.adId").value("ad-1"))
+            .andExpect(jsonPath("$.impressions").value(1200));
+    }
+
+    @Test
+    void 실시간_메트릭스가_없는_광고는_404() throws Exception {
+        // given
+        when(getLiveMetricsUseCase.executeForAd("ad-unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc
+            .perform(get("/api/v1/metrics/live/ad/{adId}", "ad-unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 백필_진행_상황_조회_API_성공() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        when(backfillMetricsUseCase.getProgress(startDate, endDate)).thenReturn(
+            BackfillProgressDto.builder()
+                .backfillId("2024-01-01~2024-01-31/16")
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalPartitions(496L)
+                .completedPartitions(100L)
+                .aggregatedAds(12000L)
+                .build()
+        );
+
+        // when & then
+        mockMvc
+            .perform(
+                get("/api/v1/metrics/backfill/progress")
+                    .param("startDate", "2024-01-01")
+                    .param("endDate", "2024-01-31")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completedPartitions").value(100))
+            .andExpect(jsonPath("$.totalPartitions").value(496))
+            .andExpect(jsonPath("$.completed").value(false));
+    }
+
+    @Test
+    void 광고별_시계열_메트릭스_조회_API_성공() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 15, 12, 0);
+        List<PeriodMetrics> metrics = Arrays.asList(
+            PeriodMetrics.builder().grain(MetricsGrain.HOUR).periodStart(from)
+                .adId("ad-123").campaignId("campaign-123").impressions(1000L).clicks(50L).build(),
+            PeriodMetrics.builder().grain(MetricsGrain.HOUR).periodStart(from.plusHours(1))
+                .adId("ad-123").campaignId("campaign-123").impressions(2000L).clicks(100L).build()
+        );
+
+        when(getMetricsByAdUseCase.executeTimeSeries("ad-123", from, to)).thenReturn(metrics);
+
+        // when & then
+        mockMvc
+            .perform(
+                get("/api/v1/metrics/ad/ad-123/timeseries")
+                    .param("from", "2024-01-15T10:00:00")
+                    .param("to", "2024-01-15T12:00:00")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].grain").value("HOUR"))
+            .andExpect(jsonPath("$[1].impressions").value(2000))
+            .andExpect(jsonPath("$[1].ctr").value(5.0));
+    }
+
+    @Test
+    void 시계열_조회_구간이_잘못되면_400() throws Exception {
+        mockMvc
+            .perform(
+                get("/api/v1/metrics/campaign/campaign-123/timeseries")
+                    .param("from", "2024-01-15T12:00:00")
+                    .param("to", "2024-01-15T10:00:00")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 피드가_반영을_마치지_않은_날짜_집계_요청은_400() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        doThrow(new IllegalArgumentException("피드가 반영을 마치지 않은 날짜는 재집계할 수 없습니다: " + today))
+            .when(feedWatermarkGuard).checkRecomputable(today);
+
+        // when & then
+        mockMvc
+            .perform(
+                post("/api/v1/metrics/aggregate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"date\": \"" + today + "\"}")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 피드가_반영을_마치지_않은_날짜까지의_백필_요청은_400() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        doThrow(new IllegalArgumentException("피드가 반영을 마치지 않은 날짜는 재집계할 수 없습니다: " + today))
+            .when(feedWatermarkGuard).checkRecomputable(today);
+
+        // when & then
+        mockMvc
+            .perform(
+                post("/api/v1/metrics/backfill")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"startDate\": \"" + today.minusDays(7) + "\", \"endDate\": \"" + today + "\"}")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void Health_체크_API() throws Exception {
         mockMvc
@@ -1,9 +1,13 @@
 package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsGrain;
 import com.adplatform.metrics.domain.model.PricingModel;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.adplatform.metrics.infrastructure.client.AdGroupCache;
 import com.adplatform.metrics.infrastructure.client.CampaignClient;
 import com.adplatform.metrics.infrastructure.client.EventLogClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +18,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,12 +37,18 @@ class AggregateMetricsUseCaseTest {
     @Mock
     private DailyMetricsRepository metricsRepository;
 
+    @Mock
+    private PeriodMetricsRepository periodMetricsRepository;
+
     @Mock
     private EventLogClient eventLogClient;
 
     @Mock
     private CampaignClient campaignClient;
 
+    @Mock
+    private FeedWatermarkGuard feedWatermarkGuard;
+
     private MetricsCalculator metricsCalculator;
     private AggregateMetricsUseCase useCase;
 
@@ -45,9 +57,12 @@ class AggregateMetricsUseCaseTest {
         metricsCalculator = new MetricsCalculator();
         useCase = new AggregateMetricsUseCase(
             metricsRepository,
+            periodMetricsRepository,
             eventLogClient,
-            campaignClient,
-            metricsCalculator
+            new AdGroupCache(campaignClient, 300, 1000),
+            metricsCalculator,
+            new RollupRetention(7, 90),
+            feedWatermarkGuard
         );
     }
 
@@ -57,63 +72,172 @@ class AggregateMetricsUseCaseTest {
         LocalDate date = LocalDate.of(2024, 1, 15);
         List<EventLogClient.AdEventDto> events = createTestEvents(date);
 
-        CampaignClient.AdGroupDto adGroup = new CampaignClient.AdGroupDto();
-        adGroup.setBid(1000L);
-        adGroup.setPricingModel(PricingModel.CPC);
-
         when(eventLogClient.getEventsByDate(date)).thenReturn(events);
-        when(campaignClient.getAdGroup(anyString())).thenReturn(adGroup);
-        when(metricsRepository.findByDateAndAdId(any(), anyString())).thenReturn(Optional.empty());
-        when(metricsRepository.save(any(DailyMetrics.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
 
         // when
         useCase.aggregateByDate(date);
 
         // then
         verify(eventLogClient).getEventsByDate(date);
-        verify(metricsRepository, atLeastOnce()).save(any(DailyMetrics.class));
+        verify(metricsRepository).upsertAll(argThat(metrics ->
+            metrics.size() == 1 &&
+            metrics.get(0).getImpressions() == 2L &&
+            metrics.get(0).getClicks() == 1L &&
+            metrics.get(0).getConversions() == 1L
+        ));
     }
 
     @Test
-    void 기존_메트릭스가_있으면_집계하여_업데이트() {
+    void 기존_메트릭스를_조회하지_않고_재집계한_값으로_일괄_저장() {
         // given
         LocalDate date = LocalDate.of(2024, 1, 15);
         String adId = "ad-123";
 
-        DailyMetrics existingMetrics = DailyMetrics.builder()
-            .id("metrics-1")
-            .date(date)
-            .adId(adId)
-            .adGroupId("adgroup-123")
-            .campaignId("campaign-123")
-            .impressions(100L)
-            .clicks(10L)
-            .conversions(1L)
-            .cost(10000L)
-            .build();
-
         List<EventLogClient.AdEventDto> newEvents = Arrays.asList(
             createEvent("IMPRESSION", adId, "adgroup-123", "campaign-123", date),
             createEvent("CLICK", adId, "adgroup-123", "campaign-123", date)
         );
 
-        CampaignClient.AdGroupDto adGroup = new CampaignClient.AdGroupDto();
-        adGroup.setBid(1000L);
-        adGroup.setPricingModel(PricingModel.CPC);
-
         when(eventLogClient.getEventsByDate(date)).thenReturn(newEvents);
-        when(campaignClient.getAdGroup(anyString())).thenReturn(adGroup);
-        when(metricsRepository.findByDateAndAdId(date, adId)).thenReturn(Optional.of(existingMetrics));
-        when(metricsRepository.save(any(DailyMetrics.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
 
         // when
         useCase.aggregateByDate(date);
 
         // then
-        verify(metricsRepository).save(argThat(metrics ->
-            metrics.getImpressions() == 101L && // 100 + 1
-            metrics.getClicks() == 11L // 10 + 1
+        verify(metricsRepository).upsertAll(argThat(metrics ->
+            metrics.get(0).getAdId().equals(adId) &&
+            metrics.get(0).getImpressions() == 1L && // 하루 이벤트 전체로 다시 계산
+            metrics.get(0).getClicks() == 1L &&
+            metrics.get(0).getCost() == 1000L
         ));
+        verify(metricsRepository, never()).findByDateAndAdId(any(), anyString());
+        verify(metricsRepository, never()).save(any());
+    }
+
+    @Test
+    void 같은_날짜를_여러_번_집계해도_결과가_같음() {
+        // given - (날짜, 광고)가 같으면 ID는 두고 값을 교체하는 저장소
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        Map<String, DailyMetrics> stored = new HashMap<>();
+        when(eventLogClient.getEventsByDate(date)).thenReturn(createTestEvents(date));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
+        doAnswer(invocation -> {
+            List<DailyMetrics> metrics = invocation.getArgument(0);
+            metrics.forEach(m -> stored.merge(m.getDate() + "/" + m.getAdId(), m, (existing, replacement) ->
+                existing.recalculate(replacement.getImpressions(), replacement.getClicks(),
+                    replacement.getConversions(), replacement.getCost())));
+            return null;
+        }).when(metricsRepository).upsertAll(anyList());
+
+        // when
+        useCase.aggregateByDate(date);
+        DailyMetrics first = stored.get(date + "/ad-123");
+        useCase.aggregateByDate(date);
+        useCase.aggregateByDate(date);
+
+        // then
+        DailyMetrics last = stored.get(date + "/ad-123");
+        assertThat(stored).hasSize(1);
+        assertThat(last.getId()).isEqualTo(first.getId());
+        assertThat(last.getImpressions()).isEqualTo(2L);
+        assertThat(last.getClicks()).isEqualTo(1L);
+        assertThat(last.getConversions()).isEqualTo(1L);
+        assertThat(last.getCost()).isEqualTo(first.getCost());
+    }
+
+    @Test
+    void 광고가_많으면_묶음으로_나누어_저장() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        List<EventLogClient.AdEventDto> events = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            events.add(createEvent("IMPRESSION", "ad-" + i, "adgroup-123", "campaign-123", date));
+        }
+
+        when(eventLogClient.getEventsByDate(date)).thenReturn(events);
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
+
+        // when
+        useCase.aggregateByDate(date);
+
+        // then
+        verify(metricsRepository, times(2)).upsertAll(argThat(metrics -> metrics.size() == 1000));
+        verify(metricsRepository).upsertAll(argThat(metrics -> metrics.size() == 500));
+        verify(campaignClient, times(1)).getAdGroups(argThat(ids -> ids.size() == 1)); // 광고마다 조회하지 않음
+    }
+
+    @Test
+    void 캠페인_서비스에_없는_광고그룹의_광고는_건너뜀() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        List<EventLogClient.AdEventDto> events = Arrays.asList(
+            createEvent("IMPRESSION", "ad-1", "adgroup-123", "campaign-123", date),
+            createEvent("IMPRESSION", "ad-2", "adgroup-deleted", "campaign-123", date)
+        );
+
+        when(eventLogClient.getEventsByDate(date)).thenReturn(events);
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
+
+        // when
+        useCase.aggregateByDate(date);
+
+        // then
+        verify(metricsRepository).upsertAll(argThat(metrics ->
+            metrics.size() == 1 && metrics.get(0).getAdId().equals("ad-1")
+        ));
+    }
+
+    @Test
+    void 분_시간_메트릭스를_보관하는_날짜는_분_시간_행도_다시_만듦() {
+        // given
+        LocalDate date = LocalDate.now().minusDays(1);
+        when(eventLogClient.getEventsByDate(date)).thenReturn(createTestEvents(date));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
+
+        // when
+        useCase.aggregateByDate(date);
+
+        // then - 그날 행을 지우고 같은 이벤트로 계산한 분 증분으로 교체 (시간 단위는 저장소가 합침)
+        for (MetricsGrain grain : List.of(MetricsGrain.MINUTE, MetricsGrain.HOUR)) {
+            verify(periodMetricsRepository).replaceAll(eq(grain), eq(List.of("ad-123")),
+                eq(date.atStartOfDay()), eq(date.plusDays(1).atStartOfDay()),
+                argThat(deltas -> deltas.size() == 1 &&
+                    deltas.iterator().next().getImpressions() == 2L &&
+                    deltas.iterator().next().getClicks() == 1L &&
+                    deltas.iterator().next().getCost() == 1000L));
+        }
+    }
+
+    @Test
+    void 분_시간_보관_기간이_지난_날짜는_일_메트릭스만_다시_집계() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(eventLogClient.getEventsByDate(date)).thenReturn(createTestEvents(date));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup()));
+
+        // when
+        useCase.aggregateByDate(date);
+
+        // then
+        verify(metricsRepository).upsertAll(anyList());
+        verifyNoInteractions(periodMetricsRepository);
+    }
+
+    @Test
+    void 피드가_반영을_마치지_않은_날짜는_재집계하지_않음() {
+        // given
+        LocalDate today = LocalDate.now();
+        doThrow(new IllegalArgumentException("피드가 반영을 마치지 않은 날짜는 재집계할 수 없습니다: " + today))
+            .when(feedWatermarkGuard).checkRecomputable(today);
+
+        // when & then
+        assertThatThrownBy(() -> useCase.aggregateByDate(today))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.aggregateByDateRange(today.minusDays(3), today))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventLogClient, metricsRepository, periodMetricsRepository);
     }
 
     @Test
@@ -126,7 +250,15 @@ class AggregateMetricsUseCaseTest {
         useCase.aggregateByDate(date);
 
         // then
-        verify(metricsRepository, never()).save(any());
+        verify(metricsRepository, never()).upsertAll(anyList());
+    }
+
+    private CampaignClient.AdGroupDto adGroup() {
+        CampaignClient.AdGroupDto adGroup = new CampaignClient.AdGroupDto();
+        adGroup.setId("adgroup-123");
+        adGroup.setBid(1000L);
+        adGroup.setPricingModel(PricingModel.CPC);
+        return adGroup;
     }
 
     private List<EventLogClient.AdEventDto> createTestEvents(LocalDate date) {
@@ -0,0 +1,197 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.application.dto.BackfillProgressDto;
+import com.adplatform.metrics.domain.repository.BackfillProgressRepository;
+import com.adplatform.metrics.infrastructure.client.EventLogClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BackfillMetricsUseCase 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BackfillMetricsUseCaseTest {
+
+    private static final int PARTITIONS = 4;
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 16);
+
+    @Mock
+    private EventLogClient eventLogClient;
+
+    @Mock
+    private AggregateMetricsUseCase aggregateMetricsUseCase;
+
+    @Mock
+    private BackfillProgressRepository progressRepository;
+
+    @Mock
+    private FeedWatermarkGuard feedWatermarkGuard;
+
+    private BackfillMetricsUseCase useCase;
+
+    /**
+     * 파티션마다 집계한 광고들 ("날짜/광고 ID")
+     */
+    private Queue<List<String>> aggregatedPartitions;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BackfillMetricsUseCase(eventLogClient, aggregateMetricsUseCase, progressRepository,
+            feedWatermarkGuard, 2, PARTITIONS);
+        aggregatedPartitions = new ConcurrentLinkedQueue<>();
+    }
+
+    @Test
+    void 날짜와_광고_해시로_나눈_파티션을_모두_집계하고_완료를_기록() {
+        // given
+        when(eventLogClient.getEventsByDate(DAY1)).thenReturn(createEvents(DAY1, 10));
+        when(eventLogClient.getEventsByDate(DAY2)).thenReturn(createEvents(DAY2, 10));
+        when(progressRepository.findCompletedPartitions(anyString(), any())).thenReturn(Set.of());
+        when(progressRepository.countCompletedPartitions("2024-01-15~2024-01-16/4")).thenReturn(0L, 8L);
+        when(progressRepository.sumAggregatedAds("2024-01-15~2024-01-16/4")).thenReturn(20L);
+        recordAggregatedAds();
+
+        // when
+        BackfillProgressDto progress = useCase.backfill(DAY1, DAY2);
+
+        // then
+        assertThat(progress.getTotalPartitions()).isEqualTo(8L);
+        assertThat(progress.isCompleted()).isTrue();
+        assertThat(progress.getAggregatedAds()).isEqualTo(20L);
+        verify(progressRepository, times(8)).markCompleted(eq("2024-01-15~2024-01-16/4"), any(), anyInt(), anyInt());
+
+        // 모든 광고를 한 번씩, 파티션마다 같은 날짜와 같은 해시의 광고만 집계
+        List<String> aggregated = aggregatedPartitions.stream().flatMap(List::stream).toList();
+        assertThat(aggregated).hasSize(20).doesNotHaveDuplicates();
+        assertThat(aggregatedPartitions)
+            .filteredOn(ads -> !ads.isEmpty())
+            .allSatisfy(ads -> assertThat(ads.stream()
+                .map(key -> key.split("/")[0] + "/" + BackfillMetricsUseCase.partitionOf(key.split("/")[1], PARTITIONS))
+                .distinct()).hasSize(1));
+    }
+
+    @Test
+    void 완료된_파티션은_건너뛰고_남은_파티션만_집계() {
+        // given - 이전 실행에서 0~2번 파티션 완료
+        when(eventLogClient.getEventsByDate(DAY1)).thenReturn(createEvents(DAY1, 20));
+        when(progressRepository.findCompletedPartitions("2024-01-15~2024-01-15/4", DAY1)).thenReturn(Set.of(0, 1, 2));
+        recordAggregatedAds();
+
+        // when
+        useCase.backfill(DAY1, DAY1);
+
+        // then
+        verify(progressRepository, times(1)).markCompleted(anyString(), any(), anyInt(), anyInt());
+        verify(progressRepository).markCompleted(eq("2024-01-15~2024-01-15/4"), eq(DAY1), eq(3), anyInt());
+        assertThat(aggregatedPartitions.stream().flatMap(List::stream))
+            .isNotEmpty()
+            .allMatch(key -> BackfillMetricsUseCase.partitionOf(key.split("/")[1], PARTITIONS) == 3);
+    }
+
+    @Test
+    void 모든_파티션이_완료된_날짜는_이벤트를_조회하지_않음() {
+        // given
+        when(progressRepository.findCompletedPartitions("2024-01-15~2024-01-15/4", DAY1))
+            .thenReturn(Set.of(0, 1, 2, 3));
+        when(progressRepository.countCompletedPartitions("2024-01-15~2024-01-15/4")).thenReturn(4L);
+
+        // when
+        BackfillProgressDto progress = useCase.backfill(DAY1, DAY1);
+
+        // then
+        assertThat(progress.isCompleted()).isTrue();
+        verify(eventLogClient, never()).getEventsByDate(any());
+        verify(aggregateMetricsUseCase, never()).aggregateAds(any(), anyCollection());
+    }
+
+    @Test
+    void 실패한_파티션은_완료로_기록하지_않고_나머지_파티션은_계속_집계() {
+        // given
+        int failingPartition = BackfillMetricsUseCase.partitionOf("ad-0", PARTITIONS);
+        when(eventLogClient.getEventsByDate(DAY1)).thenReturn(createEvents(DAY1, 20));
+        when(progressRepository.findCompletedPartitions(anyString(), any())).thenReturn(Set.of());
+        when(aggregateMetricsUseCase.aggregateAds(eq(DAY1), anyCollection())).thenAnswer(invocation -> {
+            Collection<List<EventLogClient.AdEventDto>> eventsByAd = invocation.getArgument(1);
+            if (eventsByAd.stream().anyMatch(events -> events.get(0).getAdId().equals("ad-0"))) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            return eventsByAd.size();
+        });
+
+        // when
+        BackfillProgressDto progress = useCase.backfill(DAY1, DAY1);
+
+        // then
+        assertThat(progress.isCompleted()).isFalse();
+        verify(progressRepository, times(PARTITIONS - 1)).markCompleted(anyString(), any(), anyInt(), anyInt());
+        verify(progressRepository, never()).markCompleted(anyString(), any(), eq(failingPartition), anyInt());
+    }
+
+    @Test
+    void 시작일이_종료일보다_늦으면_예외() {
+        assertThatThrownBy(() -> useCase.backfill(DAY2, DAY1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 피드가_반영을_마치지_않은_날짜까지는_백필하지_않음() {
+        // given
+        doThrow(new IllegalArgumentException("피드가 반영을 마치지 않은 날짜는 재집계할 수 없습니다: " + DAY2))
+            .when(feedWatermarkGuard).checkRecomputable(DAY2);
+
+        // when & then
+        assertThatThrownBy(() -> useCase.backfill(DAY1, DAY2))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventLogClient, aggregateMetricsUseCase, progressRepository);
+    }
+
+    private void recordAggregatedAds() {
+        when(aggregateMetricsUseCase.aggregateAds(any(), anyCollection())).thenAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(0);
+            Collection<List<EventLogClient.AdEventDto>> eventsByAd = invocation.getArgument(1);
+            aggregatedPartitions.add(eventsByAd.stream()
+                .map(events -> date + "/" + events.get(0).getAdId())
+                .collect(Collectors.toList()));
+            return eventsByAd.size();
+        });
+    }
+
+    private List<EventLogClient.AdEventDto> createEvents(LocalDate date, int adCount) {
+        List<EventLogClient.AdEventDto> events = new ArrayList<>();
+        for (int i = 0; i < adCount; i++) {
+            events.add(createEvent("IMPRESSION", "ad-" + i, date));
+            events.add(createEvent("CLICK", "ad-" + i, date));
+        }
+        return events;
+    }
+
+    private EventLogClient.AdEventDto createEvent(String eventType, String adId, LocalDate date) {
+        EventLogClient.AdEventDto event = new EventLogClient.AdEventDto();
+        event.setId("event-" + System.nanoTime());
+        event.setEventType(eventType);
+        event.setAdId(adId);
+        event.setAdGroupId("adgroup-123");
+        event.setCampaignId("campaign-123");
+        event.setTimestamp(date.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
+        return event;
+    }
+}
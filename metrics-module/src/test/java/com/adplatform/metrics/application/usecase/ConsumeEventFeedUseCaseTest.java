@@ -0,0 +1,462 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PricingModel;
+import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.EventFeedOffsetRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
+import com.adplatform.metrics.domain.service.MetricsCalculator;
+import com.adplatform.metrics.infrastructure.client.AdGroupCache;
+import com.adplatform.metrics.infrastructure.client.CampaignClient;
+import com.adplatform.metrics.infrastructure.client.EventLogClient;
+import com.adplatform.metrics.infrastructure.live.LiveMetricsBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConsumeEventFeedUseCase 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumeEventFeedUseCaseTest {
+
+    private static final String CONSUMER_ID = "daily-metrics";
+
+    @Mock
+    private DailyMetricsRepository metricsRepository;
+
+    @Mock
+    private PeriodMetricsRepository periodMetricsRepository;
+
+    @Mock
+    private EventFeedOffsetRepository offsetRepository;
+
+    @Mock
+    private EventLogClient eventLogClient;
+
+    @Mock
+    private CampaignClient campaignClient;
+
+    private LiveMetricsBuffer liveMetrics;
+
+    private ConsumeEventFeedUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        liveMetrics = new LiveMetricsBuffer();
+        useCase = new ConsumeEventFeedUseCase(
+            metricsRepository,
+            periodMetricsRepository,
+            offsetRepository,
+            eventLogClient,
+            new AdGroupCache(campaignClient, 300, 1000),
+            new MetricsCalculator(),
+            liveMetrics
+        );
+    }
+
+    @Test
+    void poll은_버퍼에만_누적하고_flush에서_메트릭스와_다음_offset_저장() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        List<EventLogClient.FeedEventDto> events = Arrays.asList(
+            createEvent(100L, "IMPRESSION", "ad-123", date),
+            createEvent(101L, "IMPRESSION", "ad-123", date),
+            createEvent(103L, "CLICK", "ad-123", date)
+        );
+
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(100L);
+        when(eventLogClient.readFeed(100L, 500)).thenReturn(events);
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+
+        // when
+        int consumed = useCase.poll(CONSUMER_ID, 500);
+
+        // then
+        assertThat(consumed).isEqualTo(3);
+        MetricsDelta pending = liveMetrics.find(date, "ad-123").orElseThrow();
+        assertThat(pending.getImpressions()).isEqualTo(2L);
+        assertThat(pending.getClicks()).isEqualTo(1L);
+        verify(metricsRepository, never()).addAll(any());
+
+        // when
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(100L);
+        int flushed = useCase.flush(CONSUMER_ID);
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getDate().equals(date) &&
+                delta.getImpressions() == 2L &&
+                delta.getClicks() == 1L &&
+                delta.getCost() == 1000L)
+        ));
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 104L);
+        assertThat(liveMetrics.find(date, "ad-123")).isEmpty();
+    }
+
+    @Test
+    void 여러_poll의_증분을_합쳐_한_번에_저장() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 2)).thenReturn(Arrays.asList(
+            createEvent(0L, "IMPRESSION", "ad-123", date),
+            createEvent(1L, "IMPRESSION", "ad-123", date)
+        ));
+        when(eventLogClient.readFeed(2L, 2)).thenReturn(List.of(
+            createEvent(2L, "CLICK", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 2);
+        useCase.poll(CONSUMER_ID, 2);
+        useCase.flush(CONSUMER_ID);
+
+        // then
+        verify(metricsRepository, times(1)).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getImpressions() == 2L &&
+                delta.getClicks() == 1L)
+        ));
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 3L);
+    }
+
+    @Test
+    void 일일_메트릭스를_조회하지_않고_새_이벤트_수만_더함() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(List.of(
+            createEvent(1L, "CLICK", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        useCase.flush(CONSUMER_ID);
+
+        // then
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getImpressions() == 0L &&
+                delta.getClicks() == 1L &&
+                delta.getCostMilli() == 1000L * DailyMetrics.COST_SCALE)
+        ));
+        verify(metricsRepository, never()).findByDateAndAdId(any(), anyString());
+        verify(metricsRepository, never()).save(any());
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 2L);
+    }
+
+    @Test
+    void 날짜가_다른_이벤트는_각_날짜의_메트릭스에_집계() {
+        // given
+        LocalDate day1 = LocalDate.of(2024, 1, 15);
+        LocalDate day2 = LocalDate.of(2024, 1, 16);
+
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(Arrays.asList(
+            createEvent(1L, "IMPRESSION", "ad-123", day1),
+            createEvent(2L, "IMPRESSION", "ad-123", day2)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        useCase.flush(CONSUMER_ID);
+
+        // then
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 2 &&
+            deltas.stream().anyMatch(delta -> delta.getDate().equals(day1)) &&
+            deltas.stream().anyMatch(delta -> delta.getDate().equals(day2))
+        ));
+    }
+
+    @Test
+    void flush에서_분_증분을_시간과_일_단위로_합쳐_함께_저장() {
+        // given - 10:01, 10:59, 11:00 이벤트
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(Arrays.asList(
+            createEvent(0L, "IMPRESSION", "ad-123", date.atTime(10, 1, 30)),
+            createEvent(1L, "IMPRESSION", "ad-123", date.atTime(10, 59)),
+            createEvent(2L, "CLICK", "ad-123", date.atTime(10, 59, 59)),
+            createEvent(3L, "IMPRESSION", "ad-123", date.atTime(11, 0))
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        int flushed = useCase.flush(CONSUMER_ID);
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(periodMetricsRepository).addAll(eq(MetricsGrain.MINUTE), argThat((Collection<MetricsDelta> deltas) ->
+            deltas.size() == 3 &&
+            deltas.stream().anyMatch(d -> d.getPeriodStart().equals(date.atTime(10, 59)) &&
+                d.getImpressions() == 1L && d.getClicks() == 1L)
+        ));
+        verify(periodMetricsRepository).addAll(eq(MetricsGrain.HOUR), argThat((Collection<MetricsDelta> deltas) ->
+            deltas.size() == 2 &&
+            deltas.stream().anyMatch(d -> d.getPeriodStart().equals(date.atTime(10, 0)) &&
+                d.getImpressions() == 2L && d.getClicks() == 1L) &&
+            deltas.stream().anyMatch(d -> d.getPeriodStart().equals(date.atTime(11, 0)) &&
+                d.getImpressions() == 1L && d.getClicks() == 0L)
+        ));
+        verify(metricsRepository, times(1)).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getImpressions() == 3L &&
+                delta.getClicks() == 1L)
+        ));
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 4L);
+    }
+
+    @Test
+    void 읽을_이벤트가_없으면_offset을_저장하지_않음() {
+        // given
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(42L);
+        when(eventLogClient.readFeed(42L, 500)).thenReturn(List.of());
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(42L);
+
+        // when
+        int consumed = useCase.poll(CONSUMER_ID, 500);
+        int flushed = useCase.flush(CONSUMER_ID);
+
+        // then
+        assertThat(consumed).isZero();
+        assertThat(flushed).isZero();
+        verify(metricsRepository, never()).addAll(any());
+        verify(offsetRepository, never()).saveNextOffset(anyString(), anyLong());
+    }
+
+    @Test
+    void 광고그룹_조회에_실패하면_누적하지_않고_같은_구간부터_다시_읽음() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(List.of(
+            createEvent(1L, "IMPRESSION", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenThrow(new ResourceAccessException("campaign down"));
+
+        // when & then
+        assertThatThrownBy(() -> useCase.poll(CONSUMER_ID, 500))
+            .isInstanceOf(ResourceAccessException.class);
+        assertThat(liveMetrics.find(date, "ad-123")).isEmpty();
+        assertThat(liveMetrics.nextOffset()).isZero();
+    }
+
+    @Test
+    void 캠페인_서비스에_없는_광고그룹의_이벤트는_건너뛰고_offset은_진행() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(List.of(
+            createEvent(0L, "IMPRESSION", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of());
+
+        // when
+        int consumed = useCase.poll(CONSUMER_ID, 500);
+
+        // then
+        assertThat(consumed).isEqualTo(1);
+        assertThat(liveMetrics.find(date, "ad-123")).isEmpty();
+        assertThat(liveMetrics.nextOffset()).isEqualTo(1L);
+    }
+
+    @Test
+    void 캐시된_광고그룹은_다음_poll에서_다시_조회하지_않음() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 1)).thenReturn(List.of(createEvent(0L, "IMPRESSION", "ad-1", date)));
+        when(eventLogClient.readFeed(1L, 1)).thenReturn(List.of(createEvent(1L, "IMPRESSION", "ad-2", date)));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+
+        // when
+        useCase.poll(CONSUMER_ID, 1);
+        useCase.poll(CONSUMER_ID, 1);
+
+        // then
+        verify(campaignClient, times(1)).getAdGroups(anyCollection());
+        assertThat(liveMetrics.findByDate(date)).hasSize(2);
+    }
+
+    @Test
+    void 저장에_실패하면_증분을_버퍼에_남겨_다음_flush에서_재시도() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(List.of(
+            createEvent(0L, "IMPRESSION", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+        doThrow(new DataAccessResourceFailureException("db down"))
+            .doNothing()
+            .when(metricsRepository).addAll(any());
+        useCase.poll(CONSUMER_ID, 500);
+
+        // when
+        assertThatThrownBy(() -> useCase.flush(CONSUMER_ID))
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(liveMetrics.find(date, "ad-123")).isPresent();
+        int flushed = useCase.flush(CONSUMER_ID);
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        verify(metricsRepository, times(2)).addAll(argThat(deltas ->
+            deltas.stream().allMatch(delta -> delta.getImpressions() == 1L)));
+        verify(offsetRepository, times(1)).saveNextOffset(CONSUMER_ID, 1L);
+    }
+
+    @Test
+    void 저장된_offset이_버퍼와_다르면_버퍼를_버리고_저장된_offset부터_다시_읽음() {
+        // given - 다른 인스턴스가 먼저 50까지 반영
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(List.of(
+            createEvent(0L, "IMPRESSION", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(50L);
+        useCase.poll(CONSUMER_ID, 500);
+
+        // when
+        int flushed = useCase.flush(CONSUMER_ID);
+
+        // then
+        assertThat(flushed).isZero();
+        verify(metricsRepository, never()).addAll(any());
+        verify(offsetRepository, never()).saveNextOffset(anyString(), anyLong());
+        assertThat(liveMetrics.find(date, "ad-123")).isEmpty();
+        assertThat(liveMetrics.nextOffset()).isEqualTo(50L);
+    }
+
+    @Test
+    void CPM_비용은_분_증분마다_내리지_않고_일_합계에서_내림() {
+        // given: 입찰가 500 CPM, 분마다 노출 1건 (분 증분 비용 0.5)
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(Arrays.asList(
+            createEvent(0L, "IMPRESSION", "ad-123", date.atTime(10, 0)),
+            createEvent(1L, "IMPRESSION", "ad-123", date.atTime(10, 1)),
+            createEvent(2L, "IMPRESSION", "ad-123", date.atTime(10, 2))
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPM, 500L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        useCase.flush(CONSUMER_ID);
+
+        // then: 0.5 * 3 = 1.5를 내리지 않고 넘김 (이월된 1 미만 비용과 합쳐 내리는 것은 저장소가 수행)
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getImpressions() == 3L &&
+                delta.getCostMilli() == 1500L)
+        ));
+    }
+
+    @Test
+    void 노출보다_많은_클릭의_증분도_노출과_비용은_반영() {
+        // given: 전날 노출의 클릭이 오늘 잡혀 오늘 증분은 노출 1, 클릭 2
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(Arrays.asList(
+            createEvent(0L, "CLICK", "ad-123", date),
+            createEvent(1L, "CLICK", "ad-123", date),
+            createEvent(2L, "IMPRESSION", "ad-123", date)
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        useCase.flush(CONSUMER_ID);
+
+        // then - 클릭 한도는 저장소가 기존 노출 수와 합쳐 맞춤
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta ->
+                delta.getImpressions() == 1L &&
+                delta.getClicks() == 2L &&
+                delta.getCost() == 2000L)
+        ));
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 3L);
+    }
+
+    @Test
+    void 캠페인_ID가_없는_증분은_일일_메트릭스에서_빼고_나머지는_저장() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        EventLogClient.FeedEventDto withoutCampaign = createEvent(1L, "IMPRESSION", "ad-456", date);
+        withoutCampaign.setCampaignId(null);
+        when(offsetRepository.findNextOffset(CONSUMER_ID)).thenReturn(0L);
+        when(eventLogClient.readFeed(0L, 500)).thenReturn(Arrays.asList(
+            createEvent(0L, "IMPRESSION", "ad-123", date),
+            withoutCampaign
+        ));
+        when(campaignClient.getAdGroups(anyCollection())).thenReturn(Map.of("adgroup-123", adGroup(PricingModel.CPC, 1000L)));
+        when(offsetRepository.findNextOffsetForUpdate(CONSUMER_ID)).thenReturn(0L);
+
+        // when
+        useCase.poll(CONSUMER_ID, 500);
+        useCase.flush(CONSUMER_ID);
+
+        // then
+        verify(metricsRepository).addAll(argThat(deltas -> deltas.size() == 1 &&
+            deltas.stream().allMatch(delta -> delta.getAdId().equals("ad-123"))
+        ));
+        verify(offsetRepository).saveNextOffset(CONSUMER_ID, 2L);
+    }
+
+    private CampaignClient.AdGroupDto adGroup(PricingModel pricingModel, Long bid) {
+        CampaignClient.AdGroupDto adGroup = new CampaignClient.AdGroupDto();
+        adGroup.setId("adgroup-123");
+        adGroup.setBid(bid);
+        adGroup.setPricingModel(pricingModel);
+        return adGroup;
+    }
+
+    private EventLogClient.FeedEventDto createEvent(long offset, String eventType, String adId, LocalDate date) {
+        return createEvent(offset, eventType, adId, date.atStartOfDay());
+    }
+
+    private EventLogClient.FeedEventDto createEvent(long offset, String eventType, String adId, LocalDateTime time) {
+        EventLogClient.FeedEventDto event = new EventLogClient.FeedEventDto();
+        event.setOffset(offset);
+        event.setId("event-" + offset);
+        event.setEventType(eventType);
+        event.setAdId(adId);
+        event.setAdGroupId("adgroup-123");
+        event.setCampaignId("campaign-123");
+        event.setTimestamp(time.atZone(ZoneId.systemDefault()).toInstant());
+        return event;
+    }
+}
@@ -0,0 +1,85 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.repository.EventFeedOffsetRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FeedWatermarkGuard 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class FeedWatermarkGuardTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    private static final String CONSUMER_ID = "daily-metrics";
+
+    @Mock
+    private EventFeedOffsetRepository offsetRepository;
+
+    @Test
+    void 피드를_끄면_제한_없음() {
+        // given
+        FeedWatermarkGuard guard = guard(false);
+
+        // when & then
+        assertThat(guard.lastRecomputableDate()).isEmpty();
+        assertThatCode(() -> guard.checkRecomputable(TODAY)).doesNotThrowAnyException();
+        verifyNoInteractions(offsetRepository);
+    }
+
+    @Test
+    void 워터마크_날짜_이전까지만_재집계_가능() {
+        // given - 피드가 전날 23시까지 반영
+        FeedWatermarkGuard guard = guard(true);
+        when(offsetRepository.findWatermark(CONSUMER_ID))
+            .thenReturn(Optional.of(TODAY.minusDays(1).atTime(23, 0)));
+
+        // when & then
+        assertThat(guard.lastRecomputableDate()).contains(TODAY.minusDays(2));
+        assertThatCode(() -> guard.checkRecomputable(TODAY.minusDays(2))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> guard.checkRecomputable(TODAY.minusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 워터마크가_오늘이어도_오늘은_재집계할_수_없음() {
+        // given
+        FeedWatermarkGuard guard = guard(true);
+        when(offsetRepository.findWatermark(CONSUMER_ID)).thenReturn(Optional.of(TODAY.atTime(0, 30)));
+
+        // when & then
+        assertThat(guard.lastRecomputableDate()).contains(TODAY.minusDays(1));
+        assertThatThrownBy(() -> guard.checkRecomputable(TODAY))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 피드가_아직_반영한_이벤트가_없으면_재집계할_수_없음() {
+        // given
+        FeedWatermarkGuard guard = guard(true);
+        when(offsetRepository.findWatermark(CONSUMER_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> guard.checkRecomputable(LocalDate.of(2020, 1, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("반영한 이벤트가 없어");
+    }
+
+    private FeedWatermarkGuard guard(boolean feedEnabled) {
+        Clock clock = Clock.fixed(
+            TODAY.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant().plusSeconds(3600),
+            ZoneId.systemDefault()
+        );
+        return new FeedWatermarkGuard(offsetRepository, feedEnabled, CONSUMER_ID, clock);
+    }
+}
@@ -0,0 +1,140 @@
+package com.adplatform.metrics.application.usecase;
+
+import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsDelta;
+import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.infrastructure.live.LiveMetricsBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GetLiveMetricsUseCase 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GetLiveMetricsUseCaseTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private DailyMetricsRepository metricsRepository;
+
+    private LiveMetricsBuffer liveMetrics;
+
+    private GetLiveMetricsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        liveMetrics = new LiveMetricsBuffer();
+        liveMetrics.reset(0L);
+        Clock clock = Clock.fixed(
+            TODAY.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant().plusSeconds(3600),
+            ZoneId.systemDefault()
+        );
+        useCase = new GetLiveMetricsUseCase(metricsRepository, liveMetrics, clock);
+    }
+
+    @Test
+    void 저장된_메트릭스에_아직_저장되지_않은_증분을_더해_반환() {
+        // given
+        when(metricsRepository.findByDateAndAdId(TODAY, "ad-123"))
+            .thenReturn(Optional.of(createMetrics("metrics-1", "ad-123", 1000L, 50L, 50000L)));
+        liveMetrics.record(0L, List.of(createDelta("ad-123", TODAY, 100L, 5L, 5000L)), 105L);
+
+        // when
+        Optional<DailyMetrics> result = useCase.executeForAd("ad-123");
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo("metrics-1");
+        assertThat(result.get().getImpressions()).isEqualTo(1100L);
+        assertThat(result.get().getClicks()).isEqualTo(55L);
+        assertThat(result.get().getCost()).isEqualTo(55000L);
+    }
+
+    @Test
+    void 저장된_메트릭스가_없으면_증분만으로_반환() {
+        // given
+        when(metricsRepository.findByDateAndAdId(TODAY, "ad-123")).thenReturn(Optional.empty());
+        liveMetrics.record(0L, List.of(createDelta("ad-123", TODAY, 10L, 1L, 1000L)), 11L);
+
+        // when
+        Optional<DailyMetrics> result = useCase.executeForAd("ad-123");
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getImpressions()).isEqualTo(10L);
+        assertThat(result.get().getCampaignId()).isEqualTo("campaign-123");
+    }
+
+    @Test
+    void 저장된_메트릭스도_증분도_없으면_빈_결과() {
+        // given
+        when(metricsRepository.findByDateAndAdId(TODAY, "ad-123")).thenReturn(Optional.empty());
+
+        // when
+        Optional<DailyMetrics> result = useCase.executeForAd("ad-123");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 오늘_전체_조회는_저장된_광고와_증분만_있는_광고를_모두_반환() {
+        // given
+        when(metricsRepository.findByDate(TODAY))
+            .thenReturn(List.of(createMetrics("metrics-1", "ad-1", 1000L, 50L, 50000L)));
+        liveMetrics.record(0L, List.of(
+            createDelta("ad-1", TODAY, 100L, 0L, 0L),
+            createDelta("ad-2", TODAY, 20L, 2L, 2000L),
+            createDelta("ad-3", TODAY.minusDays(1), 30L, 0L, 0L)
+        ), 152L);
+
+        // when
+        List<DailyMetrics> result = useCase.execute();
+
+        // then
+        assertThat(result).extracting(DailyMetrics::getAdId).containsExactlyInAnyOrder("ad-1", "ad-2");
+        assertThat(result).filteredOn(metrics -> metrics.getAdId().equals("ad-1"))
+            .extracting(DailyMetrics::getImpressions)
+            .containsExactly(1100L);
+    }
+
+    private DailyMetrics createMetrics(String id, String adId, Long impressions, Long clicks, Long cost) {
+        return DailyMetrics.builder()
+            .id(id)
+            .date(TODAY)
+            .adId(adId)
+            .adGroupId("adgroup-123")
+            .campaignId("campaign-123")
+            .impressions(impressions)
+            .clicks(clicks)
+            .conversions(0L)
+            .cost(cost)
+            .build();
+    }
+
+    private MetricsDelta createDelta(String adId, LocalDate date, long impressions, long clicks, long cost) {
+        return MetricsDelta.builder()
+            .date(date)
+            .periodStart(date.atStartOfDay())
+            .adId(adId)
+            .adGroupId("adgroup-123")
+            .campaignId("campaign-123")
+            .impressions(impressions)
+            .clicks(clicks)
+            .costMilli(cost * DailyMetrics.COST_SCALE)
+            .build();
+    }
+}
@@ -1,18 +1,26 @@
 package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -21,14 +29,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class GetMetricsByAdUseCaseTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 5);
+
     @Mock
     private DailyMetricsRepository metricsRepository;
 
+    @Mock
+    private PeriodMetricsRepository periodMetricsRepository;
+
     private GetMetricsByAdUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetMetricsByAdUseCase(metricsRepository);
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        useCase = new GetMetricsByAdUseCase(metricsRepository, periodMetricsRepository, new RollupRetention(7, 90), clock);
     }
 
     @Test
@@ -73,6 +87,64 @@ class GetMetricsByAdUseCaseTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void 시계열_조회는_구간을_일_시간_분_단위로_나누어_조회() {
+        // given - 1일 22:30 ~ 4일 01:00
+        String adId = "ad-123";
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 4, 1, 0);
+
+        when(periodMetricsRepository.findByAdIdAndRange(MetricsGrain.MINUTE, adId,
+                from, LocalDateTime.of(2024, 1, 1, 23, 0)))
+            .thenReturn(List.of(createPeriodMetrics(MetricsGrain.MINUTE, LocalDateTime.of(2024, 1, 1, 22, 45), adId, 10L)));
+        when(periodMetricsRepository.findByAdIdAndRange(MetricsGrain.HOUR, adId,
+                LocalDateTime.of(2024, 1, 1, 23, 0), LocalDateTime.of(2024, 1, 2, 0, 0)))
+            .thenReturn(List.of(createPeriodMetrics(MetricsGrain.HOUR, LocalDateTime.of(2024, 1, 1, 23, 0), adId, 100L)));
+        when(metricsRepository.findByAdIdAndDateRange(adId, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)))
+            .thenReturn(Arrays.asList(
+                createMetrics("metrics-2", adId, LocalDate.of(2024, 1, 2), 1000L, 50L, 5L, 50000L),
+                createMetrics("metrics-3", adId, LocalDate.of(2024, 1, 3), 2000L, 100L, 10L, 100000L)
+            ));
+        when(periodMetricsRepository.findByAdIdAndRange(MetricsGrain.HOUR, adId,
+                LocalDateTime.of(2024, 1, 4, 0, 0), to))
+            .thenReturn(List.of(createPeriodMetrics(MetricsGrain.HOUR, LocalDateTime.of(2024, 1, 4, 0, 0), adId, 200L)));
+
+        // when
+        List<PeriodMetrics> result = useCase.executeTimeSeries(adId, from, to);
+
+        // then
+        assertThat(result).extracting(PeriodMetrics::getGrain).containsExactly(
+            MetricsGrain.MINUTE, MetricsGrain.HOUR, MetricsGrain.DAY, MetricsGrain.DAY, MetricsGrain.HOUR);
+        assertThat(result).extracting(PeriodMetrics::getImpressions).containsExactly(10L, 100L, 1000L, 2000L, 200L);
+        verify(periodMetricsRepository, never()).findByAdIdAndRange(eq(MetricsGrain.DAY), any(), any(), any());
+    }
+
+    @Test
+    void 시계열_조회는_보관_기간이_지난_분_시간_단위를_일_단위로_넓혀_조회() {
+        // given - 분/시간 보관 기간(7일/90일)이 모두 지난 2023년 9월 1일 22:30 ~ 23:00
+        String adId = "ad-123";
+        LocalDateTime from = LocalDateTime.of(2023, 9, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2023, 9, 1, 23, 0);
+
+        when(metricsRepository.findByAdIdAndDateRange(adId, LocalDate.of(2023, 9, 1), LocalDate.of(2023, 9, 1)))
+            .thenReturn(List.of(createMetrics("metrics-1", adId, LocalDate.of(2023, 9, 1), 1000L, 50L, 5L, 50000L)));
+
+        // when
+        List<PeriodMetrics> result = useCase.executeTimeSeries(adId, from, to);
+
+        // then
+        assertThat(result).extracting(PeriodMetrics::getGrain).containsExactly(MetricsGrain.DAY);
+        verifyNoInteractions(periodMetricsRepository);
+    }
+
+    @Test
+    void 시계열_조회_구간이_잘못되면_예외() {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        assertThatThrownBy(() -> useCase.executeTimeSeries("ad-123", at, at))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private DailyMetrics createMetrics(String id, String adId, LocalDate date,
                                         Long impressions, Long clicks, Long conversions, Long cost) {
         return DailyMetrics.builder()
@@ -87,4 +159,15 @@ class GetMetricsByAdUseCaseTest {
             .cost(cost)
             .build();
     }
+
+    private PeriodMetrics createPeriodMetrics(MetricsGrain grain, LocalDateTime periodStart, String adId, long impressions) {
+        return PeriodMetrics.builder()
+            .grain(grain)
+            .periodStart(periodStart)
+            .adId(adId)
+            .adGroupId("adgroup-123")
+            .campaignId("campaign-123")
+            .impressions(impressions)
+            .build();
+    }
 }
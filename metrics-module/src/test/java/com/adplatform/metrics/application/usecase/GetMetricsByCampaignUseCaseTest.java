@@ -2,14 +2,21 @@ package com.adplatform.metrics.application.usecase;
 
 import com.adplatform.metrics.application.dto.CampaignMetricsDto;
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.MetricsGrain;
+import com.adplatform.metrics.domain.model.PeriodMetrics;
+import com.adplatform.metrics.domain.model.RollupRetention;
 import com.adplatform.metrics.domain.repository.DailyMetricsRepository;
+import com.adplatform.metrics.domain.repository.PeriodMetricsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,14 +29,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class GetMetricsByCampaignUseCaseTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 5);
+
     @Mock
     private DailyMetricsRepository metricsRepository;
 
+    @Mock
+    private PeriodMetricsRepository periodMetricsRepository;
+
     private GetMetricsByCampaignUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetMetricsByCampaignUseCase(metricsRepository);
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        useCase = new GetMetricsByCampaignUseCase(metricsRepository, periodMetricsRepository, new RollupRetention(7, 90), clock);
     }
 
     @Test
@@ -107,6 +120,44 @@ class GetMetricsByCampaignUseCaseTest {
         assertThat(result.getCpa()).isEqualTo(10000.0); // 500000 / 50 = 10000.0
     }
 
+    @Test
+    void 시계열_조회는_구간마다_캠페인의_광고를_합침() {
+        // given - 1일 23:58 ~ 2일 01:00
+        String campaignId = "campaign-123";
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 23, 58);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 2, 1, 0);
+
+        when(periodMetricsRepository.findByCampaignIdAndRange(MetricsGrain.MINUTE, campaignId,
+                from, LocalDateTime.of(2024, 1, 2, 0, 0)))
+            .thenReturn(Arrays.asList(
+                createPeriodMetrics(MetricsGrain.MINUTE, LocalDateTime.of(2024, 1, 1, 23, 58), "ad-1", campaignId, 10L, 1L),
+                createPeriodMetrics(MetricsGrain.MINUTE, LocalDateTime.of(2024, 1, 1, 23, 59), "ad-1", campaignId, 20L, 2L),
+                createPeriodMetrics(MetricsGrain.MINUTE, LocalDateTime.of(2024, 1, 1, 23, 59), "ad-2", campaignId, 30L, 3L)
+            ));
+        when(periodMetricsRepository.findByCampaignIdAndRange(MetricsGrain.HOUR, campaignId,
+                LocalDateTime.of(2024, 1, 2, 0, 0), to))
+            .thenReturn(Arrays.asList(
+                createPeriodMetrics(MetricsGrain.HOUR, LocalDateTime.of(2024, 1, 2, 0, 0), "ad-1", campaignId, 100L, 10L),
+                createPeriodMetrics(MetricsGrain.HOUR, LocalDateTime.of(2024, 1, 2, 0, 0), "ad-2", campaignId, 300L, 30L)
+            ));
+
+        // when
+        List<PeriodMetrics> result = useCase.executeTimeSeries(campaignId, from, to);
+
+        // then
+        assertThat(result).extracting(PeriodMetrics::getPeriodStart).containsExactly(
+            LocalDateTime.of(2024, 1, 1, 23, 58),
+            LocalDateTime.of(2024, 1, 1, 23, 59),
+            LocalDateTime.of(2024, 1, 2, 0, 0));
+        assertThat(result).extracting(PeriodMetrics::getImpressions).containsExactly(10L, 50L, 400L);
+        assertThat(result).extracting(PeriodMetrics::getClicks).containsExactly(1L, 5L, 40L);
+        assertThat(result).allSatisfy(metrics -> {
+            assertThat(metrics.getCampaignId()).isEqualTo(campaignId);
+            assertThat(metrics.getAdId()).isNull();
+        });
+        verifyNoInteractions(metricsRepository);
+    }
+
     private DailyMetrics createMetrics(String id, String adId, String campaignId, LocalDate date,
                                         Long impressions, Long clicks, Long conversions, Long cost) {
         return DailyMetrics.builder()
@@ -121,4 +172,17 @@ class GetMetricsByCampaignUseCaseTest {
             .cost(cost)
             .build();
     }
+
+    private PeriodMetrics createPeriodMetrics(MetricsGrain grain, LocalDateTime periodStart, String adId,
+                                              String campaignId, long impressions, long clicks) {
+        return PeriodMetrics.builder()
+            .grain(grain)
+            .periodStart(periodStart)
+            .adId(adId)
+            .adGroupId("adgroup-123")
+            .campaignId(campaignId)
+            .impressions(impressions)
+            .clicks(clicks)
+            .build();
+    }
 }
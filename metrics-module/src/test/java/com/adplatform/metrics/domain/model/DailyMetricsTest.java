@@ -239,6 +239,54 @@ class DailyMetricsTest {
         assertThat(aggregated.getCost()).isEqualTo(15000L);
     }
 
+    @Test
+    void 피드_누적은_1_미만_비용을_이월() {
+        // given
+        DailyMetrics existing = createMetrics(1000L, 50L, 5L, 10000L);
+
+        // when: 0.5씩 두 번
+        DailyMetrics once = existing.accumulate(1L, 0L, 0L, 500L);
+        DailyMetrics twice = once.accumulate(1L, 0L, 0L, 500L);
+
+        // then
+        assertThat(once.getCost()).isEqualTo(10000L);
+        assertThat(once.getCostRemainder()).isEqualTo(500L);
+        assertThat(twice.getCost()).isEqualTo(10001L);
+        assertThat(twice.getCostRemainder()).isEqualTo(0L);
+    }
+
+    @Test
+    void 피드_누적은_클릭과_전환을_규칙_한도까지만_더함() {
+        // given
+        DailyMetrics existing = createMetrics(10L, 10L, 5L, 0L);
+
+        // when
+        DailyMetrics accumulated = existing.accumulate(2L, 5L, 10L, 3000L);
+
+        // then
+        assertThat(accumulated.getImpressions()).isEqualTo(12L);
+        assertThat(accumulated.getClicks()).isEqualTo(12L);
+        assertThat(accumulated.getConversions()).isEqualTo(12L);
+        assertThat(accumulated.getCost()).isEqualTo(3L);
+    }
+
+    @Test
+    void 재집계하면_더하지_않고_값을_교체() {
+        // given
+        DailyMetrics existing = createMetrics(1000L, 50L, 5L, 10000L);
+
+        // when
+        DailyMetrics recalculated = existing.recalculate(1200L, 60L, 6L, 12000L)
+            .recalculate(1200L, 60L, 6L, 12000L);
+
+        // then
+        assertThat(recalculated.getId()).isEqualTo(existing.getId());
+        assertThat(recalculated.getImpressions()).isEqualTo(1200L);
+        assertThat(recalculated.getClicks()).isEqualTo(60L);
+        assertThat(recalculated.getConversions()).isEqualTo(6L);
+        assertThat(recalculated.getCost()).isEqualTo(12000L);
+    }
+
     @Test
     void 동일한_날짜와_광고_ID_확인() {
         // given
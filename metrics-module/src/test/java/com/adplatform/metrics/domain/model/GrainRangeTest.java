@@ -0,0 +1,108 @@
+package com.adplatform.metrics.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GrainRange 테스트
+ */
+class GrainRangeTest {
+
+    @Test
+    void 조회_구간을_가장_큰_집계_단위로_나눔() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 4, 1, 15);
+
+        // when
+        List<GrainRange> ranges = GrainRange.split(from, to);
+
+        // then
+        assertThat(ranges).extracting(GrainRange::getGrain).containsExactly(
+            MetricsGrain.MINUTE, MetricsGrain.HOUR, MetricsGrain.DAY, MetricsGrain.HOUR, MetricsGrain.MINUTE);
+        assertThat(ranges).extracting(GrainRange::getFrom).containsExactly(
+            from,
+            LocalDateTime.of(2024, 1, 1, 23, 0),
+            LocalDateTime.of(2024, 1, 2, 0, 0),
+            LocalDateTime.of(2024, 1, 4, 0, 0),
+            LocalDateTime.of(2024, 1, 4, 1, 0));
+        assertThat(ranges.get(2).getTo()).isEqualTo(LocalDateTime.of(2024, 1, 4, 0, 0));
+        assertThat(ranges.get(4).getTo()).isEqualTo(to);
+    }
+
+    @Test
+    void 하루_안의_구간은_시간과_분_단위로만_나눔() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 12, 5);
+
+        // when
+        List<GrainRange> ranges = GrainRange.split(from, to);
+
+        // then
+        assertThat(ranges).extracting(GrainRange::getGrain)
+            .containsExactly(MetricsGrain.HOUR, MetricsGrain.MINUTE);
+        assertThat(ranges.get(0).getTo()).isEqualTo(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    void 자정에_맞춘_구간은_일_단위_하나로_조회() {
+        // when
+        List<GrainRange> ranges = GrainRange.split(
+            LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        // then
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getGrain()).isEqualTo(MetricsGrain.DAY);
+    }
+
+    @Test
+    void 구간이_비었거나_분_단위가_아니면_예외() {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        assertThatThrownBy(() -> GrainRange.split(at, at))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GrainRange.split(at, at.plusSeconds(30)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 보관_기간이_지난_쪽_끝은_보관_중인_더_큰_단위로_넓혀_나눔() {
+        // given - 분은 1월 8일부터, 시간은 1월 3일부터 보관
+        RollupRetention retention = new RollupRetention(2, 7);
+        LocalDate today = LocalDate.of(2024, 1, 10);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 5, 1, 15);
+
+        // when
+        List<GrainRange> ranges = GrainRange.split(from, to, retention, today);
+
+        // then - 1일은 일 단위부터, 5일은 분 없이 02:00까지 시간 단위로
+        assertThat(ranges).extracting(GrainRange::getGrain)
+            .containsExactly(MetricsGrain.DAY, MetricsGrain.HOUR);
+        assertThat(ranges.get(0).getFrom()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(ranges.get(1).getFrom()).isEqualTo(LocalDateTime.of(2024, 1, 5, 0, 0));
+        assertThat(ranges.get(1).getTo()).isEqualTo(LocalDateTime.of(2024, 1, 5, 2, 0));
+    }
+
+    @Test
+    void 보관_중인_구간은_그대로_나눔() {
+        // given
+        RollupRetention retention = new RollupRetention(7, 90);
+        LocalDate today = LocalDate.of(2024, 1, 10);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 8, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 10, 1, 15);
+
+        // when & then
+        assertThat(GrainRange.split(from, to, retention, today))
+            .extracting(GrainRange::getGrain, GrainRange::getFrom, GrainRange::getTo)
+            .containsExactlyElementsOf(GrainRange.split(from, to).stream()
+                .map(range -> tuple(range.getGrain(), range.getFrom(), range.getTo()))
+                .toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.adplatform.metrics.domain.service;
 import static org.assertj.core.api.Assertions.*;
 
 import com.adplatform.metrics.domain.model.DailyMetrics;
+import com.adplatform.metrics.domain.model.EventCounts;
 import com.adplatform.metrics.domain.model.PricingModel;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -187,6 +188,26 @@ class MetricsCalculatorTest {
         assertThat(metrics.getClicks()).isEqualTo(1L);
     }
 
+    @Test
+    void 알_수_없는_이벤트_타입은_세지_않음() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        List<AdEventData> events = Arrays.asList(
+            createEvent("IMPRESSION", "ad-123", "adgroup-123", "campaign-123", date),
+            createEvent("VIEWABLE", "ad-123", "adgroup-123", "campaign-123", date),
+            createEvent(null, "ad-123", "adgroup-123", "campaign-123", date),
+            createEvent("CLICK", "ad-123", "adgroup-123", "campaign-123", date)
+        );
+
+        // when
+        EventCounts counts = calculator.countEvents(events, "ad-123");
+
+        // then
+        assertThat(counts.getImpressions()).isEqualTo(1L);
+        assertThat(counts.getClicks()).isEqualTo(1L);
+        assertThat(counts.getConversions()).isEqualTo(0L);
+    }
+
     // Helper method
     private AdEventData createEvent(
         String eventType,
@@ -0,0 +1,133 @@
+package com.adplatform.metrics.infrastructure.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AdGroupCache 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AdGroupCacheTest {
+
+    @Mock
+    private CampaignClient campaignClient;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-15T00:00:00Z"));
+    }
+
+    @Test
+    void 캐시에_없는_광고그룹만_모아_한_번에_조회() {
+        // given
+        AdGroupCache cache = new AdGroupCache(campaignClient, Duration.ofMinutes(5), 100, clock);
+        stubCampaignClient();
+        cache.getAll(List.of("adgroup-1"));
+
+        // when
+        Map<String, CampaignClient.AdGroupDto> result = cache.getAll(List.of("adgroup-1", "adgroup-2", "adgroup-3"));
+
+        // then
+        assertThat(result).containsOnlyKeys("adgroup-1", "adgroup-2", "adgroup-3");
+        verify(campaignClient).getAdGroups(Set.of("adgroup-1"));
+        verify(campaignClient).getAdGroups(Set.of("adgroup-2", "adgroup-3"));
+    }
+
+    @Test
+    void TTL이_지나면_다시_조회() {
+        // given
+        AdGroupCache cache = new AdGroupCache(campaignClient, Duration.ofMinutes(5), 100, clock);
+        stubCampaignClient();
+        cache.getAll(List.of("adgroup-1"));
+
+        // when
+        clock.advance(Duration.ofMinutes(4));
+        cache.getAll(List.of("adgroup-1"));
+        clock.advance(Duration.ofMinutes(2));
+        cache.getAll(List.of("adgroup-1"));
+
+        // then
+        verify(campaignClient, times(2)).getAdGroups(Set.of("adgroup-1"));
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_쓰지_않은_광고그룹부터_제거() {
+        // given
+        AdGroupCache cache = new AdGroupCache(campaignClient, Duration.ofMinutes(5), 2, clock);
+        stubCampaignClient();
+        cache.getAll(List.of("adgroup-1"));
+        cache.getAll(List.of("adgroup-2"));
+        cache.getAll(List.of("adgroup-1")); // adgroup-1 사용 -> adgroup-2가 가장 오래 쓰지 않은 항목
+
+        // when
+        cache.getAll(List.of("adgroup-3"));
+        cache.getAll(List.of("adgroup-1", "adgroup-2"));
+
+        // then
+        verify(campaignClient, times(1)).getAdGroups(Set.of("adgroup-1"));
+        verify(campaignClient, times(2)).getAdGroups(Set.of("adgroup-2"));
+    }
+
+    private void stubCampaignClient() {
+        when(campaignClient.getAdGroups(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(Function.identity(), this::adGroup));
+        });
+    }
+
+    private CampaignClient.AdGroupDto adGroup(String id) {
+        CampaignClient.AdGroupDto adGroup = new CampaignClient.AdGroupDto();
+        adGroup.setId(id);
+        adGroup.setBid(1000L);
+        return adGroup;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -12,10 +12,12 @@ import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -69,6 +71,27 @@ public class TargetingController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 타겟팅 룰 목록 조회 (룰 피드)
+     * - updatedSince가 없으면 전체 룰, 있으면 해당 시각 이후 수정된 룰만 반환
+     * - 인벤토리 서비스가 로컬 타겟팅 스냅샷을 동기화할 때 사용
+     */
+    @GetMapping("/rules")
+    public ResponseEntity<List<TargetingRuleResponse>> getTargetingRules(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince) {
+
+        List<TargetingRule> rules = updatedSince != null
+            ? targetingRuleRepository.findUpdatedSince(updatedSince)
+            : targetingRuleRepository.findAll();
+
+        List<TargetingRuleResponse> responses = rules.stream()
+            .map(TargetingRuleResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 캠페인별 타겟팅 룰 조회
      */
@@ -132,4 +155,31 @@ public class TargetingController {
 
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * 배치 타겟팅 매칭
+     * - 사용자 컨텍스트 하나로 여러 캠페인을 한 번에 스코어링 (캠페인별 최고 스코어)
+     * - 매칭된 캠페인만 스코어 내림차순으로 반환
+     */
+    @PostMapping("/match/batch")
+    public ResponseEntity<List<CampaignMatchResponse>> matchTargetingBatch(
+            @Valid @RequestBody BatchMatchTargetingRequest request) {
+
+        MatchTargetingRequest userContext = request.getUserContext();
+        MatchTargetingCommand command = MatchTargetingCommand.builder()
+            .age(userContext.getAge())
+            .gender(userContext.getGender())
+            .country(userContext.getCountry())
+            .city(userContext.getCity())
+            .deviceType(userContext.getDeviceType())
+            .keywords(userContext.getKeywords())
+            .campaignIds(request.getCampaignIds())
+            .build();
+
+        List<CampaignMatchResponse> responses = matchTargetingUseCase.executeByCampaign(command).stream()
+            .map(CampaignMatchResponse::from)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(responses);
+    }
 }
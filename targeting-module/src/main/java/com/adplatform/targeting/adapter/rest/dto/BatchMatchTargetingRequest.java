@@ -0,0 +1,28 @@
+package com.adplatform.targeting.adapter.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 타겟팅 매칭 요청 DTO
+ * - 사용자 컨텍스트 하나에 대해 여러 캠페인을 한 번에 매칭
+ * - campaignIds가 없으면 룰이 있는 전체 캠페인 대상
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMatchTargetingRequest {
+
+    private List<String> campaignIds;
+
+    @NotNull(message = "사용자 컨텍스트는 필수입니다")
+    @Valid
+    private MatchTargetingRequest userContext;
+}
@@ -0,0 +1,29 @@
+package com.adplatform.targeting.adapter.rest.dto;
+
+import com.adplatform.targeting.application.dto.TargetingMatchResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캠페인 단위 매칭 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CampaignMatchResponse {
+
+    private String campaignId;
+    private String targetingRuleId;
+    private int matchScore;
+    private boolean matched;
+
+    public static CampaignMatchResponse from(TargetingMatchResult result) {
+        return CampaignMatchResponse.builder()
+            .campaignId(result.getCampaignId())
+            .targetingRuleId(result.getTargetingRuleId())
+            .matchScore(result.getMatchScore())
+            .matched(result.getMatchScore() > 0)
+            .build();
+    }
+}
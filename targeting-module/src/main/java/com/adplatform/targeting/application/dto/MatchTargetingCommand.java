@@ -19,4 +19,9 @@ public class MatchTargetingCommand {
     private final String city;
     private final DeviceType deviceType;
     private final List<String> keywords;
+
+    /**
+     * 매칭 대상 캠페인 ID 목록 (null이면 전체 캠페인)
+     */
+    private final List<String> campaignIds;
 }
@@ -4,6 +4,7 @@ import com.adplatform.targeting.application.dto.CreateTargetingRuleCommand;
 import com.adplatform.targeting.domain.model.Demographics;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ import java.util.UUID;
 public class CreateTargetingRuleUseCase {
 
     private final TargetingRuleRepository targetingRuleRepository;
+    private final TargetingRuleIndex targetingRuleIndex;
 
     public TargetingRule execute(CreateTargetingRuleCommand command) {
         // 1. Demographics Value Object 생성
@@ -39,7 +41,12 @@ public class CreateTargetingRuleUseCase {
             .build();
 
         // 3. 저장
-        return targetingRuleRepository.save(targetingRule);
+        TargetingRule saved = targetingRuleRepository.save(targetingRule);
+
+        // 4. 매칭 색인 반영 (커밋 이후)
+        targetingRuleIndex.put(saved);
+
+        return saved;
     }
 
     private String generateTargetingRuleId() {
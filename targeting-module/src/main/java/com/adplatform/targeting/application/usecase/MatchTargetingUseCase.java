@@ -2,28 +2,65 @@ package com.adplatform.targeting.application.usecase;
 
 import com.adplatform.targeting.application.dto.MatchTargetingCommand;
 import com.adplatform.targeting.application.dto.TargetingMatchResult;
+import com.adplatform.targeting.domain.model.NormalizedUserContext;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.model.UserContext;
-import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 타겟팅 매칭 Use Case
  * - 사용자 컨텍스트에 맞는 타겟팅 룰을 찾아서 매칭 스코어와 함께 반환
+ * - 역색인으로 조건이 겹치는 후보 룰만 스코어 계산
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MatchTargetingUseCase {
 
-    private final TargetingRuleRepository targetingRuleRepository;
+    private final TargetingRuleIndex targetingRuleIndex;
 
+    /**
+     * 룰 단위 매칭 (스코어 내림차순)
+     */
     public List<TargetingMatchResult> execute(MatchTargetingCommand command) {
+        return scoreCandidates(command).stream()
+            .sorted((r1, r2) -> Integer.compare(r2.getMatchScore(), r1.getMatchScore())) // 스코어 내림차순 정렬
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 캠페인 단위 매칭 (배치 매칭용)
+     * - 캠페인에 룰이 여러 개면 가장 높은 스코어의 룰로 대표
+     * - 매칭되지 않은 캠페인은 결과에 포함하지 않음
+     */
+    public List<TargetingMatchResult> executeByCampaign(MatchTargetingCommand command) {
+        Map<String, TargetingMatchResult> bestByCampaign = new LinkedHashMap<>();
+        for (TargetingMatchResult result : scoreCandidates(command)) {
+            bestByCampaign.merge(
+                result.getCampaignId(),
+                result,
+                (current, candidate) -> candidate.getMatchScore() > current.getMatchScore() ? candidate : current
+            );
+        }
+
+        List<TargetingMatchResult> results = new ArrayList<>(bestByCampaign.values());
+        results.sort(Comparator.comparingInt(TargetingMatchResult::getMatchScore).reversed());
+        return results;
+    }
+
+    private List<TargetingMatchResult> scoreCandidates(MatchTargetingCommand command) {
         // 1. UserContext Value Object 생성
         UserContext userContext = UserContext.builder()
             .age(command.getAge())
@@ -34,17 +71,26 @@ public class MatchTargetingUseCase {
             .keywords(command.getKeywords())
             .build();
 
-        // 2. 모든 타겟팅 룰 조회
-        List<TargetingRule> allRules = targetingRuleRepository.findAll();
+        // 2. 조건이 겹치는 후보 룰 조회
+        List<TargetingRule> candidates = targetingRuleIndex.findCandidates(userContext);
 
-        // 3. 각 룰에 대해 매칭 스코어 계산
-        return allRules.stream()
-            .map(rule -> {
-                int score = rule.matchScore(userContext);
-                return TargetingMatchResult.of(rule.getId(), rule.getCampaignId(), score);
-            })
-            .filter(result -> result.getMatchScore() > 0) // 스코어가 0보다 큰 것만
-            .sorted((r1, r2) -> Integer.compare(r2.getMatchScore(), r1.getMatchScore())) // 스코어 내림차순 정렬
-            .collect(Collectors.toList());
+        // 3. 대상 캠페인이 지정되면 해당 캠페인의 룰만 남김
+        Set<String> campaignIds = command.getCampaignIds() != null
+            ? new HashSet<>(command.getCampaignIds())
+            : null;
+
+        // 4. 각 후보 룰에 대해 매칭 스코어 계산 (컨텍스트 정규화는 요청당 한 번)
+        NormalizedUserContext normalizedContext = NormalizedUserContext.from(userContext);
+        List<TargetingMatchResult> results = new ArrayList<>();
+        for (TargetingRule rule : candidates) {
+            if (campaignIds != null && !campaignIds.contains(rule.getCampaignId())) {
+                continue;
+            }
+            int score = rule.matchScoreNormalized(normalizedContext);
+            if (score > 0) { // 스코어가 0보다 큰 것만
+                results.add(TargetingMatchResult.of(rule.getId(), rule.getCampaignId(), score));
+            }
+        }
+        return results;
     }
 }
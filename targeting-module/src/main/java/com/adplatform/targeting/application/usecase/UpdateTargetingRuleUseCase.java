@@ -5,6 +5,7 @@ import com.adplatform.targeting.domain.exception.TargetingRuleNotFoundException;
 import com.adplatform.targeting.domain.model.Demographics;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateTargetingRuleUseCase {
 
     private final TargetingRuleRepository targetingRuleRepository;
+    private final TargetingRuleIndex targetingRuleIndex;
 
     public TargetingRule execute(UpdateTargetingRuleCommand command) {
         // 1. 타겟팅 룰 조회
@@ -41,6 +43,11 @@ public class UpdateTargetingRuleUseCase {
         );
 
         // 4. 저장
-        return targetingRuleRepository.save(targetingRule);
+        TargetingRule saved = targetingRuleRepository.save(targetingRule);
+
+        // 5. 매칭 색인 반영 (커밋 이후)
+        targetingRuleIndex.put(saved);
+
+        return saved;
     }
 }
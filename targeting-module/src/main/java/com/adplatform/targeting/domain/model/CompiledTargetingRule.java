@@ -0,0 +1,111 @@
+package com.adplatform.targeting.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 컴파일된 타겟팅 룰
+ * - TargetingRule 생성/변경 시점에 한 번 만들어지는 불변 매칭 전용 표현
+ * - 디바이스는 비트마스크, 지역/키워드는 정렬된 해시 배열, 연령은 원시 범위로 보관
+ * - NormalizedUserContext와의 스코어 계산은 객체를 할당하지 않음
+ */
+public final class CompiledTargetingRule {
+
+    private static final int DEMOGRAPHICS_WEIGHT = 30;
+    private static final int GEO_WEIGHT = 25;
+    private static final int DEVICE_WEIGHT = 20;
+    private static final int KEYWORD_WEIGHT = 25;
+
+    private final boolean hasDemographics;
+    private final int ageMin;
+    private final int ageMax;
+    private final Gender gender;
+    private final long[] geoHashes;
+    private final int deviceTypeMask;
+    private final long[] keywordHashes;
+    private final int maxScore;
+
+    private CompiledTargetingRule(TargetingRule rule) {
+        Demographics demographics = rule.getDemographics();
+        this.hasDemographics =
+            demographics.getAgeMin() != null ||
+            demographics.getAgeMax() != null ||
+            demographics.getGender() != Gender.ANY;
+        this.ageMin = demographics.getAgeMin() != null ? demographics.getAgeMin() : Integer.MIN_VALUE;
+        this.ageMax = demographics.getAgeMax() != null ? demographics.getAgeMax() : Integer.MAX_VALUE;
+        this.gender = demographics.getGender();
+
+        this.geoHashes = TargetingHash.sortedDistinct(rule.getGeoTargets());
+
+        int mask = 0;
+        for (DeviceType deviceType : rule.getDeviceTypes()) {
+            mask |= 1 << deviceType.ordinal();
+        }
+        this.deviceTypeMask = mask;
+
+        this.keywordHashes = TargetingHash.sortedDistinct(rule.getKeywords());
+
+        this.maxScore =
+            (hasDemographics ? DEMOGRAPHICS_WEIGHT : 0) +
+            (geoHashes.length > 0 ? GEO_WEIGHT : 0) +
+            (deviceTypeMask != 0 ? DEVICE_WEIGHT : 0) +
+            (keywordHashes.length > 0 ? KEYWORD_WEIGHT : 0);
+    }
+
+    public static CompiledTargetingRule compile(TargetingRule rule) {
+        return new CompiledTargetingRule(rule);
+    }
+
+    /**
+     * 매칭 스코어 계산 (0-100)
+     * - 조건이 있는 항목만 최대 점수에 포함하여 백분율로 정규화
+     * - 조건이 하나도 없으면 모든 사용자 대상이므로 100점
+     */
+    public int matchScore(NormalizedUserContext context) {
+        if (maxScore == 0) {
+            return 100;
+        }
+
+        int totalScore = 0;
+
+        if (hasDemographics && matchesDemographics(context)) {
+            totalScore += DEMOGRAPHICS_WEIGHT;
+        }
+
+        if (geoHashes.length > 0 && matchesGeo(context)) {
+            totalScore += GEO_WEIGHT;
+        }
+
+        if ((deviceTypeMask & context.deviceTypeMask()) != 0) {
+            totalScore += DEVICE_WEIGHT;
+        }
+
+        if (keywordHashes.length > 0) {
+            int matched = TargetingHash.intersectionSize(keywordHashes, context.keywordHashes());
+            totalScore += (matched * KEYWORD_WEIGHT) / keywordHashes.length;
+        }
+
+        return (totalScore * 100) / maxScore;
+    }
+
+    private boolean matchesDemographics(NormalizedUserContext context) {
+        if (!context.hasAge()) {
+            return false;
+        }
+        int age = context.age();
+        if (age < ageMin || age > ageMax) {
+            return false;
+        }
+        return gender == Gender.ANY || gender == context.gender();
+    }
+
+    private boolean matchesGeo(NormalizedUserContext context) {
+        // 국가 정보가 없으면 지역 조건 불일치
+        if (!context.hasCountry()) {
+            return false;
+        }
+        if (Arrays.binarySearch(geoHashes, context.countryHash()) >= 0) {
+            return true;
+        }
+        return context.hasCity() && Arrays.binarySearch(geoHashes, context.cityHash()) >= 0;
+    }
+}
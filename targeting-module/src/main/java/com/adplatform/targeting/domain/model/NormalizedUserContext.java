@@ -0,0 +1,73 @@
+package com.adplatform.targeting.domain.model;
+
+/**
+ * 정규화된 사용자 컨텍스트
+ * - 매칭 요청당 한 번만 생성하여 모든 룰의 스코어 계산에 재사용
+ * - 지역/키워드는 대소문자 무시 해시로, 연령은 원시 타입으로 보관
+ */
+public final class NormalizedUserContext {
+
+    private final boolean hasAge;
+    private final int age;
+    private final Gender gender;
+    private final boolean hasCountry;
+    private final long countryHash;
+    private final boolean hasCity;
+    private final long cityHash;
+    private final int deviceTypeMask;
+    private final long[] keywordHashes;
+
+    private NormalizedUserContext(UserContext userContext) {
+        this.hasAge = userContext.getAge() != null;
+        this.age = hasAge ? userContext.getAge() : 0;
+        this.gender = userContext.getGender();
+        this.hasCountry = userContext.getCountry() != null;
+        this.countryHash = hasCountry ? TargetingHash.of(userContext.getCountry()) : 0L;
+        this.hasCity = userContext.getCity() != null;
+        this.cityHash = hasCity ? TargetingHash.of(userContext.getCity()) : 0L;
+        this.deviceTypeMask = userContext.getDeviceType() != null
+            ? 1 << userContext.getDeviceType().ordinal()
+            : 0;
+        this.keywordHashes = TargetingHash.sortedDistinct(userContext.getKeywords());
+    }
+
+    public static NormalizedUserContext from(UserContext userContext) {
+        return new NormalizedUserContext(userContext);
+    }
+
+    boolean hasAge() {
+        return hasAge;
+    }
+
+    int age() {
+        return age;
+    }
+
+    Gender gender() {
+        return gender;
+    }
+
+    boolean hasCountry() {
+        return hasCountry;
+    }
+
+    long countryHash() {
+        return countryHash;
+    }
+
+    boolean hasCity() {
+        return hasCity;
+    }
+
+    long cityHash() {
+        return cityHash;
+    }
+
+    int deviceTypeMask() {
+        return deviceTypeMask;
+    }
+
+    long[] keywordHashes() {
+        return keywordHashes;
+    }
+}
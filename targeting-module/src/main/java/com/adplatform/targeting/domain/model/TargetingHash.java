@@ -0,0 +1,81 @@
+package com.adplatform.targeting.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 타겟팅 값(지역, 키워드) 해시 유틸리티
+ * - 대소문자를 구분하지 않는 64비트 FNV-1a 해시
+ * - 문자 단위로 소문자 변환하며 해싱하므로 toLowerCase 문자열을 만들지 않음
+ */
+public final class TargetingHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long[] EMPTY = new long[0];
+
+    private TargetingHash() {
+    }
+
+    /**
+     * 대소문자 무시 해시
+     */
+    public static long of(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = Character.toLowerCase(value.charAt(i));
+            hash ^= ch;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 중복 제거 후 정렬된 해시 배열 (병합/이진 탐색용)
+     */
+    public static long[] sortedDistinct(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] hashes = new long[values.size()];
+        int size = 0;
+        for (String value : values) {
+            if (value != null) {
+                hashes[size++] = of(value);
+            }
+        }
+        Arrays.sort(hashes, 0, size);
+
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || hashes[distinct - 1] != hashes[i]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return distinct == hashes.length ? hashes : Arrays.copyOf(hashes, distinct);
+    }
+
+    /**
+     * 정렬된 두 해시 배열의 교집합 크기
+     */
+    public static int intersectionSize(long[] sortedA, long[] sortedB) {
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < sortedA.length && j < sortedB.length) {
+            long a = sortedA[i];
+            long b = sortedB[j];
+            if (a == b) {
+                count++;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+}
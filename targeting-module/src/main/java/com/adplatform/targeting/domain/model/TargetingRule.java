@@ -2,9 +2,9 @@ package com.adplatform.targeting.domain.model;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -25,6 +25,9 @@ public class TargetingRule {
     private final Instant createdAt;
     private Instant updatedAt;
 
+    @Getter(AccessLevel.NONE)
+    private CompiledTargetingRule compiled;
+
     @Builder
     public TargetingRule(
         String id,
@@ -33,24 +36,36 @@ public class TargetingRule {
         List<String> geoTargets,
         List<DeviceType> deviceTypes,
         List<String> keywords
+    ) {
+        this(id, campaignId, demographics, geoTargets, deviceTypes, keywords,
+            Instant.now(), Instant.now());
+    }
+
+    /**
+     * 영속성 계층에서 복원할 때 사용 (저장된 생성/수정 시각 유지)
+     */
+    @Builder(builderMethodName = "builderWithTimestamps", builderClassName = "BuilderWithTimestamps")
+    public TargetingRule(
+        String id,
+        String campaignId,
+        Demographics demographics,
+        List<String> geoTargets,
+        List<DeviceType> deviceTypes,
+        List<String> keywords,
+        Instant createdAt,
+        Instant updatedAt
     ) {
         validateCampaignId(campaignId);
         this.id = id;
         this.campaignId = campaignId;
         this.demographics =
             demographics != null ? demographics : Demographics.any();
-        this.geoTargets =
-            geoTargets != null
-                ? new ArrayList<>(geoTargets)
-                : new ArrayList<>();
-        this.deviceTypes =
-            deviceTypes != null
-                ? new ArrayList<>(deviceTypes)
-                : new ArrayList<>();
-        this.keywords =
-            keywords != null ? new ArrayList<>(keywords) : new ArrayList<>();
-        this.createdAt = Instant.now();
-        this.updatedAt = Instant.now();
+        this.geoTargets = immutableCopy(geoTargets);
+        this.deviceTypes = immutableCopy(deviceTypes);
+        this.keywords = immutableCopy(keywords);
+        this.compiled = CompiledTargetingRule.compile(this);
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+        this.updatedAt = updatedAt != null ? updatedAt : this.createdAt;
     }
 
     private void validateCampaignId(String campaignId) {
@@ -66,156 +81,15 @@ public class TargetingRule {
         if (userContext == null) {
             return 0;
         }
-
-        // 모든 조건이 비어있으면 100점 (모든 사용자 타겟)
-        if (isEmpty()) {
-            return 100;
-        }
-
-        int totalScore = 0;
-        int maxScore = 0;
-
-        // 1. 인구통계 매칭 (30점) - 조건이 있을 때만 계산
-        if (hasDemographicsCriteria()) {
-            maxScore += 30;
-            if (
-                demographics.matches(
-                    userContext.getAge(),
-                    userContext.getGender()
-                )
-            ) {
-                totalScore += 30;
-            }
-        }
-
-        // 2. 지역 매칭 (25점) - 조건이 있을 때만 계산
-        if (!geoTargets.isEmpty()) {
-            maxScore += 25;
-            if (matchesGeo(userContext)) {
-                totalScore += 25;
-            }
-        }
-
-        // 3. 디바이스 타입 매칭 (20점) - 조건이 있을 때만 계산
-        if (!deviceTypes.isEmpty()) {
-            maxScore += 20;
-            if (matchesDeviceType(userContext.getDeviceType())) {
-                totalScore += 20;
-            }
-        }
-
-        // 4. 키워드 매칭 (25점) - 조건이 있을 때만 계산
-        if (!keywords.isEmpty()) {
-            maxScore += 25;
-            int keywordScore = calculateKeywordScore(userContext.getKeywords());
-            totalScore += keywordScore;
-        }
-
-        // 백분율로 정규화
-        return maxScore > 0 ? (totalScore * 100) / maxScore : 0;
-    }
-
-    /**
-     * 인구통계 조건이 있는지 확인
-     */
-    private boolean hasDemographicsCriteria() {
-        return (
-            demographics.getAgeMin() != null ||
-            demographics.getAgeMax() != null ||
-            demographics.getGender() != Gender.ANY
-        );
-    }
-
-    /**
-     * 지역 타겟 매칭
-     */
-    private boolean matchesGeo(UserContext userContext) {
-        if (geoTargets.isEmpty()) {
-            return true; // 지역 제한 없음
-        }
-
-        String userCountry = userContext.getCountry();
-        String userCity = userContext.getCity();
-
-        if (userCountry == null) {
-            return false;
-        }
-
-        for (String geoTarget : geoTargets) {
-            // 국가 매칭
-            if (geoTarget.equalsIgnoreCase(userCountry)) {
-                return true;
-            }
-            // 도시 매칭
-            if (userCity != null && geoTarget.equalsIgnoreCase(userCity)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * 디바이스 타입 매칭
-     */
-    private boolean matchesDeviceType(DeviceType userDeviceType) {
-        if (deviceTypes.isEmpty()) {
-            return true; // 디바이스 제한 없음
-        }
-
-        if (userDeviceType == null) {
-            return false;
-        }
-
-        return deviceTypes.contains(userDeviceType);
-    }
-
-    /**
-     * 키워드 매칭 스코어 계산
-     */
-    private int calculateKeywordScore(List<String> userKeywords) {
-        if (keywords.isEmpty()) {
-            return 25; // 키워드 제한 없음
-        }
-
-        if (userKeywords == null || userKeywords.isEmpty()) {
-            return 0;
-        }
-
-        Set<String> targetKeywordsSet = new HashSet<>();
-        for (String keyword : keywords) {
-            targetKeywordsSet.add(keyword.toLowerCase());
-        }
-
-        Set<String> userKeywordsSet = new HashSet<>();
-        for (String keyword : userKeywords) {
-            userKeywordsSet.add(keyword.toLowerCase());
-        }
-
-        // 교집합 계산
-        Set<String> intersection = new HashSet<>(targetKeywordsSet);
-        intersection.retainAll(userKeywordsSet);
-
-        // 매칭된 키워드 비율로 스코어 계산
-        if (!targetKeywordsSet.isEmpty()) {
-            return (intersection.size() * 25) / targetKeywordsSet.size();
-        }
-
-        return 0;
+        return compiled.matchScore(NormalizedUserContext.from(userContext));
     }
 
     /**
-     * 모든 타겟팅 조건이 비어있는지 확인
+     * 정규화된 사용자 컨텍스트와의 매칭 스코어 계산 (0-100)
+     * - 여러 룰을 한 번에 매칭할 때 컨텍스트 정규화를 한 번만 수행하기 위해 사용
      */
-    private boolean isEmpty() {
-        return (
-            (demographics.getAgeMin() == null &&
-                demographics.getAgeMax() == null &&
-                demographics.getGender() == Gender.ANY) &&
-            geoTargets.isEmpty() &&
-            deviceTypes.isEmpty() &&
-            keywords.isEmpty()
-        );
+    public int matchScoreNormalized(NormalizedUserContext userContext) {
+        return compiled.matchScore(userContext);
     }
 
     /**
@@ -229,31 +103,19 @@ public class TargetingRule {
     ) {
         this.demographics =
             demographics != null ? demographics : Demographics.any();
-        this.geoTargets =
-            geoTargets != null
-                ? new ArrayList<>(geoTargets)
-                : new ArrayList<>();
-        this.deviceTypes =
-            deviceTypes != null
-                ? new ArrayList<>(deviceTypes)
-                : new ArrayList<>();
-        this.keywords =
-            keywords != null ? new ArrayList<>(keywords) : new ArrayList<>();
+        this.geoTargets = immutableCopy(geoTargets);
+        this.deviceTypes = immutableCopy(deviceTypes);
+        this.keywords = immutableCopy(keywords);
+        this.compiled = CompiledTargetingRule.compile(this);
         this.updatedAt = Instant.now();
     }
 
     /**
-     * 불변 리스트 반환
+     * 불변 리스트 보관 (getter에서 복사하지 않고 그대로 반환)
      */
-    public List<String> getGeoTargets() {
-        return new ArrayList<>(geoTargets);
-    }
-
-    public List<DeviceType> getDeviceTypes() {
-        return new ArrayList<>(deviceTypes);
-    }
-
-    public List<String> getKeywords() {
-        return new ArrayList<>(keywords);
+    private static <T> List<T> immutableCopy(List<T> values) {
+        return values != null
+            ? Collections.unmodifiableList(new ArrayList<>(values))
+            : Collections.emptyList();
     }
 }
@@ -2,6 +2,7 @@ package com.adplatform.targeting.domain.repository;
 
 import com.adplatform.targeting.domain.model.TargetingRule;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,11 @@ public interface TargetingRuleRepository {
 
     List<TargetingRule> findAll();
 
+    /**
+     * 지정 시각 이후(포함) 수정된 룰 조회 (증분 동기화용)
+     */
+    List<TargetingRule> findUpdatedSince(Instant since);
+
     boolean existsById(String id);
 
     void deleteById(String id);
@@ -0,0 +1,322 @@
+package com.adplatform.targeting.infrastructure.index;
+
+import com.adplatform.targeting.domain.model.Demographics;
+import com.adplatform.targeting.domain.model.DeviceType;
+import com.adplatform.targeting.domain.model.Gender;
+import com.adplatform.targeting.domain.model.TargetingRule;
+import com.adplatform.targeting.domain.model.UserContext;
+import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 타겟팅 룰 역색인 (Inverted Index)
+ * - 룰마다 슬롯 번호를 부여하고, 조건 값별 포스팅 리스트(BitSet)에 슬롯을 등록
+ * - 매칭 시 사용자 컨텍스트의 값에 해당하는 포스팅 리스트의 합집합만 후보로 스코어 계산
+ *   (어떤 조건도 일치하지 않는 룰은 스코어가 0이므로 후보에서 빠져도 결과가 같음)
+ * - 조건이 전혀 없는 룰(모든 사용자 대상)은 별도 포스팅으로 항상 후보에 포함
+ *
+ * 포스팅 키:
+ * - demo:{성별}:{연령 버킷} 인구통계 (연령 범위가 걸치는 10세 단위 버킷마다 등록)
+ * - geo:{국가/도시}        지역 (소문자)
+ * - dev:{디바이스}         디바이스 타입
+ * - kw:{키워드}            키워드 (소문자)
+ */
+@Component
+@Slf4j
+public class TargetingRuleIndex {
+
+    private static final int AGE_BUCKET_SIZE = 10;
+    private static final int MAX_AGE_BUCKET = 12;
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+
+    private final TargetingRuleRepository targetingRuleRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<TargetingRule> rulesBySlot = new ArrayList<>();
+    private final List<List<String>> postingKeysBySlot = new ArrayList<>();
+    private final Map<String, Integer> slotByRuleId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final BitSet matchEveryone = new BitSet();
+
+    private volatile boolean loaded;
+    private Instant watermark;
+
+    public TargetingRuleIndex(TargetingRuleRepository targetingRuleRepository) {
+        this.targetingRuleRepository = targetingRuleRepository;
+    }
+
+    /**
+     * 사용자 컨텍스트와 조건이 하나라도 겹치는 후보 룰 조회
+     */
+    public List<TargetingRule> findCandidates(UserContext userContext) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) matchEveryone.clone();
+
+            if (userContext.getAge() != null) {
+                int bucket = ageBucket(userContext.getAge());
+                orPosting(candidates, demographicsKey(Gender.ANY, bucket));
+                if (userContext.getGender() != Gender.ANY) {
+                    orPosting(candidates, demographicsKey(userContext.getGender(), bucket));
+                }
+            }
+
+            // 국가가 없으면 지역 조건은 항상 불일치 (TargetingRule.matchesGeo와 동일)
+            if (userContext.getCountry() != null) {
+                orPosting(candidates, geoKey(userContext.getCountry()));
+                if (userContext.getCity() != null) {
+                    orPosting(candidates, geoKey(userContext.getCity()));
+                }
+            }
+
+            if (userContext.getDeviceType() != null) {
+                orPosting(candidates, deviceKey(userContext.getDeviceType()));
+            }
+
+            for (String keyword : userContext.getKeywords()) {
+                if (keyword != null) {
+                    orPosting(candidates, keywordKey(keyword));
+                }
+            }
+
+            List<TargetingRule> result = new ArrayList<>(candidates.cardinality());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                result.add(rulesBySlot.get(slot));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 룰 반영
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 반영 (롤백된 룰이 색인에 남지 않도록)
+     */
+    public void put(TargetingRule rule) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putNow(rule);
+                }
+            });
+            return;
+        }
+        putNow(rule);
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 룰 반영 (수정 시각 기준 증분)
+     */
+    @Scheduled(fixedDelayString = "${targeting.index.refresh-interval-ms:5000}")
+    public void refreshChanges() {
+        if (!loaded) {
+            return;
+        }
+
+        Instant since;
+        lock.readLock().lock();
+        try {
+            since = watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (since == null) {
+            reload();
+            return;
+        }
+
+        try {
+            List<TargetingRule> changed =
+                targetingRuleRepository.findUpdatedSince(since.minus(WATERMARK_OVERLAP));
+            for (TargetingRule rule : changed) {
+                putNow(rule);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh targeting rule index", e);
+        }
+    }
+
+    /**
+     * 전체 재구성 (삭제된 룰 정리)
+     */
+    @Scheduled(
+        fixedDelayString = "${targeting.index.full-reload-interval-ms:600000}",
+        initialDelayString = "${targeting.index.full-reload-interval-ms:600000}"
+    )
+    public void reload() {
+        List<TargetingRule> rules = targetingRuleRepository.findAll();
+        int postingCount;
+
+        lock.writeLock().lock();
+        try {
+            rulesBySlot.clear();
+            postingKeysBySlot.clear();
+            slotByRuleId.clear();
+            freeSlots.clear();
+            postings.clear();
+            matchEveryone.clear();
+            watermark = null;
+
+            for (TargetingRule rule : rules) {
+                addRule(rule);
+            }
+            postingCount = postings.size();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Targeting rule index built: {} rules, {} posting lists", rules.size(), postingCount);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                reload();
+            }
+        }
+    }
+
+    private void putNow(TargetingRule rule) {
+        if (!loaded) {
+            // 첫 조회 시 전체 로드에 포함됨
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existingSlot = slotByRuleId.get(rule.getId());
+            if (existingSlot != null) {
+                removeSlot(existingSlot);
+            }
+            addRule(rule);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addRule(TargetingRule rule) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = rulesBySlot.size();
+            rulesBySlot.add(rule);
+            postingKeysBySlot.add(null);
+        } else {
+            slot = freeSlots.pop();
+            rulesBySlot.set(slot, rule);
+        }
+        slotByRuleId.put(rule.getId(), slot);
+
+        List<String> keys = postingKeys(rule);
+        postingKeysBySlot.set(slot, keys);
+        if (keys.isEmpty()) {
+            matchEveryone.set(slot);
+        }
+        for (String key : keys) {
+            postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+        }
+
+        if (rule.getUpdatedAt() != null && (watermark == null || rule.getUpdatedAt().isAfter(watermark))) {
+            watermark = rule.getUpdatedAt();
+        }
+    }
+
+    private void removeSlot(int slot) {
+        TargetingRule rule = rulesBySlot.get(slot);
+        for (String key : postingKeysBySlot.get(slot)) {
+            BitSet posting = postings.get(key);
+            if (posting != null) {
+                posting.clear(slot);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        matchEveryone.clear(slot);
+        slotByRuleId.remove(rule.getId());
+        rulesBySlot.set(slot, null);
+        postingKeysBySlot.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * 룰이 등록될 포스팅 키 목록 (조건이 없으면 빈 목록)
+     */
+    private List<String> postingKeys(TargetingRule rule) {
+        List<String> keys = new ArrayList<>();
+
+        Demographics demographics = rule.getDemographics();
+        if (demographics.getAgeMin() != null ||
+            demographics.getAgeMax() != null ||
+            demographics.getGender() != Gender.ANY) {
+            int fromBucket = demographics.getAgeMin() != null ? ageBucket(demographics.getAgeMin()) : 0;
+            int toBucket = demographics.getAgeMax() != null ? ageBucket(demographics.getAgeMax()) : MAX_AGE_BUCKET;
+            for (int bucket = fromBucket; bucket <= toBucket; bucket++) {
+                keys.add(demographicsKey(demographics.getGender(), bucket));
+            }
+        }
+
+        for (String geoTarget : rule.getGeoTargets()) {
+            keys.add(geoKey(geoTarget));
+        }
+        for (DeviceType deviceType : rule.getDeviceTypes()) {
+            keys.add(deviceKey(deviceType));
+        }
+        for (String keyword : rule.getKeywords()) {
+            keys.add(keywordKey(keyword));
+        }
+
+        return keys;
+    }
+
+    private void orPosting(BitSet candidates, String key) {
+        BitSet posting = postings.get(key);
+        if (posting != null) {
+            candidates.or(posting);
+        }
+    }
+
+    private static int ageBucket(int age) {
+        return Math.max(0, Math.min(age / AGE_BUCKET_SIZE, MAX_AGE_BUCKET));
+    }
+
+    private static String demographicsKey(Gender gender, int bucket) {
+        return "demo:" + gender.name() + ":" + bucket;
+    }
+
+    private static String geoKey(String geo) {
+        return "geo:" + geo.toLowerCase(Locale.ROOT);
+    }
+
+    private static String deviceKey(DeviceType deviceType) {
+        return "dev:" + deviceType.name();
+    }
+
+    private static String keywordKey(String keyword) {
+        return "kw:" + keyword.toLowerCase(Locale.ROOT);
+    }
+}
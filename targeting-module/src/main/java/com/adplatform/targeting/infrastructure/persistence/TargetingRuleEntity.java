@@ -87,6 +87,8 @@ public class TargetingRuleEntity {
 
     /**
      * 도메인 모델 변경사항 동기화
+     * - 컬렉션만 변경된 경우 @PreUpdate가 호출되지 않으므로 수정 시각을 직접 갱신
+     *   (인벤토리의 증분 동기화가 updatedAt 기준으로 변경분을 가져감)
      */
     public void updateFromDomain(Integer ageMin, Integer ageMax, Gender gender,
                                   List<String> geoTargets, List<DeviceType> deviceTypes,
@@ -106,5 +108,6 @@ public class TargetingRuleEntity {
         if (keywords != null) {
             this.keywords.addAll(keywords);
         }
+        this.updatedAt = Instant.now();
     }
 }
@@ -2,6 +2,7 @@ package com.adplatform.targeting.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -10,4 +11,6 @@ import java.util.List;
 public interface TargetingRuleJpaRepository extends JpaRepository<TargetingRuleEntity, String> {
 
     List<TargetingRuleEntity> findByCampaignId(String campaignId);
+
+    List<TargetingRuleEntity> findByUpdatedAtGreaterThanEqual(Instant since);
 }
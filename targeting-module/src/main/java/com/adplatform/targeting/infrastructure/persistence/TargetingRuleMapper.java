@@ -41,13 +41,15 @@ public class TargetingRuleMapper {
             entity.getGender() != null ? entity.getGender() : Gender.ANY
         );
 
-        return TargetingRule.builder()
+        return TargetingRule.builderWithTimestamps()
             .id(entity.getId())
             .campaignId(entity.getCampaignId())
             .demographics(demographics)
             .geoTargets(new ArrayList<>(entity.getGeoTargets()))
             .deviceTypes(new ArrayList<>(entity.getDeviceTypes()))
             .keywords(new ArrayList<>(entity.getKeywords()))
+            .createdAt(entity.getCreatedAt())
+            .updatedAt(entity.getUpdatedAt())
             .build();
     }
 
@@ -5,6 +5,7 @@ import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -59,6 +60,13 @@ public class TargetingRuleRepositoryImpl implements TargetingRuleRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TargetingRule> findUpdatedSince(Instant since) {
+        return jpaRepository.findByUpdatedAtGreaterThanEqual(since).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
@@ -1,8 +1,10 @@
 package com.adplatform.targeting.adapter.rest;
 
+import com.adplatform.targeting.adapter.rest.dto.BatchMatchTargetingRequest;
 import com.adplatform.targeting.adapter.rest.dto.CreateTargetingRuleRequest;
 import com.adplatform.targeting.adapter.rest.dto.MatchTargetingRequest;
 import com.adplatform.targeting.adapter.rest.dto.UpdateTargetingRuleRequest;
+import com.adplatform.targeting.application.dto.TargetingMatchResult;
 import com.adplatform.targeting.application.usecase.CreateTargetingRuleUseCase;
 import com.adplatform.targeting.application.usecase.MatchTargetingUseCase;
 import com.adplatform.targeting.application.usecase.UpdateTargetingRuleUseCase;
@@ -17,6 +19,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -165,6 +168,30 @@ class TargetingControllerTest {
         verify(targetingRuleRepository, times(1)).findByCampaignId("camp-1");
     }
 
+    @Test
+    void 수정_시각_이후_변경된_타겟팅_룰만_조회한다() throws Exception {
+        // Given
+        Instant since = Instant.parse("2024-01-01T00:00:00Z");
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .demographics(Demographics.any())
+            .build();
+
+        when(targetingRuleRepository.findUpdatedSince(since))
+            .thenReturn(Arrays.asList(rule));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/targeting/rules")
+                .param("updatedSince", "2024-01-01T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value("rule-1"));
+
+        verify(targetingRuleRepository, times(1)).findUpdatedSince(since);
+        verify(targetingRuleRepository, never()).findAll();
+    }
+
     @Test
     void 타겟팅_룰을_업데이트한다() throws Exception {
         // Given
@@ -225,4 +252,48 @@ class TargetingControllerTest {
 
         verify(matchTargetingUseCase, times(1)).execute(any());
     }
+
+    @Test
+    void 여러_캠페인을_한번에_매칭한다() throws Exception {
+        // Given
+        BatchMatchTargetingRequest request = BatchMatchTargetingRequest.builder()
+            .campaignIds(Arrays.asList("camp-1", "camp-2"))
+            .userContext(MatchTargetingRequest.builder()
+                .age(30)
+                .gender(Gender.M)
+                .country("KR")
+                .build())
+            .build();
+
+        when(matchTargetingUseCase.executeByCampaign(any()))
+            .thenReturn(Arrays.asList(TargetingMatchResult.of("rule-1", "camp-1", 80)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/targeting/match/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].campaignId").value("camp-1"))
+            .andExpect(jsonPath("$[0].matchScore").value(80))
+            .andExpect(jsonPath("$[0].matched").value(true));
+
+        verify(matchTargetingUseCase, times(1)).executeByCampaign(any());
+    }
+
+    @Test
+    void 사용자_컨텍스트_없이_배치_매칭할_수_없다() throws Exception {
+        // Given
+        BatchMatchTargetingRequest request = BatchMatchTargetingRequest.builder()
+            .campaignIds(Arrays.asList("camp-1"))
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/targeting/match/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+
+        verify(matchTargetingUseCase, never()).executeByCampaign(any());
+    }
 }
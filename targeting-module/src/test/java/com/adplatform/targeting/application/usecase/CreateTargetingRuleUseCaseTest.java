@@ -9,6 +9,7 @@ import com.adplatform.targeting.domain.model.DeviceType;
 import com.adplatform.targeting.domain.model.Gender;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,9 @@ class CreateTargetingRuleUseCaseTest {
     @Mock
     private TargetingRuleRepository targetingRuleRepository;
 
+    @Mock
+    private TargetingRuleIndex targetingRuleIndex;
+
     @InjectMocks
     private CreateTargetingRuleUseCase createTargetingRuleUseCase;
 
@@ -69,6 +73,7 @@ class CreateTargetingRuleUseCaseTest {
         verify(targetingRuleRepository, times(1)).save(
             any(TargetingRule.class)
         );
+        verify(targetingRuleIndex, times(1)).put(result);
     }
 
     @Test
@@ -105,5 +110,6 @@ class CreateTargetingRuleUseCaseTest {
             .hasMessageContaining("캠페인 ID는 필수입니다");
 
         verify(targetingRuleRepository, never()).save(any(TargetingRule.class));
+        verify(targetingRuleIndex, never()).put(any(TargetingRule.class));
     }
 }
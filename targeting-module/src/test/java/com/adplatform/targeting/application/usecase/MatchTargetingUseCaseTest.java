@@ -10,11 +10,12 @@ import com.adplatform.targeting.domain.model.DeviceType;
 import com.adplatform.targeting.domain.model.Gender;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import java.util.Arrays;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,9 +25,15 @@ class MatchTargetingUseCaseTest {
     @Mock
     private TargetingRuleRepository targetingRuleRepository;
 
-    @InjectMocks
     private MatchTargetingUseCase matchTargetingUseCase;
 
+    @BeforeEach
+    void setUp() {
+        matchTargetingUseCase = new MatchTargetingUseCase(
+            new TargetingRuleIndex(targetingRuleRepository)
+        );
+    }
+
     @Test
     void 사용자_컨텍스트와_일치하는_타겟팅_룰을_찾는다() {
         // Given
@@ -179,4 +186,72 @@ class MatchTargetingUseCaseTest {
 
         verify(targetingRuleRepository, times(1)).findAll();
     }
+
+    @Test
+    void 색인은_최초_매칭때_한번만_로드된다() {
+        // Given
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .geoTargets(Arrays.asList("KR"))
+            .build();
+
+        when(targetingRuleRepository.findAll()).thenReturn(Arrays.asList(rule));
+
+        MatchTargetingCommand command = MatchTargetingCommand.builder()
+            .country("KR")
+            .build();
+
+        // When
+        matchTargetingUseCase.execute(command);
+        List<TargetingMatchResult> results = matchTargetingUseCase.execute(command);
+
+        // Then
+        assertThat(results).hasSize(1);
+        verify(targetingRuleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void 캠페인별로_최고_스코어_룰만_반환한다() {
+        // Given
+        TargetingRule partialRule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .geoTargets(Arrays.asList("KR"))
+            .deviceTypes(Arrays.asList(DeviceType.DESKTOP)) // 불일치
+            .build();
+
+        TargetingRule fullRule = TargetingRule.builder()
+            .id("rule-2")
+            .campaignId("camp-1")
+            .geoTargets(Arrays.asList("KR"))
+            .build();
+
+        TargetingRule otherCampaignRule = TargetingRule.builder()
+            .id("rule-3")
+            .campaignId("camp-2")
+            .geoTargets(Arrays.asList("KR"))
+            .build();
+
+        when(targetingRuleRepository.findAll()).thenReturn(
+            Arrays.asList(partialRule, fullRule, otherCampaignRule)
+        );
+
+        MatchTargetingCommand command = MatchTargetingCommand.builder()
+            .country("KR")
+            .deviceType(DeviceType.MOBILE)
+            .campaignIds(Arrays.asList("camp-1", "camp-3"))
+            .build();
+
+        // When
+        List<TargetingMatchResult> results = matchTargetingUseCase.executeByCampaign(
+            command
+        );
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getCampaignId()).isEqualTo("camp-1");
+        assertThat(results.get(0).getTargetingRuleId()).isEqualTo("rule-2");
+        assertThat(results.get(0).getMatchScore()).isEqualTo(100);
+    }
 }
@@ -11,6 +11,7 @@ import com.adplatform.targeting.domain.model.DeviceType;
 import com.adplatform.targeting.domain.model.Gender;
 import com.adplatform.targeting.domain.model.TargetingRule;
 import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import com.adplatform.targeting.infrastructure.index.TargetingRuleIndex;
 import java.util.Arrays;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,9 @@ class UpdateTargetingRuleUseCaseTest {
     @Mock
     private TargetingRuleRepository targetingRuleRepository;
 
+    @Mock
+    private TargetingRuleIndex targetingRuleIndex;
+
     @InjectMocks
     private UpdateTargetingRuleUseCase updateTargetingRuleUseCase;
 
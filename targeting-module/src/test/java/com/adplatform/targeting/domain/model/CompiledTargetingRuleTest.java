@@ -0,0 +1,107 @@
+package com.adplatform.targeting.domain.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class CompiledTargetingRuleTest {
+
+    @Test
+    void 키워드는_대소문자와_중복을_무시하고_비율로_계산한다() {
+        // Given
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .keywords(Arrays.asList("Tech", "tech", "Gaming", "music"))
+            .build();
+
+        NormalizedUserContext context = NormalizedUserContext.from(
+            UserContext.builder()
+                .keywords(Arrays.asList("TECH", "gaming", "gaming"))
+                .build()
+        );
+
+        // When
+        int score = CompiledTargetingRule.compile(rule).matchScore(context);
+
+        // Then: 3개 중 2개 일치 → (2 * 25 / 3) * 100 / 25 = 64
+        assertThat(score).isEqualTo(64);
+    }
+
+    @Test
+    void 지역은_국가_또는_도시를_대소문자_무시하고_매칭한다() {
+        // Given
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .geoTargets(Arrays.asList("Seoul"))
+            .build();
+
+        NormalizedUserContext inSeoul = NormalizedUserContext.from(
+            UserContext.builder().country("KR").city("SEOUL").build()
+        );
+        NormalizedUserContext cityOnly = NormalizedUserContext.from(
+            UserContext.builder().city("Seoul").build()
+        );
+
+        // When & Then
+        CompiledTargetingRule compiled = CompiledTargetingRule.compile(rule);
+        assertThat(compiled.matchScore(inSeoul)).isEqualTo(100);
+        assertThat(compiled.matchScore(cityOnly)).isEqualTo(0);
+    }
+
+    @Test
+    void 디바이스와_인구통계를_조건이_있는_항목_기준으로_정규화한다() {
+        // Given
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .demographics(Demographics.of(20, 40, Gender.F))
+            .deviceTypes(Arrays.asList(DeviceType.MOBILE, DeviceType.TABLET))
+            .build();
+
+        NormalizedUserContext context = NormalizedUserContext.from(
+            UserContext.builder()
+                .age(30)
+                .gender(Gender.M)
+                .deviceType(DeviceType.TABLET)
+                .build()
+        );
+
+        // When
+        int score = CompiledTargetingRule.compile(rule).matchScore(context);
+
+        // Then: 디바이스(20)만 일치 → 20 * 100 / 50 = 40
+        assertThat(score).isEqualTo(40);
+    }
+
+    @Test
+    void 컴파일된_스코어는_기존_매칭_결과와_같다() {
+        // Given
+        TargetingRule rule = TargetingRule.builder()
+            .id("rule-1")
+            .campaignId("camp-1")
+            .demographics(Demographics.of(20, null, Gender.ANY))
+            .geoTargets(Arrays.asList("KR", "Busan"))
+            .deviceTypes(Arrays.asList(DeviceType.DESKTOP))
+            .keywords(Arrays.asList("tech", "sports"))
+            .build();
+
+        UserContext userContext = UserContext.builder()
+            .age(45)
+            .country("JP")
+            .city("busan")
+            .deviceType(DeviceType.MOBILE)
+            .keywords(Arrays.asList("Sports"))
+            .build();
+
+        // When
+        int compiledScore = CompiledTargetingRule.compile(rule)
+            .matchScore(NormalizedUserContext.from(userContext));
+
+        // Then: 인구통계 30 + 지역 25 + 키워드 12 = 67 → 67 * 100 / 100
+        assertThat(compiledScore).isEqualTo(67);
+        assertThat(rule.matchScore(userContext)).isEqualTo(compiledScore);
+    }
+}
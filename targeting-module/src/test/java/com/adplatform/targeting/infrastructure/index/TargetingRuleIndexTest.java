@@ -0,0 +1,162 @@
+package com.adplatform.targeting.infrastructure.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.adplatform.targeting.domain.model.Demographics;
+import com.adplatform.targeting.domain.model.DeviceType;
+import com.adplatform.targeting.domain.model.Gender;
+import com.adplatform.targeting.domain.model.TargetingRule;
+import com.adplatform.targeting.domain.model.UserContext;
+import com.adplatform.targeting.domain.repository.TargetingRuleRepository;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TargetingRuleIndexTest {
+
+    @Mock
+    private TargetingRuleRepository targetingRuleRepository;
+
+    private TargetingRuleIndex targetingRuleIndex;
+
+    @BeforeEach
+    void setUp() {
+        targetingRuleIndex = new TargetingRuleIndex(targetingRuleRepository);
+    }
+
+    @Test
+    void 조건이_겹치는_룰과_전체_대상_룰만_후보로_반환한다() {
+        // Given
+        TargetingRule krRule = rule("rule-kr", "camp-1", Demographics.any(), Arrays.asList("KR"), null, null);
+        TargetingRule usRule = rule("rule-us", "camp-2", Demographics.any(), Arrays.asList("US"), null, null);
+        TargetingRule everyoneRule = rule("rule-all", "camp-3", Demographics.any(), null, null, null);
+        TargetingRule keywordRule = rule("rule-kw", "camp-4", Demographics.any(), null, null, Arrays.asList("Tech"));
+
+        when(targetingRuleRepository.findAll())
+            .thenReturn(Arrays.asList(krRule, usRule, everyoneRule, keywordRule));
+
+        UserContext userContext = UserContext.builder()
+            .country("kr")
+            .keywords(Arrays.asList("TECH"))
+            .build();
+
+        // When
+        List<TargetingRule> candidates = targetingRuleIndex.findCandidates(userContext);
+
+        // Then
+        assertThat(candidates)
+            .extracting(TargetingRule::getId)
+            .containsExactlyInAnyOrder("rule-kr", "rule-all", "rule-kw");
+    }
+
+    @Test
+    void 연령_버킷과_성별로_인구통계_후보를_찾는다() {
+        // Given
+        TargetingRule maleRule = rule("rule-m", "camp-1", Demographics.of(20, 29, Gender.M), null, null, null);
+        TargetingRule femaleRule = rule("rule-f", "camp-2", Demographics.of(20, 29, Gender.F), null, null, null);
+        TargetingRule seniorRule = rule("rule-senior", "camp-3", Demographics.of(60, null, Gender.ANY), null, null, null);
+        TargetingRule anyGenderRule = rule("rule-any", "camp-4", Demographics.of(null, 30, Gender.ANY), null, null, null);
+
+        when(targetingRuleRepository.findAll())
+            .thenReturn(Arrays.asList(maleRule, femaleRule, seniorRule, anyGenderRule));
+
+        UserContext userContext = UserContext.builder()
+            .age(25)
+            .gender(Gender.M)
+            .build();
+
+        // When
+        List<TargetingRule> candidates = targetingRuleIndex.findCandidates(userContext);
+
+        // Then
+        assertThat(candidates)
+            .extracting(TargetingRule::getId)
+            .containsExactlyInAnyOrder("rule-m", "rule-any");
+    }
+
+    @Test
+    void 연령이_없으면_인구통계_포스팅은_조회하지_않는다() {
+        // Given
+        TargetingRule demographicRule = rule("rule-1", "camp-1", Demographics.of(20, 40, Gender.ANY), null, null, null);
+
+        when(targetingRuleRepository.findAll()).thenReturn(Arrays.asList(demographicRule));
+
+        UserContext userContext = UserContext.builder()
+            .gender(Gender.M)
+            .deviceType(DeviceType.MOBILE)
+            .build();
+
+        // When
+        List<TargetingRule> candidates = targetingRuleIndex.findCandidates(userContext);
+
+        // Then
+        assertThat(candidates).isEmpty();
+    }
+
+    @Test
+    void 룰을_갱신하면_기존_포스팅이_교체된다() {
+        // Given
+        TargetingRule original = rule("rule-1", "camp-1", Demographics.any(), Arrays.asList("KR"), null, null);
+        when(targetingRuleRepository.findAll()).thenReturn(Arrays.asList(original));
+
+        UserContext korea = UserContext.builder().country("KR").build();
+        UserContext usa = UserContext.builder().country("US").build();
+        assertThat(targetingRuleIndex.findCandidates(korea)).hasSize(1);
+
+        // When
+        TargetingRule updated = rule("rule-1", "camp-1", Demographics.any(), Arrays.asList("US"), null, null);
+        targetingRuleIndex.put(updated);
+
+        // Then
+        assertThat(targetingRuleIndex.findCandidates(korea)).isEmpty();
+        assertThat(targetingRuleIndex.findCandidates(usa))
+            .extracting(TargetingRule::getId)
+            .containsExactly("rule-1");
+        verify(targetingRuleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void 새로_저장된_룰이_후보에_추가된다() {
+        // Given
+        when(targetingRuleRepository.findAll()).thenReturn(Collections.emptyList());
+        UserContext userContext = UserContext.builder()
+            .deviceType(DeviceType.TABLET)
+            .build();
+        assertThat(targetingRuleIndex.findCandidates(userContext)).isEmpty();
+
+        // When
+        targetingRuleIndex.put(
+            rule("rule-1", "camp-1", Demographics.any(), null, Arrays.asList(DeviceType.TABLET), null)
+        );
+
+        // Then
+        assertThat(targetingRuleIndex.findCandidates(userContext))
+            .extracting(TargetingRule::getCampaignId)
+            .containsExactly("camp-1");
+    }
+
+    private TargetingRule rule(
+        String id,
+        String campaignId,
+        Demographics demographics,
+        List<String> geoTargets,
+        List<DeviceType> deviceTypes,
+        List<String> keywords
+    ) {
+        return TargetingRule.builder()
+            .id(id)
+            .campaignId(campaignId)
+            .demographics(demographics)
+            .geoTargets(geoTargets)
+            .deviceTypes(deviceTypes)
+            .keywords(keywords)
+            .build();
+    }
+}